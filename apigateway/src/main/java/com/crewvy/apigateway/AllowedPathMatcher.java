@@ -0,0 +1,86 @@
+package com.crewvy.apigateway;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인증 없이 통과시키는 경로 매처 (경로 세그먼트 트라이, 불변)
+ * - "/member/login"처럼 적으면 정확히 일치하는 경로만, "/livekit/**"처럼 적으면 하위 경로 전체 허용
+ * - 요청 경로를 문자열로 자르지 않고 '/' 위치만 따라가며 세그먼트 단위로 탐색 (목록 길이와 무관)
+ */
+final class AllowedPathMatcher {
+
+    private static final String SUBTREE = "**";
+
+    private final Node root = new Node();
+
+    AllowedPathMatcher(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    private void add(String pattern) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals(SUBTREE)) {
+                node.subtree = true;
+                return;
+            }
+            node = node.children.computeIfAbsent(segment, s -> new Node());
+        }
+        node.exact = true;
+    }
+
+    boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        int start = 0;
+        while (true) {
+            // 빈 세그먼트("//", 앞뒤 '/')는 건너뜀
+            while (start < length && path.charAt(start) == '/') {
+                start++;
+            }
+            if (node.subtree) {
+                return true;
+            }
+            if (start >= length) {
+                return node.exact;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.child(path, start, end);
+            if (node == null) {
+                return false;
+            }
+            start = end;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean exact;
+        private boolean subtree;
+
+        // 자식 수가 적으므로 부분 문자열을 만들지 않고 regionMatches로 비교
+        private Node child(String path, int start, int end) {
+            int segmentLength = end - start;
+            for (Map.Entry<String, Node> entry : children.entrySet()) {
+                String segment = entry.getKey();
+                if (segment.length() == segmentLength && path.regionMatches(start, segment, 0, segmentLength)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.crewvy.apigateway;
 
+import com.crewvy.apigateway.VerifiedTokenCache.Identity;
+import com.crewvy.apigateway.VerifiedTokenCache.TokenKey;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
-import org.apache.http.HttpHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -18,22 +27,63 @@ import reactor.core.publisher.Mono;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 게이트웨이 인증 필터
+ * - 서명 검증기(JwtParser)는 시작 시 한 번만 생성하여 재사용 (불변, 스레드 안전)
+ * - 검증을 마친 토큰은 만료 시각까지 사용자 헤더 값과 함께 캐시 (VerifiedTokenCache)
+ * - 사용자 헤더는 덮어쓰기(set)로 전달하여 클라이언트가 보낸 같은 이름의 헤더는 남지 않음
+ * - 인증 없이 통과하는 경로도 클라이언트가 보낸 사용자 헤더는 제거하고 전달
+ * - 라우트별 인증 소요 시간: gateway.auth{route, result=public|cached|verified|rejected}
+ */
 @Component
 public class JwtTokenFilter implements GlobalFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtTokenFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int MAX_CACHED_TOKENS = 50_000;
+    // 만료(exp)가 없거나 아주 먼 토큰도 이 시간마다 다시 검증
+    private static final long MAX_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final List<String> USER_HEADERS = List.of(
+            "X-User-UUID",
+            "X-User-MemberPositionId",
+            "X-User-Name",
+            "X-User-OrganizationId",
+            "X-User-CompanyId"
+    );
+
     @Value("${jwt.secretKeyAt}")
     private String secretKeyAt;
-    private Key atKey;
+    private JwtParser jwtParser;
+
+    private final MeterRegistry meterRegistry;
+    private final VerifiedTokenCache tokenCache = new VerifiedTokenCache(MAX_CACHED_TOKENS);
+    // routeId → AuthResult 순서별 Timer
+    private final Map<String, Timer[]> timersByRoute = new ConcurrentHashMap<>();
+
+    public JwtTokenFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     public void init() {
         byte[] atByte = java.util.Base64.getDecoder().decode(secretKeyAt);
-        this.atKey = Keys.hmacShaKeyFor(atByte);
+        Key atKey = Keys.hmacShaKeyFor(atByte);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(atKey)
+                .build();
+
+        Gauge.builder("gateway.auth.token.cache.size", tokenCache, VerifiedTokenCache::size)
+                .register(meterRegistry);
     }
 
-    private static final List<String> ALLOWED_PATH = List.of(
+    // "/xxx/**"로 적으면 하위 경로 전체 허용
+    private static final AllowedPathMatcher ALLOWED_PATH = new AllowedPathMatcher(List.of(
             "/member/login",
             "/member/create-admin",
             "/member/check-email",
@@ -42,55 +92,127 @@ public class JwtTokenFilter implements GlobalFilter {
             "/actuator/health",
             "/transcribe",
             "/livekit/webhook"
-    );
+    ));
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-        System.out.println("bearerToken: " + bearerToken);
+        long startNanos = System.nanoTime();
 
         String urlPath = exchange.getRequest().getURI().getRawPath();
-        System.out.println("UrlPath: " + urlPath);
+        if (ALLOWED_PATH.matches(urlPath)) {
+            record(exchange, AuthResult.PUBLIC, startNanos);
+            ServerWebExchange publicExchange = exchange.mutate()
+                    .request(r -> r.headers(headers -> USER_HEADERS.forEach(headers::remove)))
+                    .build();
+            return chain.filter(publicExchange);
+        }
 
-        if (ALLOWED_PATH.contains((urlPath))) {
-            return chain.filter(exchange);
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken == null || !bearerToken.startsWith(BEARER_PREFIX)) {
+            log.debug("토큰이 없거나 형식이 잘못 되었습니다: path={}", urlPath);
+            return reject(exchange, startNanos);
         }
 
-        try {
-            if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
-                throw new IllegalArgumentException("토큰이 없거나 형식이 잘못 되었습니다.");
+        String token = bearerToken.substring(BEARER_PREFIX.length());
+        long nowMillis = System.currentTimeMillis();
+        TokenKey key = TokenKey.of(token);
+
+        AuthResult result = AuthResult.CACHED;
+        Identity identity = tokenCache.get(key, nowMillis);
+        if (identity == null) {
+            try {
+                identity = verify(token, nowMillis);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("토큰 검증 실패: path={}, reason={}", urlPath, e.getMessage());
+                return reject(exchange, startNanos);
             }
+            tokenCache.put(key, identity, nowMillis);
+            result = AuthResult.VERIFIED;
+        }
 
-            String token = bearerToken.substring(7);
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(atKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String memberId = claims.getSubject();
-            String memberPositionId = claims.get("memberPositionId", String.class);
-            String organizationId = claims.get("organizationId", String.class);
-            String companyId = claims.get("companyId", String.class);
-            String name = claims.get("name", String.class);
-
-            log.info("Extracted MemberPositionId: {}", memberPositionId);
-
-            ServerWebExchange serverWebExchange = exchange.mutate()
-                    .request(r -> r
-                            .header("X-User-UUID", memberId)
-                            .header("X-User-MemberPositionId", memberPositionId)
-                            .header("X-User-Name", URLEncoder.encode(name, StandardCharsets.UTF_8))
-                            .header("X-User-OrganizationId", organizationId)
-                            .header("X-User-CompanyId", companyId))
-                    .build();
+        Identity verified = identity;
+        ServerWebExchange serverWebExchange = exchange.mutate()
+                .request(r -> r.headers(headers -> {
+                    setOrRemove(headers, "X-User-UUID", verified.memberId());
+                    setOrRemove(headers, "X-User-MemberPositionId", verified.memberPositionId());
+                    setOrRemove(headers, "X-User-Name", verified.encodedName());
+                    setOrRemove(headers, "X-User-OrganizationId", verified.organizationId());
+                    setOrRemove(headers, "X-User-CompanyId", verified.companyId());
+                }))
+                .build();
+
+        record(exchange, result, startNanos);
+        return chain.filter(serverWebExchange);
+    }
+
+    private Identity verify(String token, long nowMillis) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        String name = claims.get("name", String.class);
+        if (name == null) {
+            throw new IllegalArgumentException("토큰에 이름이 없습니다.");
+        }
+
+        long expiresAtMillis = nowMillis + MAX_CACHE_TTL_MILLIS;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            expiresAtMillis = Math.min(expiresAtMillis, expiration.getTime());
+        }
+
+        return new Identity(
+                claims.getSubject(),
+                claims.get("memberPositionId", String.class),
+                URLEncoder.encode(name, StandardCharsets.UTF_8),
+                claims.get("organizationId", String.class),
+                claims.get("companyId", String.class),
+                expiresAtMillis
+        );
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long startNanos) {
+        record(exchange, AuthResult.REJECTED, startNanos);
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+
+    private static void setOrRemove(HttpHeaders headers, String name, String value) {
+        if (value != null) {
+            headers.set(name, value);
+        } else {
+            headers.remove(name);
+        }
+    }
+
+    private void record(ServerWebExchange exchange, AuthResult result, long startNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unmatched";
+        Timer[] timers = timersByRoute.computeIfAbsent(routeId, this::registerTimers);
+        timers[result.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] registerTimers(String routeId) {
+        AuthResult[] results = AuthResult.values();
+        Timer[] timers = new Timer[results.length];
+        for (AuthResult result : results) {
+            timers[result.ordinal()] = Timer.builder("gateway.auth")
+                    .description("게이트웨이 인증 필터 소요 시간")
+                    .tag("route", routeId)
+                    .tag("result", result.tag)
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+    private enum AuthResult {
+        PUBLIC("public"),
+        CACHED("cached"),
+        VERIFIED("verified"),
+        REJECTED("rejected");
+
+        private final String tag;
 
-            return chain.filter(serverWebExchange);
-        } catch (Exception e) {
-            e.printStackTrace();
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
+        AuthResult(String tag) {
+            this.tag = tag;
         }
     }
 }
@@ -0,0 +1,92 @@
+package com.crewvy.apigateway;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 마친 토큰 → 전달할 사용자 헤더 캐시
+ * - 키는 토큰 전체의 SHA-256 (원문 토큰은 보관하지 않음), 값은 토큰 만료(exp) 시각까지만 유효
+ * - 같은 토큰의 반복 요청(대시보드 폴링 등)은 HMAC 검증과 Base64/JSON 디코딩 없이 헤더를 재사용
+ * - 용량을 넘으면 만료 항목부터 지우고, 그래도 가득 차 있으면 전체 비움
+ */
+final class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<TokenKey, Identity> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return 만료되지 않은 캐시 항목 (없으면 null)
+     */
+    Identity get(TokenKey key, long nowMillis) {
+        Identity identity = entries.get(key);
+        if (identity == null) {
+            return null;
+        }
+        if (identity.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, identity);
+            return null;
+        }
+        return identity;
+    }
+
+    void put(TokenKey key, Identity identity, long nowMillis) {
+        if (identity.expiresAtMillis() <= nowMillis) {
+            return;
+        }
+        evictIfFull(nowMillis);
+        entries.put(key, identity);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull(long nowMillis) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(identity -> identity.expiresAtMillis() <= nowMillis);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (256비트를 long 4개로 보관, 문자열 변환 없음)
+     */
+    record TokenKey(long h0, long h1, long h2, long h3) {
+
+        private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        static TokenKey of(String token) {
+            byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenKey(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    /**
+     * 검증된 토큰에서 뽑아 둔 사용자 헤더 값 (이름은 URL 인코딩까지 미리 적용)
+     */
+    record Identity(String memberId,
+                    String memberPositionId,
+                    String encodedName,
+                    String organizationId,
+                    String companyId,
+                    long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.crewvy.apigateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllowedPathMatcherTest {
+
+    private final AllowedPathMatcher matcher = new AllowedPathMatcher(List.of(
+            "/member/login",
+            "/actuator/health",
+            "/livekit/**"
+    ));
+
+    @Test
+    void exactPatternMatchesOnlyThatPath() {
+        assertThat(matcher.matches("/member/login")).isTrue();
+        assertThat(matcher.matches("/member/login/extra")).isFalse();
+        assertThat(matcher.matches("/member/loginx")).isFalse();
+        assertThat(matcher.matches("/member")).isFalse();
+        assertThat(matcher.matches("/member/logout")).isFalse();
+    }
+
+    @Test
+    void subtreePatternMatchesPrefixAndDescendants() {
+        assertThat(matcher.matches("/livekit")).isTrue();
+        assertThat(matcher.matches("/livekit/webhook")).isTrue();
+        assertThat(matcher.matches("/livekit/a/b/c")).isTrue();
+        assertThat(matcher.matches("/livekitx/webhook")).isFalse();
+    }
+
+    @Test
+    void emptySegmentsAreIgnored() {
+        assertThat(matcher.matches("/member/login/")).isTrue();
+        assertThat(matcher.matches("//member//login")).isTrue();
+        assertThat(matcher.matches("member/login")).isTrue();
+    }
+
+    @Test
+    void rootAndNullDoNotMatch() {
+        assertThat(matcher.matches(null)).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches("/")).isFalse();
+    }
+
+    @Test
+    void segmentsAreCaseSensitive() {
+        assertThat(matcher.matches("/Member/Login")).isFalse();
+    }
+}
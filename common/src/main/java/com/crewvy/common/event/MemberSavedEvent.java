@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,4 +26,6 @@ public class MemberSavedEvent implements Serializable {
     private String email;
     private String memberStatus;
     private String position;
+    private String defaultOrganizationName;
+    private LocalDate joinDate;
 }
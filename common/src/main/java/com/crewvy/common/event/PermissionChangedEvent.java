@@ -0,0 +1,26 @@
+package com.crewvy.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 역할 또는 역할-권한 매핑이 변경되었음을 알리는 이벤트
+ * - memberPositionIds: 권한이 바뀐 직책 ID 목록 (각 서비스의 로컬 권한 캐시 무효화 대상)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PermissionChangedEvent implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private UUID companyId;
+    private UUID roleId;
+    private List<UUID> memberPositionIds;
+}
@@ -0,0 +1,204 @@
+package com.crewvy.common.lookup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 원격 일괄 조회(ID 목록 → 값) 앞단의 요청 병합 + TTL 로컬 캐시
+ * - 캐시 미스 키는 열린 배치에 합류. 배치를 연 스레드(리더)가 window만큼 기다렸다가 한 번에 원격 호출
+ *   → 동시에 들어온 요청들은 같은 원격 호출 결과를 공유
+ * - 원격 응답에 없는 키도 빈 값으로 캐시하여 (삭제된 직원 등) 반복 조회를 막음
+ * - batchFunction이 null을 반환하면 조회 실패로 보고 캐시하지 않음
+ * - 무효화가 배치 도중 끼어들면 해당 배치 결과는 캐시에 넣지 않음
+ * - 캐시된 값은 여러 요청이 공유하므로 호출 측에서 수정하지 않는다
+ */
+@Slf4j
+public class CoalescingBatchLoader<K, V> {
+
+    private final String name;
+    private final Function<List<K>, Map<K, V>> batchFunction;
+    private final long windowNanos;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final int maxBatchSize;
+
+    private final Map<K, Cached<V>> cache = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가. 배치 시작 이후 값이 바뀌었으면 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final Object batchLock = new Object();
+    private Batch<K, V> openBatch;
+
+    public CoalescingBatchLoader(String name, Function<List<K>, Map<K, V>> batchFunction,
+                                 Duration window, Duration ttl, int maxEntries, int maxBatchSize) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @return 키 → 값 (원격에 없는 키는 결과에서 제외, null 키 무시)
+     */
+    public Map<K, V> getAll(Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        long now = System.nanoTime();
+        Map<K, V> result = new HashMap<>();
+        Set<K> misses = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key == null) {
+                continue;
+            }
+            Cached<V> cached = cache.get(key);
+            if (cached != null && now - cached.loadedAt() < ttlNanos) {
+                if (cached.value() != null) {
+                    result.put(key, cached.value());
+                }
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Batch<K, V> batch;
+        boolean leader = false;
+        synchronized (batchLock) {
+            if (openBatch == null) {
+                openBatch = new Batch<>(invalidationSequence.get());
+                leader = true;
+            }
+            batch = openBatch;
+            batch.keys.addAll(misses);
+        }
+
+        if (leader) {
+            LockSupport.parkNanos(windowNanos);
+            List<K> batchKeys;
+            synchronized (batchLock) {
+                openBatch = null;
+                batchKeys = List.copyOf(batch.keys);
+            }
+            execute(batch, batchKeys);
+        }
+
+        Map<K, V> loaded = await(batch);
+        for (K key : misses) {
+            V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 값 (원격에 없으면 null)
+     */
+    public V get(K key) {
+        return key == null ? null : getAll(List.of(key)).get(key);
+    }
+
+    public void invalidate(K key) {
+        invalidationSequence.incrementAndGet();
+        cache.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 항목 제거 (값이 없는 항목은 value가 null로 전달됨)
+     */
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        invalidationSequence.incrementAndGet();
+        cache.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value()));
+    }
+
+    public void invalidateAll() {
+        invalidationSequence.incrementAndGet();
+        cache.clear();
+    }
+
+    private void execute(Batch<K, V> batch, List<K> keys) {
+        Map<K, V> loaded = new HashMap<>();
+        boolean complete = true;
+        try {
+            for (int from = 0; from < keys.size(); from += maxBatchSize) {
+                Map<K, V> chunk = batchFunction.apply(keys.subList(from, Math.min(from + maxBatchSize, keys.size())));
+                if (chunk == null) {
+                    complete = false;
+                } else {
+                    loaded.putAll(chunk);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            // 대기 중인 요청이 멈추지 않도록 실패도 배치 결과로 전달
+            batch.result.completeExceptionally(e);
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (complete && invalidationSequence.get() == batch.sequence) {
+            evictIfFull(now);
+            for (K key : keys) {
+                cache.put(key, new Cached<>(loaded.get(key), now));
+            }
+        }
+        log.debug("[{}] 일괄 조회: keys={}, found={}", name, keys.size(), loaded.size());
+        batch.result.complete(loaded);
+    }
+
+    private Map<K, V> await(Batch<K, V> batch) {
+        try {
+            return batch.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        cache.values().removeIf(cached -> now - cached.loadedAt() >= ttlNanos);
+        if (cache.size() >= maxEntries) {
+            log.debug("[{}] 캐시 용량 초과로 전체 비움: size={}", name, cache.size());
+            cache.clear();
+        }
+    }
+
+    private record Cached<V>(V value, long loadedAt) {
+    }
+
+    private static final class Batch<K, V> {
+        private final long sequence;
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+
+        private Batch(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
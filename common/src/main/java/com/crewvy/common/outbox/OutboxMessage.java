@@ -0,0 +1,16 @@
+package com.crewvy.common.outbox;
+
+/**
+ * 아웃박스 행 하나를 Kafka로 보낼 때의 메시지
+ * @param key 같은 집계(aggregate)의 이벤트가 같은 파티션으로 가도록 지정, null이면 파티셔너에 맡김
+ * @param version 같은 집계 이벤트의 발행 순서 (아웃박스 seq), null이 아니면 VERSION_HEADER로 함께 보냄
+ *                → 토픽이 달라 도착 순서가 보장되지 않는 소비자는 이 값이 큰 이벤트를 최신으로 판단
+ */
+public record OutboxMessage<V>(String topic, String key, V value, Long version) {
+
+    public static final String VERSION_HEADER = "outbox-version";
+
+    public OutboxMessage(String topic, String key, V value) {
+        this(topic, key, value, null);
+    }
+}
@@ -0,0 +1,323 @@
+package com.crewvy.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트랜잭셔널 아웃박스 릴레이 공통 구현
+ * - 배치 단위로 미처리 행을 발행 순서(seq) 순으로 SELECT ... FOR UPDATE SKIP LOCKED로 선점하므로 여러 인스턴스가 동시에 나눠서 처리
+ * - 집계 ID가 있는 행은 같은 집계의 앞선 미처리 행이 모두 이 배치에 있을 때만 보냄
+ *   (다른 인스턴스가 앞선 행을 잡고 있으면 이번 배치에서는 건너뛰고 다음 주기에 다시 선점)
+ *   → 같은 집계의 이벤트는 seq 순으로만 발행되고, 앞선 이벤트가 실패하면 뒤 이벤트도 완료 표시하지 않음
+ * - 배치 전체를 비동기로 전송한 뒤 브로커 ack를 받은 행만 처리 완료로 표시 (실패 행은 커밋 후 다음 주기에 재시도)
+ * - 배치가 가득 차면 쉬지 않고 이어서 처리, 비어 있으면 대기 시간을 최대 5초까지 늘림
+ * - 지표: outbox.relay.published / failed / discarded, outbox.relay.pending, outbox.relay.batch (relay 태그로 구분)
+ *
+ * 하위 클래스는 @Scheduled(fixedDelay = TICK_MILLIS)로 relay()를 호출하고 행 선점/변환/완료 표시만 구현한다.
+ * 전달 보장은 at-least-once (ack 이후 커밋 전에 장애가 나면 중복 발행될 수 있음)
+ */
+@Slf4j
+public abstract class OutboxRelay<T, V> {
+
+    public static final long TICK_MILLIS = 500;
+
+    private static final int BATCH_SIZE = 500;
+    private static final long ACK_TIMEOUT_NANOS = Duration.ofSeconds(10).toNanos();
+    // 스케줄러 스레드를 다른 작업과 공유하므로 한 번 호출에서 밀린 행을 처리하는 최대 시간
+    private static final long MAX_DRAIN_NANOS = Duration.ofSeconds(5).toNanos();
+    private static final long MAX_IDLE_DELAY_MILLIS = 5_000;
+
+    private final String name;
+    private final KafkaTemplate<String, V> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter discardedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    private volatile long idleDelayMillis = TICK_MILLIS;
+    private volatile long nextRunAt;
+
+    protected OutboxRelay(String name, KafkaTemplate<String, V> kafkaTemplate,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishedCounter = Counter.builder("outbox.relay.published").tag("relay", name).register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed").tag("relay", name).register(meterRegistry);
+        this.discardedCounter = Counter.builder("outbox.relay.discarded").tag("relay", name).register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch").tag("relay", name).register(meterRegistry);
+        Gauge.builder("outbox.relay.pending", pending, AtomicLong::get).tag("relay", name).register(meterRegistry);
+    }
+
+    /**
+     * 미처리 행을 seq 순으로 최대 limit개 선점 (호출 측 트랜잭션 안에서 FOR UPDATE SKIP LOCKED)
+     */
+    protected abstract List<T> claim(int limit);
+
+    protected abstract UUID idOf(T event);
+
+    /**
+     * 순서를 지켜야 하는 집계 ID (null이면 순서와 무관하게 바로 보냄)
+     */
+    protected UUID aggregateIdOf(T event) {
+        return null;
+    }
+
+    /**
+     * 지정한 집계들의 미처리 행 seq 목록 (seq 오름차순, 잠금 없는 읽기)
+     * - 다른 인스턴스가 선점했지만 아직 커밋하지 않은 행도 미처리로 보이므로 건너뛸 행을 판단할 수 있음
+     */
+    protected List<OutboxSequence> findPendingSequences(Collection<UUID> aggregateIds) {
+        return List.of();
+    }
+
+    protected abstract long seqOf(T event);
+
+    /**
+     * Kafka 메시지로 변환, null을 반환하거나 예외가 나면 다시 시도해도 보낼 수 없는 행으로 보고 처리 완료로 표시
+     */
+    protected abstract OutboxMessage<V> toMessage(T event) throws Exception;
+
+    protected abstract void markProcessed(List<UUID> ids);
+
+    protected abstract long countPending();
+
+    public void relay() {
+        long now = System.currentTimeMillis();
+        if (now < nextRunAt) {
+            return;
+        }
+
+        long drainDeadline = System.nanoTime() + MAX_DRAIN_NANOS;
+        BatchResult result = BatchResult.EMPTY;
+        try {
+            do {
+                result = relayBatch();
+            } while (result.isBacklogged() && System.nanoTime() < drainDeadline);
+            pending.set(countPending());
+        } catch (RuntimeException e) {
+            // DB 장애 등 → 빈 배치와 같이 대기 시간을 늘려 재시도
+            log.error("[{}] 아웃박스 릴레이 실패 Error: {}", name, e.getMessage());
+            result = BatchResult.EMPTY;
+        }
+        scheduleNext(result, System.currentTimeMillis());
+    }
+
+    private void scheduleNext(BatchResult result, long now) {
+        if (result.isBacklogged()) {
+            // 아직 밀려 있음 → 다음 틱에 바로 이어서 처리
+            idleDelayMillis = TICK_MILLIS;
+            nextRunAt = 0;
+        } else if (result.claimed() == 0 || result.published() == 0) {
+            // 비어 있거나 브로커 장애 → 대기 시간을 두 배씩 늘림
+            nextRunAt = now + idleDelayMillis;
+            idleDelayMillis = Math.min(idleDelayMillis * 2, MAX_IDLE_DELAY_MILLIS);
+        } else {
+            idleDelayMillis = TICK_MILLIS;
+            nextRunAt = now + TICK_MILLIS;
+        }
+    }
+
+    private BatchResult relayBatch() {
+        BatchResult result = transactionTemplate.execute(status -> {
+            List<T> events = claim(BATCH_SIZE);
+            if (events.isEmpty()) {
+                return BatchResult.EMPTY;
+            }
+
+            Timer.Sample sample = Timer.start();
+            List<T> sendable = excludeOutOfOrder(events);
+            List<UUID> completed = new ArrayList<>(sendable.size());
+            List<InFlight<V>> inFlight = new ArrayList<>(sendable.size());
+            // 이번 배치에서 전송에 실패한 집계 → 같은 집계의 뒤 행은 보내지 않거나 완료 표시하지 않음
+            Set<UUID> failedAggregates = new HashSet<>();
+            int failed = 0;
+            int discarded = 0;
+            int deferred = events.size() - sendable.size();
+            Throwable lastError = null;
+
+            for (T event : sendable) {
+                UUID id = idOf(event);
+                UUID aggregateId = aggregateIdOf(event);
+                if (aggregateId != null && failedAggregates.contains(aggregateId)) {
+                    deferred++;
+                    continue;
+                }
+                OutboxMessage<V> message;
+                try {
+                    message = toMessage(event);
+                } catch (Exception e) {
+                    log.error("[{}] 아웃박스 이벤트 변환 실패, 폐기: id={} Error: {}", name, id, e.getMessage());
+                    message = null;
+                }
+                if (message == null) {
+                    completed.add(id);
+                    discarded++;
+                    continue;
+                }
+
+                try {
+                    inFlight.add(new InFlight<>(id, aggregateId, kafkaTemplate.send(toRecord(message))));
+                } catch (Exception e) {
+                    failed++;
+                    lastError = e;
+                    if (aggregateId != null) {
+                        failedAggregates.add(aggregateId);
+                    }
+                }
+            }
+
+            // seq 순으로 확인하여 앞선 행이 실패한 집계의 뒤 행은 ack를 받았어도 다시 보내도록 남겨 둠 (at-least-once)
+            long ackDeadline = System.nanoTime() + ACK_TIMEOUT_NANOS;
+            for (InFlight<V> sent : inFlight) {
+                Throwable error = null;
+                try {
+                    sent.future().get(Math.max(0, ackDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = e;
+                } catch (ExecutionException e) {
+                    error = e.getCause();
+                } catch (TimeoutException e) {
+                    error = e;
+                }
+
+                boolean blocked = sent.aggregateId() != null && failedAggregates.contains(sent.aggregateId());
+                if (error != null) {
+                    failed++;
+                    lastError = error;
+                    if (sent.aggregateId() != null) {
+                        failedAggregates.add(sent.aggregateId());
+                    }
+                } else if (blocked) {
+                    deferred++;
+                } else {
+                    completed.add(sent.id());
+                }
+            }
+
+            if (!completed.isEmpty()) {
+                markProcessed(completed);
+            }
+            sample.stop(batchTimer);
+
+            int published = completed.size() - discarded;
+            if (failed > 0) {
+                log.error("[{}] Failed to send outbox events to Kafka: {}/{} Error: {}",
+                        name, failed, events.size(), lastError != null ? lastError.getMessage() : null);
+            }
+            return new BatchResult(events.size(), published, failed, discarded, deferred);
+        });
+
+        if (result == null) {
+            return BatchResult.EMPTY;
+        }
+        publishedCounter.increment(result.published());
+        failedCounter.increment(result.failed());
+        discardedCounter.increment(result.discarded());
+        return result;
+    }
+
+    private ProducerRecord<String, V> toRecord(OutboxMessage<V> message) {
+        ProducerRecord<String, V> record = new ProducerRecord<>(message.topic(), message.key(), message.value());
+        if (message.version() != null) {
+            record.headers().add(OutboxMessage.VERSION_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(message.version()).array());
+        }
+        return record;
+    }
+
+    /**
+     * 같은 집계의 앞선 미처리 행을 다른 인스턴스가 잡고 있는 행을 제외 (events는 seq 오름차순)
+     * - 집계마다 미처리 seq를 앞에서부터 따라가며 이 배치에 있는 행까지만 남김
+     */
+    private List<T> excludeOutOfOrder(List<T> events) {
+        Set<UUID> aggregateIds = new LinkedHashSet<>();
+        for (T event : events) {
+            UUID aggregateId = aggregateIdOf(event);
+            if (aggregateId != null) {
+                aggregateIds.add(aggregateId);
+            }
+        }
+        if (aggregateIds.isEmpty()) {
+            return events;
+        }
+
+        Map<UUID, List<Long>> pendingByAggregate = new HashMap<>();
+        for (OutboxSequence pending : findPendingSequences(aggregateIds)) {
+            pendingByAggregate.computeIfAbsent(pending.getAggregateId(), k -> new ArrayList<>()).add(pending.getSeq());
+        }
+        Map<UUID, Iterator<Long>> cursors = new HashMap<>();
+        pendingByAggregate.forEach((aggregateId, seqs) -> cursors.put(aggregateId, seqs.iterator()));
+
+        List<T> sendable = new ArrayList<>(events.size());
+        Set<UUID> blocked = new HashSet<>();
+        int deferred = 0;
+        for (T event : events) {
+            UUID aggregateId = aggregateIdOf(event);
+            if (aggregateId == null) {
+                sendable.add(event);
+                continue;
+            }
+            if (!blocked.contains(aggregateId)) {
+                // 이 행이 해당 집계의 다음 미처리 행이어야 함 (중간에 다른 인스턴스가 잡은 행이 있으면 이후 행 모두 보류)
+                Iterator<Long> cursor = cursors.get(aggregateId);
+                if (cursor != null && cursor.hasNext() && cursor.next() == seqOf(event)) {
+                    sendable.add(event);
+                    continue;
+                }
+                blocked.add(aggregateId);
+            }
+            deferred++;
+        }
+        if (deferred > 0) {
+            log.debug("[{}] 앞선 이벤트를 다른 인스턴스가 처리 중이어서 보류: {}건", name, deferred);
+        }
+        return sendable;
+    }
+
+    private record InFlight<V>(UUID id, UUID aggregateId, CompletableFuture<SendResult<String, V>> future) {
+    }
+
+    private record BatchResult(int claimed, int published, int failed, int discarded, int deferred) {
+        private static final BatchResult EMPTY = new BatchResult(0, 0, 0, 0, 0);
+
+        // 가득 찬 배치를 모두 보냈으면 아직 밀려 있는 것으로 보고 이어서 처리 (보류 행이 있으면 같은 행을 다시 잡게 되므로 제외)
+        private boolean isBacklogged() {
+            return isFull() && failed == 0 && deferred == 0;
+        }
+
+        private boolean isFull() {
+            return claimed >= BATCH_SIZE;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.crewvy.common.outbox;
+
+import java.util.UUID;
+
+// 집계별 미처리 아웃박스 행의 발행 순서(seq)를 조회하기 위한 프로젝션 인터페이스입니다.
+public interface OutboxSequence {
+    UUID getAggregateId();
+    Long getSeq();
+}
@@ -0,0 +1,172 @@
+package com.crewvy.common.lookup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingBatchLoaderTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void concurrentRequestsShareOneBatch() throws Exception {
+        List<List<String>> calls = Collections.synchronizedList(new ArrayList<>());
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            calls.add(List.copyOf(keys));
+            return echo(keys);
+        }, Duration.ofMillis(500), 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Map<String, String>> first = CompletableFuture.supplyAsync(() -> loader.getAll(List.of("a", "b")), executor);
+            // 첫 요청이 연 배치의 대기 시간 안에 합류
+            Thread.sleep(100);
+            CompletableFuture<Map<String, String>> second = CompletableFuture.supplyAsync(() -> loader.getAll(List.of("b", "c")), executor);
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsOnlyKeys("a", "b");
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsOnlyKeys("b", "c");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void loadedAndMissingKeysAreCached() {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            calls.incrementAndGet();
+            Map<String, String> found = echo(keys);
+            found.remove("missing");
+            return found;
+        });
+
+        assertThat(loader.getAll(List.of("a", "missing"))).containsOnlyKeys("a");
+        assertThat(loader.getAll(List.of("a", "missing"))).containsOnlyKeys("a");
+        assertThat(loader.get("missing")).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void invalidationRemovesCachedEntry() {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            calls.incrementAndGet();
+            return echo(keys);
+        });
+
+        loader.get("a");
+        loader.invalidate("a");
+        loader.get("a");
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void invalidationDuringBatchSkipsCaching() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<CoalescingBatchLoader<String, String>> self = new AtomicReference<>();
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            if (calls.incrementAndGet() == 1) {
+                // 원격 호출 도중 다른 스레드가 값을 바꾸고 무효화한 상황
+                self.get().invalidate("a");
+            }
+            return echo(keys);
+        });
+        self.set(loader);
+
+        assertThat(loader.get("a")).isEqualTo("A");
+        assertThat(loader.get("a")).isEqualTo("A");
+        assertThat(loader.get("a")).isEqualTo("A");
+
+        // 첫 배치 결과는 캐시되지 않아 두 번째 조회는 다시 원격 호출, 세 번째는 캐시 적중
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void nullBatchResultIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingBatchLoader<String, String> loader = loader(keys ->
+                calls.incrementAndGet() == 1 ? null : echo(keys));
+
+        assertThat(loader.get("a")).isNull();
+        assertThat(loader.get("a")).isEqualTo("A");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void failedBatchPropagatesAndIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("remote down");
+            }
+            return echo(keys);
+        });
+
+        assertThatThrownBy(() -> loader.get("a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("remote down");
+        assertThat(loader.get("a")).isEqualTo("A");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void largeBatchIsSplitByMaxBatchSize() {
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            chunkSizes.add(keys.size());
+            return echo(keys);
+        }, Duration.ZERO, 2);
+
+        assertThat(loader.getAll(List.of("a", "b", "c", "d", "e"))).hasSize(5);
+        assertThat(chunkSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void nullAndEmptyKeysAreIgnored() {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingBatchLoader<String, String> loader = loader(keys -> {
+            calls.incrementAndGet();
+            return echo(keys);
+        });
+
+        assertThat(loader.getAll(List.of())).isEmpty();
+        assertThat(loader.getAll(null)).isEmpty();
+        assertThat(loader.get(null)).isNull();
+        assertThat(calls).hasValue(0);
+    }
+
+    private static CoalescingBatchLoader<String, String> loader(Function<List<String>, Map<String, String>> batchFunction) {
+        return loader(batchFunction, Duration.ZERO, 100);
+    }
+
+    private static CoalescingBatchLoader<String, String> loader(Function<List<String>, Map<String, String>> batchFunction,
+                                                                Duration window, int maxBatchSize) {
+        return new CoalescingBatchLoader<>("test", batchFunction, window, TTL, 1_000, maxBatchSize);
+    }
+
+    private static Map<String, String> echo(List<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            values.put(key, key.toUpperCase());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,106 @@
+// 결재함 목록 깊은 페이지 비교용 k6 시나리오
+// - 같은 결재함을 커서 목록(GET /approval/list/{box})과 기존 OFFSET 목록(GET /approval/find-*-list)으로 나눠 호출
+// - 1페이지와 깊은 페이지(기본 500페이지)를 각각 따로 태그해 응답 시간을 비교
+// - 깊은 페이지 커서는 setup에서 커서를 따라가며 한 번만 구해 둠
+// - 게이트웨이를 거치지 않고 workforce-service에 X-User-* 헤더로 직접 요청
+//
+// 실행 예)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MEMBER_POSITION_ID=<직무 ID> -e BOX=DRAFT -e DEEP_PAGE=500 loadtest/approval-list-deep-page.js
+//
+// 대상 직무의 결재함에는 DEEP_PAGE × SIZE 건 이상의 결재가 있어야 함 (기본 500 × 20 = 10,000건)
+import http from 'k6/http';
+import { check, fail } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MEMBER_POSITION_ID = __ENV.MEMBER_POSITION_ID;
+const BOX = __ENV.BOX || 'DRAFT';
+const SIZE = parseInt(__ENV.SIZE || '20', 10);
+const DEEP_PAGE = parseInt(__ENV.DEEP_PAGE || '500', 10);
+const RPS = parseInt(__ENV.RPS || '10', 10);
+
+// 결재함별 기존 OFFSET 목록 API
+const OFFSET_PATHS = {
+    IN_PROGRESS: '/approval/find-approval-list',
+    COMPLETED: '/approval/find-complete-list',
+    APPROVE_COMPLETED: '/approval/find-approve-complete-list',
+    DRAFT: '/approval/find-draft-list',
+    PENDING: '/approval/find-pending-list',
+};
+
+const headers = { 'X-User-MemberPositionId': MEMBER_POSITION_ID };
+
+const durations = {
+    cursor_first: new Trend('approval_list_cursor_first_duration', true),
+    cursor_deep: new Trend('approval_list_cursor_deep_duration', true),
+    offset_first: new Trend('approval_list_offset_first_duration', true),
+    offset_deep: new Trend('approval_list_offset_deep_duration', true),
+};
+
+// 네 경우를 같은 도착률로 동시에 돌려 DB 상태가 같은 조건에서 비교
+function scenario(exec) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate: RPS,
+        timeUnit: '1s',
+        duration: __ENV.DURATION || '2m',
+        preAllocatedVUs: Math.max(5, RPS),
+        maxVUs: RPS * 5,
+    };
+}
+
+export const options = {
+    setupTimeout: '5m',
+    scenarios: {
+        cursor_first: scenario('cursorFirst'),
+        cursor_deep: scenario('cursorDeep'),
+        offset_first: scenario('offsetFirst'),
+        offset_deep: scenario('offsetDeep'),
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+// 깊은 페이지 직전까지 커서를 따라가 DEEP_PAGE 페이지를 여는 커서를 구함
+export function setup() {
+    if (!MEMBER_POSITION_ID) {
+        fail('MEMBER_POSITION_ID를 지정하세요.');
+    }
+    let cursor = null;
+    for (let page = 1; page < DEEP_PAGE; page++) {
+        const query = cursor ? `&cursor=${cursor}` : '';
+        const res = http.get(`${BASE_URL}/approval/list/${BOX}?size=${SIZE}${query}`, { headers, tags: { name: 'setup' } });
+        const body = res.json();
+        if (res.status !== 200 || !body.data.hasNext) {
+            fail(`${page}페이지에서 목록이 끝났습니다. 결재함에 ${DEEP_PAGE * SIZE}건 이상이 필요합니다.`);
+        }
+        cursor = body.data.nextCursor;
+    }
+    return { deepCursor: cursor };
+}
+
+function request(key, url) {
+    const res = http.get(url, { headers, tags: { name: key } });
+    if (check(res, { 'listed': (r) => r.status === 200 })) {
+        durations[key].add(res.timings.duration);
+    }
+}
+
+export function cursorFirst() {
+    request('cursor_first', `${BASE_URL}/approval/list/${BOX}?size=${SIZE}`);
+}
+
+export function cursorDeep(data) {
+    request('cursor_deep', `${BASE_URL}/approval/list/${BOX}?size=${SIZE}&cursor=${data.deepCursor}`);
+}
+
+// Pageable의 page는 0부터 시작
+export function offsetFirst() {
+    request('offset_first', `${BASE_URL}${OFFSET_PATHS[BOX]}?page=0&size=${SIZE}`);
+}
+
+export function offsetDeep() {
+    request('offset_deep', `${BASE_URL}${OFFSET_PATHS[BOX]}?page=${DEEP_PAGE - 1}&size=${SIZE}`);
+}
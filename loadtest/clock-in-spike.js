@@ -0,0 +1,88 @@
+// 출근 피크(08:55~09:05) 재현용 k6 시나리오
+// - 직원 목록(CSV)을 한 번씩만 출근 처리하며 도착률을 피크 모양으로 올렸다 내림
+// - 게이트웨이를 거치지 않고 workforce-service에 X-User-* 헤더로 직접 요청
+//
+// 실행 예)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MEMBERS=members.csv -e PEAK_RPS=200 loadtest/clock-in-spike.js
+//
+// members.csv 형식 (헤더 포함)
+//   memberId,memberPositionId,companyId,organizationId,latitude,longitude
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import exec from 'k6/execution';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PEAK_RPS = parseInt(__ENV.PEAK_RPS || '200', 10);
+const EVENT_TYPE = __ENV.EVENT_TYPE || 'CLOCK_IN';
+
+const members = new SharedArray('members', () => {
+    const lines = open(__ENV.MEMBERS || 'members.csv').split('\n').map((line) => line.trim()).filter((line) => line.length > 0);
+    const header = lines.shift().split(',');
+    return lines.map((line) => {
+        const values = line.split(',');
+        const member = {};
+        header.forEach((key, i) => { member[key] = values[i]; });
+        return member;
+    });
+});
+
+// 이미 출근/휴가 등 비즈니스 거절(4xx)은 정상 응답으로 보고 5xx만 http_req_failed로 집계
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 499 }));
+
+const rejected = new Counter('clock_event_rejected');
+const accepted = new Trend('clock_event_accepted_duration', true);
+
+// 실제 10분 구간을 그대로 재현 (출근 직전 2분 증가 → 5분 피크 → 3분 감소)
+export const options = {
+    scenarios: {
+        morning_spike: {
+            executor: 'ramping-arrival-rate',
+            startRate: Math.max(1, Math.floor(PEAK_RPS / 10)),
+            timeUnit: '1s',
+            preAllocatedVUs: Math.max(50, PEAK_RPS),
+            maxVUs: PEAK_RPS * 4,
+            stages: [
+                { duration: '2m', target: PEAK_RPS },
+                { duration: '5m', target: PEAK_RPS },
+                { duration: '3m', target: Math.max(1, Math.floor(PEAK_RPS / 10)) },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        clock_event_accepted_duration: ['p(95)<300', 'p(99)<800'],
+    },
+};
+
+export default function () {
+    // 반복 번호로 직원을 골라 같은 직원이 두 번 출근하지 않도록 함 (직원 수를 넘으면 중복 출근 경로를 측정)
+    const member = members[exec.scenario.iterationInTest % members.length];
+
+    const body = JSON.stringify({
+        eventType: EVENT_TYPE,
+        deviceType: 'MOBILE',
+        latitude: member.latitude ? parseFloat(member.latitude) : null,
+        longitude: member.longitude ? parseFloat(member.longitude) : null,
+    });
+
+    const res = http.post(`${BASE_URL}/attendance/events`, body, {
+        headers: {
+            'Content-Type': 'application/json',
+            'X-User-UUID': member.memberId,
+            'X-User-MemberPositionId': member.memberPositionId,
+            'X-User-CompanyId': member.companyId,
+            'X-User-OrganizationId': member.organizationId,
+        },
+        tags: { name: 'POST /attendance/events' },
+    });
+
+    if (res.status === 200) {
+        accepted.add(res.timings.duration);
+    } else {
+        rejected.add(1, { status: String(res.status) });
+    }
+
+    check(res, { 'no server error': (r) => r.status < 500 });
+}
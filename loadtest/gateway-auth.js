@@ -0,0 +1,84 @@
+// 게이트웨이 인증 필터(JwtTokenFilter) k6 시나리오
+// - cached: 같은 액세스 토큰을 반복 사용 → 검증 캐시 적중 경로
+// - rejected: 매 요청 다른 위조 토큰 → 서명 검증 후 401 경로 (캐시되지 않음)
+// - public: 인증 없이 통과하는 경로 (위조한 X-User-* 헤더를 함께 보내 제거 경로까지 포함)
+// 게이트웨이 actuator의 gateway.auth{route, result} 타이머와 함께 봅니다.
+//
+// 실행 예)
+//   k6 run -e GATEWAY_URL=http://localhost:8080 -e TOKEN=<로그인으로 받은 액세스 토큰> -e RPS=500 loadtest/gateway-auth.js
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const RPS = parseInt(__ENV.RPS || '500', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+// 인증 뒤 하는 일이 적은 조회 API (카운터 행 하나)
+const PROTECTED_PATH = __ENV.PROTECTED_PATH || '/workspace-service/notification/unread-count';
+const PUBLIC_PATH = __ENV.PUBLIC_PATH || '/member-service/member/check-email?email=loadtest@example.com';
+
+// 401은 rejected 시나리오의 기대 응답이므로 5xx만 http_req_failed로 집계
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 499 }));
+
+function arrivalRate(exec, rate) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec: exec,
+        rate: rate,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: Math.max(20, rate),
+        maxVUs: Math.max(50, rate * 4),
+    };
+}
+
+export const options = {
+    scenarios: {
+        cached: arrivalRate('cached', RPS),
+        rejected: arrivalRate('rejected', Math.max(1, Math.floor(RPS / 10))),
+        public: arrivalRate('publicPath', Math.max(1, Math.floor(RPS / 10))),
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{scenario:cached}': ['p(95)<100'],
+        'http_req_duration{scenario:rejected}': ['p(95)<50'],
+    },
+};
+
+export function setup() {
+    if (!TOKEN) {
+        throw new Error('TOKEN 환경 변수에 유효한 액세스 토큰을 지정해야 합니다.');
+    }
+}
+
+export function cached() {
+    const res = http.get(`${GATEWAY_URL}${PROTECTED_PATH}`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+        tags: { name: 'GET protected (cached token)' },
+    });
+    check(res, { 'authenticated': (r) => r.status !== 401 && r.status < 500 });
+}
+
+export function rejected() {
+    // 서명만 틀린 토큰: 헤더·페이로드는 유효한 토큰과 같고 서명 끝을 반복 번호로 바꿈
+    const parts = TOKEN.split('.');
+    const forged = `${parts[0]}.${parts[1]}.${parts[2].slice(0, -8)}${String(exec.scenario.iterationInTest).padStart(8, '0')}`;
+    const res = http.get(`${GATEWAY_URL}${PROTECTED_PATH}`, {
+        headers: { Authorization: `Bearer ${forged}` },
+        tags: { name: 'GET protected (forged token)' },
+    });
+    check(res, { 'rejected': (r) => r.status === 401 });
+}
+
+export function publicPath() {
+    const res = http.get(`${GATEWAY_URL}${PUBLIC_PATH}`, {
+        headers: {
+            'X-User-UUID': '00000000-0000-0000-0000-000000000000',
+            'X-User-CompanyId': '00000000-0000-0000-0000-000000000000',
+        },
+        tags: { name: 'GET public' },
+    });
+    check(res, { 'no server error': (r) => r.status < 500 });
+}
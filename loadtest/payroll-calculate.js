@@ -0,0 +1,68 @@
+// 급여 계산 응답 시간 측정용 k6 시나리오
+// - POST /salary/calculate 를 일정 도착률로 반복 호출 (계산만 하고 저장하지 않음)
+// - 근로소득 간이세액 조회가 매 직원마다 DB를 거치던 구현과 메모리 세액표 구현을 같은 조건으로 비교
+// - 게이트웨이를 거치지 않고 workforce-service에 X-User-* 헤더로 직접 요청
+//
+// 실행 예)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MEMBERS=members.csv -e YEAR_MONTH=2025-03 -e RPS=20 loadtest/payroll-calculate.js
+//
+// members.csv 형식 (헤더 포함, 급여 계산 권한이 있는 직원)
+//   memberId,memberPositionId,companyId,organizationId
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import exec from 'k6/execution';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const YEAR_MONTH = __ENV.YEAR_MONTH || '2025-03';
+const RPS = parseInt(__ENV.RPS || '20', 10);
+
+const members = new SharedArray('members', () => {
+    const lines = open(__ENV.MEMBERS || 'members.csv').split('\n').map((line) => line.trim()).filter((line) => line.length > 0);
+    const header = lines.shift().split(',');
+    return lines.map((line) => {
+        const values = line.split(',');
+        const member = {};
+        header.forEach((key, i) => { member[key] = values[i]; });
+        return member;
+    });
+});
+
+const calculated = new Trend('payroll_calculate_duration', true);
+const rejected = new Counter('payroll_calculate_rejected');
+
+export const options = {
+    scenarios: {
+        calculate: {
+            executor: 'constant-arrival-rate',
+            rate: RPS,
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '3m',
+            preAllocatedVUs: Math.max(10, RPS * 2),
+            maxVUs: RPS * 10,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const member = members[exec.scenario.iterationInTest % members.length];
+    const res = http.post(`${BASE_URL}/salary/calculate?yearMonth=${YEAR_MONTH}`, null, {
+        headers: {
+            'X-User-UUID': member.memberId,
+            'X-User-MemberPositionId': member.memberPositionId,
+            'X-User-CompanyId': member.companyId,
+            'X-User-OrganizationId': member.organizationId,
+        },
+        tags: { name: 'POST /salary/calculate' },
+    });
+
+    if (check(res, { 'calculated': (r) => r.status === 200 })) {
+        calculated.add(res.timings.duration);
+    } else {
+        rejected.add(1);
+    }
+}
@@ -0,0 +1,121 @@
+// 1,000회차 반복 예약 등록 k6 시나리오
+// - 매일 반복(모든 요일) × 1,000일 시리즈를 한 요청으로 등록하여 회차 전체 충돌 검사(ReservationIntervalIndex)와 일괄 저장 비용을 측정
+// - 반복 번호로 예약 자원과 시간대(1시간 단위)를 골라 자원당 24개 시리즈까지는 충돌 없이 등록되고, 그 이후는 전 회차 충돌 경로를 측정
+// - 게이트웨이를 거치지 않고 workforce-service에 X-User-* 헤더로 직접 요청
+//
+// 실행 예)
+//   k6 run -e BASE_URL=http://localhost:8080 -e MEMBERS=members.csv -e TYPES=<예약 자원 ID>,<예약 자원 ID> loadtest/recurring-reservation.js
+//
+// members.csv 형식 (헤더 포함, clock-in-spike.js와 같은 파일 사용 가능)
+//   memberId,memberPositionId,companyId,organizationId
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import exec from 'k6/execution';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '1', 10);
+const OCCURRENCES = parseInt(__ENV.OCCURRENCES || '1000', 10);
+// 실제 예약과 겹치지 않도록 먼 미래 날짜에서 시작
+const START_DATE = __ENV.START_DATE || '2030-01-01';
+const TYPES = (__ENV.TYPES || '').split(',').map((id) => id.trim()).filter((id) => id.length > 0);
+
+const ALL_DAYS = ['SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY'];
+
+const members = new SharedArray('members', () => {
+    const lines = open(__ENV.MEMBERS || 'members.csv').split('\n').map((line) => line.trim()).filter((line) => line.length > 0);
+    const header = lines.shift().split(',');
+    return lines.map((line) => {
+        const values = line.split(',');
+        const member = {};
+        header.forEach((key, i) => { member[key] = values[i]; });
+        return member;
+    });
+});
+
+// 충돌 거절(4xx)은 정상 응답으로 보고 5xx만 http_req_failed로 집계
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 499 }));
+
+const created = new Trend('recurring_series_created_duration', true);
+const conflicted = new Trend('recurring_series_conflict_duration', true);
+const rejected = new Counter('recurring_series_rejected');
+
+export const options = {
+    scenarios: {
+        recurring_series: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: Math.max(5, RATE * 5),
+            maxVUs: Math.max(20, RATE * 20),
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        recurring_series_created_duration: ['p(95)<3000'],
+        recurring_series_conflict_duration: ['p(95)<1000'],
+    },
+};
+
+export function setup() {
+    if (TYPES.length === 0) {
+        throw new Error('TYPES 환경 변수에 예약 자원 ID를 하나 이상 지정해야 합니다.');
+    }
+}
+
+function pad(value) {
+    return String(value).padStart(2, '0');
+}
+
+function addDays(date, days) {
+    const result = new Date(`${date}T00:00:00Z`);
+    result.setUTCDate(result.getUTCDate() + days);
+    return result.toISOString().substring(0, 10);
+}
+
+export default function () {
+    const iteration = exec.scenario.iterationInTest;
+    const member = members[iteration % members.length];
+    const typeId = TYPES[iteration % TYPES.length];
+    const hour = Math.floor(iteration / TYPES.length) % 24;
+
+    const body = JSON.stringify({
+        reservationTypeId: typeId,
+        startDateTime: `${START_DATE}T${pad(hour)}:00:00`,
+        endDateTime: `${START_DATE}T${pad(hour)}:50:00`,
+        title: `부하 테스트 반복 예약 ${iteration}`,
+        number: 1,
+        note: 'loadtest',
+        participant: 1,
+        isRepeated: 'TRUE',
+        repeatCreateReq: {
+            cycle: 'Daily',
+            repeatInterval: 1,
+            dayOfWeek: ALL_DAYS,
+            endDate: addDays(START_DATE, OCCURRENCES - 1),
+        },
+    });
+
+    const res = http.post(`${BASE_URL}/reservation/register`, body, {
+        headers: {
+            'Content-Type': 'application/json',
+            'X-User-UUID': member.memberId,
+            'X-User-MemberPositionId': member.memberPositionId,
+            'X-User-CompanyId': member.companyId,
+            'X-User-OrganizationId': member.organizationId,
+        },
+        tags: { name: 'POST /reservation/register (recurring)' },
+        timeout: '60s',
+    });
+
+    if (res.status === 201) {
+        created.add(res.timings.duration);
+    } else {
+        conflicted.add(res.timings.duration);
+        rejected.add(1, { status: String(res.status) });
+    }
+
+    check(res, { 'no server error': (r) => r.status < 500 });
+}
@@ -426,6 +426,20 @@ public class MemberController {
                 memberService.getMemberEmploymentInfoInternal(memberId), "회원 고용 정보 조회 성공"), HttpStatus.OK);
     }
 
+    // 내부 전용: 직책의 권한 목록 조회 (다른 서비스의 권한 판정 캐시 적재용 - 권한 체크 없음)
+    @GetMapping("/internal/position/{memberPositionId}/permission-grants")
+    public ResponseEntity<?> getPermissionGrants(@PathVariable UUID memberPositionId) {
+        return new ResponseEntity<>(ApiResponse.success(
+                memberService.getPermissionGrants(memberPositionId), "권한 목록 조회 성공"), HttpStatus.OK);
+    }
+
+    // 내부 전용: 여러 직책의 조직 List 일괄 조회 (팀 단위 정책 조회용 - 권한 체크 없음)
+    @PostMapping("/internal/organization-paths")
+    public ResponseEntity<?> getOrganizationPaths(@RequestBody IdListReq idListReq) {
+        return new ResponseEntity<>(ApiResponse.success(
+                memberService.getOrganizationPaths(idListReq.getUuidList()), "목록 조회 성공"), HttpStatus.OK);
+    }
+
     // 내부 전용: 모든 회사 ID 조회 (테스트 데이터 초기화용 - 권한 체크 없음)
     @GetMapping("/internal/all-company-ids")
     public ResponseEntity<?> getAllCompanyIds() {
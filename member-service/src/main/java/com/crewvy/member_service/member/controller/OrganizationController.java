@@ -5,6 +5,7 @@ import com.crewvy.member_service.member.dto.request.CreateOrganizationReq;
 import com.crewvy.member_service.member.dto.request.ReorderReq;
 import com.crewvy.member_service.member.dto.request.UpdateOrganizationReq;
 import com.crewvy.member_service.member.service.OrganizationService;
+import com.crewvy.member_service.member.service.OrganizationTreeSnapshot;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -39,10 +40,14 @@ public class OrganizationController {
     }
 
     // 조직 트리 및 멤버 조회
+    // If-None-Match가 ETag와 같으면 본문 없이 304 응답 (ResponseEntity의 ETag로 Spring이 처리)
     @GetMapping("/tree-with-members")
     public ResponseEntity<?> getOrganizationTreeWithMembers(@RequestHeader("X-User-UUID") UUID uuid) {
-        return new ResponseEntity<>(ApiResponse.success(
-                organizationService.getOrganizationTreeWithMembers(uuid), "조직 트리 및 멤버 조회 성공"), HttpStatus.OK);
+        OrganizationTreeSnapshot snapshot = organizationService.getOrganizationTreeWithMembers(uuid);
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .header("X-Organization-Tree-Version", String.valueOf(snapshot.getVersion()))
+                .body(ApiResponse.success(snapshot.getTree(), "조직 트리 및 멤버 조회 성공"));
     }
 
     // 조직 이름 수정
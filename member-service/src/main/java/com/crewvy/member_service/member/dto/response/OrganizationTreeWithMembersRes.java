@@ -2,6 +2,7 @@ package com.crewvy.member_service.member.dto.response;
 
 import com.crewvy.member_service.member.entity.MemberPosition;
 import com.crewvy.member_service.member.entity.Organization;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class OrganizationTreeWithMembersRes {
     private UUID id;
     private String label;
@@ -0,0 +1,17 @@
+package com.crewvy.member_service.member.event;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 조직 트리 스냅샷 갱신용 이벤트 (memberId가 null이면 트리 전체 재생성)
+@Getter
+public class OrganizationTreeChangedEvent {
+    private final UUID companyId;
+    private final UUID memberId;
+
+    public OrganizationTreeChangedEvent(UUID companyId, UUID memberId) {
+        this.companyId = companyId;
+        this.memberId = memberId;
+    }
+}
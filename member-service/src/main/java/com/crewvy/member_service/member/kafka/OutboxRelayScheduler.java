@@ -1,66 +1,74 @@
 package com.crewvy.member_service.member.kafka;
 
 import com.crewvy.common.entity.Bool;
+import com.crewvy.common.outbox.OutboxMessage;
+import com.crewvy.common.outbox.OutboxRelay;
 import com.crewvy.member_service.member.entity.NotificationOutboxEvent;
 import com.crewvy.member_service.member.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
-public class OutboxRelayScheduler {
+public class OutboxRelayScheduler extends OutboxRelay<NotificationOutboxEvent, String> {
 
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
 
     // 1. Outbox 리포지토리와 KafkaTemplate을 주입받습니다.
     public OutboxRelayScheduler(OutboxRepository outboxRepository,
-                                @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate) {
+                                @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        super("notification", kafkaTemplate, transactionManager, meterRegistry);
         this.outboxRepository = outboxRepository;
-        this.kafkaTemplate = kafkaTemplate;
     }
 
     /**
-     * fixedDelay = 5000 (5초)
-     * 이전 작업이 '끝난 시점'으로부터 5초 뒤에 다음 작업을 실행합니다.
+     * 밀린 이벤트가 있으면 바로 이어서, 없으면 최대 5초까지 간격을 늘려가며 실행합니다.
+     * 행 단위 잠금(SKIP LOCKED)으로 인스턴스끼리 나눠 처리하므로 ShedLock을 걸지 않습니다.
      */
-    @Scheduled(fixedDelay = 5000)
-    @Transactional // 2. 이 작업 전체를 하나의 트랜잭션으로 묶습니다.
-    @SchedulerLock(
-            name = "relayOutboxEvents", // ★ 중요: 작업별로 고유한 이름 지정
-            lockAtMostFor = "PT10M",  // 작업이 10분 이상 걸리면 강제 잠금 해제
-            lockAtLeastFor = "PT30S"  // 작업이 빨리 끝나도 최소 30초간 잠금 유지
-    )
+    @Scheduled(fixedDelay = TICK_MILLIS)
     public void relayOutboxEvents() {
+        relay();
+    }
+
+    @Override
+    protected List<NotificationOutboxEvent> claim(int limit) {
+        return outboxRepository.claimUnprocessed(limit);
+    }
+
+    @Override
+    protected UUID idOf(NotificationOutboxEvent event) {
+        return event.getId();
+    }
 
-        // 3. 처리 안 된(processed=false) 이벤트들을 조회합니다. (예: 최대 100개)
-        List<NotificationOutboxEvent> events = outboxRepository.findAllByProcessed(Bool.FALSE, Pageable.ofSize(100));
+    @Override
+    protected long seqOf(NotificationOutboxEvent event) {
+        return event.getSeq();
+    }
 
-        for (NotificationOutboxEvent event : events) {
-            try {
-                // 4. Kafka로 메시지를 전송합니다.
-                //    (토픽, MemberId)
-                kafkaTemplate.send(event.getTopic(), event.getMemberId().toString());
+    @Override
+    protected OutboxMessage<String> toMessage(NotificationOutboxEvent event) {
+        // (토픽, MemberId), 같은 회원의 알림은 같은 파티션으로
+        String memberId = event.getMemberId().toString();
+        return new OutboxMessage<>(event.getTopic(), memberId, memberId);
+    }
 
-                // 5. 전송에 성공하면, '처리 완료' 상태로 변경합니다.
-                event.setProcessed();
+    @Override
+    protected void markProcessed(List<UUID> ids) {
+        outboxRepository.markProcessed(ids);
+    }
 
-            } catch (Exception e) {
-                // 6. Kafka 전송 실패 시! (e.g., Kafka 서버 다운)
-                //    로그를 남기고 이 이벤트의 처리를 '다음 주기'로 넘깁니다.
-                //    @Transactional이 롤백되거나(설정에 따라 다름)
-                //    try-catch로 감쌌기 때문에, processed 상태가 true로 변경되지 않습니다.
-                //    따라서 5초 뒤에 '재시도'됩니다.
-                log.error("Failed to send outbox event to Kafka: {} Error: {}", event.getId(), e.getMessage());
-            }
-        }
+    @Override
+    protected long countPending() {
+        return outboxRepository.countByProcessed(Bool.FALSE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.crewvy.member_service.member.kafka;
+
+import com.crewvy.common.event.PermissionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 역할/역할-권한 변경을 다른 서비스의 로컬 권한 캐시에 전파
+ * - 아웃박스 릴레이(유휴 시 최대 5초 간격)를 거치면 그동안 이전 권한이 허용되므로 커밋 직후 바로 발행
+ * - 발행이 유실되더라도 소비 측 캐시의 TTL이 상한이 됨
+ */
+@Slf4j
+@Component
+public class PermissionChangedEventPublisher {
+
+    public static final String TOPIC = "permission-changed-events";
+
+    private final KafkaTemplate<String, Object> memberSearchEventKafkaTemplate;
+
+    public PermissionChangedEventPublisher(@Qualifier("memberSearchEventKafkaTemplate") KafkaTemplate<String, Object> memberSearchEventKafkaTemplate) {
+        this.memberSearchEventKafkaTemplate = memberSearchEventKafkaTemplate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(PermissionChangedEvent event) {
+        if (event.getMemberPositionIds() == null || event.getMemberPositionIds().isEmpty()) {
+            return;
+        }
+        String key = event.getCompanyId() != null ? event.getCompanyId().toString() : null;
+        memberSearchEventKafkaTemplate.send(TOPIC, key, event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("권한 변경 이벤트 발행 실패: roleId={}, positions={} Error: {}",
+                                event.getRoleId(), event.getMemberPositionIds().size(), ex.getMessage());
+                    }
+                });
+    }
+}
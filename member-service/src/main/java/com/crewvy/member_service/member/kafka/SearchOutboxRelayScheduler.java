@@ -5,69 +5,102 @@ import com.crewvy.common.event.MemberDeletedEvent;
 import com.crewvy.common.event.MemberSavedEvent;
 import com.crewvy.common.event.OrganizationDeletedEvent;
 import com.crewvy.common.event.OrganizationSavedEvent;
+import com.crewvy.common.outbox.OutboxMessage;
+import com.crewvy.common.outbox.OutboxRelay;
+import com.crewvy.common.outbox.OutboxSequence;
 import com.crewvy.member_service.member.entity.SearchOutboxEvent;
 import com.crewvy.member_service.member.repository.SearchOutboxEventRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
-public class SearchOutboxRelayScheduler {
+public class SearchOutboxRelayScheduler extends OutboxRelay<SearchOutboxEvent, Object> {
 
     private final SearchOutboxEventRepository searchOutboxEventRepository;
-    private final KafkaTemplate<String, Object> memberSearchEventKafkaTemplate;
     private final ObjectMapper objectMapper;
 
     public SearchOutboxRelayScheduler(SearchOutboxEventRepository searchOutboxEventRepository,
                                       @Qualifier("memberSearchEventKafkaTemplate") KafkaTemplate<String, Object> memberSearchEventKafkaTemplate,
-                                      ObjectMapper objectMapper) {
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        super("member-search", memberSearchEventKafkaTemplate, transactionManager, meterRegistry);
         this.searchOutboxEventRepository = searchOutboxEventRepository;
-        this.memberSearchEventKafkaTemplate = memberSearchEventKafkaTemplate;
         this.objectMapper = objectMapper;
     }
 
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
-    @SchedulerLock(
-            name = "relaySearchOutboxEvents", // ★ 중요: 작업별로 고유한 이름 지정
-            lockAtMostFor = "PT10M",  // 작업이 10분 이상 걸리면 강제 잠금 해제
-            lockAtLeastFor = "PT30S"  // 작업이 빨리 끝나도 최소 30초간 잠금 유지
-    )
+    @Scheduled(fixedDelay = TICK_MILLIS)
     public void relaySearchOutboxEvents() {
-        List<SearchOutboxEvent> events = searchOutboxEventRepository.findAllByProcessed(Bool.FALSE, Pageable.ofSize(100));
-
-        for (SearchOutboxEvent event : events) {
-            try {
-                Object eventPayload;
-                String topic = event.getTopic();
-
-                if ("member-saved-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), MemberSavedEvent.class);
-                } else if ("organization-saved-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), OrganizationSavedEvent.class);
-                } else if ("member-deleted-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), MemberDeletedEvent.class);
-                } else if ("organization-deleted-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), OrganizationDeletedEvent.class);
-                } else {
-                    log.warn("Unknown topic: {}", topic);
-                    continue; // 처리하지 않고 다음 이벤트로 넘어감
-                }
-
-                memberSearchEventKafkaTemplate.send(topic, eventPayload);
-                event.setProcessed();
-            } catch (Exception e) {
-                log.error("Failed to send search outbox event to Kafka: {} Error: {}", event.getId(), e.getMessage());
-            }
+        relay();
+    }
+
+    @Override
+    protected List<SearchOutboxEvent> claim(int limit) {
+        return searchOutboxEventRepository.claimUnprocessed(limit);
+    }
+
+    @Override
+    protected UUID idOf(SearchOutboxEvent event) {
+        return event.getId();
+    }
+
+    @Override
+    protected long seqOf(SearchOutboxEvent event) {
+        return event.getSeq();
+    }
+
+    @Override
+    protected UUID aggregateIdOf(SearchOutboxEvent event) {
+        return event.getAggregateId();
+    }
+
+    @Override
+    protected List<OutboxSequence> findPendingSequences(Collection<UUID> aggregateIds) {
+        return searchOutboxEventRepository.findPendingSequences(aggregateIds);
+    }
+
+    @Override
+    protected OutboxMessage<Object> toMessage(SearchOutboxEvent event) throws Exception {
+        Object eventPayload;
+        String topic = event.getTopic();
+
+        if ("member-saved-events".equals(topic)) {
+            eventPayload = objectMapper.readValue(event.getPayload(), MemberSavedEvent.class);
+        } else if ("organization-saved-events".equals(topic)) {
+            eventPayload = objectMapper.readValue(event.getPayload(), OrganizationSavedEvent.class);
+        } else if ("member-deleted-events".equals(topic)) {
+            eventPayload = objectMapper.readValue(event.getPayload(), MemberDeletedEvent.class);
+        } else if ("organization-deleted-events".equals(topic)) {
+            eventPayload = objectMapper.readValue(event.getPayload(), OrganizationDeletedEvent.class);
+        } else {
+            log.warn("Unknown topic: {}", topic);
+            return null;
         }
+
+        // 같은 회원/조직의 이벤트는 같은 파티션으로 (aggregateId 키)
+        // 저장/삭제는 토픽이 달라 소비 순서가 섞일 수 있으므로 seq를 버전으로 함께 보내 소비자가 최신 이벤트를 고르게 함
+        String key = event.getAggregateId() != null ? event.getAggregateId().toString() : null;
+        return new OutboxMessage<>(topic, key, eventPayload, event.getSeq());
+    }
+
+    @Override
+    protected void markProcessed(List<UUID> ids) {
+        searchOutboxEventRepository.markProcessed(ids);
+    }
+
+    @Override
+    protected long countPending() {
+        return searchOutboxEventRepository.countByProcessed(Bool.FALSE);
     }
-}
\ No newline at end of file
+}
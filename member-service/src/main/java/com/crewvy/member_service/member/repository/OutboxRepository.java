@@ -2,14 +2,25 @@ package com.crewvy.member_service.member.repository;
 
 import com.crewvy.common.entity.Bool;
 import com.crewvy.member_service.member.entity.NotificationOutboxEvent;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface OutboxRepository extends JpaRepository<NotificationOutboxEvent, UUID> {
-    List<NotificationOutboxEvent> findAllByProcessed(Bool bool, Pageable pageable);
+    long countByProcessed(Bool processed);
+
+    // 여러 인스턴스가 서로 다른 행을 나눠 가지도록 잠긴 행은 건너뜀 (발행 순서대로)
+    @Query(value = "SELECT * FROM notification_outbox_event WHERE processed = 'FALSE' ORDER BY seq LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEvent> claimUnprocessed(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxEvent e SET e.processed = com.crewvy.common.entity.Bool.TRUE WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<UUID> ids);
 }
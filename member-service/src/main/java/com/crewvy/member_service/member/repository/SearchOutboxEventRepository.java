@@ -1,13 +1,31 @@
 package com.crewvy.member_service.member.repository;
 
 import com.crewvy.common.entity.Bool;
+import com.crewvy.common.outbox.OutboxSequence;
 import com.crewvy.member_service.member.entity.SearchOutboxEvent;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface SearchOutboxEventRepository extends JpaRepository<SearchOutboxEvent, UUID> {
-    List<SearchOutboxEvent> findAllByProcessed(Bool bool, Pageable pageable);
+    long countByProcessed(Bool processed);
+
+    // 여러 인스턴스가 서로 다른 행을 나눠 가지도록 잠긴 행은 건너뜀 (발행 순서대로)
+    @Query(value = "SELECT * FROM search_outbox_event WHERE processed = 'FALSE' ORDER BY seq LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SearchOutboxEvent> claimUnprocessed(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE SearchOutboxEvent e SET e.processed = com.crewvy.common.entity.Bool.TRUE WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<UUID> ids);
+
+    // 같은 집계의 미처리 행 순서 확인용 (잠금 없는 읽기)
+    @Query("SELECT e.aggregateId AS aggregateId, e.seq AS seq FROM SearchOutboxEvent e " +
+            "WHERE e.processed = com.crewvy.common.entity.Bool.FALSE AND e.aggregateId IN :aggregateIds " +
+            "ORDER BY e.seq")
+    List<OutboxSequence> findPendingSequences(@Param("aggregateIds") Collection<UUID> aggregateIds);
 }
@@ -4,6 +4,7 @@ import com.crewvy.common.entity.Bool;
 import com.crewvy.common.event.MemberDeletedEvent;
 import com.crewvy.common.event.MemberSavedEvent;
 import com.crewvy.common.event.OrganizationSavedEvent;
+import com.crewvy.common.event.PermissionChangedEvent;
 import com.crewvy.common.event.PositionNameChangedEvent;
 import com.crewvy.common.exception.PermissionDeniedException;
 import com.crewvy.common.exception.SerializationException;
@@ -16,6 +17,7 @@ import com.crewvy.member_service.member.dto.request.*;
 import com.crewvy.member_service.member.dto.response.*;
 import com.crewvy.member_service.member.entity.*;
 import com.crewvy.member_service.member.event.MemberChangedEvent;
+import com.crewvy.member_service.member.event.OrganizationTreeChangedEvent;
 import com.crewvy.member_service.member.repository.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -342,6 +344,7 @@ public class MemberService {
     }
 
     // 직원 정보 수정
+    @CacheEvict(cacheManager = "permissionCacheManager", value = "permissions", allEntries = true)
     public UUID updateMember(UUID memberPositionId, UUID memberId, UpdateMemberReq updateMemberReq) {
         if (checkPermission(memberPositionId, "member", Action.UPDATE, PermissionRange.COMPANY) == FALSE) {
             throw new PermissionDeniedException("권한이 없습니다.");
@@ -416,6 +419,8 @@ public class MemberService {
 
         Set<MemberPosition> currentPositionSet = new LinkedHashSet<>(member.getMemberPositionList());
         Set<UUID> updatedMemberPositionIdSet = new LinkedHashSet<>();
+        // 역할이 바뀌었거나 삭제된 기존 직책 (로컬 권한 캐시 무효화 대상)
+        Set<UUID> permissionChangedPositionIdSet = new LinkedHashSet<>();
 
         if (updateMemberReq.getPositionUpdateReqList() != null) {
             for (PositionUpdateReq req : updateMemberReq.getPositionUpdateReqList()) {
@@ -460,6 +465,10 @@ public class MemberService {
                     throw new IllegalArgumentException("역할 ID는 null일 수 없습니다.");
                 }
 
+                if (memberPosition.getId() != null && !role.getId().equals(memberPosition.getRole().getId())) {
+                    permissionChangedPositionIdSet.add(memberPosition.getId());
+                }
+
                 memberPosition.update(organization, title, role, req.getStartDate(), req.getEndDate());
                 memberPositionRepository.save(memberPosition);
             }
@@ -471,9 +480,16 @@ public class MemberService {
                 .forEach(mp -> {
                     mp.delete(); // ynDel = TRUE
                     memberPositionRepository.save(mp);
+                    permissionChangedPositionIdSet.add(mp.getId());
                 });
 
         eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
+        if (!permissionChangedPositionIdSet.isEmpty()) {
+            eventPublisher.publishEvent(PermissionChangedEvent.builder()
+                    .companyId(member.getCompany().getId())
+                    .memberPositionIds(List.copyOf(permissionChangedPositionIdSet))
+                    .build());
+        }
 
         return member.getId();
     }
@@ -525,6 +541,7 @@ public class MemberService {
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 계정입니다."));
         member.delete();
         memberRepository.save(member);
+        eventPublisher.publishEvent(new OrganizationTreeChangedEvent(member.getCompany().getId(), member.getId()));
 
         try {
             MemberDeletedEvent event = MemberDeletedEvent.builder()
@@ -633,6 +650,8 @@ public class MemberService {
         String oldTitleName = title.getName(); // 이전 직책명 캡처
         title.updateName(updateTitleReq.getName());
         titleRepository.save(title);
+        // 직책명은 트리의 모든 직원 정보에 들어가므로 전체 재생성
+        eventPublisher.publishEvent(new OrganizationTreeChangedEvent(title.getCompany().getId(), null));
 
         // 직책 이름 변경 이벤트 발행
         try {
@@ -700,6 +719,7 @@ public class MemberService {
     }
 
     // 직책 영구 삭제
+    @CacheEvict(cacheManager = "permissionCacheManager", value = "permissions", allEntries = true)
     public void hardDeleteMemberPosition(UUID adminMemberPositionId, UUID memberPositionId) {
         if (checkPermission(adminMemberPositionId, "member", Action.DELETE, PermissionRange.COMPANY) == FALSE) {
             throw new PermissionDeniedException("권한이 없습니다.");
@@ -711,6 +731,15 @@ public class MemberService {
             throw new IllegalStateException("기본 직책으로 설정된 직무는 영구 삭제할 수 없습니다. 먼저 다른 직무를 기본으로 설정해주세요.");
         }
 
+        memberPositionRepository.findById(memberPositionId).ifPresent(memberPosition -> {
+            Member member = memberPosition.getMember();
+            eventPublisher.publishEvent(new OrganizationTreeChangedEvent(member.getCompany().getId(), member.getId()));
+            eventPublisher.publishEvent(PermissionChangedEvent.builder()
+                    .companyId(member.getCompany().getId())
+                    .roleId(memberPosition.getRole().getId())
+                    .memberPositionIds(List.of(memberPositionId))
+                    .build());
+        });
         memberPositionRepository.deleteById(memberPositionId);
     }
 
@@ -947,7 +976,18 @@ public class MemberService {
         rolePermissionRepository.saveAll(newRolePermissions);
 
         role.updatePermission(newRolePermissions);
-        return roleRepository.save(role).getId();
+        UUID savedRoleId = roleRepository.save(role).getId();
+
+        // 해당 역할을 가진 모든 직책의 로컬 권한 캐시 무효화
+        List<UUID> affectedPositionIds = memberPositionRepository.findAllByRoleId(roleId).stream()
+                .map(MemberPosition::getId)
+                .toList();
+        eventPublisher.publishEvent(PermissionChangedEvent.builder()
+                .companyId(role.getCompany().getId())
+                .roleId(roleId)
+                .memberPositionIds(affectedPositionIds)
+                .build());
+        return savedRoleId;
     }
 
     // 멤버의 역할 변경
@@ -965,6 +1005,12 @@ public class MemberService {
 
         targetMemberPosition.updateRole(newRole);
         memberPositionRepository.save(targetMemberPosition);
+
+        eventPublisher.publishEvent(PermissionChangedEvent.builder()
+                .companyId(newRole.getCompany().getId())
+                .roleId(newRole.getId())
+                .memberPositionIds(List.of(targetMemberPositionId))
+                .build());
     }
 
     // 역할 순서 변경
@@ -1261,18 +1307,32 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public List<OrganizationRes> getOrganizationList(UUID memberPositionId) {
-        return memberPositionRepository.findById(memberPositionId).map(mp -> {
-            List<OrganizationRes> organizationResList = new ArrayList<>();
-            Organization organization = mp.getOrganization();
+        return memberPositionRepository.findById(memberPositionId)
+                .map(mp -> organizationPathOf(mp.getOrganization()))
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."));
+    }
 
-            while (organization.getParent() != null) {
-                organizationResList.add(OrganizationRes.fromEntity(organization));
-                organization = organization.getParent();
-            }
-            organizationResList.add(OrganizationRes.fromEntity(organization));
+    // memberPositionId 목록 -> 직책별 조직 List (같은 부서는 한 번만 거슬러 올라감, 없는 직책은 결과에서 제외)
+    @Transactional(readOnly = true)
+    public Map<UUID, List<OrganizationRes>> getOrganizationPaths(List<UUID> memberPositionIds) {
+        Map<UUID, List<OrganizationRes>> pathByOrganization = new HashMap<>();
+        Map<UUID, List<OrganizationRes>> pathByPosition = new HashMap<>();
+        for (MemberPosition memberPosition : memberPositionRepository.findAllById(memberPositionIds)) {
+            Organization organization = memberPosition.getOrganization();
+            pathByPosition.put(memberPosition.getId(),
+                    pathByOrganization.computeIfAbsent(organization.getId(), id -> organizationPathOf(organization)));
+        }
+        return pathByPosition;
+    }
 
-            return organizationResList;
-        }).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."));
+    private List<OrganizationRes> organizationPathOf(Organization organization) {
+        List<OrganizationRes> organizationResList = new ArrayList<>();
+        while (organization.getParent() != null) {
+            organizationResList.add(OrganizationRes.fromEntity(organization));
+            organization = organization.getParent();
+        }
+        organizationResList.add(OrganizationRes.fromEntity(organization));
+        return organizationResList;
     }
 
     // 내 권한 목록 조회
@@ -1293,6 +1353,21 @@ public class MemberService {
                 .collect(Collectors.toList());
     }
 
+    // 내부 전용: 권한 판정 캐시용 권한 목록 조회
+    // - 권한 범위는 PermissionRepository.hasPermission과 같은 컬럼(permission.permissionRange)을 사용
+    //   (다른 서비스가 이 목록을 권한 판정 캐시로 쓰므로 DB 판정과 결과가 같아야 함)
+    @Transactional(readOnly = true)
+    public List<String> getPermissionGrants(UUID memberPositionId) {
+        MemberPosition memberPosition = memberPositionRepository.findById(memberPositionId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직책입니다."));
+
+        return memberPosition.getRole().getRolePermissionList().stream()
+                .map(RolePermission::getPermission)
+                .map(permission -> permission.getResource() + ":" + permission.getAction() + ":" + permission.getPermissionRange())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     // 회원 데이터 변경이 완료된 후 Elasticsearch 동기화를 위한 이벤트 저장
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -1356,6 +1431,8 @@ public class MemberService {
                     .phoneNumber(member.getIsPhoneNumberPublic() == Bool.TRUE ? member.getPhoneNumber() : null)
                     .memberStatus(member.getMemberStatus().getCodeName())
                     .position(member.getDefaultMemberPosition().getTitle().getName())
+                    .defaultOrganizationName(member.getDefaultMemberPosition().getOrganization().getName())
+                    .joinDate(member.getJoinDate())
                     .email(member.getEmail())
                     .build();
             String payload = objectMapper.writeValueAsString(event);
@@ -10,9 +10,9 @@ import com.crewvy.member_service.member.constant.PermissionRange;
 import com.crewvy.member_service.member.dto.request.CreateOrganizationReq;
 import com.crewvy.member_service.member.dto.request.UpdateOrganizationReq;
 import com.crewvy.member_service.member.dto.response.OrganizationTreeRes;
-import com.crewvy.member_service.member.dto.response.OrganizationTreeWithMembersRes;
 import com.crewvy.member_service.member.entity.*;
 import com.crewvy.member_service.member.event.OrganizationChangedEvent;
+import com.crewvy.member_service.member.event.OrganizationTreeChangedEvent;
 import com.crewvy.member_service.member.repository.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,18 +43,21 @@ public class OrganizationService {
     private final MemberService memberService;
     private final MemberPositionRepository memberPositionRepository;
     private final SearchOutboxEventRepository searchOutboxEventRepository;
+    private final OrganizationTreeSnapshotService organizationTreeSnapshotService;
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
 
     public OrganizationService(OrganizationRepository organizationRepository, CompanyRepository companyRepository
             , MemberRepository memberRepository, MemberService memberService, MemberPositionRepository memberPositionRepository
-            , SearchOutboxEventRepository searchOutboxEventRepository, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper) {
+            , SearchOutboxEventRepository searchOutboxEventRepository, OrganizationTreeSnapshotService organizationTreeSnapshotService
+            , ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper) {
         this.organizationRepository = organizationRepository;
         this.companyRepository = companyRepository;
         this.memberRepository = memberRepository;
         this.memberService = memberService;
         this.memberPositionRepository = memberPositionRepository;
         this.searchOutboxEventRepository = searchOutboxEventRepository;
+        this.organizationTreeSnapshotService = organizationTreeSnapshotService;
         this.eventPublisher = eventPublisher;
         this.objectMapper = objectMapper;
     }
@@ -118,19 +121,11 @@ public class OrganizationService {
                 .collect(Collectors.toList());
     }
 
-    // 조직 트리 및 멤버 조회
+    // 조직 트리 및 멤버 조회 (회사 단위 버전 스냅샷)
     @Transactional(readOnly = true)
-    public List<OrganizationTreeWithMembersRes> getOrganizationTreeWithMembers(UUID memberId) {
+    public OrganizationTreeSnapshot getOrganizationTreeWithMembers(UUID memberId) {
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계정입니다."));
-        Company company = member.getCompany();
-
-        List<Organization> organizations = organizationRepository.findByCompanyOrderByDisplayOrderAsc(company);
-        List<MemberPosition> allMemberPositions = memberPositionRepository.findByCompany(company);
-
-        return organizations.stream()
-                .filter(o -> o.getParent() == null)
-                .map(o -> new OrganizationTreeWithMembersRes(o, allMemberPositions))
-                .collect(Collectors.toList());
+        return organizationTreeSnapshotService.get(member.getCompany());
     }
 
     // 조직 수정
@@ -203,6 +198,7 @@ public class OrganizationService {
         }
 
         organizationRepository.delete(organization);
+        eventPublisher.publishEvent(new OrganizationTreeChangedEvent(organization.getCompany().getId(), null));
 
         try {
             OrganizationDeletedEvent event = OrganizationDeletedEvent.builder()
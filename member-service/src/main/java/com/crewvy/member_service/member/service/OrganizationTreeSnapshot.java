@@ -0,0 +1,53 @@
+package com.crewvy.member_service.member.service;
+
+import com.crewvy.member_service.member.dto.response.OrganizationTreeWithMembersRes;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 회사 단위 조직 트리(멤버 포함) 스냅샷 (불변)
+ * - version: 회사별 조직 트리 변경 횟수 (Redis 카운터, 인스턴스 간 공유)
+ * - etag: 직렬화된 트리의 해시 (내용이 같으면 버전이 달라도 같은 값)
+ * - 트리 노드는 여러 요청이 공유하므로 수정하지 않고, 변경 시 바뀐 경로만 새 노드로 교체한다
+ */
+public final class OrganizationTreeSnapshot {
+
+    @Getter
+    private final long version;
+    @Getter
+    private final String etag;
+    @Getter
+    private final List<OrganizationTreeWithMembersRes> tree;
+    private final Set<UUID> organizationIds;
+    private final Map<UUID, Set<UUID>> organizationIdsByMember;
+    private final long builtAt;
+
+    OrganizationTreeSnapshot(long version, String etag, List<OrganizationTreeWithMembersRes> tree,
+                             Set<UUID> organizationIds, Map<UUID, Set<UUID>> organizationIdsByMember, long builtAt) {
+        this.version = version;
+        this.etag = etag;
+        this.tree = List.copyOf(tree);
+        this.organizationIds = Set.copyOf(organizationIds);
+        this.organizationIdsByMember = Map.copyOf(organizationIdsByMember);
+        this.builtAt = builtAt;
+    }
+
+    // 스냅샷에 포함된 회사 조직 ID 전체
+    Set<UUID> organizationIds() {
+        return organizationIds;
+    }
+
+    // 직원별 소속 조직 ID (직원이 멤버로 표시되는 노드)
+    Map<UUID, Set<UUID>> organizationIdsByMember() {
+        return organizationIdsByMember;
+    }
+
+    // 최초 전체 생성 시각 (System.nanoTime, 부분 갱신 시 유지)
+    long builtAt() {
+        return builtAt;
+    }
+}
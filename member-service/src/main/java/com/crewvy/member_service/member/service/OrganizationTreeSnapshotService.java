@@ -0,0 +1,311 @@
+package com.crewvy.member_service.member.service;
+
+import com.crewvy.common.exception.SerializationException;
+import com.crewvy.member_service.member.dto.response.MemberRes;
+import com.crewvy.member_service.member.dto.response.OrganizationTreeWithMembersRes;
+import com.crewvy.member_service.member.entity.Company;
+import com.crewvy.member_service.member.entity.MemberPosition;
+import com.crewvy.member_service.member.entity.Organization;
+import com.crewvy.member_service.member.event.MemberChangedEvent;
+import com.crewvy.member_service.member.event.OrganizationChangedEvent;
+import com.crewvy.member_service.member.event.OrganizationTreeChangedEvent;
+import com.crewvy.member_service.member.repository.MemberPositionRepository;
+import com.crewvy.member_service.member.repository.MemberRepository;
+import com.crewvy.member_service.member.repository.OrganizationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 회사별 조직 트리(멤버 포함) 스냅샷 관리
+ * - 버전은 Redis 카운터로 인스턴스 간 공유, 스냅샷 자체는 인스턴스 로컬에 보관
+ * - 버전이 같으면 DB 조회 없이 보관 중인 스냅샷을 그대로 반환
+ * - 직원 단위 변경만 쌓였다면 해당 직원이 속한 노드 경로만 다시 만들고, 조직 구조/직책명 변경은 전체 재생성
+ * - 변경 로그가 없거나(만료/유실) 스냅샷이 오래되면 전체 재생성
+ */
+@Slf4j
+@Service
+public class OrganizationTreeSnapshotService {
+
+    private static final String VERSION_KEY_PREFIX = "org-tree:version:";
+    private static final String CHANGES_KEY_PREFIX = "org-tree:changes:";
+    private static final String FULL_CHANGE = "*";
+    private static final Duration CHANGE_LOG_TTL = Duration.ofDays(1);
+    private static final int MAX_INCREMENTAL_CHANGES = 50;
+    private static final int MAX_COMPANIES = 1_000;
+    private static final long MAX_AGE_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final OrganizationRepository organizationRepository;
+    private final MemberRepository memberRepository;
+    private final MemberPositionRepository memberPositionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, OrganizationTreeSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, Object> rebuildLocks = new ConcurrentHashMap<>();
+
+    public OrganizationTreeSnapshotService(OrganizationRepository organizationRepository, MemberRepository memberRepository
+            , MemberPositionRepository memberPositionRepository, @Qualifier("rtInventory") StringRedisTemplate redisTemplate
+            , ObjectMapper objectMapper) {
+        this.organizationRepository = organizationRepository;
+        this.memberRepository = memberRepository;
+        this.memberPositionRepository = memberPositionRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // 회사의 현재 조직 트리 스냅샷 조회
+    @Transactional(readOnly = true)
+    public OrganizationTreeSnapshot get(Company company) {
+        UUID companyId = company.getId();
+        // 버전을 먼저 읽고 DB를 조회해야, 조회 도중 커밋된 변경이 있어도 스냅샷이 더 낮은 버전으로 남는다
+        Long version = currentVersion(companyId);
+        if (version == null) {
+            // 버전을 알 수 없으면 오래된 스냅샷을 내줄 수 있으므로 캐시 없이 생성
+            return build(company, 0);
+        }
+
+        OrganizationTreeSnapshot cached = snapshots.get(companyId);
+        if (isUsable(cached, version)) {
+            return cached;
+        }
+
+        synchronized (rebuildLocks.computeIfAbsent(companyId, id -> new Object())) {
+            cached = snapshots.get(companyId);
+            if (isUsable(cached, version)) {
+                return cached;
+            }
+
+            OrganizationTreeSnapshot next = null;
+            if (cached != null && System.nanoTime() - cached.builtAt() < MAX_AGE_NANOS) {
+                next = patch(companyId, cached, version);
+            }
+            if (next == null) {
+                next = build(company, version);
+            }
+
+            evictIfFull();
+            snapshots.put(companyId, next);
+            return next;
+        }
+    }
+
+    // 직원 정보/소속 변경 → 해당 직원만 갱신
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMemberChanged(MemberChangedEvent memberChangedEvent) {
+        UUID memberId = memberChangedEvent.getMemberId();
+        memberRepository.findById(memberId)
+                .ifPresent(member -> recordChange(member.getCompany().getId(), memberId.toString()));
+    }
+
+    // 조직 생성/수정/순서 변경 → 트리 전체 재생성
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrganizationChanged(OrganizationChangedEvent organizationChangedEvent) {
+        organizationRepository.findById(organizationChangedEvent.getOrganizationId())
+                .ifPresent(organization -> recordChange(organization.getCompany().getId(), FULL_CHANGE));
+    }
+
+    // 검색 동기화 이벤트가 없는 변경(직원/조직 삭제, 직무 영구 삭제, 직책명 변경)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrganizationTreeChanged(OrganizationTreeChangedEvent organizationTreeChangedEvent) {
+        UUID memberId = organizationTreeChangedEvent.getMemberId();
+        recordChange(organizationTreeChangedEvent.getCompanyId(), memberId != null ? memberId.toString() : FULL_CHANGE);
+    }
+
+    private void recordChange(UUID companyId, String change) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + companyId);
+            if (version == null) {
+                throw new IllegalStateException("조직 트리 버전 증가 결과 없음");
+            }
+            String changesKey = CHANGES_KEY_PREFIX + companyId;
+            redisTemplate.opsForHash().put(changesKey, String.valueOf(version), change);
+            // 부분 갱신에 쓰이는 최근 MAX_INCREMENTAL_CHANGES 건만 남김
+            redisTemplate.opsForHash().delete(changesKey, String.valueOf(version - MAX_INCREMENTAL_CHANGES - 1));
+            redisTemplate.expire(changesKey, CHANGE_LOG_TTL);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 MAX_AGE 상한까지 이전 스냅샷을 쓸 수 있음
+            log.error("조직 트리 버전 갱신 실패: companyId={}, change={}", companyId, change, e);
+            snapshots.remove(companyId);
+        }
+    }
+
+    private Long currentVersion(UUID companyId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + companyId);
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("조직 트리 버전 조회 실패, 캐시 없이 생성: companyId={}", companyId, e);
+            return null;
+        }
+    }
+
+    private boolean isUsable(OrganizationTreeSnapshot snapshot, long version) {
+        return snapshot != null
+                && snapshot.getVersion() >= version
+                && System.nanoTime() - snapshot.builtAt() < MAX_AGE_NANOS;
+    }
+
+    private OrganizationTreeSnapshot build(Company company, long version) {
+        List<Organization> organizations = organizationRepository.findByCompanyOrderByDisplayOrderAsc(company);
+        List<MemberPosition> allMemberPositions = memberPositionRepository.findByCompany(company);
+
+        List<OrganizationTreeWithMembersRes> tree = organizations.stream()
+                .filter(o -> o.getParent() == null)
+                .map(o -> new OrganizationTreeWithMembersRes(o, allMemberPositions))
+                .collect(Collectors.toList());
+        Set<UUID> organizationIds = organizations.stream()
+                .map(Organization::getId)
+                .collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> organizationIdsByMember = allMemberPositions.stream()
+                .collect(Collectors.groupingBy(mp -> mp.getMember().getId(),
+                        Collectors.mapping(mp -> mp.getOrganization().getId(), Collectors.toUnmodifiableSet())));
+
+        return new OrganizationTreeSnapshot(version, etagOf(tree), tree, organizationIds, organizationIdsByMember, System.nanoTime());
+    }
+
+    /**
+     * 기준 스냅샷 이후 직원 단위 변경만 있었다면 해당 직원이 속한(속했던) 노드만 교체한 새 스냅샷 생성
+     * @return 부분 갱신이 불가능하면 null (전체 재생성 필요)
+     */
+    private OrganizationTreeSnapshot patch(UUID companyId, OrganizationTreeSnapshot base, long version) {
+        if (version - base.getVersion() > MAX_INCREMENTAL_CHANGES) {
+            return null;
+        }
+
+        List<Object> changes;
+        try {
+            List<Object> fields = LongStream.rangeClosed(base.getVersion() + 1, version)
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.toList());
+            changes = redisTemplate.opsForHash().multiGet(CHANGES_KEY_PREFIX + companyId, fields);
+        } catch (RuntimeException e) {
+            log.warn("조직 트리 변경 로그 조회 실패, 전체 재생성: companyId={}", companyId, e);
+            return null;
+        }
+
+        Set<UUID> changedMemberIds = new LinkedHashSet<>();
+        for (Object change : changes) {
+            if (change == null || FULL_CHANGE.equals(change)) {
+                return null;
+            }
+            changedMemberIds.add(UUID.fromString(change.toString()));
+        }
+
+        List<OrganizationTreeWithMembersRes> tree = base.getTree();
+        Map<UUID, Set<UUID>> organizationIdsByMember = new HashMap<>(base.organizationIdsByMember());
+        for (UUID memberId : changedMemberIds) {
+            Set<UUID> currentOrganizationIds = memberPositionRepository.findAllByMemberId(memberId).stream()
+                    .map(mp -> mp.getOrganization().getId())
+                    .collect(Collectors.toUnmodifiableSet());
+            if (!base.organizationIds().containsAll(currentOrganizationIds)) {
+                // 스냅샷에 없는 조직에 배치됨 → 조직 구조가 바뀐 것이므로 전체 재생성
+                return null;
+            }
+
+            MemberRes memberRes = currentOrganizationIds.isEmpty() ? null
+                    : memberRepository.findById(memberId).map(MemberRes::fromEntity).orElse(null);
+            if (memberRes == null) {
+                currentOrganizationIds = Set.of();
+            }
+
+            Set<UUID> affectedOrganizationIds = new HashSet<>(currentOrganizationIds);
+            affectedOrganizationIds.addAll(organizationIdsByMember.getOrDefault(memberId, Set.of()));
+            if (affectedOrganizationIds.isEmpty()) {
+                continue;
+            }
+
+            tree = replaceMember(tree, memberId, memberRes, affectedOrganizationIds, currentOrganizationIds);
+            if (currentOrganizationIds.isEmpty()) {
+                organizationIdsByMember.remove(memberId);
+            } else {
+                organizationIdsByMember.put(memberId, currentOrganizationIds);
+            }
+        }
+
+        return new OrganizationTreeSnapshot(version, etagOf(tree), tree, base.organizationIds(), organizationIdsByMember, base.builtAt());
+    }
+
+    // 바뀐 노드가 없으면 같은 리스트를 그대로 반환 (변경 없는 하위 트리는 기존 노드 공유)
+    private List<OrganizationTreeWithMembersRes> replaceMember(List<OrganizationTreeWithMembersRes> nodes, UUID memberId, MemberRes memberRes,
+                                                               Set<UUID> affectedOrganizationIds, Set<UUID> currentOrganizationIds) {
+        List<OrganizationTreeWithMembersRes> replaced = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            OrganizationTreeWithMembersRes node = nodes.get(i);
+            OrganizationTreeWithMembersRes next = replaceMember(node, memberId, memberRes, affectedOrganizationIds, currentOrganizationIds);
+            if (next != node) {
+                if (replaced == null) {
+                    replaced = new ArrayList<>(nodes);
+                }
+                replaced.set(i, next);
+            }
+        }
+        return replaced != null ? replaced : nodes;
+    }
+
+    private OrganizationTreeWithMembersRes replaceMember(OrganizationTreeWithMembersRes node, UUID memberId, MemberRes memberRes,
+                                                         Set<UUID> affectedOrganizationIds, Set<UUID> currentOrganizationIds) {
+        List<OrganizationTreeWithMembersRes> children = replaceMember(node.getChildren(), memberId, memberRes,
+                affectedOrganizationIds, currentOrganizationIds);
+
+        List<MemberRes> members = node.getMembers();
+        if (affectedOrganizationIds.contains(node.getId())) {
+            members = new ArrayList<>(members);
+            int index = -1;
+            for (int i = 0; i < members.size(); i++) {
+                if (members.get(i).getId().equals(memberId)) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (currentOrganizationIds.contains(node.getId())) {
+                if (index >= 0) {
+                    members.set(index, memberRes);
+                } else {
+                    members.add(memberRes);
+                }
+            } else if (index >= 0) {
+                members.remove(index);
+            }
+        }
+
+        if (children == node.getChildren() && members == node.getMembers()) {
+            return node;
+        }
+        return new OrganizationTreeWithMembersRes(node.getId(), node.getLabel(), node.getType(), members, children);
+    }
+
+    private String etagOf(List<OrganizationTreeWithMembersRes> tree) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(tree)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("데이터 직렬화 실패");
+        }
+    }
+
+    private void evictIfFull() {
+        if (snapshots.size() < MAX_COMPANIES) {
+            return;
+        }
+        long now = System.nanoTime();
+        snapshots.values().removeIf(snapshot -> now - snapshot.builtAt() >= MAX_AGE_NANOS);
+        if (snapshots.size() >= MAX_COMPANIES) {
+            log.debug("조직 트리 스냅샷 캐시 용량 초과로 전체 비움: size={}", snapshots.size());
+            snapshots.clear();
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    private static final int BATCH_MAX_POLL_RECORDS = 1000;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -33,22 +35,49 @@ public class KafkaConsumerConfig {
 
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(baseProps(), new StringDeserializer(), jsonDeserializer());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        return factory;
+    }
+
+    /**
+     * 배치 리스너용 컨슈머
+     * - 브로커가 최대 200ms 동안 레코드를 모아서 응답하므로 한 번의 poll에 이벤트가 묶여서 들어옴
+     */
+    @Bean
+    public ConsumerFactory<String, Object> batchConsumerFactory() {
+        Map<String, Object> props = baseProps();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, BATCH_MAX_POLL_RECORDS);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 200);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), jsonDeserializer());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory());
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    private Map<String, Object> baseProps() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // Programmatically set auto-offset-reset
+        return props;
+    }
 
+    private JsonDeserializer<Object> jsonDeserializer() {
         // Create and configure the JsonDeserializer instance
         JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>(objectMapper);
         jsonDeserializer.addTrustedPackages("com.crewvy.common.event", "com.crewvy.workforce_service.approval.event", "com.crewvy.search_service.dto.event");
-
-        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), jsonDeserializer);
-    }
-
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
-        return factory;
+        return jsonDeserializer;
     }
 }
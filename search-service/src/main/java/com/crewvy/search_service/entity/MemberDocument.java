@@ -49,4 +49,8 @@ public class MemberDocument {
 
     @CompletionField(maxInputLength = 100)
     private Completion suggest;
+
+    // 마지막으로 반영한 이벤트 버전 (아웃박스 seq), 이보다 오래된 이벤트는 무시
+    @Field(type = FieldType.Long)
+    private Long eventVersion;
 }
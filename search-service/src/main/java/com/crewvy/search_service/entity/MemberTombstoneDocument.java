@@ -0,0 +1,29 @@
+package com.crewvy.search_service.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+/**
+ * 삭제된 직원의 마지막 이벤트 버전
+ * - 직원 문서를 지운 뒤에 늦게 도착한 이전 저장 이벤트(다른 토픽)가 문서를 되살리지 않도록 보관
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(indexName = "member_tombstone", createIndex = true)
+public class MemberTombstoneDocument {
+
+    @Id
+    @Field(type = FieldType.Keyword)
+    private String memberId;
+
+    @Field(type = FieldType.Long)
+    private Long version;
+}
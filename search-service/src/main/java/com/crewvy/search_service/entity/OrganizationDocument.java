@@ -44,6 +44,10 @@ public class OrganizationDocument {
     @Field(type = FieldType.Integer)
     private Integer displayOrder;
 
+    // 마지막으로 반영한 조직 이벤트 버전 (아웃박스 seq), 이보다 오래된 조직 저장 이벤트는 무시
+    @Field(type = FieldType.Long)
+    private Long eventVersion;
+
     public void updateFromEvent(OrganizationSavedEvent event) {
         this.label = event.getName();
         this.parentId = event.getParentId() != null ? event.getParentId().toString() : null;
@@ -0,0 +1,7 @@
+package com.crewvy.search_service.repository;
+
+import com.crewvy.search_service.entity.OrganizationTombstoneDocument;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+public interface OrganizationTombstoneRepository extends ElasticsearchRepository<OrganizationTombstoneDocument, String> {
+}
@@ -0,0 +1,443 @@
+package com.crewvy.search_service.service;
+
+import com.crewvy.common.event.MemberDeletedEvent;
+import com.crewvy.common.event.MemberSavedEvent;
+import com.crewvy.common.event.OrganizationDeletedEvent;
+import com.crewvy.common.event.OrganizationSavedEvent;
+import com.crewvy.common.outbox.OutboxMessage;
+import com.crewvy.search_service.entity.MemberDocument;
+import com.crewvy.search_service.entity.MemberTombstoneDocument;
+import com.crewvy.search_service.entity.OrganizationDocument;
+import com.crewvy.search_service.entity.OrganizationTombstoneDocument;
+import com.crewvy.search_service.repository.MemberSearchRepository;
+import com.crewvy.search_service.repository.MemberTombstoneRepository;
+import com.crewvy.search_service.repository.OrganizationTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 직원/조직 이벤트 배치 색인
+ * - 한 번의 poll로 받은 이벤트를 문서 id별로 합쳐 인덱스당 한 번의 _bulk 요청으로 반영
+ * - 직원 저장/삭제는 토픽이 달라 도착 순서가 섞일 수 있으므로 이벤트 버전(아웃박스 seq 헤더)이 가장 큰 것을 최신으로 봄
+ *   · 직원 문서에 반영한 버전(eventVersion)보다 오래된 이벤트는 무시 (스크립트에서 한 번 더 확인)
+ *   · 삭제하면 버전을 member_tombstone에 남겨, 늦게 도착한 이전 저장 이벤트가 문서를 되살리지 않게 함
+ *   · 버전 헤더가 없는 이벤트는 poll 순서상 마지막 이벤트 기준 (이전 동작)
+ * - 조직 저장/삭제도 같은 방식으로 버전을 비교 (조직 문서의 eventVersion, organization_tombstone)
+ *   · 삭제 기록보다 오래된 조직 저장이나 직원 추가는 문서를 새로 만들지 않음
+ * - 조직의 memberList는 문서를 읽어 고치지 않고 스크립트로 부분 갱신 (같은 직원 항목을 지우고 다시 넣으므로 재처리해도 결과가 같음)
+ * - 이미 없는 문서의 삭제/직원 제외는 무시, 그 외 실패는 예외를 던져 배치 전체를 재처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexBatchService {
+
+    private static final String REPLACE_SOURCE_SCRIPT = """
+            if (ctx._source.eventVersion != null && params.doc.eventVersion != null
+                && ctx._source.eventVersion > params.doc.eventVersion) {
+              ctx.op = 'noop';
+            } else {
+              ctx._source.clear();
+              ctx._source.putAll(params.doc);
+            }
+            """;
+    private static final String VERSIONED_DELETE_SCRIPT = """
+            if (params.version != null && ctx._source.eventVersion != null
+                && ctx._source.eventVersion > params.version) {
+              ctx.op = 'noop';
+            } else {
+              ctx.op = 'delete';
+            }
+            """;
+    private static final String TOMBSTONE_SCRIPT = """
+            if (ctx._source.version == null || ctx._source.version < params.version) {
+              ctx._source.version = params.version;
+            } else {
+              ctx.op = 'noop';
+            }
+            """;
+    private static final String ORGANIZATION_SCRIPT = """
+            if (params.fields != null && (params.version == null || ctx._source.eventVersion == null
+                || ctx._source.eventVersion <= params.version)) {
+              ctx._source.label = params.fields.label;
+              ctx._source.parentId = params.fields.parentId;
+              ctx._source.displayOrder = params.fields.displayOrder;
+              if (params.version != null) {
+                ctx._source.eventVersion = params.version;
+              }
+            }
+            if (ctx._source.memberList == null) {
+              ctx._source.memberList = new ArrayList();
+            }
+            def memberIds = params.memberIds;
+            if (!memberIds.isEmpty()) {
+              ctx._source.memberList.removeIf(m -> memberIds.contains(m.id));
+            }
+            ctx._source.memberList.addAll(params.members);
+            """;
+    private static final int RETRY_ON_CONFLICT = 3;
+
+    private final MemberSearchRepository memberSearchRepository;
+    private final MemberTombstoneRepository memberTombstoneRepository;
+    private final OrganizationTombstoneRepository organizationTombstoneRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @KafkaListener(
+            topics = {"member-saved-events", "member-deleted-events", "organization-saved-events", "organization-deleted-events"},
+            groupId = "search-service-group",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void listenMemberOrganizationEvents(List<ConsumerRecord<String, Object>> records) {
+        // 1. 문서 id별로 최신 이벤트만 남김 (버전이 가장 큰 이벤트)
+        Map<String, VersionedEvent> memberEvents = new LinkedHashMap<>();
+        Map<String, OrganizationChange> organizationChanges = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            Object value = record.value();
+            if (value instanceof MemberSavedEvent event) {
+                putLatest(memberEvents, event.getMemberId().toString(), new VersionedEvent(event, versionOf(record)));
+            } else if (value instanceof MemberDeletedEvent event) {
+                putLatest(memberEvents, event.getMemberId().toString(), new VersionedEvent(event, versionOf(record)));
+            } else if (value instanceof OrganizationSavedEvent event) {
+                changeOf(organizationChanges, event.getOrganizationId()).save(event, versionOf(record));
+            } else if (value instanceof OrganizationDeletedEvent event) {
+                changeOf(organizationChanges, event.getOrganizationId()).delete(versionOf(record));
+            } else {
+                log.warn("Unknown search event: topic={}, type={}", record.topic(), value != null ? value.getClass().getName() : null);
+            }
+        }
+
+        // 2. 제외된 조직과 오래된 이벤트를 알아내기 위해 기존 직원 문서와 삭제 기록을 한 번에 조회 (_mget)
+        Map<String, MemberDocument> previousMembers = new HashMap<>();
+        Map<String, Long> tombstoneVersions = new HashMap<>();
+        if (!memberEvents.isEmpty()) {
+            memberSearchRepository.findAllById(memberEvents.keySet())
+                    .forEach(document -> previousMembers.put(document.getMemberId(), document));
+            memberTombstoneRepository.findAllById(memberEvents.keySet())
+                    .forEach(tombstone -> tombstoneVersions.put(tombstone.getMemberId(), tombstone.getVersion()));
+        }
+
+        ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+        List<UpdateQuery> memberQueries = new ArrayList<>(memberEvents.size());
+        List<UpdateQuery> tombstoneQueries = new ArrayList<>();
+        int stale = 0;
+        for (Map.Entry<String, VersionedEvent> entry : memberEvents.entrySet()) {
+            String memberId = entry.getKey();
+            Object value = entry.getValue().event();
+            Long version = entry.getValue().version();
+            MemberDocument previous = previousMembers.get(memberId);
+
+            // 이미 더 최신 이벤트가 반영된 직원 (저장은 삭제 기록보다 오래됐을 때도 무시)
+            if (isOlder(version, previous != null ? previous.getEventVersion() : null)
+                    || (value instanceof MemberSavedEvent && isOlder(version, tombstoneVersions.get(memberId)))) {
+                stale++;
+                continue;
+            }
+            Set<UUID> previousOrganizationIds = organizationIdsOf(previous);
+
+            if (value instanceof MemberSavedEvent event) {
+                memberQueries.add(replaceQuery(memberId, converter.mapObject(toDocument(event, version))));
+
+                Set<UUID> currentOrganizationIds = event.getOrganizationList().stream()
+                        .map(OrganizationSavedEvent::getOrganizationId)
+                        .collect(Collectors.toSet());
+                previousOrganizationIds.stream()
+                        .filter(organizationId -> !currentOrganizationIds.contains(organizationId))
+                        .forEach(organizationId -> changeOf(organizationChanges, organizationId).removeMember(event.getMemberId()));
+
+                // 신규 조직이면 추가, 기존 조직이면 member 업데이트
+                event.getOrganizationList().forEach(orgEvent -> {
+                    OrganizationDocument.Member member = new OrganizationDocument.Member();
+                    member.updateMember(event);
+                    changeOf(organizationChanges, orgEvent.getOrganizationId())
+                            .putMember(event.getMemberId(), converter.mapObject(member), () -> newOrganization(event, orgEvent));
+                });
+            } else {
+                memberQueries.add(versionedDeleteQuery(memberId, version));
+                if (version != null) {
+                    tombstoneQueries.add(tombstoneQuery(memberId, version, converter.mapObject(
+                            MemberTombstoneDocument.builder().memberId(memberId).build())));
+                }
+                UUID deletedMemberId = UUID.fromString(memberId);
+                previousOrganizationIds.forEach(organizationId -> changeOf(organizationChanges, organizationId).removeMember(deletedMemberId));
+            }
+        }
+
+        // 조직 삭제 기록을 한 번에 조회 (_mget), 삭제 기록보다 오래된 조직 저장은 버림
+        if (!organizationChanges.isEmpty()) {
+            organizationTombstoneRepository.findAllById(organizationChanges.keySet())
+                    .forEach(tombstone -> organizationChanges.get(tombstone.getOrganizationId()).tombstoned(tombstone.getVersion()));
+        }
+
+        List<UpdateQuery> organizationQueries = new ArrayList<>(organizationChanges.size());
+        List<UpdateQuery> organizationTombstoneQueries = new ArrayList<>();
+        organizationChanges.forEach((organizationId, change) -> {
+            organizationQueries.add(change.toQuery(organizationId, converter));
+            if (change.deleted && change.version != null) {
+                organizationTombstoneQueries.add(tombstoneQuery(organizationId, change.version, converter.mapObject(
+                        OrganizationTombstoneDocument.builder().organizationId(organizationId).build())));
+            }
+        });
+
+        // 3. 인덱스별 _bulk 한 번씩 (삭제 기록을 먼저 남겨 중간에 실패해도 재처리 시 되살아나지 않음)
+        bulkUpdate(tombstoneQueries, MemberTombstoneDocument.class);
+        bulkUpdate(organizationTombstoneQueries, OrganizationTombstoneDocument.class);
+        bulkUpdate(memberQueries, MemberDocument.class);
+        bulkUpdate(organizationQueries, OrganizationDocument.class);
+
+        log.debug("검색 색인 배치 반영: records={}, members={}, organizations={}, stale={}",
+                records.size(), memberQueries.size(), organizationQueries.size(), stale);
+    }
+
+    /**
+     * 버전이 더 큰 이벤트만 남김 (둘 중 하나라도 버전이 없으면 나중에 받은 이벤트 기준)
+     */
+    private void putLatest(Map<String, VersionedEvent> events, String memberId, VersionedEvent event) {
+        VersionedEvent current = events.get(memberId);
+        if (current != null && isOlder(event.version(), current.version())) {
+            return;
+        }
+        events.put(memberId, event);
+    }
+
+    private static boolean isOlder(Long version, Long appliedVersion) {
+        return version != null && appliedVersion != null && version < appliedVersion;
+    }
+
+    private Long versionOf(ConsumerRecord<String, Object> record) {
+        Header header = record.headers().lastHeader(OutboxMessage.VERSION_HEADER);
+        if (header == null || header.value() == null || header.value().length != Long.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    private void bulkUpdate(List<UpdateQuery> queries, Class<?> documentClass) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchOperations.bulkUpdate(queries, elasticsearchOperations.getIndexCoordinatesFor(documentClass));
+        } catch (BulkFailureException e) {
+            // 이미 없는 문서(404)는 삭제/제외가 끝난 것과 같으므로 무시
+            boolean onlyMissing = e.getFailedDocuments().values().stream()
+                    .allMatch(failure -> failure.status() != null && failure.status() == 404);
+            if (!onlyMissing) {
+                throw e;
+            }
+            log.debug("검색 색인 배치: 없는 문서 {}건 건너뜀 ({})", e.getFailedDocuments().size(), documentClass.getSimpleName());
+        }
+    }
+
+    private UpdateQuery replaceQuery(String id, Document document) {
+        return UpdateQuery.builder(id)
+                .withScript(REPLACE_SOURCE_SCRIPT)
+                .withLang("painless")
+                .withParams(Map.of("doc", document))
+                .withScriptedUpsert(true)
+                .withUpsert(document)
+                .build();
+    }
+
+    private static UpdateQuery versionedDeleteQuery(String id, Long version) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("version", version);
+        return UpdateQuery.builder(id)
+                .withScript(VERSIONED_DELETE_SCRIPT)
+                .withLang("painless")
+                .withParams(params)
+                .build();
+    }
+
+    private UpdateQuery tombstoneQuery(String id, long version, Document tombstone) {
+        return UpdateQuery.builder(id)
+                .withScript(TOMBSTONE_SCRIPT)
+                .withLang("painless")
+                .withParams(Map.of("version", version))
+                .withScriptedUpsert(true)
+                .withUpsert(tombstone)
+                .withRetryOnConflict(RETRY_ON_CONFLICT)
+                .build();
+    }
+
+    private MemberDocument toDocument(MemberSavedEvent event, Long version) {
+        List<String> orgNameList = event.getOrganizationList().stream()
+                .map(OrganizationSavedEvent::getName)
+                .collect(Collectors.toList());
+        String suggestText = event.getName() + " " + String.join(" ", orgNameList);
+
+        return MemberDocument.builder()
+                .memberId(event.getMemberId().toString())
+                .companyId(event.getCompanyId().toString())
+                .name(event.getName())
+                .organizationList(event.getOrganizationList())
+                .titleName(event.getTitleName())
+                .phoneNumber(event.getPhoneNumber())
+                .email(event.getEmail())
+                .memberStatus(event.getMemberStatus())
+                .suggest(new Completion(new String[]{suggestText}))
+                .eventVersion(version)
+                .build();
+    }
+
+    private OrganizationDocument newOrganization(MemberSavedEvent event, OrganizationSavedEvent orgEvent) {
+        return OrganizationDocument.builder()
+                .organizationId(orgEvent.getOrganizationId().toString())
+                .companyId(event.getCompanyId().toString())
+                .label(orgEvent.getName())
+                .memberList(new ArrayList<>())
+                .parentId(orgEvent.getParentId() != null ? orgEvent.getParentId().toString() : null)
+                .build();
+    }
+
+    private Set<UUID> organizationIdsOf(MemberDocument document) {
+        if (document == null || document.getOrganizationList() == null) {
+            return Set.of();
+        }
+        return document.getOrganizationList().stream()
+                .map(OrganizationSavedEvent::getOrganizationId)
+                .collect(Collectors.toSet());
+    }
+
+    private OrganizationChange changeOf(Map<String, OrganizationChange> changes, UUID organizationId) {
+        return changes.computeIfAbsent(organizationId.toString(), id -> new OrganizationChange());
+    }
+
+    /**
+     * 직원 이벤트와 버전 (버전 헤더가 없으면 null)
+     */
+    private record VersionedEvent(Object event, Long version) {
+    }
+
+    /**
+     * 한 배치 안에서 조직 문서 하나에 쌓인 변경
+     */
+    private static final class OrganizationChange {
+        private boolean deleted;
+        // 반영할 조직 저장/삭제 이벤트의 버전 (버전 헤더가 없거나 직원 변경만 있으면 null)
+        private Long version;
+        // 삭제 기록이 더 최신이라 문서를 새로 만들면 안 되는 조직
+        private boolean tombstoned;
+        private OrganizationSavedEvent saved;
+        private OrganizationDocument upsert;
+        private final Set<String> memberIds = new LinkedHashSet<>();
+        private final Map<String, Document> members = new LinkedHashMap<>();
+
+        private void save(OrganizationSavedEvent event, Long version) {
+            if (isOlder(version, this.version)) {
+                return;
+            }
+            this.deleted = false;
+            this.version = version;
+            this.saved = event;
+        }
+
+        private void delete(Long version) {
+            if (isOlder(version, this.version)) {
+                return;
+            }
+            this.deleted = true;
+            this.version = version;
+            this.saved = null;
+            this.upsert = null;
+            this.memberIds.clear();
+            this.members.clear();
+        }
+
+        /**
+         * 삭제 기록 반영: 기록보다 새로운 저장(복원)만 남기고, 그렇지 않으면 문서를 새로 만들지 않음
+         */
+        private void tombstoned(Long tombstoneVersion) {
+            if (deleted || tombstoneVersion == null) {
+                return;
+            }
+            if (saved != null && version != null && version > tombstoneVersion) {
+                return;
+            }
+            this.tombstoned = true;
+            this.saved = null;
+            this.upsert = null;
+        }
+
+        private void removeMember(UUID memberId) {
+            if (deleted) {
+                return;
+            }
+            memberIds.add(memberId.toString());
+            members.remove(memberId.toString());
+        }
+
+        private void putMember(UUID memberId, Document member, Supplier<OrganizationDocument> upsertSupplier) {
+            if (deleted) {
+                return;
+            }
+            memberIds.add(memberId.toString());
+            members.put(memberId.toString(), member);
+            if (upsert == null && !tombstoned) {
+                upsert = upsertSupplier.get();
+            }
+        }
+
+        private UpdateQuery toQuery(String organizationId, ElasticsearchConverter converter) {
+            if (deleted) {
+                return versionedDeleteQuery(organizationId, version);
+            }
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("fields", saved != null ? fieldsOf(saved) : null);
+            params.put("version", saved != null ? version : null);
+            params.put("memberIds", new ArrayList<>(memberIds));
+            params.put("members", new ArrayList<>(members.values()));
+
+            UpdateQuery.Builder builder = UpdateQuery.builder(organizationId)
+                    .withScript(ORGANIZATION_SCRIPT)
+                    .withLang("painless")
+                    .withParams(params)
+                    .withRetryOnConflict(RETRY_ON_CONFLICT);
+
+            // 조직 저장 또는 직원 추가가 있을 때만 문서가 없으면 생성 (직원 제외만 있으면 생성하지 않음)
+            OrganizationDocument upsertDocument = upsert;
+            if (upsertDocument == null && saved != null) {
+                upsertDocument = OrganizationDocument.builder()
+                        .organizationId(organizationId)
+                        .companyId(saved.getCompanyId().toString())
+                        .memberList(new ArrayList<>())
+                        .eventVersion(version)
+                        .build();
+            }
+            if (upsertDocument != null) {
+                builder.withScriptedUpsert(true).withUpsert(converter.mapObject(upsertDocument));
+            }
+            return builder.build();
+        }
+
+        private static Map<String, Object> fieldsOf(OrganizationSavedEvent event) {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("label", event.getName());
+            fields.put("parentId", event.getParentId() != null ? event.getParentId().toString() : null);
+            fields.put("displayOrder", event.getDisplayOrder());
+            return fields;
+        }
+    }
+}
@@ -9,10 +9,8 @@ import com.crewvy.search_service.entity.MemberDocument;
 import com.crewvy.search_service.entity.MinuteDocument;
 import com.crewvy.search_service.entity.OrganizationDocument;
 import com.crewvy.search_service.repository.ApprovalSearchRepository;
-import com.crewvy.search_service.repository.MemberSearchRepository;
 import com.crewvy.search_service.repository.MinuteSearchRepository;
 import com.crewvy.search_service.repository.OrganizationSearchRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,7 +22,6 @@ import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
-import org.springframework.data.elasticsearch.core.suggest.Completion;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
@@ -37,107 +34,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class SearchService {
-    private final MemberSearchRepository memberSearchRepository;
     private final OrganizationSearchRepository organizationSearchRepository;
     private final ApprovalSearchRepository approvalSearchRepository;
     private final MinuteSearchRepository minuteSearchRepository;
     private final ElasticsearchOperations elasticsearchOperations;
 
-    // 직원 추가
-    @KafkaListener(topics = "member-saved-events", groupId = "search-service-group")
-    public void listenMemberSavedEvent(MemberSavedEvent event) {
-        // 기존 MemberDocument 조회
-        memberSearchRepository.findById(event.getMemberId().toString()).ifPresent(existingMember -> {
-            List<OrganizationSavedEvent> existingOrgs = existingMember.getOrganizationList();
-            List<OrganizationSavedEvent> eventOrgs = event.getOrganizationList();
-
-            // 직원이 제거된 조직 찾기
-            existingOrgs.stream()
-                    .filter(existingOrg -> eventOrgs.stream().noneMatch(eventOrg -> eventOrg.getOrganizationId().equals(existingOrg.getOrganizationId())))
-                    .forEach(removedOrg -> {
-                        organizationSearchRepository.findById(removedOrg.getOrganizationId().toString()).ifPresent(orgDoc -> {
-                            orgDoc.getMemberList().removeIf(member -> member.getId().equals(event.getMemberId()));
-                            organizationSearchRepository.save(orgDoc);
-                        });
-                    });
-        });
-
-        List<String> orgNameList = event.getOrganizationList().stream()
-                .map(OrganizationSavedEvent::getName)
-                .collect(Collectors.toList());
-        String suggestText = event.getName() + " " + String.join(" ", orgNameList);
-
-        MemberDocument memberDocument = MemberDocument.builder()
-                .memberId(event.getMemberId().toString())
-                .companyId(event.getCompanyId().toString())
-                .name(event.getName())
-                .organizationList(event.getOrganizationList())
-                .titleName(event.getTitleName())
-                .phoneNumber(event.getPhoneNumber())
-                .email(event.getEmail())
-                .memberStatus(event.getMemberStatus())
-                .suggest(new Completion(new String[]{suggestText}))
-                .build();
-        memberSearchRepository.save(memberDocument);
-
-        // 신규 조직이면 추가, 기존 조직이면 member 업데이트
-        event.getOrganizationList().forEach(orgEvent -> {
-            OrganizationDocument org = organizationSearchRepository.findByCompanyIdAndLabel(event.getCompanyId().toString(), orgEvent.getName())
-                    .orElseGet(() -> {
-                        OrganizationDocument newOrg = OrganizationDocument.builder()
-                                .organizationId(orgEvent.getOrganizationId().toString())
-                                .companyId(event.getCompanyId().toString())
-                                .label(orgEvent.getName())
-                                .memberList(new ArrayList<>())
-                                .parentId(orgEvent.getParentId() != null ? orgEvent.getParentId().toString() : null)
-                                .build();
-                        return organizationSearchRepository.save(newOrg);
-                    });
-
-            OrganizationDocument.Member member = org.getMemberList().stream()
-                    .filter(m -> m.getId().equals(event.getMemberId()))
-                    .findFirst()
-                    .orElse(new OrganizationDocument.Member());
-
-            member.updateMember(event);
-
-            if (org.getMemberList().stream().noneMatch(m -> m.getId().equals(event.getMemberId()))) {
-                org.getMemberList().add(member);
-            }
-
-            organizationSearchRepository.save(org);
-        });
-    }
-
-    // 조직 추가/수정
-    @KafkaListener(topics = "organization-saved-events", groupId = "search-service-group")
-    public void listenOrganizationChangedEvent(OrganizationSavedEvent event) {
-        OrganizationDocument organizationDocument = organizationSearchRepository.findById(event.getOrganizationId().toString())
-                .orElseGet(() ->
-                        OrganizationDocument.builder()
-                                .organizationId(event.getOrganizationId().toString())
-                                .companyId(event.getCompanyId().toString())
-                                .memberList(new ArrayList<>())
-                                .build());
-        organizationDocument.updateFromEvent(event);
-
-        organizationSearchRepository.save(organizationDocument);
-    }
-
-    // 직원 삭제
-    @KafkaListener(topics = "member-deleted-events", groupId = "search-service-group")
-    public void listenMemberDeletedEvent(MemberDeletedEvent event) {
-        memberSearchRepository.delete(memberSearchRepository.findById(event.getMemberId().toString()).orElseThrow(
-                () -> new EntityNotFoundException("존재하지 않는 직원입니다.")));
-    }
-
-    // 조직 삭제
-    @KafkaListener(topics = "organization-deleted-events", groupId = "search-service-group")
-    public void listenOrganizationDeletedEvent(OrganizationDeletedEvent event) {
-        organizationSearchRepository.delete(organizationSearchRepository.findById(event.getOrganizationId().toString())
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 조직입니다.")));
-    }
-
     // 결재 문서 저장
     @KafkaListener(topics = "approval-completed-events", groupId = "search-service-group")
     public void listenApprovalCompletedEvent(ApprovalCompletedEvent event) {
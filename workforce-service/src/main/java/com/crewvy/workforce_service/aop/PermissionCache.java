@@ -0,0 +1,93 @@
+package com.crewvy.workforce_service.aop;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직책(memberPositionId)별 권한 목록 로컬 캐시
+ * - 미스 시 member-service에서 해당 직책의 전체 권한을 한 번에 받아와 적재
+ * - 이후 권한 확인은 네트워크 호출 없이 Set 조회로 처리
+ * - 역할 변경 시 permission-changed-events로 해당 직책만 무효화, TTL은 이벤트 유실 대비 상한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionCache {
+
+    private static final int MAX_POSITIONS = 10_000;
+    private static final long TTL_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final MemberClient memberClient;
+
+    private final Map<UUID, CachedGrants> grantsByPosition = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가. 조회 중 무효화가 끼어들면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    public boolean hasPermission(UUID memberPositionId, String resource, String action, String range) {
+        if (memberPositionId == null) {
+            return false;
+        }
+        return grantsOf(memberPositionId).contains(resource + ":" + action + ":" + range);
+    }
+
+    public void invalidate(Collection<UUID> memberPositionIds) {
+        invalidationSequence.incrementAndGet();
+        memberPositionIds.forEach(grantsByPosition::remove);
+    }
+
+    public void invalidateAll() {
+        invalidationSequence.incrementAndGet();
+        grantsByPosition.clear();
+    }
+
+    private Set<String> grantsOf(UUID memberPositionId) {
+        long now = System.nanoTime();
+        CachedGrants cached = grantsByPosition.get(memberPositionId);
+        if (cached != null && now - cached.loadedAt() < TTL_NANOS) {
+            return cached.permissions();
+        }
+
+        long sequence = invalidationSequence.get();
+        Set<String> permissions = load(memberPositionId);
+        if (invalidationSequence.get() == sequence) {
+            evictIfFull(now);
+            grantsByPosition.put(memberPositionId, new CachedGrants(permissions, now));
+        }
+        return permissions;
+    }
+
+    private Set<String> load(UUID memberPositionId) {
+        ApiResponse<List<String>> response = memberClient.getPermissionGrants(memberPositionId);
+        if (response == null || response.getData() == null) {
+            return Set.of();
+        }
+        return Set.copyOf(response.getData());
+    }
+
+    private void evictIfFull(long now) {
+        if (grantsByPosition.size() < MAX_POSITIONS) {
+            return;
+        }
+        grantsByPosition.values().removeIf(grants -> now - grants.loadedAt() >= TTL_NANOS);
+        if (grantsByPosition.size() >= MAX_POSITIONS) {
+            log.debug("권한 캐시 용량 초과로 전체 비움: size={}", grantsByPosition.size());
+            grantsByPosition.clear();
+        }
+    }
+
+    private record CachedGrants(Set<String> permissions, long loadedAt) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.crewvy.workforce_service.aop;
+
+import com.crewvy.common.event.PermissionChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member-Service의 역할/권한 변경 이벤트를 수신하여 로컬 권한 캐시를 무효화하는 Kafka Listener
+ * - 모든 인스턴스가 각자 캐시를 비워야 하므로 인스턴스마다 고유한 consumer group 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionChangedEventListener {
+
+    private final PermissionCache permissionCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "permission-changed-events",
+            groupId = "workforce-permission-cache-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "outboxEventKafkaListenerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handlePermissionChanged(String payload) {
+        try {
+            PermissionChangedEvent event = objectMapper.readValue(payload, PermissionChangedEvent.class);
+            if (event.getMemberPositionIds() != null) {
+                permissionCache.invalidate(event.getMemberPositionIds());
+            }
+        } catch (Exception e) {
+            // 어떤 직책이 바뀌었는지 알 수 없으면 이전 권한이 남지 않도록 전체 무효화
+            log.error("권한 변경 이벤트 처리 실패, 권한 캐시 전체 무효화: payload={}", payload, e);
+            permissionCache.invalidateAll();
+        }
+    }
+}
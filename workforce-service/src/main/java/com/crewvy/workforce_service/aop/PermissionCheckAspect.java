@@ -1,8 +1,6 @@
 package com.crewvy.workforce_service.aop;
 
-import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.common.exception.PermissionDeniedException;
-import com.crewvy.workforce_service.feignClient.MemberClient;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +24,7 @@ import java.util.UUID;
 @Slf4j
 public class PermissionCheckAspect {
 
-    private final MemberClient memberClient;
+    private final PermissionCache permissionCache;
 
     @Before("@annotation(com.crewvy.common.aop.CheckPermission)")
     public void checkPermission(JoinPoint joinPoint) {
@@ -46,11 +44,7 @@ public class PermissionCheckAspect {
             throw new IllegalArgumentException("권한 검사를 위한 @AuthUser 파라미터가 필요합니다.");
         }
 
-        ApiResponse<Boolean> hasPermission = memberClient.checkPermission(
-                memberPositionId, resource, action, scope
-        );
-
-        if (Boolean.FALSE.equals(hasPermission.getData())) {
+        if (!permissionCache.hasPermission(memberPositionId, resource, action, scope)) {
             log.warn("권한 없음: memberPositionId={}, resource={}, action={}", memberPositionId, resource, action);
             throw new PermissionDeniedException("이 리소스에 접근할 권한이 없습니다.");
         }
@@ -0,0 +1,19 @@
+package com.crewvy.workforce_service.approval.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결재함 목록 종류 (커서 기반 목록 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public enum ApprovalBox {
+    IN_PROGRESS("내 기안(진행중)"),
+    COMPLETED("내 기안(완료)"),
+    APPROVE_COMPLETED("내 결재(완료)"),
+    DRAFT("임시 저장"),
+    PENDING("결재 대기");
+
+    private final String codeName;
+}
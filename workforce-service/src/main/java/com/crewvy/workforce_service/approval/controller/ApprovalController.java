@@ -1,6 +1,7 @@
 package com.crewvy.workforce_service.approval.controller;
 
 import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.approval.constant.ApprovalBox;
 import com.crewvy.workforce_service.approval.dto.request.*;
 import com.crewvy.workforce_service.approval.dto.response.*;
 import com.crewvy.workforce_service.approval.service.ApprovalService;
@@ -189,6 +190,20 @@ public class ApprovalController {
         );
     }
 
+    // 결재함 목록 커서 기반 조회 (box: IN_PROGRESS, COMPLETED, APPROVE_COMPLETED, DRAFT, PENDING)
+    @GetMapping("/list/{box}")
+    public ResponseEntity<?> findListByCursor(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
+                                              @PathVariable ApprovalBox box,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return new ResponseEntity<>(
+                ApiResponse.success(approvalService.getApprovalListByCursor(memberPositionId, box, cursor, size, withTotal), "결재함 목록 조회"),
+                HttpStatus.OK
+        );
+    }
+
     @PatchMapping("/attachment/{approvalId}")
     public ResponseEntity<?> patchFile(@PathVariable UUID approvalId,
                                        @RequestPart("attachmentInfo") AttachmentRequestDto dto,
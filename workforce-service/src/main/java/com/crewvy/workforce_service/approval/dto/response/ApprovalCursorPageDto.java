@@ -0,0 +1,24 @@
+package com.crewvy.workforce_service.approval.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결재함 커서 기반 목록 응답
+ * - 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달 (hasNext가 false면 null)
+ * - totalCount는 요청한 경우에만 채움 (결재함 카운터 기준 근사치)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ApprovalCursorPageDto {
+    private List<ApprovalListDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Integer totalCount;
+}
@@ -20,6 +20,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_approval_member_position_state_created", columnList = "member_position_id, state, created_at")
+})
 public class Approval extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -0,0 +1,52 @@
+package com.crewvy.workforce_service.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 결재함 상단 통계용 직무별 카운터
+ * 결재 생성/임시저장/승인/반려/삭제 트랜잭션 안에서 증감되며, 매일 원본 테이블 기준으로 보정
+ */
+@Entity
+@Table(name = "approval_inbox_counter")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxCounter {
+
+    @Id
+    @Column(name = "member_position_id", nullable = false)
+    private UUID memberPositionId;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;              // 내 결재 대기
+
+    @Column(name = "request_count", nullable = false)
+    private int requestCount;              // 내 기안 (진행중)
+
+    @Column(name = "complete_count", nullable = false)
+    private int completeCount;             // 내 기안 (완료)
+
+    @Column(name = "approve_complete_count", nullable = false)
+    private int approveCompleteCount;      // 내 결재 (완료)
+
+    @Column(name = "draft_count", nullable = false)
+    private int draftCount;                // 임시 저장
+
+    /**
+     * 원본 테이블에서 다시 센 값으로 덮어쓰기 (보정 배치)
+     */
+    public void overwrite(int pendingCount, int requestCount, int completeCount, int approveCompleteCount, int draftCount) {
+        this.pendingCount = pendingCount;
+        this.requestCount = requestCount;
+        this.completeCount = completeCount;
+        this.approveCompleteCount = approveCompleteCount;
+        this.draftCount = draftCount;
+    }
+}
@@ -16,6 +16,10 @@ import java.util.UUID;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        // approval_id까지 포함해 결재함 목록의 세미 조인이 인덱스만으로 처리되도록 함
+        @Index(name = "idx_approval_line_member_position_status", columnList = "member_position_id, line_status, approval_id")
+})
 public class ApprovalLine{
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -2,64 +2,92 @@ package com.crewvy.workforce_service.approval.kafka;
 
 import com.crewvy.common.entity.Bool;
 import com.crewvy.common.event.ApprovalCompletedEvent;
+import com.crewvy.common.outbox.OutboxMessage;
+import com.crewvy.common.outbox.OutboxRelay;
+import com.crewvy.common.outbox.OutboxSequence;
 import com.crewvy.workforce_service.approval.entity.ApprovalSearchOutboxEvent;
 import com.crewvy.workforce_service.approval.repository.ApprovalSearchOutboxEventRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
-public class ApprovalSearchOutboxRelayScheduler {
+public class ApprovalSearchOutboxRelayScheduler extends OutboxRelay<ApprovalSearchOutboxEvent, Object> {
 
     private final ApprovalSearchOutboxEventRepository approvalSearchOutboxEventRepository;
-    private final KafkaTemplate<String, Object> approvalSearchEventKafkaTemplate;
     private final ObjectMapper objectMapper;
 
     public ApprovalSearchOutboxRelayScheduler(ApprovalSearchOutboxEventRepository approvalSearchOutboxEventRepository
             , @Qualifier("approvalSearchEventKafkaTemplate") KafkaTemplate<String, Object> approvalSearchEventKafkaTemplate
-            , ObjectMapper objectMapper) {
+            , ObjectMapper objectMapper
+            , PlatformTransactionManager transactionManager
+            , MeterRegistry meterRegistry) {
+        super("approval-search", approvalSearchEventKafkaTemplate, transactionManager, meterRegistry);
         this.approvalSearchOutboxEventRepository = approvalSearchOutboxEventRepository;
-        this.approvalSearchEventKafkaTemplate = approvalSearchEventKafkaTemplate;
         this.objectMapper = objectMapper;
     }
 
 
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
-    @SchedulerLock(
-            name = "relaySearchApprovalOutboxEvents", // ★ 중요: 작업별로 고유한 이름 지정
-            lockAtMostFor = "PT10M",  // 작업이 10분 이상 걸리면 강제 잠금 해제
-            lockAtLeastFor = "PT30S"  // 작업이 빨리 끝나도 최소 30초간 잠금 유지
-    )
+    @Scheduled(fixedDelay = TICK_MILLIS)
     public void relaySearchOutboxEvents() {
-        List<ApprovalSearchOutboxEvent> events = approvalSearchOutboxEventRepository.findAllByProcessed(Bool.FALSE, Pageable.ofSize(100));
-
-        for (ApprovalSearchOutboxEvent event : events) {
-            try {
-                Object eventPayload;
-                String topic = event.getTopic();
-
-                if ("approval-completed-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), ApprovalCompletedEvent.class);
-                } else {
-                    log.warn("Unknown topic: {}", topic);
-                    continue;
-                }
-
-                approvalSearchEventKafkaTemplate.send(topic, eventPayload);
-                event.setProcessed();
-            } catch (Exception e) {
-                log.error("Failed to send search outbox event to Kafka: {} Error: {}", event.getId(), e.getMessage());
-            }
+        relay();
+    }
+
+    @Override
+    protected List<ApprovalSearchOutboxEvent> claim(int limit) {
+        return approvalSearchOutboxEventRepository.claimUnprocessed(limit);
+    }
+
+    @Override
+    protected UUID idOf(ApprovalSearchOutboxEvent event) {
+        return event.getId();
+    }
+
+    @Override
+    protected long seqOf(ApprovalSearchOutboxEvent event) {
+        return event.getSeq();
+    }
+
+    @Override
+    protected UUID aggregateIdOf(ApprovalSearchOutboxEvent event) {
+        return event.getAggregateId();
+    }
+
+    @Override
+    protected List<OutboxSequence> findPendingSequences(Collection<UUID> aggregateIds) {
+        return approvalSearchOutboxEventRepository.findPendingSequences(aggregateIds);
+    }
+
+    @Override
+    protected OutboxMessage<Object> toMessage(ApprovalSearchOutboxEvent event) throws Exception {
+        String topic = event.getTopic();
+        if (!"approval-completed-events".equals(topic)) {
+            log.warn("Unknown topic: {}", topic);
+            return null;
         }
+
+        Object eventPayload = objectMapper.readValue(event.getPayload(), ApprovalCompletedEvent.class);
+        String key = event.getAggregateId() != null ? event.getAggregateId().toString() : null;
+        return new OutboxMessage<>(topic, key, eventPayload);
+    }
+
+    @Override
+    protected void markProcessed(List<UUID> ids) {
+        approvalSearchOutboxEventRepository.markProcessed(ids);
+    }
+
+    @Override
+    protected long countPending() {
+        return approvalSearchOutboxEventRepository.countByProcessed(Bool.FALSE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.crewvy.workforce_service.approval.repository;
+
+import com.crewvy.workforce_service.approval.entity.ApprovalInboxCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ApprovalInboxCounterRepository extends JpaRepository<ApprovalInboxCounter, UUID> {
+
+    // 행이 없으면 아무 것도 하지 않음 (처음 조회할 때 원본 기준으로 생성됨, 이때 잡힌 gap lock이 생성 INSERT를 커밋 뒤로 미룸)
+    @Modifying
+    @Query("UPDATE ApprovalInboxCounter c SET " +
+            "c.pendingCount = c.pendingCount + :pending, " +
+            "c.requestCount = c.requestCount + :request, " +
+            "c.completeCount = c.completeCount + :complete, " +
+            "c.approveCompleteCount = c.approveCompleteCount + :approveComplete, " +
+            "c.draftCount = c.draftCount + :draft " +
+            "WHERE c.memberPositionId = :memberPositionId")
+    int addCounts(@Param("memberPositionId") UUID memberPositionId,
+                  @Param("pending") int pending,
+                  @Param("request") int request,
+                  @Param("complete") int complete,
+                  @Param("approveComplete") int approveComplete,
+                  @Param("draft") int draft);
+
+    // 처음 조회할 때 빈 행을 먼저 만들고 잠근 뒤 원본 기준으로 채움 (동시에 다른 요청이 먼저 만들었으면 그대로 둠)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO approval_inbox_counter " +
+            "(member_position_id, pending_count, request_count, complete_count, approve_complete_count, draft_count) " +
+            "VALUES (:memberPositionId, :pending, :request, :complete, :approveComplete, :draft)", nativeQuery = true)
+    int insertIfAbsent(@Param("memberPositionId") UUID memberPositionId,
+                       @Param("pending") int pending,
+                       @Param("request") int request,
+                       @Param("complete") int complete,
+                       @Param("approveComplete") int approveComplete,
+                       @Param("draft") int draft);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ApprovalInboxCounter c WHERE c.memberPositionId = :memberPositionId")
+    Optional<ApprovalInboxCounter> findByIdForUpdate(@Param("memberPositionId") UUID memberPositionId);
+
+    // 보정 배치용 키셋 페이징 (after가 null이면 처음부터)
+    @Query("SELECT c.memberPositionId FROM ApprovalInboxCounter c " +
+            "WHERE (:after IS NULL OR c.memberPositionId > :after) " +
+            "ORDER BY c.memberPositionId")
+    List<UUID> findMemberPositionIdsAfter(@Param("after") UUID after, Pageable pageable);
+}
@@ -19,6 +19,8 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, UUID
     // memberId와 lineStatus를 기준으로 ApprovalLine 목록을 찾는 메서드
     List<ApprovalLine> findByMemberPositionIdAndLineStatus(UUID memberId, LineStatus lineStatus);
 
+    int countByMemberPositionIdAndLineStatus(UUID memberPositionId, LineStatus lineStatus);
+
     Optional<ApprovalLine> findByApprovalAndMemberPositionId(Approval approval, UUID memberId);
 
     Optional<ApprovalLine> findFirstByApprovalOrderByLineIndexDesc(Approval approval);
@@ -1,11 +1,13 @@
 package com.crewvy.workforce_service.approval.repository;
 
+import com.crewvy.workforce_service.approval.constant.ApprovalBox;
 import com.crewvy.workforce_service.approval.constant.ApprovalState;
 import com.crewvy.workforce_service.approval.entity.Approval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,4 +35,8 @@ public interface ApprovalRepositoryCustom {
                                               @Param("states") List<ApprovalState> states);
 
     Optional<Approval> findByIdWithLines(@Param("id") UUID id);
+
+    // 결재함 목록 키셋 페이징: (createdAt, id) 내림차순, 커서가 null이면 첫 페이지
+    List<Approval> findListByCursor(UUID memberPositionId, ApprovalBox box,
+                                    LocalDateTime cursorCreatedAt, UUID cursorId, int limit);
 }
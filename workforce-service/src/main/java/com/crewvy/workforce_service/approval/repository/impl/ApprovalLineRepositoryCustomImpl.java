@@ -35,6 +35,7 @@ public class ApprovalLineRepositoryCustomImpl implements ApprovalLineRepositoryC
                 .join(approval.approvalDocument, approvalDocument).fetchJoin()
                 .where(approvalLine.memberPositionId.eq(memberPositionId)
                         .and(approvalLine.lineStatus.eq(status)))
+                .orderBy(approval.createdAt.desc(), approval.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -1,9 +1,13 @@
 package com.crewvy.workforce_service.approval.repository.impl;
 
 
+import com.crewvy.workforce_service.approval.constant.ApprovalBox;
 import com.crewvy.workforce_service.approval.constant.ApprovalState;
+import com.crewvy.workforce_service.approval.constant.LineStatus;
 import com.crewvy.workforce_service.approval.entity.Approval;
 import com.crewvy.workforce_service.approval.repository.ApprovalRepositoryCustom;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +29,8 @@ import static com.crewvy.workforce_service.approval.entity.QApprovalLine.approva
 @RequiredArgsConstructor
 public class ApprovalRepositoryCustomImpl implements ApprovalRepositoryCustom {
 
+    private static final List<ApprovalState> COMPLETED_STATES = List.of(ApprovalState.REJECTED, ApprovalState.APPROVED);
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -49,6 +56,7 @@ public class ApprovalRepositoryCustomImpl implements ApprovalRepositoryCustom {
                 .join(approval.approvalDocument).fetchJoin()
                 .where(approval.memberPositionId.eq(memberPositionId)
                         .and(approval.state.eq(state)))
+                .orderBy(approval.createdAt.desc(), approval.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -76,6 +84,7 @@ public class ApprovalRepositoryCustomImpl implements ApprovalRepositoryCustom {
                 .join(approval.approvalDocument).fetchJoin()
                 .where(approval.memberPositionId.eq(memberPositionId)
                         .and(approval.state.in(states)))
+                .orderBy(approval.createdAt.desc(), approval.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -105,6 +114,7 @@ public class ApprovalRepositoryCustomImpl implements ApprovalRepositoryCustom {
                 .where(approvalLine.memberPositionId.eq(lineMemberPositionId),
                         approvalLine.lineIndex.ne(1),
                         approval.state.in(states))
+                .orderBy(approval.createdAt.desc(), approval.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -150,4 +160,48 @@ public class ApprovalRepositoryCustomImpl implements ApprovalRepositoryCustom {
 
         return Optional.ofNullable(result);
     }
+
+    @Override
+    public List<Approval> findListByCursor(UUID memberPositionId, ApprovalBox box,
+                                           LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        return queryFactory
+                .selectFrom(approval)
+                .join(approval.approvalDocument, approvalDocument).fetchJoin()
+                .where(boxCondition(memberPositionId, box), afterCursor(cursorCreatedAt, cursorId))
+                .orderBy(approval.createdAt.desc(), approval.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression boxCondition(UUID memberPositionId, ApprovalBox box) {
+        return switch (box) {
+            case IN_PROGRESS -> approval.memberPositionId.eq(memberPositionId)
+                    .and(approval.state.eq(ApprovalState.PENDING));
+            case COMPLETED -> approval.memberPositionId.eq(memberPositionId)
+                    .and(approval.state.in(COMPLETED_STATES));
+            case DRAFT -> approval.memberPositionId.eq(memberPositionId)
+                    .and(approval.state.eq(ApprovalState.DRAFT));
+            // 결재 라인 조건은 fetch join + distinct 대신 approval_line 인덱스로 ID만 골라 세미 조인
+            case APPROVE_COMPLETED -> approval.state.in(COMPLETED_STATES)
+                    .and(approval.id.in(JPAExpressions
+                            .select(approvalLine.approval.id)
+                            .from(approvalLine)
+                            .where(approvalLine.memberPositionId.eq(memberPositionId),
+                                    approvalLine.lineIndex.ne(1))));
+            case PENDING -> approval.id.in(JPAExpressions
+                    .select(approvalLine.approval.id)
+                    .from(approvalLine)
+                    .where(approvalLine.memberPositionId.eq(memberPositionId),
+                            approvalLine.lineStatus.eq(LineStatus.PENDING)));
+        };
+    }
+
+    // (createdAt, id) 내림차순에서 커서 다음 행부터
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, UUID cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return approval.createdAt.lt(cursorCreatedAt)
+                .or(approval.createdAt.eq(cursorCreatedAt).and(approval.id.lt(cursorId)));
+    }
 }
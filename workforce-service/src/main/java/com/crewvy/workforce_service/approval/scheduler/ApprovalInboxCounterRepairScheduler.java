@@ -0,0 +1,55 @@
+package com.crewvy.workforce_service.approval.scheduler;
+
+import com.crewvy.workforce_service.approval.repository.ApprovalInboxCounterRepository;
+import com.crewvy.workforce_service.approval.service.ApprovalInboxCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결재함 카운터 보정 배치
+ * - 모든 카운터 행을 원본 테이블 기준으로 다시 세어 덮어씀 (행마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalInboxCounterRepairScheduler {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ApprovalInboxCounterRepository approvalInboxCounterRepository;
+    private final ApprovalInboxCounterService approvalInboxCounterService;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @SchedulerLock(
+            name = "repairApprovalInboxCounters",
+            lockAtMostFor = "PT30M",
+            lockAtLeastFor = "PT30S"
+    )
+    public void repairApprovalInboxCounters() {
+        int repaired = 0;
+        UUID after = null;
+        while (true) {
+            List<UUID> memberPositionIds = approvalInboxCounterRepository.findMemberPositionIdsAfter(after, PageRequest.of(0, PAGE_SIZE));
+            for (UUID memberPositionId : memberPositionIds) {
+                try {
+                    approvalInboxCounterService.repair(memberPositionId);
+                    repaired++;
+                } catch (Exception e) {
+                    log.error("결재함 카운터 보정 실패: memberPositionId={}", memberPositionId, e);
+                }
+            }
+            if (memberPositionIds.size() < PAGE_SIZE) {
+                break;
+            }
+            after = memberPositionIds.get(memberPositionIds.size() - 1);
+        }
+        log.info("결재함 카운터 보정 완료: {}건", repaired);
+    }
+}
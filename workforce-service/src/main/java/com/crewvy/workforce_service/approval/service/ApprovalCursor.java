@@ -0,0 +1,44 @@
+package com.crewvy.workforce_service.approval.service;
+
+import com.crewvy.common.exception.BusinessException;
+import com.crewvy.workforce_service.approval.entity.Approval;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 결재함 목록 커서 (마지막으로 내려준 결재의 생성 시각, ID)
+ * 클라이언트에는 의미를 알 수 없는 Base64 문자열로만 노출
+ */
+record ApprovalCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "_";
+
+    static ApprovalCursor of(Approval approval) {
+        return new ApprovalCursor(approval.getCreatedAt(), approval.getId());
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    static ApprovalCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ApprovalCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
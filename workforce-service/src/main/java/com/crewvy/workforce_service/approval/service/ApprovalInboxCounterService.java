@@ -0,0 +1,179 @@
+package com.crewvy.workforce_service.approval.service;
+
+import com.crewvy.workforce_service.approval.constant.ApprovalState;
+import com.crewvy.workforce_service.approval.constant.LineStatus;
+import com.crewvy.workforce_service.approval.dto.response.StatsResponseDto;
+import com.crewvy.workforce_service.approval.entity.Approval;
+import com.crewvy.workforce_service.approval.entity.ApprovalInboxCounter;
+import com.crewvy.workforce_service.approval.entity.ApprovalLine;
+import com.crewvy.workforce_service.approval.repository.ApprovalInboxCounterRepository;
+import com.crewvy.workforce_service.approval.repository.ApprovalLineRepository;
+import com.crewvy.workforce_service.approval.repository.ApprovalRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 결재함 상단 통계(직무별 카운터) 관리
+ * - 결재 변경 트랜잭션 안에서 변경 전후 기여분의 차이만 카운터에 반영
+ * - 카운터 행이 없는 직무는 처음 조회할 때 행을 먼저 만들고 잠근 뒤 원본 테이블에서 한 번 세어 채움, 이후 조회는 행 하나만 읽음
+ * - 서비스를 거치지 않은 변경(테스트 데이터 적재 등)으로 어긋난 값은 보정 배치가 맞춤
+ */
+@Service
+public class ApprovalInboxCounterService {
+
+    private static final List<ApprovalState> COMPLETED_STATES = List.of(ApprovalState.REJECTED, ApprovalState.APPROVED);
+
+    private final ApprovalInboxCounterRepository approvalInboxCounterRepository;
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final TransactionTemplate newTransaction;
+
+    public ApprovalInboxCounterService(ApprovalInboxCounterRepository approvalInboxCounterRepository,
+                                       ApprovalRepository approvalRepository,
+                                       ApprovalLineRepository approvalLineRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.approvalInboxCounterRepository = approvalInboxCounterRepository;
+        this.approvalRepository = approvalRepository;
+        this.approvalLineRepository = approvalLineRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 결재 한 건이 각 직무의 카운터에 기여하는 값 (변경 전 상태를 기억해 두는 용도)
+     */
+    public Contribution contributionOf(Approval approval) {
+        Map<UUID, Counts> byPosition = new HashMap<>();
+        ApprovalState state = approval.getState();
+
+        if (approval.getMemberPositionId() != null) {
+            Counts requester = new Counts(0,
+                    state == ApprovalState.PENDING ? 1 : 0,
+                    COMPLETED_STATES.contains(state) ? 1 : 0,
+                    0,
+                    state == ApprovalState.DRAFT ? 1 : 0);
+            byPosition.merge(approval.getMemberPositionId(), requester, Counts::plus);
+        }
+
+        Set<UUID> approvers = new HashSet<>();
+        for (ApprovalLine line : approval.getApprovalLineList()) {
+            if (line.getLineStatus() == LineStatus.PENDING) {
+                byPosition.merge(line.getMemberPositionId(), new Counts(1, 0, 0, 0, 0), Counts::plus);
+            }
+            // 기안자 라인(lineIndex 1)을 제외하고, 한 문서는 결재자별로 한 번만
+            if (line.getLineIndex() != 1 && COMPLETED_STATES.contains(state)) {
+                approvers.add(line.getMemberPositionId());
+            }
+        }
+        approvers.forEach(memberPositionId ->
+                byPosition.merge(memberPositionId, new Counts(0, 0, 0, 1, 0), Counts::plus));
+
+        return new Contribution(byPosition);
+    }
+
+    /**
+     * 변경 전 기여분과 현재 결재 상태의 차이를 카운터에 반영 (호출한 트랜잭션 안에서 실행)
+     */
+    public void applyChange(Contribution before, Approval approval) {
+        Map<UUID, Counts> after = contributionOf(approval).byPosition();
+
+        // 여러 결재 변경이 같은 행들을 잠글 때 교착되지 않도록 항상 같은 순서로 갱신
+        Set<UUID> memberPositionIds = new TreeSet<>(before.byPosition().keySet());
+        memberPositionIds.addAll(after.keySet());
+        for (UUID memberPositionId : memberPositionIds) {
+            Counts delta = after.getOrDefault(memberPositionId, Counts.ZERO)
+                    .minus(before.byPosition().getOrDefault(memberPositionId, Counts.ZERO));
+            if (!delta.equals(Counts.ZERO)) {
+                approvalInboxCounterRepository.addCounts(memberPositionId, delta.pending(), delta.request(),
+                        delta.complete(), delta.approveComplete(), delta.draft());
+            }
+        }
+    }
+
+    public StatsResponseDto getStats(UUID memberPositionId) {
+        Optional<ApprovalInboxCounter> counter = approvalInboxCounterRepository.findById(memberPositionId);
+        if (counter.isPresent()) {
+            return toStats(countsOf(counter.get()));
+        }
+        return toStats(newTransaction.execute(status -> initialize(memberPositionId)));
+    }
+
+    /**
+     * 카운터 행을 만들고 원본 기준으로 채움 (호출한 트랜잭션과 분리된 새 트랜잭션)
+     * - 행을 먼저 INSERT하고 잠근 뒤에 원본을 셈 (새 트랜잭션의 첫 조회이므로 잠근 시점 이후의 커밋까지 보임)
+     *   · 행이 없을 때 실행된 결재 변경의 증감 UPDATE는 해당 키에 gap lock을 잡으므로, INSERT는 그 변경이 커밋된 뒤에 진행되어 원본 집계에 포함
+     *   · INSERT 이후의 결재 변경은 이 트랜잭션이 끝날 때까지 행 잠금에서 기다렸다가 집계값 위에 증감을 더함
+     * - 다른 요청이 먼저 만든 행이면 그 값을 그대로 사용
+     */
+    private Counts initialize(UUID memberPositionId) {
+        int inserted = approvalInboxCounterRepository.insertIfAbsent(memberPositionId, 0, 0, 0, 0, 0);
+        ApprovalInboxCounter counter = approvalInboxCounterRepository.findByIdForUpdate(memberPositionId)
+                .orElseThrow(() -> new IllegalStateException("결재함 카운터 생성 실패: " + memberPositionId));
+        if (inserted == 0) {
+            return countsOf(counter);
+        }
+
+        Counts counts = countFromSource(memberPositionId);
+        counter.overwrite(counts.pending(), counts.request(), counts.complete(), counts.approveComplete(), counts.draft());
+        return counts;
+    }
+
+    /**
+     * 원본 테이블 기준으로 카운터 보정
+     * - 카운터 행을 먼저 잠가 진행 중인 결재 변경이 끝난 뒤 세므로, 이후 변경의 증감과 겹치지 않음
+     */
+    @Transactional
+    public void repair(UUID memberPositionId) {
+        approvalInboxCounterRepository.findByIdForUpdate(memberPositionId).ifPresent(counter -> {
+            Counts counts = countFromSource(memberPositionId);
+            counter.overwrite(counts.pending(), counts.request(), counts.complete(), counts.approveComplete(), counts.draft());
+        });
+    }
+
+    private Counts countFromSource(UUID memberPositionId) {
+        return new Counts(
+                approvalLineRepository.countByMemberPositionIdAndLineStatus(memberPositionId, LineStatus.PENDING),
+                approvalRepository.countByMemberPositionIdAndState(memberPositionId, ApprovalState.PENDING),
+                approvalRepository.countByMemberPositionIdAndStateIn(memberPositionId, COMPLETED_STATES),
+                approvalRepository.countByLineMemberPositionIdAndStateIn(memberPositionId, COMPLETED_STATES),
+                approvalRepository.countByMemberPositionIdAndState(memberPositionId, ApprovalState.DRAFT));
+    }
+
+    private Counts countsOf(ApprovalInboxCounter counter) {
+        return new Counts(counter.getPendingCount(), counter.getRequestCount(), counter.getCompleteCount(),
+                counter.getApproveCompleteCount(), counter.getDraftCount());
+    }
+
+    private StatsResponseDto toStats(Counts counts) {
+        return StatsResponseDto.builder()
+                .pendingCount(counts.pending())
+                .requestCount(counts.request())
+                .completeCount(counts.complete())
+                .approveCompleteCount(counts.approveComplete())
+                .draftCount(counts.draft())
+                .build();
+    }
+
+    public record Contribution(Map<UUID, Counts> byPosition) {
+        public static final Contribution EMPTY = new Contribution(Map.of());
+    }
+
+    public record Counts(int pending, int request, int complete, int approveComplete, int draft) {
+        static final Counts ZERO = new Counts(0, 0, 0, 0, 0);
+
+        Counts plus(Counts other) {
+            return new Counts(pending + other.pending, request + other.request, complete + other.complete,
+                    approveComplete + other.approveComplete, draft + other.draft);
+        }
+
+        Counts minus(Counts other) {
+            return new Counts(pending - other.pending, request - other.request, complete - other.complete,
+                    approveComplete - other.approveComplete, draft - other.draft);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.crewvy.workforce_service.approval.service;
 
 import com.crewvy.common.S3.S3Uploader;
-import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.common.dto.NotificationMessage;
 import com.crewvy.common.dto.ScheduleDto;
 import com.crewvy.common.entity.Bool;
@@ -10,6 +9,7 @@ import com.crewvy.common.exception.BusinessException;
 import com.crewvy.common.exception.SerializationException;
 import com.crewvy.workforce_service.aop.AuthUser;
 import com.crewvy.workforce_service.aop.CheckPermission;
+import com.crewvy.workforce_service.approval.constant.ApprovalBox;
 import com.crewvy.workforce_service.approval.constant.ApprovalState;
 import com.crewvy.workforce_service.approval.constant.LineStatus;
 import com.crewvy.workforce_service.approval.constant.RequirementType;
@@ -22,9 +22,9 @@ import com.crewvy.workforce_service.attendance.entity.Request;
 import com.crewvy.workforce_service.attendance.event.AttendanceRequestApprovedEvent;
 import com.crewvy.workforce_service.attendance.repository.RequestRepository;
 import com.crewvy.workforce_service.feignClient.MemberClient;
-import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
-import com.crewvy.workforce_service.feignClient.dto.response.MemberDto;
-import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
+import com.crewvy.workforce_service.feignClient.MemberLookupClient;
+import com.crewvy.workforce_service.feignClient.OrganizationTreeCache;
+import com.crewvy.workforce_service.feignClient.OrganizationTreeIndex;
 import com.crewvy.workforce_service.feignClient.dto.response.PositionDto;
 import com.crewvy.workforce_service.feignClient.dto.response.TitleRes;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -52,6 +52,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class ApprovalService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ApprovalRepository approvalRepository;
     private final ApprovalDocumentRepository approvalDocumentRepository;
     private final ApprovalLineRepository approvalLineRepository;
@@ -59,6 +61,9 @@ public class ApprovalService {
     private final ApprovalSearchOutboxEventRepository approvalSearchOutboxEventRepository;
     private final S3Uploader s3Uploader;
     private final MemberClient memberClient;
+    private final MemberLookupClient memberLookupClient;
+    private final OrganizationTreeCache organizationTreeCache;
+    private final ApprovalInboxCounterService approvalInboxCounterService;
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
     private final RequestRepository requestRepository;
@@ -89,7 +94,7 @@ public class ApprovalService {
         }
 
         // 2. 조직도는 한 번만 조회하여 재사용합니다.
-        List<OrganizationNodeDto> orgTree = memberClient.getOrganization(memberId).getData();
+        OrganizationTreeIndex orgIndex = organizationTreeCache.getIndex(memberId, companyId);
 
         // 3. 각 정책을 해석하여 '순서(lineIndex)'와 '찾아야 할 결재자 ID'를 Pair로 묶어 저장합니다.
         List<Pair<Integer, UUID>> resolvedPolicies = new ArrayList<>();
@@ -99,7 +104,7 @@ public class ApprovalService {
             UUID approverId;
 
             if (policy.getRequirementType() == RequirementType.TITLE) {
-                Optional<UUID> approverIdOptional = findApproverByTitle(orgTree, memberPositionId, policy.getRequirementId());
+                Optional<UUID> approverIdOptional = findApproverByTitle(orgIndex, memberPositionId, policy.getRequirementId());
 
                 approverId = approverIdOptional.orElse(null);
             } else {
@@ -114,14 +119,7 @@ public class ApprovalService {
 
         // 4. 수집된 모든 결재자 ID로 FeignClient를 딱 한 번 호출하여 상세 정보를 가져옵니다.
         List<UUID> allApproverIds = resolvedPolicies.stream().map(Pair::getSecond).toList();
-        Map<UUID, PositionDto> positionMap = new HashMap<>();
-        if (!allApproverIds.isEmpty()) {
-            List<PositionDto> positions = memberClient.getPositionList(memberPositionId, new IdListReq(allApproverIds)).getData();
-            if (positions != null) {
-                positionMap = positions.stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, pos -> pos));
-            }
-        }
+        Map<UUID, PositionDto> positionMap = memberLookupClient.getPositions(allApproverIds);
 
         // 5. 💡 조회된 정보를 조합하여 최종 'ApprovalStepDto' 리스트를 생성합니다. (핵심 요리 과정)
         final Map<UUID, PositionDto> finalPositionMap = positionMap;
@@ -168,59 +166,16 @@ public class ApprovalService {
                 .build();
     }
 
-    private Optional<UUID> findApproverByTitle(List<OrganizationNodeDto> orgTree, UUID myMemberPositionId, UUID requiredTitleId) {
-        // 1. '나'의 위치와 경로 찾기 (동일)
-        List<OrganizationNodeDto> pathToMe = findPathToMember(orgTree, myMemberPositionId);
+    private Optional<UUID> findApproverByTitle(OrganizationTreeIndex orgIndex, UUID myMemberPositionId, UUID requiredTitleId) {
+        // 1. '나'의 조직 찾기
+        UUID myOrganizationId = orgIndex != null ? orgIndex.findMemberPositionOrganization(myMemberPositionId) : null;
 
-        if (pathToMe == null || pathToMe.isEmpty()) {
+        if (myOrganizationId == null) {
             throw new EntityNotFoundException("요청자를 조직도에서 찾을 수 없습니다."); // 이것은 유지 (로직 수행 전제조건)
         }
 
-        // 2. '나'의 조직부터 상위로 올라가며 탐색 (동일)
-        for (int i = pathToMe.size() - 1; i >= 0; i--) {
-            OrganizationNodeDto currentOrg = pathToMe.get(i);
-
-            // 3. 현재 조직에서 직책이 일치하는 멤버 찾기 (동일)
-            Optional<MemberDto> foundApprover = currentOrg.getMembers().stream()
-                    .filter(member -> requiredTitleId.equals(member.getTitleId()))
-                    .findFirst();
-
-            if (foundApprover.isPresent()) {
-                // 4. 찾았으면 Optional.of(...)로 감싸서 반환
-                return Optional.of(foundApprover.get().getMemberPositionId());
-            }
-        }
-
-        // 5. 최상위까지 못 찾은 경우, 예외 대신 Optional.empty() 반환
-        return Optional.empty();
-    }
-
-    private List<OrganizationNodeDto> findPathToMember(List<OrganizationNodeDto> nodes, UUID targetMemberPositionId) {
-        for (OrganizationNodeDto node : nodes) {
-            // 현재 노드의 멤버 목록에 타겟이 있는지 확인
-            boolean memberExists = node.getMembers().stream() // .members() -> .getMembers()
-                    .anyMatch(member -> member.getMemberPositionId().equals(targetMemberPositionId)); // .memberPositionId() -> .getMemberPositionId()
-
-            if (memberExists) {
-                // 찾았다! 현재 노드를 포함하는 새로운 경로를 생성하여 반환
-                List<OrganizationNodeDto> path = new ArrayList<>();
-                path.add(node);
-                return path;
-            }
-
-            // 하위 조직(children)으로 더 깊이 들어가서 재귀적으로 탐색
-            if (node.getChildren() != null && !node.getChildren().isEmpty()) { // .children() -> .getChildren()
-                List<OrganizationNodeDto> pathFromChild = findPathToMember(node.getChildren(), targetMemberPositionId); // .children() -> .getChildren()
-
-                if (pathFromChild != null) {
-                    // 하위 조직에서 경로를 찾았다면, 현재 노드를 경로의 맨 앞에 추가하여 위로 전달
-                    pathFromChild.add(0, node);
-                    return pathFromChild;
-                }
-            }
-        }
-        // 이 레벨에서 못 찾았으면 null 반환
-        return null;
+        // 2. '나'의 조직부터 상위로 올라가며 직책이 일치하는 첫 멤버 탐색 (최상위까지 못 찾으면 empty)
+        return orgIndex.findNearestMemberPositionWithTitle(myOrganizationId, requiredTitleId);
     }
 
 //    문서 양식 리스트 전체 조회
@@ -256,6 +211,7 @@ public class ApprovalService {
 //    결재 생성
     public UUID createApproval(CreateApprovalDto dto, UUID memberPositionId) {
         Approval approval = null;
+        ApprovalInboxCounterService.Contribution before = ApprovalInboxCounterService.Contribution.EMPTY;
         if(dto.getApprovalId() == null) {
             // 1. 결재 문서(부모) 생성
             ApprovalDocument document = approvalDocumentRepository.findById(dto.getDocumentId())
@@ -270,6 +226,7 @@ public class ApprovalService {
         }
         else {
             approval = approvalRepository.findById(dto.getApprovalId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
+            before = approvalInboxCounterService.contributionOf(approval);
             approval.updateApproval(dto.getTitle(), dto.getContents());
             approval.updateState(ApprovalState.PENDING);
             approval.getApprovalLineList().clear();
@@ -288,9 +245,9 @@ public class ApprovalService {
                 approvalDate = LocalDateTime.now();
             } else if (alDto.getLineIndex() == 2) {
                 currentStatus = LineStatus.PENDING;
-                List<PositionDto> position =  memberClient.getPositionList(memberPositionId,
-                        new IdListReq(List.of(alDto.getMemberPositionId()))).getData();
-                alarmId = position.get(0).getMemberId();
+                alarmId = memberLookupClient.getPosition(alDto.getMemberPositionId())
+                        .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."))
+                        .getMemberId();
             } else {
                 currentStatus = LineStatus.WAITING;
             }
@@ -315,6 +272,7 @@ public class ApprovalService {
 
         // 5. 부모 엔티티를 한 번만 저장
         Approval savedApproval = approvalRepository.saveAndFlush(approval);
+        approvalInboxCounterService.applyChange(before, savedApproval);
 
 //        request에 approvalId 추가
         if(dto.getRequestId() != null) {
@@ -381,8 +339,8 @@ public class ApprovalService {
         }
 
         // Elasticsearch 저장을 위한 이벤트 발행
-        List<PositionDto> requesterPositionInfo = memberClient.getPositionList(memberPositionId, new IdListReq(List.of(savedApproval.getMemberPositionId()))).getData();
-        if (requesterPositionInfo != null && !requesterPositionInfo.isEmpty()) {
+        Optional<PositionDto> requesterPositionInfo = memberLookupClient.getPosition(savedApproval.getMemberPositionId());
+        if (requesterPositionInfo.isPresent()) {
             List<String> approverIdList = savedApproval.getApprovalLineList().stream()
                     .map(line -> line.getMemberPositionId().toString())
                     .collect(Collectors.toList());
@@ -391,8 +349,8 @@ public class ApprovalService {
                     savedApproval.getId(),
                     memberPositionId,
                     savedApproval.getTitle(),
-                    requesterPositionInfo.get(0).getTitleName(),
-                    requesterPositionInfo.get(0).getMemberName(),
+                    requesterPositionInfo.get().getTitleName(),
+                    requesterPositionInfo.get().getMemberName(),
                     approverIdList,
                     savedApproval.getCreatedAt()
             );
@@ -407,6 +365,7 @@ public class ApprovalService {
         log.info("📝 [임시저장] 시작: approvalId={}, lineCount={}", dto.getApprovalId(), dto.getLineDtoList().size());
 
         Approval approval = null;
+        ApprovalInboxCounterService.Contribution before = ApprovalInboxCounterService.Contribution.EMPTY;
         if(dto.getApprovalId() == null) {
             ApprovalDocument document = approvalDocumentRepository.findById(dto.getDocumentId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 문서입니다."));
             approval = Approval.builder()
@@ -421,6 +380,7 @@ public class ApprovalService {
         else {
             approval = approvalRepository.findById(dto.getApprovalId()).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
             log.info("📝 [임시저장] 기존 Approval 조회: 기존 lineCount={}", approval.getApprovalLineList().size());
+            before = approvalInboxCounterService.contributionOf(approval);
             approval.updateApproval(dto.getTitle(), dto.getContents());
             approval.getApprovalLineList().clear();
             log.info("📝 [임시저장] 기존 결재라인 clear 완료");
@@ -447,6 +407,7 @@ public class ApprovalService {
 
         // 4. ApprovalLine을 추가한 후 저장 (중요!)
         Approval savedApproval = approvalRepository.save(approval);
+        approvalInboxCounterService.applyChange(before, savedApproval);
 
         log.info("📝 [임시저장] 저장 완료: approvalId={}, lineCount={}",
                 savedApproval.getId(), savedApproval.getApprovalLineList().size());
@@ -467,6 +428,7 @@ public class ApprovalService {
 //    결재 삭제(임시저장된 상태의 문서 삭제)
     public void discardApproval(UUID approvalId) {
         Approval approval = approvalRepository.findById(approvalId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
+        ApprovalInboxCounterService.Contribution before = approvalInboxCounterService.contributionOf(approval);
 
         // 연결된 Request가 있으면 취소 처리하고 잔액 복구
         Optional<Request> requestOpt = requestRepository.findByApprovalId(approvalId);
@@ -486,6 +448,7 @@ public class ApprovalService {
         }
 
         approval.updateState(ApprovalState.DISCARDED);
+        approvalInboxCounterService.applyChange(before, approval);
     }
 
 //    결재 승인
@@ -493,6 +456,7 @@ public class ApprovalService {
         // 1. Fetch Join으로 Approval과 LineList를 한 번에 조회 (성능 최적화)
         Approval approval = approvalRepository.findByIdWithLines(approvalId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
+        ApprovalInboxCounterService.Contribution before = approvalInboxCounterService.contributionOf(approval);
 
         // 2. 현재 결재자의 결재 라인을 '메모리에서' 찾기
         ApprovalLine currentLine = approval.getApprovalLineList().stream()
@@ -524,10 +488,11 @@ public class ApprovalService {
                         // 2. 다음 결재자의 memberPositionId를 변수로 받아냅니다.
                         UUID nextApproverId = nextLine.getMemberPositionId();
 
-                        List<PositionDto> position = memberClient.getPositionList(memberPositionId, new IdListReq(List.of(nextApproverId))).getData();
+                        PositionDto position = memberLookupClient.getPosition(nextApproverId)
+                                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."));
 
                         NotificationMessage message = NotificationMessage.builder()
-                                .memberId(position.get(0).getMemberId())
+                                .memberId(position.getMemberId())
                                 .notificationType("NT004")
                                 .content("전자결재 : " + approval.getTitle() + " 문서가  도착했습니다.")
                                 .targetId(approval.getId())
@@ -540,8 +505,8 @@ public class ApprovalService {
             approval.updateState(ApprovalState.APPROVED);
 
             // Elasticsearch 저장을 위한 이벤트 발행
-            List<PositionDto> requesterPositionInfo = memberClient.getPositionList(memberPositionId, new IdListReq(List.of(approval.getMemberPositionId()))).getData();
-            if (requesterPositionInfo != null && !requesterPositionInfo.isEmpty()) {
+            Optional<PositionDto> requesterPositionInfo = memberLookupClient.getPosition(approval.getMemberPositionId());
+            if (requesterPositionInfo.isPresent()) {
                 List<String> approverIdList = approval.getApprovalLineList().stream()
                         .map(line -> line.getMemberPositionId().toString())
                         .collect(Collectors.toList());
@@ -550,8 +515,8 @@ public class ApprovalService {
                         approval.getId(),
                         memberPositionId,
                         approval.getTitle(),
-                        requesterPositionInfo.get(0).getTitleName(),
-                        requesterPositionInfo.get(0).getMemberName(),
+                        requesterPositionInfo.get().getTitleName(),
+                        requesterPositionInfo.get().getMemberName(),
                         approverIdList,
                         approval.getCreatedAt()
                 );
@@ -601,10 +566,11 @@ public class ApprovalService {
 
             UUID nextApproverId = approval.getMemberPositionId();
 
-            List<PositionDto> position = memberClient.getPositionList(memberPositionId, new IdListReq(List.of(nextApproverId))).getData();
+            PositionDto position = memberLookupClient.getPosition(nextApproverId)
+                    .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."));
 
             NotificationMessage message = NotificationMessage.builder()
-                    .memberId(position.get(0).getMemberId())
+                    .memberId(position.getMemberId())
                     .notificationType("NT004")
                     .content("전자결재 : " + approval.getTitle() + " 문서가 결재가 완료되었습니다..")
                     .targetId(approval.getId())
@@ -612,6 +578,8 @@ public class ApprovalService {
 
             eventPublisher.publishEvent(message);
         }
+
+        approvalInboxCounterService.applyChange(before, approval);
     }
 
 //    결재 반려
@@ -619,6 +587,7 @@ public class ApprovalService {
         // 1. Fetch Join으로 Approval과 LineList를 한 번에 조회 (성능 최적화)
         Approval approval = approvalRepository.findByIdWithLines(approvalId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
+        ApprovalInboxCounterService.Contribution before = approvalInboxCounterService.contributionOf(approval);
 
         // 2. 현재 결재자의 결재 라인을 '메모리에서' 찾기
         ApprovalLine currentLine = approval.getApprovalLineList().stream()
@@ -637,6 +606,7 @@ public class ApprovalService {
 
         // 5. 문서 전체 상태를 '반려'로 즉시 변경
         approval.updateState(ApprovalState.REJECTED);
+        approvalInboxCounterService.applyChange(before, approval);
 
         // 6. 근태 Request 반려 이벤트 발행 (AttendanceService에서 처리)
         Optional<Request> request = requestRepository.findByApprovalId(approval.getId());
@@ -653,10 +623,11 @@ public class ApprovalService {
 
         UUID nextApproverId = approval.getMemberPositionId();
 
-        List<PositionDto> position = memberClient.getPositionList(memberPositionId, new IdListReq(List.of(nextApproverId))).getData();
+        PositionDto position = memberLookupClient.getPosition(nextApproverId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 직원입니다."));
 
         NotificationMessage message = NotificationMessage.builder()
-                .memberId(position.get(0).getMemberId())
+                .memberId(position.getMemberId())
                 .notificationType("NT004")
                 .content("전자결재 : " + approval.getTitle() + " 문서가 결재가 완료되었습니다..")
                 .targetId(approval.getId())
@@ -686,15 +657,8 @@ public class ApprovalService {
         log.info("🔍 [결재조회] 결재라인 memberPositionId 목록: {}", mpidList);
 
         if (!mpidList.isEmpty()) {
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(approval.getMemberPositionId(), new IdListReq(mpidList));
-            if (response.isSuccess() && response.getData() != null) {
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-                log.info("🔍 [결재조회] member-service 조회 성공: count={}", positionMap.size());
-            } else {
-                positionMap = Collections.emptyMap(); // API 호출 실패 시 빈 맵 할당
-                log.warn("🔍 [결재조회] member-service 조회 실패");
-            }
+            positionMap = memberLookupClient.getPositions(mpidList);
+            log.info("🔍 [결재조회] 결재자 정보 조회 완료: count={}", positionMap.size());
         } else {
             positionMap = Collections.emptyMap(); // 결재 라인이 없을 시 빈 맵 할당
             log.warn("🔍 [결재조회] 결재 라인이 비어있음");
@@ -768,14 +732,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            // (주의) memberClient.getPositionList 첫번째 파라미터 확인 필요
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(approvalId, new IdListReq(mpidList));
-
-            if (response.isSuccess() && response.getData() != null) {
-                // (수정) memberPositionId가 아니라 실제 memberId 기준으로 Map 생성
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            }
+            positionMap = memberLookupClient.getPositions(mpidList);
         }
         // 4. (수정) Page.map()을 사용하여 Page<ApprovalReply> -> Page<ReplyResponseDto> 변환
         final Map<UUID, PositionDto> finalPositionMap = positionMap; // 람다용 final 변수
@@ -816,14 +773,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(memberPositionId, new IdListReq(requesterIds));
-
-            if (response.isSuccess() && response.getData() != null) {
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            } else {
-                positionMap = Collections.emptyMap();
-            }
+            positionMap = memberLookupClient.getPositions(requesterIds);
         } else {
             positionMap = Collections.emptyMap();
         }
@@ -869,16 +819,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            // (주의) memberClient.getPositionList 첫번째 파라미터 확인 필요
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(memberPositionId, new IdListReq(requesterIds));
-
-            if (response.isSuccess() && response.getData() != null) {
-                // (수정) memberPositionId가 아니라 실제 memberId 기준으로 Map 생성
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            } else {
-                positionMap = Collections.emptyMap();
-            }
+            positionMap = memberLookupClient.getPositions(requesterIds);
         } else {
             // (수정) 조회된 결재 목록이 없으면 빈 Page 객체를 반환
             return Page.empty(pageable);
@@ -929,14 +870,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(memberPositionId, new IdListReq(requesterIds));
-
-            if (response.isSuccess() && response.getData() != null) {
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            } else {
-                positionMap = Collections.emptyMap();
-            }
+            positionMap = memberLookupClient.getPositions(requesterIds);
         } else {
             // (수정) 조회된 결재 목록이 없으면 빈 Page 객체를 반환
             return Page.empty(pageable);
@@ -986,16 +920,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            // (주의) memberClient.getPositionList 첫번째 파라미터는 요청자의 ID여야 할 수 있음
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(memberPositionId, new IdListReq(requesterIds));
-
-            if (response.isSuccess() && response.getData() != null) {
-                // (수정) memberPositionId가 아니라 실제 memberId 기준으로 Map 생성
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            } else {
-                positionMap = Collections.emptyMap();
-            }
+            positionMap = memberLookupClient.getPositions(requesterIds);
         } else {
             // (수정) 조회된 결재 목록이 없으면 빈 Page 객체를 반환
             return Page.empty(pageable);
@@ -1043,14 +968,7 @@ public class ApprovalService {
                     .distinct()
                     .toList();
 
-            ApiResponse<List<PositionDto>> response = memberClient.getPositionList(memberPositionId, new IdListReq(requesterIds));
-
-            if (response.isSuccess() && response.getData() != null) {
-                positionMap = response.getData().stream()
-                        .collect(Collectors.toMap(PositionDto::getMemberPositionId, position -> position));
-            } else {
-                positionMap = Collections.emptyMap();
-            }
+            positionMap = memberLookupClient.getPositions(requesterIds);
         } else {
             // (수정) 조회된 결재 목록이 없으면 빈 Page 객체를 반환
             return Page.empty(pageable);
@@ -1074,6 +992,74 @@ public class ApprovalService {
         });
     }
 
+//    결재함 목록 커서 기반 조회 (키셋 페이징, 깊은 페이지에서도 OFFSET 스캔 없음)
+//    withTotal이면 전체 건수를 직무별 결재함 카운터에서 채움 (COUNT 쿼리 없음)
+    public ApprovalCursorPageDto getApprovalListByCursor(UUID memberPositionId, ApprovalBox box,
+                                                         String cursor, int size, boolean withTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        ApprovalCursor after = ApprovalCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        List<Approval> approvals = approvalRepository.findListByCursor(
+                memberPositionId,
+                box,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1
+        );
+
+        boolean hasNext = approvals.size() > pageSize;
+        List<Approval> page = hasNext ? approvals.subList(0, pageSize) : approvals;
+
+        return ApprovalCursorPageDto.builder()
+                .content(toApprovalListDtos(memberPositionId, page))
+                .nextCursor(hasNext ? ApprovalCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .totalCount(withTotal ? countOf(approvalInboxCounterService.getStats(memberPositionId), box) : null)
+                .build();
+    }
+
+    private int countOf(StatsResponseDto stats, ApprovalBox box) {
+        return switch (box) {
+            case IN_PROGRESS -> stats.getRequestCount();
+            case COMPLETED -> stats.getCompleteCount();
+            case APPROVE_COMPLETED -> stats.getApproveCompleteCount();
+            case DRAFT -> stats.getDraftCount();
+            case PENDING -> stats.getPendingCount();
+        };
+    }
+
+    private List<ApprovalListDto> toApprovalListDtos(UUID memberPositionId, List<Approval> approvals) {
+        if (approvals.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> requesterIds = approvals.stream()
+                .map(Approval::getMemberPositionId)
+                .distinct()
+                .toList();
+
+        Map<UUID, PositionDto> positionMap = memberLookupClient.getPositions(requesterIds);
+
+        return approvals.stream()
+                .map(approval -> {
+                    PositionDto requesterPosition = positionMap.get(approval.getMemberPositionId());
+
+                    return ApprovalListDto.builder()
+                            .approvalId(approval.getId())
+                            .title(approval.getTitle())
+                            .documentName(approval.getApprovalDocument().getDocumentName())
+                            .status(approval.getState())
+                            .createAt(approval.getCreatedAt())
+                            .requesterId(approval.getMemberPositionId())
+                            .requesterName(requesterPosition != null ? requesterPosition.getMemberName() : null)
+                            .requesterPosition(requesterPosition != null ? requesterPosition.getTitleName() : null)
+                            .requesterOrganization(requesterPosition != null ? requesterPosition.getOrganizationName() : null)
+                            .build();
+                })
+                .toList();
+    }
+
 //    첨부파일 등록 및 수정
     public void patchFile(UUID id, AttachmentRequestDto dto , List<MultipartFile> newFiles) {
         Approval approval = approvalRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 결재입니다."));
@@ -1114,44 +1100,15 @@ public class ApprovalService {
 //    결재 상태 변경용
     public UUID updateState(UUID id, ApprovalState state) {
         Approval approval = approvalRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(""));
+        ApprovalInboxCounterService.Contribution before = approvalInboxCounterService.contributionOf(approval);
         approval.updateState(state);
+        approvalInboxCounterService.applyChange(before, approval);
         return approval.getId();
     }
 
-//    상단 통계용
-    @Transactional(readOnly = true)
+//    상단 통계용 (직무별 카운터 한 행 조회)
     public StatsResponseDto getStats(UUID memberPositionId) {
-        int pending = approvalLineRepository.findByMemberPositionIdAndLineStatus(
-                memberPositionId,
-                LineStatus.PENDING
-        ).stream().map(ApprovalLine::getApproval).toList().size();
-
-
-//        내 기안(진행중)
-        int request = approvalRepository.countByMemberPositionIdAndState(memberPositionId, ApprovalState.PENDING);
-//        int request = approvalRepository.countByState(ApprovalState.PENDING);
-
-//        내 기안(완료)
-        List<ApprovalState> stateList = new ArrayList<>();
-        stateList.add(ApprovalState.REJECTED);
-        stateList.add(ApprovalState.APPROVED);
-        int complete = approvalRepository.countByMemberPositionIdAndStateIn(memberPositionId, stateList);
-//        int complete = approvalRepository.countByStateIn(stateList);
-
-//        내 결재(완료)
-        int approveComplete = approvalRepository.countByLineMemberPositionIdAndStateIn(memberPositionId, stateList);
-
-//        임시 저정함
-        int draft = approvalRepository.countByMemberPositionIdAndState(memberPositionId, ApprovalState.DRAFT);
-//        int draft = approvalRepository.countByState(ApprovalState.DRAFT);
-
-        return StatsResponseDto.builder()
-                .pendingCount(pending)
-                .requestCount(request)
-                .completeCount(complete)
-                .approveCompleteCount(approveComplete)
-                .draftCount(draft)
-                .build();
+        return approvalInboxCounterService.getStats(memberPositionId);
     }
 
 //    문서 결재정책 생성 및 수정
@@ -1182,17 +1139,10 @@ public class ApprovalService {
     public List<PolicyResDto> getPolicies(UUID documentId, UUID memberId, @AuthUser UUID memberPositionId, UUID companyId) {
         List<ApprovalPolicy> policies = approvalPolicyRepository.findByApprovalDocument_IdAndCompanyId(documentId, companyId);
 
-        IdListReq idListReq = new IdListReq(policies.stream().filter(a->a.getRequirementType()
-                .equals(RequirementType.MEMBER_POSITION)).map(ApprovalPolicy::getRequirementId).toList());
+        List<UUID> memberPositionIds = policies.stream().filter(a->a.getRequirementType()
+                .equals(RequirementType.MEMBER_POSITION)).map(ApprovalPolicy::getRequirementId).toList();
 
-        List<PositionDto> position = memberClient.getPositionList(memberPositionId, idListReq).getData();
-        Map<UUID, PositionDto> positionMap = new HashMap<>();
-        if(!position.isEmpty()) {
-            positionMap = position.stream().collect(Collectors.toMap(PositionDto::getMemberPositionId, pos -> pos));
-        }
-        else {
-            positionMap = Collections.emptyMap();
-        }
+        Map<UUID, PositionDto> positionMap = memberLookupClient.getPositions(memberPositionIds);
 
         List<TitleRes> titles = memberClient.getTitle(memberId, memberPositionId).getData();
         Map<UUID, TitleRes> titleMap = new HashMap<>();
@@ -3,12 +3,17 @@ package com.crewvy.workforce_service.attendance.batch;
 import com.crewvy.common.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 /**
  * 근태 배치 수동 실행 컨트롤러
  * 테스트 및 관리자용
@@ -125,4 +130,49 @@ public class AttendanceBatchController {
             );
         }
     }
+
+    /**
+     * 연차 자동 발생 배치 재시작 (실패한 회사만 재처리)
+     * @param date 재시작할 배치의 기준 날짜 (yyyy-MM-dd)
+     */
+    @PostMapping("/annual-leave-accrual/restart")
+    public ResponseEntity<ApiResponse<Void>> restartAnnualLeaveAccrualBatch(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("연차 자동 발생 배치 재시작 요청: date={}", date);
+        try {
+            batchScheduler.restartAnnualLeaveAccrualJob(date);
+            return new ResponseEntity<>(
+                    ApiResponse.success(null, "연차 자동 발생 배치 재시작이 요청되었습니다."),
+                    HttpStatus.OK
+            );
+        } catch (Exception e) {
+            log.error("연차 자동 발생 배치 재시작 실패", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("배치 실행 중 오류가 발생했습니다: " + e.getMessage()),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    /**
+     * 월간 근태 합계 재집계 (최초 적재 / 수동 보정)
+     * @param month 재집계할 월 (yyyy-MM)
+     */
+    @PostMapping("/monthly-summary/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildMonthlyAttendanceSummary(@RequestParam YearMonth month) {
+        log.info("월간 근태 합계 재집계 요청: month={}", month);
+        try {
+            batchScheduler.rebuildMonthlyAttendanceSummaryJob(month);
+            return new ResponseEntity<>(
+                    ApiResponse.success(null, "월간 근태 합계 재집계가 요청되었습니다."),
+                    HttpStatus.OK
+            );
+        } catch (Exception e) {
+            log.error("월간 근태 합계 재집계 요청 실패", e);
+            return new ResponseEntity<>(
+                    ApiResponse.error("배치 실행 중 오류가 발생했습니다: " + e.getMessage()),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
 }
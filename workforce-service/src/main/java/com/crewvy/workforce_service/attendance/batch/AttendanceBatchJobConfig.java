@@ -1,12 +1,19 @@
 package com.crewvy.workforce_service.attendance.batch;
 
+import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.workforce_service.attendance.constant.AttendanceStatus;
 import com.crewvy.workforce_service.attendance.constant.RequestStatus;
 import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import com.crewvy.workforce_service.attendance.entity.Request;
+import com.crewvy.workforce_service.attendance.event.DailyAttendanceChangedEvent;
+import com.crewvy.workforce_service.attendance.repository.AttendanceJdbcRepository;
 import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
 import com.crewvy.workforce_service.attendance.repository.RequestRepository;
 import com.crewvy.workforce_service.attendance.service.AnnualLeaveAccrualService;
+import com.crewvy.workforce_service.attendance.service.MonthlyAttendanceSummaryService;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberEmploymentInfoDto;
+import com.crewvy.workforce_service.salary.service.WorkingDayCalendar;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,24 +22,28 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Configuration
@@ -46,8 +57,17 @@ public class AttendanceBatchJobConfig {
     private final AnnualLeaveAccrualService annualLeaveAccrualService;
     private final com.crewvy.workforce_service.attendance.repository.PolicyRepository policyRepository;
     private final EntityManagerFactory entityManagerFactory;
+    private final MemberClient memberClient;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final MonthlyAttendanceSummaryService monthlyAttendanceSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // ==================== Job 1: 결근 자동 처리 ====================
+    // ==================== Job 1: 결근 자동 처리 (회사별 파티셔닝) ====================
+
+    private static final int ABSENT_CHUNK_SIZE = 500;
+    private static final int ABSENT_GRID_SIZE = 4;
+    private static final String MEMBER_STATUS_WORKING = "MS001"; // MS001 = WORKING (재직)
 
     @Bean
     public Job markAbsentJob() {
@@ -56,80 +76,103 @@ public class AttendanceBatchJobConfig {
                 .build();
     }
 
+    /**
+     * 결근 처리 Manager Step
+     * 회사 단위로 파티션을 나누어 워커 스레드에서 병렬 처리
+     */
     @Bean
     public Step markAbsentStep() {
         return new StepBuilder("markAbsentStep", jobRepository)
-                .tasklet(markAbsentTasklet(), transactionManager)
+                .partitioner("markAbsentWorkerStep", markAbsentCompanyPartitioner(null))
+                .step(markAbsentWorkerStep())
+                .gridSize(ABSENT_GRID_SIZE)
+                .taskExecutor(partitionTaskExecutor("mark-absent-", ABSENT_GRID_SIZE))
                 .build();
     }
 
     /**
-     * 결근 자동 처리 Tasklet
-     * 전날 출근하지 않은 직원을 ABSENT로 처리
+     * 결근 처리 대상 회사별 파티션 생성
+     * - jobParameters[date]가 없으면 오늘 기준, 대상 날짜는 전날
      */
     @Bean
-    @Transactional
-    public Tasklet markAbsentTasklet() {
-        return (contribution, chunkContext) -> {
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-            log.info(">>> [결근 처리 배치 시작] 대상 날짜: {}", yesterday);
+    @JobScope
+    public Partitioner markAbsentCompanyPartitioner(@Value("#{jobParameters[date]}") String date) {
+        LocalDate targetDate = ((date == null) ? LocalDate.now() : LocalDate.parse(date)).minusDays(1);
 
-            // 1. 전날에 승인된 휴가를 가진 직원 목록 조회 (개선)
-            LocalDateTime startOfDay = yesterday.atStartOfDay();
-            LocalDateTime endOfDay = yesterday.atTime(23, 59, 59);
-            List<UUID> memberIdsWithApprovedLeave = requestRepository.findMemberIdsWithApprovedLeaveBetween(RequestStatus.APPROVED, startOfDay, endOfDay);
-            log.info(">>> 승인된 휴가가 있는 직원 수: {}", memberIdsWithApprovedLeave.size());
-
-            // 2. 전날 DailyAttendance가 이미 있는 직원 목록 조회
-            List<DailyAttendance> existingAttendances = dailyAttendanceRepository.findAllByDateRange(yesterday, yesterday);
-            Set<UUID> memberIdsWithAttendance = existingAttendances.stream()
-                    .map(DailyAttendance::getMemberId)
-                    .collect(Collectors.toSet());
-            log.info(">>> 이미 근태 기록이 있는 직원 수: {}", memberIdsWithAttendance.size());
-
-            // 3. 최근 30일 내 출근 기록이 있는 활성 직원 조회 (개선)
-            LocalDate thirtyDaysAgo = yesterday.minusDays(30);
-            // 이 부분은 모든 활성 직원을 알아내야 하므로, 여전히 많은 데이터를 조회할 수 있습니다.
-            // 더 나은 방법은 member-service에서 활성 직원 목록을 가져오는 것입니다.
-            // 현재 구조에서는 DailyAttendance에서 활성 유저를 추측합니다.
-            List<DailyAttendance> recentAttendances = dailyAttendanceRepository.findAllByDateRange(thirtyDaysAgo, yesterday.minusDays(1));
-            Set<UUID> activeMemberIds = recentAttendances.stream()
-                    .map(DailyAttendance::getMemberId)
-                    .collect(Collectors.toSet());
-            log.info(">>> 최근 30일 내 활성 직원 수: {}", activeMemberIds.size());
-
-
-            // 4. 결근 대상: 활성 직원 중 전날 근태 기록도 없고 승인된 휴가도 없는 직원
-            Set<UUID> absentMemberIds = new HashSet<>(activeMemberIds);
-            absentMemberIds.removeAll(memberIdsWithAttendance);
-            absentMemberIds.removeAll(memberIdsWithApprovedLeave);
-
-            log.info(">>> 결근 처리 대상 직원 수: {}", absentMemberIds.size());
+        return gridSize -> {
+            log.info(">>> [결근 처리 배치 시작] 대상 날짜: {}", targetDate);
+            return companyPartitions("targetDate", targetDate);
+        };
+    }
 
-            if (absentMemberIds.isEmpty()) {
-                log.info(">>> [결근 처리 배치 완료] 처리할 대상이 없습니다.");
-                return RepeatStatus.FINISHED;
-            }
+    @Bean
+    public Step markAbsentWorkerStep() {
+        return new StepBuilder("markAbsentWorkerStep", jobRepository)
+                .<UUID, UUID>chunk(ABSENT_CHUNK_SIZE, transactionManager)
+                .reader(activeMemberReader(null, null))
+                .writer(absentAttendanceWriter(null, null))
+                .build();
+    }
+
+    /**
+     * 회사의 재직 직원 명단(member-service) 조회
+     * 대상 날짜가 주말/공휴일/회사 휴일이면 빈 명단을 반환하여 결근 처리하지 않음
+     */
+    @Bean
+    @StepScope
+    public ListItemReader<UUID> activeMemberReader(@Value("#{stepExecutionContext['companyId']}") String companyId,
+                                                   @Value("#{stepExecutionContext['targetDate']}") String targetDate) {
+        UUID company = UUID.fromString(companyId);
+        LocalDate date = LocalDate.parse(targetDate);
+
+        if (workingDayCalendar.isNonWorkingDay(company, date)) {
+            log.info(">>> 휴일이므로 결근 처리 건너뜀: companyId={}, date={}", company, date);
+            return new ListItemReader<>(List.of());
+        }
 
-            // 5. 결근 처리 - DailyAttendance 생성 (개선)
-            List<DailyAttendance> absentAttendances = new ArrayList<>();
-            for (UUID memberId : absentMemberIds) {
-                dailyAttendanceRepository.findFirstByMemberIdOrderByAttendanceDateDesc(memberId)
-                        .ifPresent(latestAttendance -> {
-                            DailyAttendance absent = DailyAttendance.builder()
-                                    .memberId(memberId)
-                                    .companyId(latestAttendance.getCompanyId())
-                                    .attendanceDate(yesterday)
-                                    .status(AttendanceStatus.ABSENT)
-                                    .build();
-                            absentAttendances.add(absent);
-                        });
+        ApiResponse<List<MemberEmploymentInfoDto>> response = memberClient.getEmploymentInfoInternal(company);
+        List<UUID> activeMemberIds = (response == null || response.getData() == null)
+                ? List.of()
+                : response.getData().stream()
+                        .filter(m -> MEMBER_STATUS_WORKING.equals(m.getMemberStatus()))
+                        .filter(m -> m.getJoinDate() == null || !m.getJoinDate().isAfter(date))
+                        .map(MemberEmploymentInfoDto::getMemberId)
+                        .toList();
+
+        log.info(">>> 재직 직원 수: companyId={}, count={}", company, activeMemberIds.size());
+        return new ListItemReader<>(activeMemberIds);
+    }
+
+    /**
+     * 청크 단위 결근 처리
+     * 재직 직원 - (근태 기록 ∪ 승인된 휴가) 를 한 번의 쿼리로 구한 뒤 JDBC 배치 INSERT
+     * (member_id, attendance_date) 유니크 제약 + INSERT IGNORE 로 재실행/동시 출근에도 중복 생성 없음
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<UUID> absentAttendanceWriter(@Value("#{stepExecutionContext['companyId']}") String companyId,
+                                                   @Value("#{stepExecutionContext['targetDate']}") String targetDate) {
+        UUID company = UUID.fromString(companyId);
+        LocalDate date = LocalDate.parse(targetDate);
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.atTime(23, 59, 59);
+
+        return chunk -> {
+            List<UUID> memberIds = new ArrayList<>(chunk.getItems());
+            Set<UUID> coveredMemberIds = new HashSet<>(dailyAttendanceRepository.findMemberIdsCoveredOn(
+                    memberIds, date, RequestStatus.APPROVED, startOfDay, endOfDay));
+
+            List<UUID> absentMemberIds = memberIds.stream()
+                    .filter(memberId -> !coveredMemberIds.contains(memberId))
+                    .toList();
+            if (absentMemberIds.isEmpty()) {
+                return;
             }
 
-            dailyAttendanceRepository.saveAll(absentAttendances);
+            attendanceJdbcRepository.insertAbsentIgnoringExisting(company, date, absentMemberIds);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(absentMemberIds, date));
 
-            log.info(">>> [결근 처리 배치 완료] 총 {}명의 직원을 결근 처리했습니다.", absentAttendances.size());
-            return RepeatStatus.FINISHED;
+            log.info(">>> 결근 처리: companyId={}, 청크={}명, 결근={}명", company, memberIds.size(), absentMemberIds.size());
         };
     }
 
@@ -212,6 +255,7 @@ public class AttendanceBatchJobConfig {
         return items -> {
             log.info(">>> {}개의 DailyAttendance를 저장합니다.", items.size());
             dailyAttendanceRepository.saveAll(items);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(items.getItems()));
         };
     }
 
@@ -335,7 +379,10 @@ public class AttendanceBatchJobConfig {
     }
 
 
-    // ==================== Job 4: 연차 자동 발생 ====================
+    // ==================== Job 4: 연차 자동 발생 (회사별 파티셔닝) ====================
+
+    private static final int ACCRUAL_GRID_SIZE = 4;
+    private static final String MONTHLY_ACCRUAL_DONE = "monthlyAccrualDone";
 
     @Bean
     public Job annualLeaveAccrualJob() {
@@ -344,67 +391,152 @@ public class AttendanceBatchJobConfig {
                 .build();
     }
 
+    /**
+     * 연차 자동 발생 Manager Step
+     * - 회사마다 별도 StepExecution(annualLeaveAccrualWorkerStep:company-{id})으로 진행 상황이 Job Repository에 기록됨
+     * - 같은 jobParameters로 재실행하면 실패한 회사 파티션만 다시 처리
+     */
     @Bean
     public Step annualLeaveAccrualStep() {
         return new StepBuilder("annualLeaveAccrualStep", jobRepository)
-                .tasklet(annualLeaveAccrualTasklet(), transactionManager)
+                .partitioner("annualLeaveAccrualWorkerStep", annualLeaveAccrualCompanyPartitioner(null))
+                .step(annualLeaveAccrualWorkerStep())
+                .gridSize(ACCRUAL_GRID_SIZE)
+                .taskExecutor(partitionTaskExecutor("annual-leave-accrual-", ACCRUAL_GRID_SIZE))
                 .build();
     }
 
     /**
-     * 연차 자동 발생 Tasklet
+     * 연차 발생 대상 회사별 파티션 생성
+     * - jobParameters[date]가 없으면 오늘 기준
+     */
+    @Bean
+    @JobScope
+    public Partitioner annualLeaveAccrualCompanyPartitioner(@Value("#{jobParameters[date]}") String date) {
+        LocalDate referenceDate = (date == null) ? LocalDate.now() : LocalDate.parse(date);
+
+        return gridSize -> {
+            log.info(">>> [연차 자동 발생 배치 시작] 기준 날짜: {}", referenceDate);
+            return companyPartitions("referenceDate", referenceDate);
+        };
+    }
+
+    @Bean
+    public Step annualLeaveAccrualWorkerStep() {
+        return new StepBuilder("annualLeaveAccrualWorkerStep", jobRepository)
+                .tasklet(annualLeaveAccrualTasklet(null, null), transactionManager)
+                .build();
+    }
+
+    /**
+     * 회사 단위 연차 자동 발생 Tasklet
      * - 스케줄러에서 매월 1일 실행 (cron: "0 0 3 1 * *")
      * - 1년 미만 근로자: 월별 연차 발생 (Kafka 이벤트 기반 초기 발생 + 배치 안전망)
      * - 1년 이상 근로자: 매년 1월 1일 연차 발생
-     * - 수동 실행 시에도 날짜 체크 없이 실행 (테스트 목적)
+     * - 월별 발생과 연간 발생을 각각 별도 트랜잭션으로 커밋하고, 월별 발생 완료 여부를 StepExecutionContext에 남겨
+     *   재시작 시 월별 연차가 중복 발생하지 않도록 함
      */
     @Bean
-    @Transactional
-    public Tasklet annualLeaveAccrualTasklet() {
+    @StepScope
+    public Tasklet annualLeaveAccrualTasklet(@Value("#{stepExecutionContext['companyId']}") String companyId,
+                                             @Value("#{stepExecutionContext['referenceDate']}") String referenceDate) {
         return (contribution, chunkContext) -> {
-            LocalDate referenceDate = LocalDate.now();
-            log.info(">>> [연차 자동 발생 배치 시작] 실행 날짜: {}", referenceDate);
+            UUID company = UUID.fromString(companyId);
+            LocalDate date = LocalDate.parse(referenceDate);
+            ExecutionContext stepContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+            // 1. 1년 미만 근로자 월별 연차 발생 (매월 1일)
+            if (!stepContext.containsKey(MONTHLY_ACCRUAL_DONE)) {
+                annualLeaveAccrualService.monthlyAccrualForFirstYearEmployees(company, date);
+                stepContext.putString(MONTHLY_ACCRUAL_DONE, "Y");
+                return RepeatStatus.CONTINUABLE;
+            }
 
-            try {
-                // 1. 모든 회사 ID 조회
-                List<UUID> companyIds = policyRepository.findDistinctCompanyIds();
+            // 2. 1년 이상 근로자 연차 발생 (1월 1일만)
+            if (date.getMonthValue() == 1 && date.getDayOfMonth() == 1) {
+                annualLeaveAccrualService.accrueAnnualLeaveForCompany(company, date);
+            }
 
-                log.info(">>> 연차 발생 대상 회사 수: {}", companyIds.size());
+            log.info(">>> 회사 연차 발생 완료: companyId={}", company);
+            return RepeatStatus.FINISHED;
+        };
+    }
 
-                if (companyIds.isEmpty()) {
-                    log.warn(">>> [연차 자동 발생 배치 완료] 대상 회사 없음 - Policy가 등록되지 않았습니다.");
-                    return RepeatStatus.FINISHED;
-                }
+    // ==================== Job 5: 월간 근태 합계 재집계 ====================
 
-                // 2. 각 회사별로 연차 발생 처리
-                int successCompanyCount = 0;
-                int failedCompanyCount = 0;
+    private static final int SUMMARY_CHUNK_SIZE = 500;
 
-                for (UUID companyId : companyIds) {
-                    try {
-                        // 1. 1년 미만 근로자 월별 연차 발생 (매월 1일)
-                        annualLeaveAccrualService.monthlyAccrualForFirstYearEmployees(companyId, referenceDate);
+    @Bean
+    public Job rebuildMonthlyAttendanceSummaryJob() {
+        return new JobBuilder("rebuildMonthlyAttendanceSummaryJob", jobRepository)
+                .start(rebuildMonthlyAttendanceSummaryStep(null))
+                .build();
+    }
 
-                        // 2. 1년 이상 근로자 연차 발생 (1월 1일만)
-                        if (referenceDate.getMonthValue() == 1 && referenceDate.getDayOfMonth() == 1) {
-                            annualLeaveAccrualService.accrueAnnualLeaveForCompany(companyId, referenceDate);
-                        }
+    /**
+     * 월간 근태 합계 재집계 Step
+     * 해당 월에 근태 기록 또는 합계가 있는 직원을 청크 단위로 DailyAttendance에서 다시 집계
+     * (이벤트 유실 보정 및 최초 적재용)
+     */
+    @Bean
+    @JobScope
+    public Step rebuildMonthlyAttendanceSummaryStep(@Value("#{jobParameters[month]}") String month) {
+        return new StepBuilder("rebuildMonthlyAttendanceSummaryStep", jobRepository)
+                .<UUID, UUID>chunk(SUMMARY_CHUNK_SIZE, transactionManager)
+                .reader(summaryTargetMemberReader(null))
+                .writer(monthlyAttendanceSummaryWriter(null))
+                .build();
+    }
 
-                        successCompanyCount++;
+    /**
+     * 재집계 대상 직원 ID 목록
+     * - jobParameters[month]가 없으면 이번 달
+     */
+    @Bean
+    @StepScope
+    public ListItemReader<UUID> summaryTargetMemberReader(@Value("#{jobParameters[month]}") String month) {
+        YearMonth targetMonth = (month == null) ? YearMonth.now() : YearMonth.parse(month);
+        List<UUID> memberIds = monthlyAttendanceSummaryService.findRebuildTargets(targetMonth);
 
-                    } catch (Exception e) {
-                        log.error(">>> 회사 연차 발생 실패: companyId={}", companyId, e);
-                        failedCompanyCount++;
-                    }
-                }
+        log.info(">>> 월간 근태 합계 재집계 대상: month={}, count={}", targetMonth, memberIds.size());
+        return new ListItemReader<>(memberIds);
+    }
 
-                log.info(">>> [연차 자동 발생 배치 완료] 성공={}, 실패={}", successCompanyCount, failedCompanyCount);
-                return RepeatStatus.FINISHED;
+    @Bean
+    @StepScope
+    public ItemWriter<UUID> monthlyAttendanceSummaryWriter(@Value("#{jobParameters[month]}") String month) {
+        YearMonth targetMonth = (month == null) ? YearMonth.now() : YearMonth.parse(month);
+        return chunk -> monthlyAttendanceSummaryService.refresh(targetMonth, new ArrayList<>(chunk.getItems()));
+    }
 
-            } catch (Exception e) {
-                log.error(">>> 연차 자동 발생 배치 실행 중 오류", e);
-                throw e;
-            }
-        };
+    // ==================== 공통: 회사별 파티셔닝 ====================
+
+    /**
+     * 정책이 등록된 회사마다 하나의 파티션 생성
+     * @param dateKey 파티션 ExecutionContext에 담을 날짜 키
+     * @param date 처리 기준 날짜
+     */
+    private Map<String, ExecutionContext> companyPartitions(String dateKey, LocalDate date) {
+        List<UUID> companyIds = policyRepository.findDistinctCompanyIds();
+        log.info(">>> 파티션 대상 회사 수: {}", companyIds.size());
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (UUID companyId : companyIds) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString("companyId", companyId.toString());
+            context.putString(dateKey, date.toString());
+            partitions.put("company-" + companyId, context);
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션 워커 실행기 (동시 실행 수 제한)
+     * 빈으로 등록하면 @Async 기본 실행기를 대체하므로 Step 내부에서만 사용
+     */
+    private SimpleAsyncTaskExecutor partitionTaskExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        taskExecutor.setConcurrencyLimit(concurrencyLimit);
+        return taskExecutor;
     }
 }
@@ -11,7 +11,9 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 @Slf4j
 @Component
@@ -22,19 +24,22 @@ public class AttendanceBatchScheduler {
     private final Job createApprovedLeaveDailyAttendanceJob;
     private final Job autoCompleteClockOutJob;
     private final Job annualLeaveAccrualJob;
+    private final Job rebuildMonthlyAttendanceSummaryJob;
 
     public AttendanceBatchScheduler(
             JobLauncher jobLauncher,
             @Qualifier("markAbsentJob") Job markAbsentJob,
             @Qualifier("createApprovedLeaveDailyAttendanceJob") Job createApprovedLeaveDailyAttendanceJob,
             @Qualifier("autoCompleteClockOutJob") Job autoCompleteClockOutJob,
-            @Qualifier("annualLeaveAccrualJob") Job annualLeaveAccrualJob
+            @Qualifier("annualLeaveAccrualJob") Job annualLeaveAccrualJob,
+            @Qualifier("rebuildMonthlyAttendanceSummaryJob") Job rebuildMonthlyAttendanceSummaryJob
     ) {
         this.jobLauncher = jobLauncher;
         this.markAbsentJob = markAbsentJob;
         this.createApprovedLeaveDailyAttendanceJob = createApprovedLeaveDailyAttendanceJob;
         this.autoCompleteClockOutJob = autoCompleteClockOutJob;
         this.annualLeaveAccrualJob = annualLeaveAccrualJob;
+        this.rebuildMonthlyAttendanceSummaryJob = rebuildMonthlyAttendanceSummaryJob;
     }
 
     /**
@@ -203,11 +208,10 @@ public class AttendanceBatchScheduler {
         log.info("연차 자동 발생 배치 시작: {}", LocalDateTime.now());
         log.info("========================================");
 
-        String runTime = LocalDateTime.now().toString();
-
         try {
+            // 기준 날짜만 식별 파라미터로 사용: 같은 날짜로 다시 실행하면 실패한 회사 파티션만 재처리
             JobParameters params = new JobParametersBuilder()
-                    .addString("runTime", runTime)
+                    .addString("date", LocalDate.now().toString())
                     .toJobParameters();
 
             jobLauncher.run(annualLeaveAccrualJob, params);
@@ -222,6 +226,27 @@ public class AttendanceBatchScheduler {
         }
     }
 
+    /**
+     * 실패한 연차 자동 발생 배치 재시작
+     * 동일한 기준 날짜의 JobInstance를 재시작하여 완료된 회사는 건너뛰고 실패한 회사만 다시 처리
+     * @param date 재시작할 배치의 기준 날짜
+     */
+    @Async
+    public void restartAnnualLeaveAccrualJob(LocalDate date) {
+        log.info("재시작: 연차 자동 발생 배치, 기준 날짜={}", date);
+
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("date", date.toString())
+                    .toJobParameters();
+
+            jobLauncher.run(annualLeaveAccrualJob, params);
+            log.info("재시작 완료: 연차 자동 발생 배치, 기준 날짜={}", date);
+        } catch (Exception e) {
+            log.error("재시작 중 오류 발생: 연차 자동 발생 배치, 기준 날짜={}", date, e);
+        }
+    }
+
     /**
      * 수동 실행용 - 테스트 목적
      */
@@ -241,4 +266,48 @@ public class AttendanceBatchScheduler {
             log.error("수동 실행 중 오류 발생: 연차 자동 발생 배치", e);
         }
     }
+
+    // ==================== Job 5: 월간 근태 합계 재집계 ====================
+
+    /**
+     * 매일 새벽 4시에 실행 (전날이 속한 달의 월간 근태 합계 재집계)
+     * - 04:00 실행 이유: 미완료 퇴근(02:00) / 결근(00:05) 처리 이후 보정
+     * - 매월 1일에는 전날이 전월 말일이므로 전월 합계가 마감 보정됨
+     * - ShedLock: MSA 환경에서 한 인스턴스만 실행 보장
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Async
+    @SchedulerLock(
+            name = "runMonthlyAttendanceSummaryBatch", // ★ 중요: 작업별로 고유한 이름 지정
+            lockAtMostFor = "PT10M",  // 작업이 10분 이상 걸리면 강제 잠금 해제
+            lockAtLeastFor = "PT30S"  // 작업이 빨리 끝나도 최소 30초간 잠금 유지
+    )
+    public void runMonthlyAttendanceSummaryBatch() {
+        rebuildMonthlyAttendanceSummary(YearMonth.from(LocalDate.now().minusDays(1)));
+    }
+
+    /**
+     * 월간 근태 합계 재집계 (최초 적재 / 수동 보정)
+     * @param month 재집계할 월
+     */
+    @Async
+    public void rebuildMonthlyAttendanceSummaryJob(YearMonth month) {
+        rebuildMonthlyAttendanceSummary(month);
+    }
+
+    private void rebuildMonthlyAttendanceSummary(YearMonth month) {
+        log.info("월간 근태 합계 재집계 배치 시작: month={}", month);
+
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addString("month", month.toString())
+                    .addString("runTime", LocalDateTime.now().toString())
+                    .toJobParameters();
+
+            jobLauncher.run(rebuildMonthlyAttendanceSummaryJob, params);
+            log.info("월간 근태 합계 재집계 배치 완료: month={}", month);
+        } catch (Exception e) {
+            log.error("월간 근태 합계 재집계 배치 실행 중 오류 발생: month={}", month, e);
+        }
+    }
 }
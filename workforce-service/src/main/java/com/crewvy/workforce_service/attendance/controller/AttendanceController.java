@@ -7,6 +7,7 @@ import com.crewvy.workforce_service.attendance.dto.response.*;
 import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import com.crewvy.workforce_service.attendance.entity.MemberBalance;
 import com.crewvy.workforce_service.attendance.service.AttendanceService;
+import com.crewvy.workforce_service.attendance.service.LeaveBalanceStatusService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ import java.util.UUID;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final LeaveBalanceStatusService leaveBalanceStatusService;
 
     @PostMapping("/events")
     public ResponseEntity<ApiResponse<?>> recordEvent(
@@ -127,6 +129,26 @@ public class AttendanceController {
         return new ResponseEntity<>(ApiResponse.success(response, "팀원 근태 현황 조회 완료"), HttpStatus.OK);
     }
 
+    /**
+     * 팀원 근태 현황 조회 - 열 지향(columnar) 응답 (근태 캘린더 히트맵용)
+     * @param startDate 시작 날짜 (optional, 기본값: 오늘)
+     * @param endDate 종료 날짜 (optional, 기본값: 오늘)
+     * @param pageable 페이징 정보 (직원 단위, page, size)
+     */
+    @GetMapping("/team/status/grid")
+    public ResponseEntity<ApiResponse<TeamAttendanceGridRes>> getTeamAttendanceGrid(
+            @RequestHeader("X-User-UUID") UUID memberId,
+            @RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
+            @RequestHeader("X-User-CompanyId") UUID companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            Pageable pageable) {
+
+        TeamAttendanceGridRes response = attendanceService.getTeamAttendanceGrid(
+                memberId, memberPositionId, companyId, startDate, endDate, pageable);
+        return new ResponseEntity<>(ApiResponse.success(response, "팀원 근태 현황 조회 완료"), HttpStatus.OK);
+    }
+
     /**
      * 연차 현황 조회 (권한에 따라 조회 범위 자동 결정, 페이징 지원)
      * - COMPANY 권한: 전사 직원 연차 현황
@@ -151,7 +173,7 @@ public class AttendanceController {
         // year가 null이면 현재 연도 사용
         Integer targetYear = year != null ? year : java.time.Year.now().getValue();
 
-        Page<MemberBalanceSummaryRes> response = attendanceService.getLeaveBalanceStatus(
+        Page<MemberBalanceSummaryRes> response = leaveBalanceStatusService.getLeaveBalanceStatus(
                 memberId, memberPositionId, companyId, targetYear, searchQuery, policyTypeCode, yearsOfService, pageable);
         return new ResponseEntity<>(ApiResponse.success(response, "연차 현황 조회 완료"), HttpStatus.OK);
     }
@@ -0,0 +1,29 @@
+package com.crewvy.workforce_service.attendance.dto.query;
+
+import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 연차 현황 조회 프로젝션 (MemberBalance + MemberDirectory)
+ */
+@Getter
+@AllArgsConstructor
+public class LeaveBalanceRow {
+    private UUID balanceId;
+    private UUID memberId;
+    private String memberName;
+    private String organizationName;
+    private String titleName;
+    private LocalDate joinDate;
+    private Integer year;
+    private PolicyTypeCode balanceTypeCode;
+    private Double totalGranted;
+    private Double totalUsed;
+    private Double remaining;
+    private Boolean isPaid;
+    private Boolean isUsable;
+}
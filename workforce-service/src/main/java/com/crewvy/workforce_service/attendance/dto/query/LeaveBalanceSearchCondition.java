@@ -0,0 +1,23 @@
+package com.crewvy.workforce_service.attendance.dto.query;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 연차 현황 조회 조건 (MemberBalanceRepositoryCustom 전달용)
+ */
+@Getter
+@Builder
+public class LeaveBalanceSearchCondition {
+    private UUID companyId;
+    private List<UUID> memberIds;       // null이면 회사 전체
+    private Integer year;
+    private String searchQuery;         // 이름 또는 부서
+    private String policyTypeCode;      // PTC001 등
+    private String yearsOfService;      // <1, >=1, >=3 ...
+    private LocalDate referenceDate;    // 근속년수 계산 기준일
+}
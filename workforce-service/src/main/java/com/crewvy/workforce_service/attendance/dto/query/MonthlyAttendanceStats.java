@@ -0,0 +1,18 @@
+package com.crewvy.workforce_service.attendance.dto.query;
+
+import java.util.UUID;
+
+// 월간 근태 합계(MonthlyAttendanceSummary) 갱신을 위해 DailyAttendanceRepository의 GROUP BY 결과를 매핑하기 위한 인터페이스입니다.
+public interface MonthlyAttendanceStats {
+    UUID getMemberId();
+    UUID getCompanyId();
+    Long getRecordedDays();
+    Long getAbsentDays();
+    Long getLateDays();
+    Long getEarlyLeaveDays();
+    Long getWorkedMinutes();
+    Long getOvertimeMinutes();
+    Long getDaytimeOvertimeMinutes();
+    Long getNightWorkMinutes();
+    Long getHolidayWorkMinutes();
+}
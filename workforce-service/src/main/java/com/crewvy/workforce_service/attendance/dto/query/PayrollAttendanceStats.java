@@ -0,0 +1,12 @@
+package com.crewvy.workforce_service.attendance.dto.query;
+
+import java.util.UUID;
+
+// 급여 계산용 직원별 근태 합계를 DailyAttendanceRepository의 GROUP BY 결과로 매핑하기 위한 인터페이스입니다.
+public interface PayrollAttendanceStats {
+    UUID getMemberId();
+    Long getWorkingDays();
+    Long getOvertimeMinutes();
+    Long getNightWorkMinutes();
+    Long getHolidayWorkMinutes();
+}
@@ -0,0 +1,47 @@
+package com.crewvy.workforce_service.attendance.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 근태 현황 열 지향(columnar) 응답 DTO
+ * (근태 캘린더 히트맵에서 사용)
+ *
+ * - 직원 정보는 직원 수 길이의 열, 셀 정보는 (직원 수 × 일수) 길이의 열
+ * - 셀 순서는 직원 순서대로, 직원 안에서는 날짜 순서대로 (index = 직원 순번 * days + 날짜 순번)
+ * - 직원 단위 페이징 (page, size는 직원 기준, totalMembers는 전체 직원 수)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamAttendanceGridRes {
+
+    private String startDate;                 // 시작 날짜 (yyyy-MM-dd 형식)
+    private String endDate;                   // 종료 날짜 (yyyy-MM-dd 형식)
+    private int days;                         // 일수
+    private int page;
+    private int size;
+    private long totalMembers;                // 권한 범위 내 전체 직원 수
+
+    // 직원 열
+    private List<UUID> memberIds;
+    private List<String> names;               // 직원 이름
+    private List<String> departments;         // 부서명
+    private List<String> titles;              // 직책
+    private List<String> effectivePolicies;   // 적용 정책명
+
+    // 셀 열
+    private List<String> statusLabels;        // 근태 상태 사전 (statusCodes가 가리키는 한글 상태명)
+    private int[] statusCodes;                // statusLabels 인덱스, 상태 없음(휴일 등)은 -1
+    private int[] flags;                      // 1: 지각, 2: 조퇴, 4: 승인된 신청 있음
+    private int[] clockInMinutes;             // 출근 시각 (자정 기준 분), 기록 없음은 -1
+    private int[] clockOutMinutes;            // 퇴근 시각 (자정 기준 분), 기록 없음은 -1
+    private int[] workedMinutes;              // 총 근무 시간 (분)
+    private int[] extraMinutes;               // 추가 근무 시간 (연장+야간+휴일, 분)
+}
@@ -0,0 +1,62 @@
+package com.crewvy.workforce_service.attendance.entity;
+
+import com.crewvy.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * member-service 직원 정보의 로컬 읽기 모델
+ * member-saved-events / member-deleted-events 로 갱신되며,
+ * 연차 현황 등 목록 화면의 검색/정렬/페이징을 DB에서 처리하기 위해 사용
+ */
+@Entity
+@Table(name = "member_directory", indexes = {
+        @Index(name = "idx_member_directory_company_name", columnList = "company_id, member_name"),
+        @Index(name = "idx_member_directory_company_join_date", columnList = "company_id, join_date")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberDirectory extends BaseEntity {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private UUID memberId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "member_name")
+    private String memberName;
+
+    @Column(name = "organization_name")
+    private String organizationName;
+
+    @Column(name = "title_name")
+    private String titleName;
+
+    @Column(name = "join_date")
+    private LocalDate joinDate;
+
+    @Column(name = "member_status")
+    private String memberStatus;
+
+    /**
+     * 직원 정보 갱신 (이벤트 수신 또는 member-service 동기화 시)
+     */
+    public void update(String memberName, String organizationName, String titleName,
+                       LocalDate joinDate, String memberStatus) {
+        this.memberName = memberName;
+        this.organizationName = organizationName;
+        this.titleName = titleName;
+        this.joinDate = joinDate;
+        this.memberStatus = memberStatus;
+    }
+}
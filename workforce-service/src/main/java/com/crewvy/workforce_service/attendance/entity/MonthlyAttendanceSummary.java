@@ -0,0 +1,115 @@
+package com.crewvy.workforce_service.attendance.entity;
+
+import com.crewvy.common.entity.BaseEntity;
+import com.crewvy.workforce_service.attendance.dto.query.MonthlyAttendanceStats;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 직원별 월간 근태 합계 (DailyAttendance 기반 읽기 모델)
+ * - DailyAttendance가 바뀌면 해당 직원-월 단위로 다시 집계하여 갱신
+ * - summaryMonth는 해당 월의 1일
+ */
+@Entity
+@Table(name = "monthly_attendance_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_member_summary_month", columnNames = {"member_id", "summary_month"})
+        },
+        indexes = {
+                @Index(name = "idx_summary_company_month", columnList = "company_id, summary_month")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyAttendanceSummary extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "monthly_attendance_summary_id", nullable = false)
+    private UUID id;
+
+    @Column(name = "member_id", nullable = false)
+    private UUID memberId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "summary_month", nullable = false)
+    private LocalDate summaryMonth;
+
+    // DailyAttendance가 존재하는 날 수 (휴가/출장/결근 포함)
+    @Column(name = "recorded_days", nullable = false)
+    private int recordedDays;
+
+    @Column(name = "absent_days", nullable = false)
+    private int absentDays;
+
+    @Column(name = "late_days", nullable = false)
+    private int lateDays;
+
+    @Column(name = "early_leave_days", nullable = false)
+    private int earlyLeaveDays;
+
+    @Column(name = "worked_minutes", nullable = false)
+    private long workedMinutes;
+
+    @Column(name = "overtime_minutes", nullable = false)
+    private long overtimeMinutes;
+
+    @Column(name = "daytime_overtime_minutes", nullable = false)
+    private long daytimeOvertimeMinutes;
+
+    @Column(name = "night_work_minutes", nullable = false)
+    private long nightWorkMinutes;
+
+    @Column(name = "holiday_work_minutes", nullable = false)
+    private long holidayWorkMinutes;
+
+    public static MonthlyAttendanceSummary from(MonthlyAttendanceStats stats, LocalDate summaryMonth) {
+        MonthlyAttendanceSummary summary = MonthlyAttendanceSummary.builder()
+                .memberId(stats.getMemberId())
+                .companyId(stats.getCompanyId())
+                .summaryMonth(summaryMonth)
+                .build();
+        summary.apply(stats);
+        return summary;
+    }
+
+    /**
+     * 다시 집계한 값으로 덮어쓰기
+     */
+    public void apply(MonthlyAttendanceStats stats) {
+        this.companyId = stats.getCompanyId();
+        this.recordedDays = toInt(stats.getRecordedDays());
+        this.absentDays = toInt(stats.getAbsentDays());
+        this.lateDays = toInt(stats.getLateDays());
+        this.earlyLeaveDays = toInt(stats.getEarlyLeaveDays());
+        this.workedMinutes = toLong(stats.getWorkedMinutes());
+        this.overtimeMinutes = toLong(stats.getOvertimeMinutes());
+        this.daytimeOvertimeMinutes = toLong(stats.getDaytimeOvertimeMinutes());
+        this.nightWorkMinutes = toLong(stats.getNightWorkMinutes());
+        this.holidayWorkMinutes = toLong(stats.getHolidayWorkMinutes());
+    }
+
+    /**
+     * 결근이 아닌 날 수 (근속비율 계산용)
+     */
+    public int getAttendedDays() {
+        return recordedDays - absentDays;
+    }
+
+    private static int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+
+    private static long toLong(Long value) {
+        return value != null ? value : 0L;
+    }
+}
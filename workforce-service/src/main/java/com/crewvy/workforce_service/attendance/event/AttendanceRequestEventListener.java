@@ -13,6 +13,7 @@ import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepositor
 import com.crewvy.workforce_service.attendance.repository.RequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +36,7 @@ public class AttendanceRequestEventListener {
     private final RequestRepository requestRepository;
     private final DailyAttendanceRepository dailyAttendanceRepository;
     private final MemberBalanceRepository memberBalanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 결재 승인/반려 완료 후 처리
@@ -98,6 +100,8 @@ public class AttendanceRequestEventListener {
         for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
             createOrUpdateDailyAttendance(request, date);
         }
+
+        eventPublisher.publishEvent(DailyAttendanceChangedEvent.ofPeriod(request.getMemberId(), startDate, endDate));
     }
 
     /**
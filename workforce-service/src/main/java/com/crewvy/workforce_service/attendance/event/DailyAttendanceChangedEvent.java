@@ -0,0 +1,45 @@
+package com.crewvy.workforce_service.attendance.event;
+
+import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * DailyAttendance가 생성/수정되었을 때 발행되는 이벤트
+ * 커밋 후 해당 직원-월의 MonthlyAttendanceSummary를 다시 집계하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class DailyAttendanceChangedEvent {
+
+    private final Map<YearMonth, Set<UUID>> memberIdsByMonth; // 월별 변경된 직원 ID
+
+    public static DailyAttendanceChangedEvent of(Collection<? extends DailyAttendance> attendances) {
+        Map<YearMonth, Set<UUID>> memberIdsByMonth = new HashMap<>();
+        for (DailyAttendance attendance : attendances) {
+            memberIdsByMonth.computeIfAbsent(YearMonth.from(attendance.getAttendanceDate()), k -> new HashSet<>())
+                    .add(attendance.getMemberId());
+        }
+        return new DailyAttendanceChangedEvent(memberIdsByMonth);
+    }
+
+    public static DailyAttendanceChangedEvent of(Collection<UUID> memberIds, LocalDate date) {
+        return new DailyAttendanceChangedEvent(Map.of(YearMonth.from(date), new HashSet<>(memberIds)));
+    }
+
+    public static DailyAttendanceChangedEvent ofPeriod(UUID memberId, LocalDate startDate, LocalDate endDate) {
+        Map<YearMonth, Set<UUID>> memberIdsByMonth = new HashMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            memberIdsByMonth.put(month, Set.of(memberId));
+        }
+        return new DailyAttendanceChangedEvent(memberIdsByMonth);
+    }
+
+    public boolean isEmpty() {
+        return memberIdsByMonth.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.crewvy.workforce_service.attendance.event;
+
+import com.crewvy.workforce_service.attendance.service.MonthlyAttendanceSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * DailyAttendance 변경 이벤트를 수신하여 월간 근태 합계 갱신
+ * - AFTER_COMMIT: 근태 변경이 커밋된 후 집계 (출퇴근/결재 트랜잭션에 영향 없음)
+ * - 월마다 새로운 트랜잭션에서 합계 저장 (refreshInNewTransaction)
+ *   → 한 달 갱신이 실패해도 그 달만 롤백되고 나머지 달은 계속 갱신
+ * - 갱신 실패 시 로그만 남기고, 월간 합계 재집계 배치에서 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyAttendanceSummaryEventListener {
+
+    private final MonthlyAttendanceSummaryService monthlyAttendanceSummaryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDailyAttendanceChanged(DailyAttendanceChangedEvent event) {
+        event.getMemberIdsByMonth().forEach((month, memberIds) -> {
+            try {
+                monthlyAttendanceSummaryService.refreshInNewTransaction(month, memberIds);
+            } catch (Exception e) {
+                log.error("월간 근태 합계 갱신 실패: month={}, 대상={}명", month, memberIds.size(), e);
+            }
+        });
+    }
+}
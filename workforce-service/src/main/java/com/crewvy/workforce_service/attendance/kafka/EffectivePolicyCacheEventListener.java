@@ -0,0 +1,56 @@
+package com.crewvy.workforce_service.attendance.kafka;
+
+import com.crewvy.workforce_service.attendance.service.EffectivePolicyCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Member-Service의 직원/조직 변경 이벤트를 수신하여 유효 정책 캐시를 무효화하는 Kafka Listener
+ * - member-saved-events / member-deleted-events: 소속·직책이 바뀌었을 수 있으므로 해당 직원만 무효화
+ * - organization-saved-events / organization-deleted-events: 조직 계층이 바뀌었을 수 있으므로 전체 무효화
+ * - 모든 인스턴스가 각자 캐시를 비워야 하므로 인스턴스마다 고유한 consumer group 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EffectivePolicyCacheEventListener {
+
+    private final EffectivePolicyCache effectivePolicyCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {"member-saved-events", "member-deleted-events"},
+            groupId = "workforce-policy-cache-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "outboxEventKafkaListenerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleMemberChanged(String payload) {
+        try {
+            JsonNode memberId = objectMapper.readTree(payload).get("memberId");
+            if (memberId == null || memberId.isNull()) {
+                throw new IllegalArgumentException("memberId 없음");
+            }
+            effectivePolicyCache.invalidateMember(UUID.fromString(memberId.asText()));
+        } catch (Exception e) {
+            // 어떤 직원이 바뀌었는지 알 수 없으면 이전 소속 기준 정책이 남지 않도록 전체 무효화
+            log.error("직원 변경 이벤트 처리 실패, 유효 정책 캐시 전체 무효화: payload={}", payload, e);
+            effectivePolicyCache.invalidateAll();
+        }
+    }
+
+    @KafkaListener(
+            topics = {"organization-saved-events", "organization-deleted-events"},
+            groupId = "workforce-policy-cache-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "outboxEventKafkaListenerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleOrganizationChanged(String payload) {
+        effectivePolicyCache.invalidateAll();
+    }
+}
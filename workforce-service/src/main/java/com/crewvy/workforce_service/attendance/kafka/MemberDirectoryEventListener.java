@@ -0,0 +1,52 @@
+package com.crewvy.workforce_service.attendance.kafka;
+
+import com.crewvy.common.event.MemberDeletedEvent;
+import com.crewvy.common.event.MemberSavedEvent;
+import com.crewvy.workforce_service.attendance.service.MemberDirectoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member-Service의 직원 저장/삭제 이벤트를 수신하여 로컬 직원 디렉터리를 갱신하는 Kafka Listener
+ * - member-saved-events: 직원 생성/수정
+ * - member-deleted-events: 직원 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDirectoryEventListener {
+
+    private final MemberDirectoryService memberDirectoryService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "member-saved-events",
+            groupId = "workforce-member-directory-group",
+            containerFactory = "outboxEventKafkaListenerFactory"
+    )
+    public void handleMemberSaved(String payload) {
+        try {
+            MemberSavedEvent event = objectMapper.readValue(payload, MemberSavedEvent.class);
+            memberDirectoryService.upsert(event);
+        } catch (Exception e) {
+            log.error("직원 디렉터리 갱신 실패: payload={}", payload, e);
+        }
+    }
+
+    @KafkaListener(
+            topics = "member-deleted-events",
+            groupId = "workforce-member-directory-group",
+            containerFactory = "outboxEventKafkaListenerFactory"
+    )
+    public void handleMemberDeleted(String payload) {
+        try {
+            MemberDeletedEvent event = objectMapper.readValue(payload, MemberDeletedEvent.class);
+            memberDirectoryService.delete(event.getMemberId());
+        } catch (Exception e) {
+            log.error("직원 디렉터리 삭제 실패: payload={}", payload, e);
+        }
+    }
+}
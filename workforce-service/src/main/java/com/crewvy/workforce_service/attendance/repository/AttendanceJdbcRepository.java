@@ -0,0 +1,110 @@
+package com.crewvy.workforce_service.attendance.repository;
+
+import com.crewvy.workforce_service.attendance.constant.AttendanceStatus;
+import com.crewvy.workforce_service.attendance.entity.MonthlyAttendanceSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA로 처리하기 어려운 근태 대량 쓰기 (INSERT IGNORE 등) 전용 JDBC 저장소
+ * - UUID 컬럼은 Hibernate가 엔티티에 쓰는 것과 같은 JDBC 타입으로 바인딩
+ *   (ddl-auto가 DB 버전에 따라 uuid 또는 binary(16) 컬럼을 만들기 때문에 드라이버 기본 변환에 맡기지 않음)
+ */
+@Repository
+public class AttendanceJdbcRepository {
+
+    private static final String INSERT_ABSENT_SQL =
+            "INSERT IGNORE INTO daily_attendance " +
+            "(daily_attendance_id, member_id, company_id, attendance_date, attendance_status, " +
+            "daytime_overtime_minutes, night_work_minutes, holiday_work_minutes, total_go_out_minutes, " +
+            "is_late, late_minutes, is_early_leave, early_leave_minutes, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, 0, 0, 0, false, 0, false, 0, ?, ?)";
+
+    private static final String UPSERT_SUMMARY_SQL =
+            "INSERT INTO monthly_attendance_summary " +
+            "(monthly_attendance_summary_id, member_id, company_id, summary_month, recorded_days, absent_days, " +
+            "late_days, early_leave_days, worked_minutes, overtime_minutes, daytime_overtime_minutes, " +
+            "night_work_minutes, holiday_work_minutes, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "company_id = VALUES(company_id), recorded_days = VALUES(recorded_days), absent_days = VALUES(absent_days), " +
+            "late_days = VALUES(late_days), early_leave_days = VALUES(early_leave_days), " +
+            "worked_minutes = VALUES(worked_minutes), overtime_minutes = VALUES(overtime_minutes), " +
+            "daytime_overtime_minutes = VALUES(daytime_overtime_minutes), night_work_minutes = VALUES(night_work_minutes), " +
+            "holiday_work_minutes = VALUES(holiday_work_minutes), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ValueBinder<UUID> uuidBinder;
+    private final WrapperOptions wrapperOptions;
+
+    public AttendanceJdbcRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.uuidBinder = sessionFactory.getTypeConfiguration().getBasicTypeForJavaType(UUID.class).getJdbcValueBinder();
+        this.wrapperOptions = sessionFactory.getWrapperOptions();
+    }
+
+    /**
+     * 결근 DailyAttendance 일괄 생성
+     * - (member_id, attendance_date) 유니크 제약으로 이미 기록이 있는 직원은 건너뜀
+     */
+    public void insertAbsentIgnoringExisting(UUID companyId, LocalDate attendanceDate, List<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ABSENT_SQL, memberIds, memberIds.size(), (ps, memberId) -> {
+            bindUuid(ps, 1, UUID.randomUUID());
+            bindUuid(ps, 2, memberId);
+            bindUuid(ps, 3, companyId);
+            ps.setObject(4, attendanceDate);
+            ps.setString(5, AttendanceStatus.ABSENT.getCodeValue());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 월간 근태 합계 일괄 저장
+     * - (member_id, summary_month) 유니크 키 기준 upsert → 동시에 처음 만드는 경우에도 중복 키 오류 없음
+     */
+    public void upsertMonthlySummaries(LocalDate summaryMonth, List<MonthlyAttendanceSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SUMMARY_SQL, summaries, summaries.size(), (ps, summary) -> {
+            bindUuid(ps, 1, UUID.randomUUID());
+            bindUuid(ps, 2, summary.getMemberId());
+            bindUuid(ps, 3, summary.getCompanyId());
+            ps.setObject(4, summaryMonth);
+            ps.setInt(5, summary.getRecordedDays());
+            ps.setInt(6, summary.getAbsentDays());
+            ps.setInt(7, summary.getLateDays());
+            ps.setInt(8, summary.getEarlyLeaveDays());
+            ps.setLong(9, summary.getWorkedMinutes());
+            ps.setLong(10, summary.getOvertimeMinutes());
+            ps.setLong(11, summary.getDaytimeOvertimeMinutes());
+            ps.setLong(12, summary.getNightWorkMinutes());
+            ps.setLong(13, summary.getHolidayWorkMinutes());
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    private void bindUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        uuidBinder.bind(ps, value, index, wrapperOptions);
+    }
+}
@@ -2,8 +2,11 @@ package com.crewvy.workforce_service.attendance.repository;
 
 import com.crewvy.workforce_service.attendance.entity.CompanyHoliday;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface CompanyHolidayRepository extends JpaRepository<CompanyHoliday, UUID> {
@@ -12,4 +15,13 @@ public interface CompanyHolidayRepository extends JpaRepository<CompanyHoliday,
      * 특정 날짜가 회사 휴일인지 확인
      */
     boolean existsByCompanyIdAndHolidayDate(UUID companyId, LocalDate holidayDate);
+
+    /**
+     * 기간 내 회사 휴일 날짜 조회 (근무일 캘린더 적재용)
+     */
+    @Query("SELECT ch.holidayDate FROM CompanyHoliday ch " +
+           "WHERE ch.companyId = :companyId AND ch.holidayDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findHolidayDatesBetween(@Param("companyId") UUID companyId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
 }
@@ -1,5 +1,8 @@
 package com.crewvy.workforce_service.attendance.repository;
 
+import com.crewvy.workforce_service.attendance.constant.RequestStatus;
+import com.crewvy.workforce_service.attendance.dto.query.MonthlyAttendanceStats;
+import com.crewvy.workforce_service.attendance.dto.query.PayrollAttendanceStats;
 import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -78,4 +83,80 @@ public interface DailyAttendanceRepository extends JpaRepository<DailyAttendance
     int countMonthlyEarlyLeave(@Param("memberId") UUID memberId,
                                 @Param("startDate") LocalDate startDate,
                                 @Param("endDate") LocalDate endDate);
+
+    /**
+     * 급여 산정 기간 동안의 직원별 근태 합계 (급여 계산 청크 단위 조회)
+     * @param companyId 회사 ID
+     * @param memberIds 집계 대상 직원 ID 목록
+     * @return 직원별 근무일 수 / 연장 / 야간 / 휴일 근무 분 합계
+     */
+    @Query("SELECT da.memberId AS memberId, COUNT(da) AS workingDays, " +
+           "SUM(COALESCE(da.overtimeMinutes, 0)) AS overtimeMinutes, " +
+           "SUM(COALESCE(da.nightWorkMinutes, 0)) AS nightWorkMinutes, " +
+           "SUM(COALESCE(da.holidayWorkMinutes, 0)) AS holidayWorkMinutes " +
+           "FROM DailyAttendance da " +
+           "WHERE da.companyId = :companyId " +
+           "AND da.memberId IN :memberIds " +
+           "AND da.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY da.memberId")
+    List<PayrollAttendanceStats> aggregatePayrollAttendance(@Param("companyId") UUID companyId,
+                                                            @Param("memberIds") Collection<UUID> memberIds,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 직원별 월간 근태 합계 (MonthlyAttendanceSummary 갱신용)
+     * @param memberIds 집계 대상 직원 ID 목록
+     * @param startDate 해당 월 1일
+     * @param endDate 해당 월 말일
+     */
+    @Query("SELECT da.memberId AS memberId, da.companyId AS companyId, COUNT(da) AS recordedDays, " +
+           "SUM(CASE WHEN da.status = com.crewvy.workforce_service.attendance.constant.AttendanceStatus.ABSENT THEN 1 ELSE 0 END) AS absentDays, " +
+           "SUM(CASE WHEN da.isLate = true THEN 1 ELSE 0 END) AS lateDays, " +
+           "SUM(CASE WHEN da.isEarlyLeave = true THEN 1 ELSE 0 END) AS earlyLeaveDays, " +
+           "SUM(COALESCE(da.workedMinutes, 0)) AS workedMinutes, " +
+           "SUM(COALESCE(da.overtimeMinutes, 0)) AS overtimeMinutes, " +
+           "SUM(COALESCE(da.daytimeOvertimeMinutes, 0)) AS daytimeOvertimeMinutes, " +
+           "SUM(COALESCE(da.nightWorkMinutes, 0)) AS nightWorkMinutes, " +
+           "SUM(COALESCE(da.holidayWorkMinutes, 0)) AS holidayWorkMinutes " +
+           "FROM DailyAttendance da " +
+           "WHERE da.memberId IN :memberIds " +
+           "AND da.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY da.memberId, da.companyId")
+    List<MonthlyAttendanceStats> aggregateMonthlyAttendance(@Param("memberIds") Collection<UUID> memberIds,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 해당 기간에 근태 기록이 있는 직원 ID (월간 합계 재집계 대상)
+     */
+    @Query("SELECT DISTINCT da.memberId FROM DailyAttendance da " +
+           "WHERE da.attendanceDate BETWEEN :startDate AND :endDate")
+    List<UUID> findDistinctMemberIdsBetween(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    List<DailyAttendance> findByMemberIdAndCompanyIdAndAttendanceDateBetweenOrderByAttendanceDate(
+            UUID memberId, UUID companyId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 해당 날짜에 근태 기록 또는 승인된 휴가가 있는 직원 ID 조회 (결근 처리 배치의 제외 대상)
+     * @param memberIds 확인할 직원 ID 목록 (청크 단위)
+     * @param date 대상 날짜
+     * @param status 요청 상태 (APPROVED)
+     * @param start 대상 날짜 시작 시각
+     * @param end 대상 날짜 종료 시각
+     */
+    @Query("SELECT da.memberId FROM DailyAttendance da " +
+           "WHERE da.memberId IN :memberIds AND da.attendanceDate = :date " +
+           "UNION " +
+           "SELECT r.memberId FROM Request r " +
+           "WHERE r.memberId IN :memberIds " +
+           "AND r.status = :status " +
+           "AND r.policy IS NOT NULL " +
+           "AND r.endDateTime >= :start AND r.startDateTime <= :end")
+    List<UUID> findMemberIdsCoveredOn(@Param("memberIds") Collection<UUID> memberIds,
+                                      @Param("date") LocalDate date,
+                                      @Param("status") RequestStatus status,
+                                      @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end);
 }
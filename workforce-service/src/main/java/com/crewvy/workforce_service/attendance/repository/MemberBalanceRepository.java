@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface MemberBalanceRepository extends JpaRepository<MemberBalance, UUID> {
+public interface MemberBalanceRepository extends JpaRepository<MemberBalance, UUID>, MemberBalanceRepositoryCustom {
     /**
      * 연도별 전체 직원 잔여 일수 조회
      * @param year 조회 연도
@@ -53,8 +53,6 @@ public interface MemberBalanceRepository extends JpaRepository<MemberBalance, UU
      */
     List<MemberBalance> findAllByMemberIdAndYear(UUID memberId, Integer year);
 
-    List<MemberBalance> findAllByMemberIdInAndYear(List<UUID> memberIds, int year);
-
     List<MemberBalance> findByMemberIdInAndBalanceTypeCodeAndYear(List<UUID> memberIds, PolicyTypeCode balanceTypeCode, int year);
 
     /**
@@ -65,4 +63,15 @@ public interface MemberBalanceRepository extends JpaRepository<MemberBalance, UU
             PolicyTypeCode balanceTypeCode,
             Integer year
     );
+
+    /**
+     * 직원 디렉터리(로컬 읽기 모델)에 아직 없는 잔액 보유 직원 ID 조회 (누락분 동기화용)
+     */
+    @Query("SELECT DISTINCT mb.memberId FROM MemberBalance mb " +
+            "WHERE mb.companyId = :companyId " +
+            "AND mb.year = :year " +
+            "AND NOT EXISTS (SELECT 1 FROM MemberDirectory md WHERE md.memberId = mb.memberId)")
+    List<UUID> findMemberIdsMissingFromDirectory(
+            @Param("companyId") UUID companyId,
+            @Param("year") Integer year);
 }
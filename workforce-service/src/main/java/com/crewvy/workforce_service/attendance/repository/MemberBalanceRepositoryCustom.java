@@ -0,0 +1,10 @@
+package com.crewvy.workforce_service.attendance.repository;
+
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceRow;
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceSearchCondition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface MemberBalanceRepositoryCustom {
+    Page<LeaveBalanceRow> searchLeaveBalanceStatus(LeaveBalanceSearchCondition condition, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.crewvy.workforce_service.attendance.repository;
+
+import com.crewvy.workforce_service.attendance.entity.MemberDirectory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface MemberDirectoryRepository extends JpaRepository<MemberDirectory, UUID> {
+}
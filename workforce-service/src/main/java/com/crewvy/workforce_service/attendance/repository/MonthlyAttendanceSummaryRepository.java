@@ -0,0 +1,31 @@
+package com.crewvy.workforce_service.attendance.repository;
+
+import com.crewvy.workforce_service.attendance.entity.MonthlyAttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MonthlyAttendanceSummaryRepository extends JpaRepository<MonthlyAttendanceSummary, UUID> {
+
+    List<MonthlyAttendanceSummary> findAllByMemberIdInAndSummaryMonth(Collection<UUID> memberIds, LocalDate summaryMonth);
+
+    /**
+     * 해당 월에 합계가 있는 직원 ID (재집계 시 근태 기록이 사라진 합계 정리용)
+     */
+    @Query("SELECT s.memberId FROM MonthlyAttendanceSummary s WHERE s.summaryMonth = :summaryMonth")
+    List<UUID> findMemberIdsBySummaryMonth(@Param("summaryMonth") LocalDate summaryMonth);
+
+    /**
+     * 근태 기록이 없어진 직원의 합계 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyAttendanceSummary s WHERE s.memberId IN :memberIds AND s.summaryMonth = :summaryMonth")
+    int deleteByMemberIdInAndSummaryMonth(@Param("memberIds") Collection<UUID> memberIds,
+                                          @Param("summaryMonth") LocalDate summaryMonth);
+}
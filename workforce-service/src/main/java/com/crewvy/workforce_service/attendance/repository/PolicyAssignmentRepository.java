@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +22,12 @@ public interface PolicyAssignmentRepository extends JpaRepository<PolicyAssignme
     @Query("SELECT pa FROM PolicyAssignment pa WHERE pa.targetId IN :targetIds AND pa.policy.companyId = :companyId AND pa.isActive = true AND pa.policy.effectiveFrom <= :currentDate AND (pa.policy.effectiveTo IS NULL OR pa.policy.effectiveTo >= :currentDate)")
     List<PolicyAssignment> findActiveAssignmentsByTargets(@Param("targetIds") List<UUID> targetIds, @Param("companyId") UUID companyId, @Param("currentDate") LocalDate currentDate);
 
+    /**
+     * findActiveAssignmentsByTargets와 같은 조건, Policy를 즉시 로딩 (유효 정책 캐시 적재용)
+     */
+    @Query("SELECT pa FROM PolicyAssignment pa JOIN FETCH pa.policy p WHERE pa.targetId IN :targetIds AND p.companyId = :companyId AND pa.isActive = true AND p.effectiveFrom <= :currentDate AND (p.effectiveTo IS NULL OR p.effectiveTo >= :currentDate)")
+    List<PolicyAssignment> findActiveAssignmentsWithPolicyByTargets(@Param("targetIds") Collection<UUID> targetIds, @Param("companyId") UUID companyId, @Param("currentDate") LocalDate currentDate);
+
     Page<PolicyAssignment> findAllByPolicy_CompanyId(UUID companyId, Pageable pageable);
 
     List<PolicyAssignment> findByTargetIdIn(List<UUID> targetIds);
@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -218,19 +219,18 @@ public interface RequestRepository extends JpaRepository<Request, UUID> {
 
     /**
      * 승인된 Request 조회 (여러 memberId, 날짜 범위)
-     * 근태 현황 화면에서 사용
+     * 근태 현황 화면에서 사용, 셀마다 정책 유형을 읽으므로 Policy를 즉시 로딩
      */
-    @Query(value = "SELECT * FROM request r " +
-           "WHERE r.member_id IN :memberIds " +
-           "AND r.status = 'RS002' " +
-           "AND r.policy_id IS NOT NULL " +
-           "AND r.start_date_time < :endDateTime " +
-           "AND r.end_date_time >= :startDateTime",
-           nativeQuery = true)
+    @Query("SELECT r FROM Request r JOIN FETCH r.policy " +
+           "WHERE r.memberId IN :memberIds " +
+           "AND r.status = :status " +
+           "AND r.startDateTime < :endDateTime " +
+           "AND r.endDateTime >= :startDateTime")
     List<Request> findApprovedRequestsByMemberIdsAndDateRange(
-            @Param("memberIds") List<UUID> memberIds,
+            @Param("memberIds") Collection<UUID> memberIds,
             @Param("startDateTime") LocalDateTime startDateTime,
-            @Param("endDateTime") LocalDateTime endDateTime);
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("status") RequestStatus status);
 
     Optional<Request> findByApprovalId(UUID id);
 
@@ -255,4 +255,25 @@ public interface RequestRepository extends JpaRepository<Request, UUID> {
             @Param("targetDateEnd") LocalDateTime targetDateEnd,
             @Param("policyTypeCode") PolicyTypeCode policyTypeCode
     );
+
+    /**
+     * 특정 날짜에 걸쳐 있는 승인된 Request 전체 조회 (출퇴근 시 휴가/출장 판별을 한 번에 처리)
+     *
+     * @param memberId 사용자 ID
+     * @param targetDate 확인할 날짜 (시작)
+     * @param targetDateEnd 확인할 날짜 (종료)
+     * @param status 상태 (APPROVED)
+     * @return 정책이 함께 로딩된 승인 Request 목록
+     */
+    @Query("SELECT r FROM Request r JOIN FETCH r.policy " +
+           "WHERE r.memberId = :memberId " +
+           "AND r.status = :status " +
+           "AND r.startDateTime <= :targetDateEnd " +
+           "AND r.endDateTime >= :targetDate")
+    List<Request> findRequestsOnDate(
+            @Param("memberId") UUID memberId,
+            @Param("targetDate") LocalDateTime targetDate,
+            @Param("targetDateEnd") LocalDateTime targetDateEnd,
+            @Param("status") RequestStatus status
+    );
 }
@@ -0,0 +1,144 @@
+package com.crewvy.workforce_service.attendance.repository.impl;
+
+import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceRow;
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceSearchCondition;
+import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepositoryCustom;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crewvy.workforce_service.attendance.entity.QMemberBalance.memberBalance;
+import static com.crewvy.workforce_service.attendance.entity.QMemberDirectory.memberDirectory;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberBalanceRepositoryCustomImpl implements MemberBalanceRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<LeaveBalanceRow> searchLeaveBalanceStatus(LeaveBalanceSearchCondition condition, Pageable pageable) {
+        BooleanBuilder where = buildCondition(condition);
+
+        List<LeaveBalanceRow> content = queryFactory
+                .select(Projections.constructor(LeaveBalanceRow.class,
+                        memberBalance.id,
+                        memberBalance.memberId,
+                        memberDirectory.memberName,
+                        memberDirectory.organizationName,
+                        memberDirectory.titleName,
+                        memberDirectory.joinDate,
+                        memberBalance.year,
+                        memberBalance.balanceTypeCode,
+                        memberBalance.totalGranted,
+                        memberBalance.totalUsed,
+                        memberBalance.remaining,
+                        memberBalance.isPaid,
+                        memberBalance.isUsable))
+                .from(memberBalance)
+                .leftJoin(memberDirectory).on(memberDirectory.memberId.eq(memberBalance.memberId))
+                .where(where)
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(memberBalance.count())
+                .from(memberBalance)
+                .leftJoin(memberDirectory).on(memberDirectory.memberId.eq(memberBalance.memberId))
+                .where(where)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    private BooleanBuilder buildCondition(LeaveBalanceSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(memberBalance.companyId.eq(condition.getCompanyId()));
+        builder.and(memberBalance.year.eq(condition.getYear()));
+
+        if (condition.getMemberIds() != null) {
+            builder.and(memberBalance.memberId.in(condition.getMemberIds()));
+        }
+
+        // 검색어 필터 (이름 또는 부서)
+        String searchQuery = condition.getSearchQuery();
+        if (searchQuery != null && !searchQuery.trim().isEmpty()) {
+            builder.and(memberDirectory.memberName.contains(searchQuery)
+                    .or(memberDirectory.organizationName.contains(searchQuery)));
+        }
+
+        // 정책 유형 필터
+        String policyTypeCode = condition.getPolicyTypeCode();
+        if (policyTypeCode != null && !policyTypeCode.trim().isEmpty()) {
+            builder.and(memberBalance.balanceTypeCode.eq(PolicyTypeCode.fromCode(policyTypeCode)));
+        }
+
+        builder.and(yearsOfServiceCondition(condition.getYearsOfService(), condition.getReferenceDate()));
+        return builder;
+    }
+
+    /**
+     * 근속년수 필터 (입사일이 없는 직원은 필터 대상에서 제외하지 않음)
+     * Period.between(joinDate, today).getYears() >= N  ⇔  joinDate <= today - N년
+     */
+    private BooleanExpression yearsOfServiceCondition(String yearsOfService, LocalDate referenceDate) {
+        if (yearsOfService == null || yearsOfService.trim().isEmpty()) {
+            return null;
+        }
+
+        if (yearsOfService.equals("<1")) {
+            return memberDirectory.joinDate.isNull()
+                    .or(memberDirectory.joinDate.after(referenceDate.minusYears(1)));
+        }
+        if (yearsOfService.startsWith(">=")) {
+            int minYears = Integer.parseInt(yearsOfService.substring(2));
+            return memberDirectory.joinDate.isNull()
+                    .or(memberDirectory.joinDate.loe(referenceDate.minusYears(minYears)));
+        }
+        return null;
+    }
+
+    /**
+     * Pageable 정렬을 허용된 컬럼으로만 변환하고, 결정적 순서를 위해 balanceId를 마지막 정렬 키로 추가
+     */
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = switch (order.getProperty()) {
+                case "memberName" -> memberDirectory.memberName;
+                case "organizationName" -> memberDirectory.organizationName;
+                case "joinDate" -> memberDirectory.joinDate;
+                case "totalGranted" -> memberBalance.totalGranted;
+                case "totalUsed" -> memberBalance.totalUsed;
+                case "remainingBalance" -> memberBalance.remaining;
+                default -> null;
+            };
+            if (path != null) {
+                orders.add(order.isAscending() ? path.asc() : path.desc());
+            }
+        }
+
+        if (orders.isEmpty()) {
+            orders.add(memberDirectory.memberName.asc());
+        }
+        orders.add(memberBalance.id.asc());
+        return orders.toArray(new OrderSpecifier<?>[0]);
+    }
+}
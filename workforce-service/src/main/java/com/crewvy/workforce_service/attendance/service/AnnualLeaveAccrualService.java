@@ -1,11 +1,9 @@
 package com.crewvy.workforce_service.attendance.service;
 
-import com.crewvy.workforce_service.attendance.constant.AttendanceStatus;
 import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
-import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import com.crewvy.workforce_service.attendance.entity.MemberBalance;
+import com.crewvy.workforce_service.attendance.entity.MonthlyAttendanceSummary;
 import com.crewvy.workforce_service.attendance.entity.Policy;
-import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
 import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepository;
 import com.crewvy.workforce_service.attendance.repository.PolicyRepository;
 import com.crewvy.workforce_service.feignClient.MemberClient;
@@ -17,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -33,7 +32,7 @@ public class AnnualLeaveAccrualService {
     private final MemberBalanceRepository memberBalanceRepository;
     private final MemberClient memberClient;
     private final PolicyRepository policyRepository;
-    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final MonthlyAttendanceSummaryService monthlyAttendanceSummaryService;
 
     // 배치 처리 청크 크기 (성능 최적화: 100명씩 나눠서 처리)
     private static final int BATCH_CHUNK_SIZE = 100;
@@ -913,40 +912,53 @@ public class AnnualLeaveAccrualService {
      * @return 전월 근속비율 (0.0 ~ 100.0)
      */
     public double calculatePreviousMonthAttendanceRate(UUID memberId, LocalDate referenceDate) {
-        // 전월의 첫날과 마지막날 계산
-        LocalDate previousMonthStart = referenceDate.minusMonths(1).withDayOfMonth(1);
-        LocalDate previousMonthEnd = previousMonthStart.plusMonths(1).minusDays(1);
+        YearMonth previousMonth = YearMonth.from(referenceDate).minusMonths(1);
 
-        // 전월의 DailyAttendance 조회
-        List<DailyAttendance> attendances = dailyAttendanceRepository
-                .findByMemberIdAndAttendanceDateBetween(memberId, previousMonthStart, previousMonthEnd);
+        // 전월 월간 근태 합계 (총 근무일수 = DailyAttendance가 존재하는 날의 수, 휴일근무 포함)
+        MonthlyAttendanceSummary summary = monthlyAttendanceSummaryService
+                .getSummaries(List.of(memberId), previousMonth)
+                .get(memberId);
 
-        // 총 근무일수 = DailyAttendance가 존재하는 날의 수 (휴일근무 포함)
-        long totalWorkDays = attendances.size();
-
-        if (totalWorkDays == 0) {
+        if (summary == null || summary.getRecordedDays() == 0) {
             return 0.0;
         }
 
-        // 정상 출근일수 계산 (NORMAL_WORK, BUSINESS_TRIP, 휴가 등 모두 포함)
-        long actualAttendanceDays = attendances.stream()
-                .filter(attendance -> {
-                    AttendanceStatus status = attendance.getStatus();
-                    // 결근이 아닌 모든 상태를 출근으로 인정
-                    return status != AttendanceStatus.ABSENT;
-                })
-                .count();
-
-        // 근속비율 계산 (%)
-        double attendanceRate = (double) actualAttendanceDays / totalWorkDays * 100.0;
+        // 결근이 아닌 모든 상태를 출근으로 인정 (NORMAL_WORK, BUSINESS_TRIP, 휴가 등)
+        double attendanceRate = (double) summary.getAttendedDays() / summary.getRecordedDays() * 100.0;
 
-        log.debug("근속비율 계산: memberId={}, 전월={}-{}, 총근무일={}일, 실출근={}일, 비율={}%",
-                memberId, previousMonthStart, previousMonthEnd, totalWorkDays, actualAttendanceDays,
+        log.debug("근속비율 계산: memberId={}, 전월={}, 총근무일={}일, 실출근={}일, 비율={}%",
+                memberId, previousMonth, summary.getRecordedDays(), summary.getAttendedDays(),
                 String.format("%.2f", attendanceRate));
 
         return attendanceRate;
     }
 
+    /**
+     * 여러 직원의 전월 근속비율 일괄 계산 (월간 근태 합계 조회 1회)
+     * @param memberIds 직원 ID 목록
+     * @param referenceDate 기준 날짜 (보통 현재 날짜)
+     * @return memberId → 전월 근속비율 (0.0 ~ 100.0), 근태 기록이 없는 직원은 0.0
+     */
+    public Map<UUID, Double> calculatePreviousMonthAttendanceRates(Collection<UUID> memberIds, LocalDate referenceDate) {
+        Map<UUID, Double> rates = new HashMap<>();
+        if (memberIds == null || memberIds.isEmpty()) {
+            return rates;
+        }
+
+        YearMonth previousMonth = YearMonth.from(referenceDate).minusMonths(1);
+
+        for (MonthlyAttendanceSummary summary : monthlyAttendanceSummaryService
+                .getSummaries(memberIds, previousMonth).values()) {
+            int totalDays = summary.getRecordedDays();
+            rates.put(summary.getMemberId(), totalDays == 0 ? 0.0 : (double) summary.getAttendedDays() / totalDays * 100.0);
+        }
+
+        for (UUID memberId : memberIds) {
+            rates.putIfAbsent(memberId, 0.0);
+        }
+        return rates;
+    }
+
     /**
      * 회사 전체 직원에게 초기 연차 부여 (정책 할당 시 호출)
      * 모든 재직 중인 직원에 대해 즉시 연차 발생 처리
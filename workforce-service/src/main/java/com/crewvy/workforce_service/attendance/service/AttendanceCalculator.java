@@ -5,12 +5,11 @@ import com.crewvy.workforce_service.attendance.dto.rule.BreakRuleDto;
 import com.crewvy.workforce_service.attendance.dto.rule.WorkTimeRuleDto;
 import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import com.crewvy.workforce_service.attendance.entity.Policy;
-import com.crewvy.workforce_service.attendance.repository.CompanyHolidayRepository;
+import com.crewvy.workforce_service.salary.service.WorkingDayCalendar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,7 +26,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AttendanceCalculator {
 
-    private final CompanyHolidayRepository companyHolidayRepository;
+    private final WorkingDayCalendar workingDayCalendar;
 
     /**
      * 반차/시차에 따른 요구 근무시간 계산
@@ -201,12 +200,11 @@ public class AttendanceCalculator {
      */
     public boolean isHoliday(UUID companyId, LocalDate date) {
         // 주말 체크
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+        if (workingDayCalendar.isWeekend(date)) {
             return true;
         }
 
         // 회사 휴일 체크
-        return companyHolidayRepository.existsByCompanyIdAndHolidayDate(companyId, date);
+        return workingDayCalendar.isCompanyHoliday(companyId, date);
     }
 }
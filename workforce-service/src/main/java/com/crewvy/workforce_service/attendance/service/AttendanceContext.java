@@ -0,0 +1,43 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
+import com.crewvy.workforce_service.attendance.entity.Policy;
+import com.crewvy.workforce_service.attendance.entity.Request;
+import com.crewvy.workforce_service.attendance.entity.WorkLocation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 출퇴근 요청 1건을 처리하는 동안 쓰는 입력 묶음 (AttendanceContextLoader가 한 번씩만 로딩)
+ */
+@Getter
+@Builder
+public class AttendanceContext {
+
+    private final UUID memberId;
+    private final UUID memberPositionId;
+    private final UUID companyId;
+    private final LocalDate today;
+
+    // 기본근무 정책 (할당되지 않았으면 null)
+    private final Policy standardWorkPolicy;
+
+    // 오늘 승인된 출장 (없으면 null, 정책 함께 로딩됨)
+    private final Request activeTrip;
+
+    // 오늘 출근을 막는 종일 휴가/휴직 승인 여부
+    private final boolean fullDayLeave;
+
+    // 오늘 근태 (반차/시차 승인으로 미리 생성되었거나 이미 출근한 경우, 없으면 null)
+    private final DailyAttendance todayAttendance;
+
+    // 기본근무 정책 인증 규칙의 허용 근무지 (출장 중이거나 규칙이 없으면 빈 목록)
+    private final List<WorkLocation> allowedWorkLocations;
+
+    // 이번 달 오늘 이전까지의 지각 횟수 (출근) 또는 조퇴 횟수 (퇴근)
+    private final int monthlyCountBeforeToday;
+}
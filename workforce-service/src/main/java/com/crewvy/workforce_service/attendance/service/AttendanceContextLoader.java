@@ -0,0 +1,104 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.constant.EventType;
+import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
+import com.crewvy.workforce_service.attendance.constant.RequestStatus;
+import com.crewvy.workforce_service.attendance.constant.RequestUnit;
+import com.crewvy.workforce_service.attendance.dto.rule.AuthRuleDto;
+import com.crewvy.workforce_service.attendance.entity.Policy;
+import com.crewvy.workforce_service.attendance.entity.Request;
+import com.crewvy.workforce_service.attendance.entity.WorkLocation;
+import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
+import com.crewvy.workforce_service.attendance.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 출퇴근 요청에 필요한 입력을 요청당 한 번씩만 로딩
+ * - 기본근무 정책: EffectivePolicyCache (출근 피크에 Feign + 할당 조회가 직책당 한 번으로 줄어듦)
+ * - 오늘 근태 / 오늘 승인된 휴가·출장: 요청마다 조회 (바로 바뀌는 상태이므로 캐시하지 않음), 휴가와 출장은 한 번의 조회로 판별
+ * - 허용 근무지: WorkLocationCache
+ * - 이번 달 지각/조퇴 횟수: 오늘 이전 분만 조회하고 오늘 건은 처리 결과로 더함
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceContextLoader {
+
+    // 출근을 막는 종일 휴가/휴직 (BUSINESS_TRIP은 근무로 간주하므로 제외)
+    private static final Set<PolicyTypeCode> FULL_DAY_BLOCKING_TYPES = Set.of(
+            PolicyTypeCode.ANNUAL_LEAVE,
+            PolicyTypeCode.MATERNITY_LEAVE,
+            PolicyTypeCode.PATERNITY_LEAVE,
+            PolicyTypeCode.CHILDCARE_LEAVE,
+            PolicyTypeCode.FAMILY_CARE_LEAVE,
+            PolicyTypeCode.MENSTRUAL_LEAVE
+    );
+
+    private final PolicyAssignmentService policyAssignmentService;
+    private final RequestRepository requestRepository;
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final WorkLocationCache workLocationCache;
+
+    public AttendanceContext load(UUID memberId, UUID memberPositionId, UUID companyId, EventType eventType) {
+        LocalDate today = LocalDate.now();
+
+        Policy standardWorkPolicy = policyAssignmentService.findEffectivePolicyForMemberByType(
+                memberId, memberPositionId, companyId, PolicyTypeCode.STANDARD_WORK);
+
+        List<Request> todaysRequests = requestRepository.findRequestsOnDate(
+                memberId, today.atStartOfDay(), today.atTime(23, 59, 59), RequestStatus.APPROVED);
+        Request activeTrip = todaysRequests.stream()
+                .filter(request -> request.getPolicy().getPolicyTypeCode() == PolicyTypeCode.BUSINESS_TRIP)
+                .findFirst()
+                .orElse(null);
+        boolean fullDayLeave = todaysRequests.stream()
+                .anyMatch(request -> request.getRequestUnit() == RequestUnit.DAY
+                        && FULL_DAY_BLOCKING_TYPES.contains(request.getPolicy().getPolicyTypeCode()));
+
+        List<WorkLocation> allowedWorkLocations = activeTrip == null
+                ? allowedWorkLocationsOf(standardWorkPolicy)
+                : List.of();
+
+        return AttendanceContext.builder()
+                .memberId(memberId)
+                .memberPositionId(memberPositionId)
+                .companyId(companyId)
+                .today(today)
+                .standardWorkPolicy(standardWorkPolicy)
+                .activeTrip(activeTrip)
+                .fullDayLeave(fullDayLeave)
+                .todayAttendance(dailyAttendanceRepository.findByMemberIdAndAttendanceDate(memberId, today).orElse(null))
+                .allowedWorkLocations(allowedWorkLocations)
+                .monthlyCountBeforeToday(countBeforeToday(memberId, today, eventType))
+                .build();
+    }
+
+    private List<WorkLocation> allowedWorkLocationsOf(Policy standardWorkPolicy) {
+        if (standardWorkPolicy == null || standardWorkPolicy.getRuleDetails() == null) {
+            return List.of();
+        }
+        AuthRuleDto authRule = standardWorkPolicy.getRuleDetails().getAuthRule();
+        if (authRule == null || authRule.getAllowedWorkLocationIds() == null || authRule.getAllowedWorkLocationIds().isEmpty()) {
+            return List.of();
+        }
+        return workLocationCache.findAllById(authRule.getAllowedWorkLocationIds());
+    }
+
+    private int countBeforeToday(UUID memberId, LocalDate today, EventType eventType) {
+        if (today.getDayOfMonth() == 1) {
+            return 0;
+        }
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate yesterday = today.minusDays(1);
+        return switch (eventType) {
+            case CLOCK_IN -> dailyAttendanceRepository.countMonthlyLateness(memberId, monthStart, yesterday);
+            case CLOCK_OUT -> dailyAttendanceRepository.countMonthlyEarlyLeave(memberId, monthStart, yesterday);
+            default -> 0;
+        };
+    }
+}
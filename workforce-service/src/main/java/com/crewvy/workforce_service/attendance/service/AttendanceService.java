@@ -2,25 +2,30 @@ package com.crewvy.workforce_service.attendance.service;
 
 import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.common.exception.*;
+import com.crewvy.workforce_service.aop.PermissionCache;
 import com.crewvy.workforce_service.attendance.constant.*;
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceRow;
+import com.crewvy.workforce_service.attendance.dto.query.LeaveBalanceSearchCondition;
+import com.crewvy.workforce_service.attendance.dto.query.PayrollAttendanceStats;
 import com.crewvy.workforce_service.attendance.dto.request.EventRequest;
 import com.crewvy.workforce_service.attendance.dto.request.UpdateDailyAttendanceReq;
 import com.crewvy.workforce_service.attendance.dto.request.UpdateMemberBalanceRequest;
 import com.crewvy.workforce_service.attendance.dto.response.*;
 import com.crewvy.workforce_service.attendance.dto.rule.*;
 import com.crewvy.workforce_service.attendance.entity.*;
+import com.crewvy.workforce_service.attendance.event.DailyAttendanceChangedEvent;
 import com.crewvy.workforce_service.attendance.repository.*;
 import com.crewvy.workforce_service.attendance.util.DistanceCalculator;
 import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.OrganizationTreeCache;
+import com.crewvy.workforce_service.feignClient.OrganizationTreeIndex;
 import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
-import com.crewvy.workforce_service.feignClient.dto.response.MemberDto;
-import com.crewvy.workforce_service.feignClient.dto.response.MemberEmploymentInfoDto;
 import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
-import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
 import com.crewvy.workforce_service.salary.entity.Holidays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -29,7 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Period;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -43,18 +48,22 @@ public class AttendanceService {
     private final DailyAttendanceRepository dailyAttendanceRepository;
     private final RequestRepository requestRepository;
     private final PolicyRepository policyRepository;
-    private final PolicyAssignmentRepository policyAssignmentRepository;
     private final MemberClient memberClient;
+    private final OrganizationTreeCache organizationTreeCache;
+    private final PermissionCache permissionCache;
     private final PolicyAssignmentService policyAssignmentService;
     private final MemberBalanceRepository memberBalanceRepository;
     private final WorkLocationRepository workLocationRepository;
-    private final CompanyHolidayRepository companyHolidayRepository;
     private final com.crewvy.workforce_service.salary.repository.HolidayRepository holidayRepository;
 
     // 분리된 서비스들
     private final AttendanceValidator attendanceValidator;
     private final AttendanceCalculator attendanceCalculator;
     private final AnnualLeaveAccrualService annualLeaveAccrualService;
+    private final MonthlyAttendanceSummaryService monthlyAttendanceSummaryService;
+    private final AttendanceContextLoader attendanceContextLoader;
+    private final TeamAttendanceGridEngine teamAttendanceGridEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 로컬 개발 환경 설정
     @Value("${attendance.dev-mode.enabled:false}")
@@ -66,19 +75,23 @@ public class AttendanceService {
     public ApiResponse<?> recordEvent(UUID memberId, UUID memberPositionId, UUID companyId, UUID organizationId, EventRequest request, String clientIp) {
 //        checkPermissionOrThrow(memberPositionId, "attendance", "CREATE", "INDIVIDUAL", "근태를 기록할 권한이 없습니다.");
 
-        // 인증/검증이 필요한 이벤트 그룹
-        List<EventType> validationRequiredEvents = List.of(EventType.CLOCK_IN, EventType.CLOCK_OUT);
-
-        if (validationRequiredEvents.contains(request.getEventType())) {
-            validate(memberId, memberPositionId, companyId, request.getDeviceType(), request.getLatitude(), request.getLongitude(), clientIp, request.getWifiSsid());
+        // 출근/퇴근만 지원 (인증/검증 대상)
+        if (request.getEventType() != EventType.CLOCK_IN && request.getEventType() != EventType.CLOCK_OUT) {
+            throw new BusinessException("지원하지 않는 이벤트 타입입니다. 출근/퇴근만 지원됩니다.");
         }
 
+        // 정책/오늘 근태/오늘 휴가·출장/근무지/이번 달 횟수를 한 번씩만 로딩
+        AttendanceContext context = attendanceContextLoader.load(memberId, memberPositionId, companyId, request.getEventType());
+        validate(context, request.getDeviceType(), request.getLatitude(), request.getLongitude(), clientIp, request.getWifiSsid());
+
         switch (request.getEventType()) {
             case CLOCK_IN:
-                ClockInResponse clockInResponse = clockIn(memberId, memberPositionId, companyId, request);
+                ClockInResponse clockInResponse = clockIn(context, request);
+                eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(List.of(memberId), context.getToday()));
                 return ApiResponse.success(clockInResponse, "출근 등록 완료.");
             case CLOCK_OUT:
-                ClockOutResponse clockOutResponse = clockOut(memberId, memberPositionId, companyId, request);
+                ClockOutResponse clockOutResponse = clockOut(context, request);
+                eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(List.of(memberId), context.getToday()));
                 return ApiResponse.success(clockOutResponse, "퇴근 등록 완료.");
             default:
                 throw new BusinessException("지원하지 않는 이벤트 타입입니다. 출근/퇴근만 지원됩니다.");
@@ -86,8 +99,7 @@ public class AttendanceService {
     }
 
     private void checkPermissionOrThrow(UUID memberPositionId, String resource, String action, String range, String errorMessage) {
-        ApiResponse<Boolean> response = memberClient.checkPermission(memberPositionId, resource, action, range);
-        if (response == null || !Boolean.TRUE.equals(response.getData())) {
+        if (!permissionCache.hasPermission(memberPositionId, resource, action, range)) {
             throw new PermissionDeniedException(errorMessage);
         }
     }
@@ -97,48 +109,29 @@ public class AttendanceService {
      */
     private boolean hasPermission(UUID memberPositionId, String resource, String action, String range) {
         try {
-            ApiResponse<Boolean> response = memberClient.checkPermission(memberPositionId, resource, action, range);
-            return response != null && Boolean.TRUE.equals(response.getData());
+            return permissionCache.hasPermission(memberPositionId, resource, action, range);
         } catch (Exception e) {
             log.debug("Permission check failed for {}/{}/{}: {}", resource, action, range, e.getMessage());
             return false;
         }
     }
 
-    private ClockInResponse clockIn(UUID memberId, UUID memberPositionId, UUID companyId, EventRequest request) {
-        LocalDate today = LocalDate.now();
+    private ClockInResponse clockIn(AttendanceContext context, EventRequest request) {
+        UUID memberId = context.getMemberId();
+        LocalDate today = context.getToday();
         LocalDateTime clockInTime = LocalDateTime.now();
 
         // 1. 오늘 승인된 휴가/휴직이 있는지 확인 (종일 휴가만 차단, 반차/시차는 허용)
         // BUSINESS_TRIP은 제외 (출장은 근무로 간주)
-        java.util.List<PolicyTypeCode> fullDayBlockingTypes = java.util.List.of(
-                PolicyTypeCode.ANNUAL_LEAVE,
-                PolicyTypeCode.MATERNITY_LEAVE,
-                PolicyTypeCode.PATERNITY_LEAVE,
-                PolicyTypeCode.CHILDCARE_LEAVE,
-                PolicyTypeCode.FAMILY_CARE_LEAVE,
-                PolicyTypeCode.MENSTRUAL_LEAVE
-        );
-        boolean hasFullDayLeave = requestRepository.hasApprovedFullDayLeaveOnDate(
-                memberId,
-                today.atStartOfDay(),
-                today.atTime(23, 59, 59),
-                RequestStatus.APPROVED,
-                fullDayBlockingTypes
-        );
-
-        if (hasFullDayLeave) {
+        if (context.isFullDayLeave()) {
             throw new BusinessException("오늘은 휴가/휴직으로 승인된 날짜입니다. 출근할 수 없습니다.");
         }
 
-        // 2. 기존 DailyAttendance 조회 (반차/시차 승인되어 있을 수 있음)
-        DailyAttendance existingAttendance = dailyAttendanceRepository
-                .findByMemberIdAndAttendanceDate(memberId, today)
-                .orElse(null);
+        // 2. 기존 DailyAttendance (반차/시차 승인되어 있을 수 있음)
+        DailyAttendance existingAttendance = context.getTodayAttendance();
 
-        // 3. 기본근무 정책 조회 (WorkTimeRule, LatenessRule 포함)
-        Policy standardWorkPolicy = policyAssignmentService.findEffectivePolicyForMemberByType(
-                memberId, memberPositionId, companyId, PolicyTypeCode.STANDARD_WORK);
+        // 3. 기본근무 정책 (WorkTimeRule, LatenessRule 포함)
+        Policy standardWorkPolicy = context.getStandardWorkPolicy();
 
         // 정책이 할당되지 않은 경우 출근 불가
         if (standardWorkPolicy == null) {
@@ -184,7 +177,7 @@ public class AttendanceService {
             attendanceValidator.validateWorkingHoursLimit(today, standardWorkPolicy, clockInTime, null);
 
             try {
-                dailyAttendance = createDailyAttendance(memberId, companyId, today, clockInTime);
+                dailyAttendance = createDailyAttendance(memberId, context.getCompanyId(), today, clockInTime);
             } catch (DataIntegrityViolationException e) {
                 throw new DuplicateResourceException("이미 출근 처리되었습니다.");
             }
@@ -195,10 +188,8 @@ public class AttendanceService {
 
         AttendanceLog newLog = createAttendanceLog(memberId, clockInTime, EventType.CLOCK_IN, request.getLatitude(), request.getLongitude());
 
-        // 월별 지각 횟수 조회
-        LocalDate monthStart = today.withDayOfMonth(1);
-        LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
-        int monthlyLatenessCount = dailyAttendanceRepository.countMonthlyLateness(memberId, monthStart, monthEnd);
+        // 월별 지각 횟수 (오늘 이전 + 오늘)
+        int monthlyLatenessCount = context.getMonthlyCountBeforeToday() + (isPositive(dailyAttendance.getLateMinutes()) ? 1 : 0);
 
         // 월별 허용 횟수
         Integer monthlyAllowedCount = null;
@@ -217,15 +208,17 @@ public class AttendanceService {
                 .build();
     }
 
-    private ClockOutResponse clockOut(UUID memberId, UUID memberPositionId, UUID companyId, EventRequest request) {
-        LocalDate today = LocalDate.now();
-        DailyAttendance dailyAttendance = getTodaysAttendanceOrThrow(memberId, today);
+    private ClockOutResponse clockOut(AttendanceContext context, EventRequest request) {
+        UUID memberId = context.getMemberId();
+        LocalDate today = context.getToday();
+        DailyAttendance dailyAttendance = context.getTodayAttendance();
+        if (dailyAttendance == null) {
+            throw new ResourceNotFoundException("해당 날짜의 출근 기록이 없습니다.");
+        }
 
-        EventType lastEvent = getLastEventTypeToday(memberId);
-        // validateStateTransition(lastEvent, EventType.CLOCK_OUT); // 퇴근은 여러 번 가능하므로 상태 전환 검증 제거
+        // 퇴근은 여러 번 가능하므로 상태 전환 검증 없음
 
-        Policy standardWorkPolicy = policyAssignmentService.findEffectivePolicyForMemberByType(
-                memberId, memberPositionId, companyId, PolicyTypeCode.STANDARD_WORK);
+        Policy standardWorkPolicy = context.getStandardWorkPolicy();
 
         // 퇴근 중복 허용 (항상 허용 - 마지막 퇴근 시간이 최종 기록됨)
 
@@ -250,7 +243,7 @@ public class AttendanceService {
         Integer requiredWorkMinutes = attendanceCalculator.calculateRequiredWorkMinutes(dailyAttendance, standardWorkMinutes);
 
         // 휴일 여부 확인 (주말 또는 CompanyHoliday)
-        boolean isHoliday = attendanceCalculator.isHoliday(companyId, today);
+        boolean isHoliday = attendanceCalculator.isHoliday(context.getCompanyId(), today);
 
         // AUTO 모드일 경우 자동으로 휴게 시간 계산
         attendanceCalculator.autoCalculateBreakTime(dailyAttendance, standardWorkPolicy, clockOutTime);
@@ -264,10 +257,8 @@ public class AttendanceService {
         // 법정 최소 휴게 시간 검증 (근로기준법 제54조)
         attendanceValidator.validateMandatoryBreakTime(dailyAttendance, standardWorkPolicy);
 
-        // 월별 조퇴 횟수 조회
-        LocalDate monthStart = today.withDayOfMonth(1);
-        LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
-        int monthlyEarlyLeaveCount = dailyAttendanceRepository.countMonthlyEarlyLeave(memberId, monthStart, monthEnd);
+        // 월별 조퇴 횟수 (오늘 이전 + 오늘)
+        int monthlyEarlyLeaveCount = context.getMonthlyCountBeforeToday() + (isPositive(dailyAttendance.getEarlyLeaveMinutes()) ? 1 : 0);
 
         // 월별 허용 횟수
         Integer monthlyAllowedCount = null;
@@ -319,31 +310,23 @@ public class AttendanceService {
     }
 
     // --- 이하 검증(validate) 관련 헬퍼 메서드들 ---
-    private void validate(UUID memberId, UUID memberPositionId, UUID companyId, DeviceType deviceType, Double latitude, Double longitude, String clientIp, String wifiSsid) {
-        LocalDate today = LocalDate.now();
-
+    private void validate(AttendanceContext context, DeviceType deviceType, Double latitude, Double longitude, String clientIp, String wifiSsid) {
         // 1. 오늘 승인된 출장 Request 확인
-        Optional<Request> activeTrip = requestRepository.findApprovedTripForMemberAndDate(
-                memberId,
-                today.atStartOfDay(),
-                today.atTime(23, 59, 59),
-                PolicyTypeCode.BUSINESS_TRIP
-        );
+        Request activeTrip = context.getActiveTrip();
 
-        if (activeTrip.isPresent()) {
+        if (activeTrip != null) {
             // 2. 출장자면 출장 정책으로 GPS 검증
-            Policy businessTripPolicy = activeTrip.get().getPolicy();
+            Policy businessTripPolicy = activeTrip.getPolicy();
             if (businessTripPolicy != null) {
                 PolicyRuleDetails ruleDetails = businessTripPolicy.getRuleDetails();
                 validateTripLocation(ruleDetails, latitude, longitude);
             }
         } else {
             // 3. 일반 근무자면 기본근무 정책으로 GPS 검증
-            Policy standardWorkPolicy = policyAssignmentService.findEffectivePolicyForMemberByType(
-                    memberId, memberPositionId, companyId, PolicyTypeCode.STANDARD_WORK);
+            Policy standardWorkPolicy = context.getStandardWorkPolicy();
             if (standardWorkPolicy != null) {
                 PolicyRuleDetails ruleDetails = standardWorkPolicy.getRuleDetails();
-                validateAuthRule(ruleDetails, deviceType, latitude, longitude, clientIp, wifiSsid);
+                validateAuthRule(ruleDetails, context.getAllowedWorkLocations(), deviceType, latitude, longitude, clientIp, wifiSsid);
             }
         }
     }
@@ -368,7 +351,7 @@ public class AttendanceService {
      * 2. 디바이스 타입에 따라 필요한 인증 정보 확인
      * 3. 사용자의 현재 위치 정보로 매칭되는 근무지 찾기
      */
-    private void validateAuthRule(PolicyRuleDetails ruleDetails, DeviceType deviceType, Double latitude, Double longitude, String clientIp, String wifiSsid) {
+    private void validateAuthRule(PolicyRuleDetails ruleDetails, List<WorkLocation> allowedLocations, DeviceType deviceType, Double latitude, Double longitude, String clientIp, String wifiSsid) {
         // 로컬 개발 환경에서 근무지 인증 완전히 스킵
         if (skipLocationAuth) {
             log.debug("개발 모드: 근무지 인증 스킵 (skip-location-auth=true)");
@@ -386,10 +369,7 @@ public class AttendanceService {
             return;
         }
 
-        // 허용된 근무지 목록 조회
-        List<com.crewvy.workforce_service.attendance.entity.WorkLocation> allowedLocations =
-                workLocationRepository.findAllById(authRule.getAllowedWorkLocationIds());
-
+        // 허용된 근무지 목록 (AttendanceContextLoader에서 WorkLocationCache로 로딩)
         // 정책에 설정된 근무지가 실제로 존재하지 않는 경우
         if (allowedLocations.isEmpty()) {
             log.error("정책에 설정된 근무지가 DB에 존재하지 않습니다. 설정된 ID: {}", authRule.getAllowedWorkLocationIds());
@@ -763,6 +743,7 @@ public class AttendanceService {
      * 연차 현황 조회 (권한에 따라 조회 범위 자동 결정)
      * - COMPANY 권한: 전사 직원 연차 현황 조회
      * - TEAM/DEPARTMENT 권한: 요청자가 속한 조직 및 하위 조직 직원 연차 현황만 조회
+     * - 직원 디렉터리 누락분 동기화는 LeaveBalanceStatusService가 이 트랜잭션 밖에서 먼저 수행
      *
      * @param memberId 요청자 ID
      * @param memberPositionId 요청자 직책 ID
@@ -786,30 +767,14 @@ public class AttendanceService {
         // 현재 날짜 (전월 근속비율 계산 및 근속년수 계산에 사용)
         LocalDate today = LocalDate.now();
 
-        // 1. member-service에서 조직 트리 가져오기
-        List<OrganizationNodeDto> organizationTree;
-        try {
-            ApiResponse<List<OrganizationNodeDto>> orgResponse = memberClient.getOrganization(memberId);
-            if (orgResponse == null || orgResponse.getData() == null) {
-                log.error("Failed to fetch organization tree from member-service");
-                throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
-            }
-            organizationTree = orgResponse.getData();
-        } catch (Exception e) {
-            log.error("Error fetching organization tree", e);
-            throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
-        }
-
-        // 2. 권한에 따라 조회 범위 결정
+        // 1. 권한에 따라 조회 범위 결정 (COMPANY 권한이면 조직 트리 조회 불필요)
         final List<UUID> targetMemberIds;
         boolean hasCompanyPermission = hasPermission(memberPositionId, "attendance", "READ", "COMPANY");
 
         if (hasCompanyPermission) {
-            // COMPANY 권한: 전사 모든 직원 조회
-            log.info("User has COMPANY level permission - fetching all company members' leave balance");
-            List<UUID> allMembers = new ArrayList<>();
-            extractAllMemberIds(organizationTree, allMembers);
-            targetMemberIds = allMembers;
+            // COMPANY 권한: 전사 모든 직원 조회 (companyId 조건으로 DB에서 필터링)
+            log.debug("User has COMPANY level permission - fetching all company members' leave balance");
+            targetMemberIds = null;
         } else {
             // TEAM/DEPARTMENT 권한: 본인 조직 및 하위 조직 직원만 조회
             boolean hasTeamPermission = hasPermission(memberPositionId, "attendance", "READ", "TEAM");
@@ -817,141 +782,80 @@ public class AttendanceService {
                 throw new PermissionDeniedException("연차 현황을 조회할 권한이 없습니다.");
             }
 
-            log.info("User has TEAM level permission - fetching organization members' leave balance only");
-            UUID myOrganizationId = findMemberOrganization(organizationTree, memberId);
-            if (myOrganizationId == null) {
-                log.warn("Member {} not found in organization tree", memberId);
-                return Page.empty(pageable);
-            }
-            targetMemberIds = extractMemberIdsFromOrganization(organizationTree, myOrganizationId);
-        }
-
-        if (targetMemberIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // 3. 해당 연도의 MemberBalance 조회 (개선)
-        List<MemberBalance> filteredBalances = memberBalanceRepository.findAllByMemberIdInAndYear(targetMemberIds, year);
-
-        if (filteredBalances.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // 5. 직책 정보 조회 (member-service)
-        List<UUID> memberIds = filteredBalances.stream()
-                .map(MemberBalance::getMemberId)
-                .distinct()
-                .collect(Collectors.toList());
-
-        Map<UUID, MemberPositionListRes> positionMap = new HashMap<>();
-        if (!memberIds.isEmpty()) {
-            IdListReq request = IdListReq.builder()
-                    .uuidList(memberIds)
-                    .build();
+            OrganizationTreeIndex organizationIndex;
             try {
-                ApiResponse<List<MemberPositionListRes>> response = memberClient.getDefaultPositionList(memberPositionId, request);
-                if (response != null && response.getData() != null) {
-                    positionMap = response.getData().stream()
-                            .collect(Collectors.toMap(MemberPositionListRes::getMemberId, p -> p));
+                organizationIndex = organizationTreeCache.getIndex(memberId, companyId);
+                if (organizationIndex == null) {
+                    log.error("Failed to fetch organization tree from member-service");
+                    throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
                 }
             } catch (Exception e) {
-                log.error("Failed to fetch position info from member-service", e);
+                log.error("Error fetching organization tree", e);
+                throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
             }
-        }
 
-        // 5-1. 입사일 정보 조회 (member-service) - 프론트 요청사항
-        Map<UUID, MemberEmploymentInfoDto> employmentMap = new HashMap<>();
-        try {
-            ApiResponse<List<MemberEmploymentInfoDto>> employmentResponse =
-                    memberClient.getEmploymentInfo(memberPositionId, companyId);
-            if (employmentResponse != null && employmentResponse.getData() != null) {
-                employmentMap = employmentResponse.getData().stream()
-                        .filter(e -> memberIds.contains(e.getMemberId()))
-                        .collect(Collectors.toMap(MemberEmploymentInfoDto::getMemberId, e -> e));
+            log.debug("User has TEAM level permission - fetching organization members' leave balance only");
+            UUID myOrganizationId = organizationIndex.findMemberOrganization(memberId);
+            if (myOrganizationId == null) {
+                log.warn("Member {} not found in organization tree", memberId);
+                return Page.empty(pageable);
+            }
+            targetMemberIds = organizationIndex.memberIdsInSubtree(myOrganizationId);
+            if (targetMemberIds.isEmpty()) {
+                return Page.empty(pageable);
             }
-        } catch (Exception e) {
-            log.error("Failed to fetch employment info from member-service", e);
         }
 
-        // 6. 응답 조립
-        final Map<UUID, MemberPositionListRes> finalPositionMap = positionMap;
-        final Map<UUID, MemberEmploymentInfoDto> finalEmploymentMap = employmentMap;
-        List<MemberBalanceSummaryRes> allResults = filteredBalances.stream()
-                .map(mb -> {
-                    MemberPositionListRes position = finalPositionMap.get(mb.getMemberId());
-                    MemberEmploymentInfoDto employment = finalEmploymentMap.get(mb.getMemberId());
-
-                    // 전월 근속비율 계산
-                    double previousMonthAttendanceRate = annualLeaveAccrualService
-                            .calculatePreviousMonthAttendanceRate(mb.getMemberId(), today);
-
-                    return MemberBalanceSummaryRes.builder()
-                            .balanceId(mb.getId())
-                            .memberId(mb.getMemberId())
-                            .memberName(position != null ? position.getMemberName() : null)
-                            .organizationName(position != null ? position.getOrganizationName() : null)
-                            .titleName(position != null ? position.getTitleName() : null)
-                            .joinDate(employment != null && employment.getJoinDate() != null
-                                      ? employment.getJoinDate().toString()
-                                      : null)
-                            .year(year)
-                            .policyTypeCode(mb.getBalanceTypeCode().getCodeValue())
-                            .policyTypeName(mb.getBalanceTypeCode().getCodeName())
-                            .totalGranted(mb.getTotalGranted())
-                            .totalUsed(mb.getTotalUsed())
-                            .remainingBalance(mb.getRemaining())
-                            .isPaid(mb.getIsPaid())
-                            .isUsable(mb.getIsUsable())
-                            .previousMonthAttendanceRate(previousMonthAttendanceRate)
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 7. 필터링 (검색어, 정책 유형, 근속년수)
-        List<MemberBalanceSummaryRes> filteredResults = allResults.stream()
-                .filter(item -> {
-                    // 검색어 필터 (이름 또는 부서)
-                    boolean matchesSearch = searchQuery == null || searchQuery.trim().isEmpty() ||
-                            (item.getMemberName() != null && item.getMemberName().contains(searchQuery)) ||
-                            (item.getOrganizationName() != null && item.getOrganizationName().contains(searchQuery));
-
-                    // 정책 유형 필터
-                    boolean matchesPolicyType = policyTypeCode == null || policyTypeCode.trim().isEmpty() ||
-                            item.getPolicyTypeCode().equals(policyTypeCode);
-
-                    // 근속년수 필터
-                    boolean matchesYears = true;
-                    if (yearsOfService != null && !yearsOfService.trim().isEmpty() && item.getJoinDate() != null) {
-                        try {
-                            LocalDate joinDate = LocalDate.parse(item.getJoinDate());
-                            int years = Period.between(joinDate, today).getYears();
-
-                            if (yearsOfService.equals("<1")) {
-                                matchesYears = years < 1;
-                            } else if (yearsOfService.startsWith(">=")) {
-                                int minYears = Integer.parseInt(yearsOfService.substring(2));
-                                matchesYears = years >= minYears;
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to parse joinDate or yearsOfService filter: {}", e.getMessage());
-                        }
-                    }
-
-                    return matchesSearch && matchesPolicyType && matchesYears;
-                })
-                .collect(Collectors.toList());
-
-        // 8. 페이징 처리 (메모리에서)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredResults.size());
-
-        if (start > filteredResults.size()) {
-            return Page.empty(pageable);
+        // 2. 정책 유형 코드 검증 (알 수 없는 코드는 일치하는 항목 없음)
+        if (policyTypeCode != null && !policyTypeCode.trim().isEmpty()) {
+            try {
+                PolicyTypeCode.fromCode(policyTypeCode);
+            } catch (IllegalArgumentException e) {
+                return Page.empty(pageable);
+            }
         }
 
-        List<MemberBalanceSummaryRes> pagedResults = filteredResults.subList(start, end);
-
-        return new PageImpl<>(pagedResults, pageable, filteredResults.size());
+        // 3. 검색/정책 유형/근속년수 필터링, 정렬, 페이징을 DB에서 처리
+        LeaveBalanceSearchCondition condition = LeaveBalanceSearchCondition.builder()
+                .companyId(companyId)
+                .memberIds(targetMemberIds)
+                .year(year)
+                .searchQuery(searchQuery)
+                .policyTypeCode(policyTypeCode)
+                .yearsOfService(yearsOfService)
+                .referenceDate(today)
+                .build();
+        Page<LeaveBalanceRow> rows = memberBalanceRepository.searchLeaveBalanceStatus(condition, pageable);
+
+        if (rows.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rows.getTotalElements());
+        }
+
+        // 4. 현재 페이지 직원들의 전월 근속비율 일괄 계산 (GROUP BY 1회)
+        Set<UUID> pageMemberIds = rows.getContent().stream()
+                .map(LeaveBalanceRow::getMemberId)
+                .collect(Collectors.toSet());
+        Map<UUID, Double> attendanceRateMap = annualLeaveAccrualService
+                .calculatePreviousMonthAttendanceRates(pageMemberIds, today);
+
+        // 5. 응답 조립
+        return rows.map(row -> MemberBalanceSummaryRes.builder()
+                .balanceId(row.getBalanceId())
+                .memberId(row.getMemberId())
+                .memberName(row.getMemberName())
+                .organizationName(row.getOrganizationName())
+                .titleName(row.getTitleName())
+                .joinDate(row.getJoinDate() != null ? row.getJoinDate().toString() : null)
+                .year(row.getYear())
+                .policyTypeCode(row.getBalanceTypeCode().getCodeValue())
+                .policyTypeName(row.getBalanceTypeCode().getCodeName())
+                .totalGranted(row.getTotalGranted())
+                .totalUsed(row.getTotalUsed())
+                .remainingBalance(row.getRemaining())
+                .isPaid(row.getIsPaid())
+                .isUsable(row.getIsUsable())
+                .previousMonthAttendanceRate(attendanceRateMap.getOrDefault(row.getMemberId(), 0.0))
+                .build());
     }
 
 
@@ -1345,9 +1249,9 @@ public class AttendanceService {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-        return dailyAttendanceRepository.findAllByDateRangeAndCompany(companyId, startDate, endDate)
+        return dailyAttendanceRepository
+                .findByMemberIdAndCompanyIdAndAttendanceDateBetweenOrderByAttendanceDate(memberId, companyId, startDate, endDate)
                 .stream()
-                .filter(da -> da.getMemberId().equals(memberId))
                 .map(MonthlyAttendanceDto::from)  // DTO로 변환하면서 workedMinutes 재계산
                 .collect(Collectors.toList());
     }
@@ -1561,41 +1465,59 @@ public class AttendanceService {
     @Transactional(readOnly = true)
     public Page<TeamMemberAttendanceRes> getTeamAttendanceStatus(UUID memberId, UUID memberPositionId, UUID companyId,
                                                                    LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        log.info("getTeamAttendanceStatus called with memberId={}, memberPositionId={}, companyId={}, startDate={}, endDate={}",
-                memberId, memberPositionId, companyId, startDate, endDate);
+        List<UUID> targetMemberIds = findTeamAttendanceTargets(memberId, memberPositionId, companyId);
+        if (targetMemberIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
 
         // 날짜 기본값 설정
         LocalDate queryStartDate = (startDate != null) ? startDate : LocalDate.now();
         LocalDate queryEndDate = (endDate != null) ? endDate : LocalDate.now();
 
+        return teamAttendanceGridEngine.rows(memberPositionId, companyId, targetMemberIds, queryStartDate, queryEndDate, pageable);
+    }
+
+    /**
+     * 근태 현황 조회 - 열 지향(columnar) 응답 (근태 캘린더 히트맵용)
+     * 조회 범위는 getTeamAttendanceStatus와 같고, 페이징은 직원 단위로 적용됩니다.
+     */
+    @Transactional(readOnly = true)
+    public TeamAttendanceGridRes getTeamAttendanceGrid(UUID memberId, UUID memberPositionId, UUID companyId,
+                                                       LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        LocalDate queryStartDate = (startDate != null) ? startDate : LocalDate.now();
+        LocalDate queryEndDate = (endDate != null) ? endDate : LocalDate.now();
+
+        List<UUID> targetMemberIds = findTeamAttendanceTargets(memberId, memberPositionId, companyId);
+        return teamAttendanceGridEngine.columns(memberPositionId, companyId, targetMemberIds, queryStartDate, queryEndDate, pageable);
+    }
+
+    /**
+     * 권한에 따른 근태 현황 조회 대상 직원 ID 목록 (조직 트리 순서, 중복 제거)
+     * - COMPANY 권한: 전사 직원
+     * - TEAM/DEPARTMENT 권한: 요청자가 속한 조직 및 하위 조직 직원
+     */
+    private List<UUID> findTeamAttendanceTargets(UUID memberId, UUID memberPositionId, UUID companyId) {
         // 1. member-service에서 조직 트리 가져오기
-        List<OrganizationNodeDto> organizationTree;
+        OrganizationTreeIndex organizationIndex;
         try {
-            log.info("Calling memberClient.getOrganization with memberId={}", memberId);
-            ApiResponse<List<OrganizationNodeDto>> orgResponse = memberClient.getOrganization(memberId);
-            log.info("Organization tree response: success={}, dataSize={}",
-                    orgResponse != null && orgResponse.getData() != null,
-                    orgResponse != null && orgResponse.getData() != null ? orgResponse.getData().size() : 0);
-            if (orgResponse == null || orgResponse.getData() == null) {
+            organizationIndex = organizationTreeCache.getIndex(memberId, companyId);
+            if (organizationIndex == null) {
                 log.error("Failed to fetch organization tree from member-service: response is null or data is null");
                 throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
             }
-            organizationTree = orgResponse.getData();
         } catch (Exception e) {
             log.error("Error fetching organization tree for memberId={}: {}", memberId, e.getMessage(), e);
             throw new BusinessException("조직 정보를 가져오는 데 실패했습니다.");
         }
 
         // 2. 권한에 따라 조회 범위 결정
-        final List<UUID> targetMemberIds;
+        List<UUID> targetMemberIds;
         boolean hasCompanyPermission = hasPermission(memberPositionId, "attendance", "READ", "COMPANY");
 
         if (hasCompanyPermission) {
             // COMPANY 권한: 전사 모든 직원 조회
             log.info("User has COMPANY level permission - fetching all company members");
-            List<UUID> allMembers = new ArrayList<>();
-            extractAllMemberIds(organizationTree, allMembers);
-            targetMemberIds = allMembers;
+            targetMemberIds = organizationIndex.allMemberIds();
         } else {
             // TEAM/DEPARTMENT 권한: 본인 조직 및 하위 조직 직원만 조회
             boolean hasTeamPermission = hasPermission(memberPositionId, "attendance", "READ", "TEAM");
@@ -1604,237 +1526,25 @@ public class AttendanceService {
             }
 
             log.info("User has TEAM level permission - fetching organization members only");
-            UUID myOrganizationId = findMemberOrganization(organizationTree, memberId);
+            UUID myOrganizationId = organizationIndex.findMemberOrganization(memberId);
             if (myOrganizationId == null) {
                 log.warn("Member {} not found in organization tree", memberId);
-                return Page.empty(pageable);
-            }
-            targetMemberIds = extractMemberIdsFromOrganization(organizationTree, myOrganizationId);
-        }
-
-        if (targetMemberIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // 3. 날짜 범위 내의 DailyAttendance 조회
-        List<DailyAttendance> attendances = dailyAttendanceRepository
-                .findAllByMemberIdInAndAttendanceDateBetween(targetMemberIds, queryStartDate, queryEndDate);
-
-        // 4. 승인된 Request 조회 (날짜 범위 내)
-        LocalDateTime startDateTime = queryStartDate.atStartOfDay();
-        LocalDateTime endDateTime = queryEndDate.atTime(23, 59, 59);
-        List<Request> approvedRequests = requestRepository
-                .findApprovedRequestsByMemberIdsAndDateRange(targetMemberIds, startDateTime, endDateTime);
-
-        // memberId + date 조합을 키로 하는 Request Map 생성
-        Map<String, Request> requestMap = approvedRequests.stream()
-                .flatMap(req -> {
-                    LocalDate start = req.getStartDateTime().toLocalDate();
-                    LocalDate end = req.getEndDateTime().toLocalDate();
-                    List<Map.Entry<String, Request>> entries = new ArrayList<>();
-                    for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-                        String key = req.getMemberId() + "_" + date.toString();
-                        entries.add(Map.entry(key, req));
-                    }
-                    return entries.stream();
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (r1, r2) -> r1));
-
-        // 5. 직책 정보 조회 (member-service)
-        Map<UUID, MemberPositionListRes> positionMap = new HashMap<>();
-        if (!targetMemberIds.isEmpty()) {
-            IdListReq request = IdListReq.builder()
-                    .uuidList(targetMemberIds)
-                    .build();
-            try {
-                ApiResponse<List<MemberPositionListRes>> response = memberClient.getDefaultPositionList(memberPositionId, request);
-                if (response != null && response.getData() != null) {
-                    positionMap = response.getData().stream()
-                            .collect(Collectors.toMap(MemberPositionListRes::getMemberId, p -> p));
-                }
-            } catch (Exception e) {
-                log.error("Failed to fetch position info from member-service", e);
-            }
-        }
-
-        // 6. 활성화된 정책 할당 조회 (N+1 방지 위해 batch 조회)
-        List<PolicyAssignment> activeAssignments = policyAssignmentRepository
-                .findActiveAssignmentsByTargets(targetMemberIds, companyId, queryStartDate);
-
-        // memberId별 정책 이름 Map 생성 (MEMBER 스코프 우선, 없으면 ORGANIZATION)
-        Map<UUID, String> policyNameMap = new HashMap<>();
-        for (PolicyAssignment assignment : activeAssignments) {
-            UUID targetId = assignment.getTargetId();
-            String policyName = assignment.getPolicy().getName();
-
-            // MEMBER 스코프가 이미 있으면 건너뜀 (개인 정책 우선)
-            if (assignment.getScopeType() == PolicyScopeType.MEMBER) {
-                policyNameMap.put(targetId, policyName);
-            } else if (!policyNameMap.containsKey(targetId)) {
-                // ORGANIZATION 스코프는 개인 정책이 없을 때만 사용
-                policyNameMap.put(targetId, policyName);
-            }
-        }
-
-        // 7. 응답 데이터 조립 (모든 memberId x 날짜 조합 생성)
-        final Map<UUID, MemberPositionListRes> finalPositionMap = positionMap;
-        final Map<String, Request> finalRequestMap = requestMap;
-        final Map<UUID, String> finalPolicyNameMap = policyNameMap;
-
-        List<TeamMemberAttendanceRes> allResults = new ArrayList<>();
-
-        for (UUID targetMemberId : targetMemberIds) {
-            for (LocalDate date = queryStartDate; !date.isAfter(queryEndDate); date = date.plusDays(1)) {
-                final LocalDate currentDate = date;
-                MemberPositionListRes position = finalPositionMap.get(targetMemberId);
-
-                // 해당 memberId + date의 DailyAttendance 찾기
-                DailyAttendance attendance = attendances.stream()
-                        .filter(da -> da.getMemberId().equals(targetMemberId) && da.getAttendanceDate().equals(currentDate))
-                        .findFirst()
-                        .orElse(null);
-
-                // 해당 memberId + date의 Request 찾기
-                String requestKey = targetMemberId + "_" + currentDate.toString();
-                Request request = finalRequestMap.get(requestKey);
-
-                String status = null;
-                Boolean isLate = false;
-                Boolean isEarlyLeave = false;
-                String clockInTime = "-";
-                String clockOutTime = "-";
-                String workHours = "-";
-                String requestType = null;
-                String requestReason = null;
-
-                // Request 정보 우선 (승인된 휴가, 출장 등)
-                if (request != null && request.getPolicy() != null) {
-                    requestType = request.getPolicy().getPolicyTypeCode().getCodeName();
-                    requestReason = request.getReason();
-                    // Request가 있으면 status도 설정
-                    status = requestType;
-                }
-
-                if (attendance != null) {
-                    // 근태 상태 (한글명) - Request가 없을 때만 DailyAttendance의 상태 사용
-                    if (status == null && attendance.getStatus() != null) {
-                        status = attendance.getStatus().getCodeName(); // 한글 (예: "정상근무")
-                    }
-
-                        // 지각 여부
-                        isLate = attendance.getIsLate() != null && attendance.getIsLate();
-
-                        // 조퇴 여부
-                        isEarlyLeave = attendance.getIsEarlyLeave() != null && attendance.getIsEarlyLeave();
-
-                        // 출근 시간 포맷팅
-                        if (attendance.getFirstClockIn() != null) {
-                            clockInTime = String.format("%02d:%02d",
-                                    attendance.getFirstClockIn().getHour(),
-                                    attendance.getFirstClockIn().getMinute());
-                        }
-
-                        // 퇴근 시간 포맷팅
-                        if (attendance.getLastClockOut() != null) {
-                            clockOutTime = String.format("%02d:%02d",
-                                    attendance.getLastClockOut().getHour(),
-                                    attendance.getLastClockOut().getMinute());
-                        }
-                    }
-
-                // 추가 근무 시간 먼저 계산 (연장 + 야간 + 휴일)
-                String extraWorkHours = "-";
-                String totalWorkHours = "-";
-                int extraMinutes = 0;
-                if (attendance != null) {
-                    if (attendance.getOvertimeMinutes() != null) {
-                        extraMinutes += attendance.getOvertimeMinutes();
-                    }
-                    if (attendance.getNightWorkMinutes() != null) {
-                        extraMinutes += attendance.getNightWorkMinutes();
-                    }
-                    if (attendance.getHolidayWorkMinutes() != null) {
-                        extraMinutes += attendance.getHolidayWorkMinutes();
-                    }
-
-                    if (extraMinutes > 0) {
-                        int hours = extraMinutes / 60;
-                        int minutes = extraMinutes % 60;
-                        extraWorkHours = String.format("%d시간 %d분", hours, minutes);
-                    }
-                }
-
-                // 기본 근무 시간 = workedMinutes - 추가 근무 (workedMinutes에 추가 근무가 포함되어 있음)
-                if (attendance != null && attendance.getWorkedMinutes() != null && attendance.getWorkedMinutes() > 0) {
-                    int baseMinutes = attendance.getWorkedMinutes() - extraMinutes;
-                    if (baseMinutes > 0) {
-                        int hours = baseMinutes / 60;
-                        int minutes = baseMinutes % 60;
-                        workHours = String.format("%d시간 %d분", hours, minutes);
-                    }
-
-                    // 총 근무 시간 = workedMinutes (이미 기본 + 추가 포함)
-                    int hours = attendance.getWorkedMinutes() / 60;
-                    int minutes = attendance.getWorkedMinutes() % 60;
-                    totalWorkHours = String.format("%d시간 %d분", hours, minutes);
-                }
-
-                // status가 여전히 null이면 날짜에 따라 기본값 설정
-                if (status == null) {
-                    LocalDate today = LocalDate.now();
-                    // 휴일(주말/공휴일)은 휴일근무 신청이 없으면 빈 값
-                    if (isHoliday(companyId, currentDate)) {
-                        status = null;  // 휴일은 근무 기록 없어도 정상
-                    } else if (currentDate.isBefore(today)) {
-                        status = "결근";  // 평일 과거 날짜는 결근
-                    } else {
-                        status = "미출근";  // 오늘 및 미래 날짜는 미출근
-                    }
-                }
-
-                // 적용 정책 이름 가져오기
-                String effectivePolicy = finalPolicyNameMap.getOrDefault(targetMemberId, "-");
-
-                TeamMemberAttendanceRes res = TeamMemberAttendanceRes.builder()
-                        .dailyAttendanceId(attendance != null ? attendance.getId() : null)
-                        .memberId(targetMemberId)
-                        .name(position != null ? position.getMemberName() : "알 수 없음")
-                        .department(position != null ? position.getOrganizationName() : "-")
-                        .title(position != null ? position.getTitleName() : "-")
-                        .date(currentDate.toString())
-                        .status(status)
-                        .isLate(isLate)
-                        .isEarlyLeave(isEarlyLeave)
-                        .clockInTime(clockInTime)
-                        .clockOutTime(clockOutTime)
-                        .workHours(workHours)
-                        .extraWorkHours(extraWorkHours)
-                        .totalWorkHours(totalWorkHours)
-                        .effectivePolicy(effectivePolicy)
-                        .requestType(requestType)
-                        .requestReason(requestReason)
-                        .build();
-
-                allResults.add(res);
+                return List.of();
             }
+            targetMemberIds = organizationIndex.memberIdsInSubtree(myOrganizationId);
         }
 
-        // 7. 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allResults.size());
-
-        List<TeamMemberAttendanceRes> pagedResults = allResults.subList(start, end);
-        return new PageImpl<>(pagedResults, pageable, allResults.size());
+        // 여러 조직에 직책이 있는 직원은 한 번만
+        return targetMemberIds.stream().distinct().toList();
     }
 
     // --- Private Helper Methods ---
 
     /**
-     * 오늘 날짜의 출근 기록을 조회하거나, 없으면 예외를 발생시킵니다.
+     * 분 단위 값이 있고 0보다 큰지 확인합니다.
      */
-    private DailyAttendance getTodaysAttendanceOrThrow(UUID memberId, LocalDate date) {
-        return dailyAttendanceRepository.findByMemberIdAndAttendanceDate(memberId, date)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 날짜의 출근 기록이 없습니다."));
+    private boolean isPositive(Integer minutes) {
+        return minutes != null && minutes > 0;
     }
 
     /**
@@ -1874,25 +1584,41 @@ public class AttendanceService {
     }
 
     /**
-     * 휴일 여부 확인 (주말 또는 CompanyHoliday)
-     * @param companyId 회사 ID
-     * @param date 확인할 날짜
-     * @return 휴일이면 true, 평일이면 false
+     * 지정한 직원들의 기간 내 근태 합계 (급여 계산용)
+     * - 기간이 정확히 한 달(1일~말일)이면 월간 근태 합계에서 조회, 아니면 DB에서 직원별로 집계
+     * - 근태 기록이 없는 직원은 결과에 포함되지 않음
      */
-    private boolean isHoliday(UUID companyId, LocalDate date) {
-        // 1. 주말(토요일, 일요일) 확인
-        java.time.DayOfWeek dayOfWeek = date.getDayOfWeek();
-        if (dayOfWeek == java.time.DayOfWeek.SATURDAY || dayOfWeek == java.time.DayOfWeek.SUNDAY) {
-            return true;
-        }
-
-        // 2. 국가 공휴일 확인 (Holidays 테이블)
-        if (holidayRepository.existsBySolarDate(date)) {
-            return true;
-        }
-
-        // 3. CompanyHoliday 확인
-        return companyHolidayRepository.existsByCompanyIdAndHolidayDate(companyId, date);
+    @Transactional(readOnly = true)
+    public List<DailyAttendanceRes> getMemberAttendance(UUID companyId, Collection<UUID> memberIds,
+                                                        LocalDate startDate, LocalDate endDate) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        YearMonth month = YearMonth.from(startDate);
+        if (startDate.getDayOfMonth() == 1 && endDate.equals(month.atEndOfMonth())) {
+            return monthlyAttendanceSummaryService.getSummaries(memberIds, month).values().stream()
+                    .filter(summary -> companyId.equals(summary.getCompanyId()))
+                    .map(summary -> new DailyAttendanceRes(
+                            summary.getMemberId(),
+                            summary.getRecordedDays(),
+                            (int) summary.getOvertimeMinutes(),
+                            (int) summary.getNightWorkMinutes(),
+                            (int) summary.getHolidayWorkMinutes()))
+                    .toList();
+        }
+
+        List<PayrollAttendanceStats> statsList
+                = dailyAttendanceRepository.aggregatePayrollAttendance(companyId, memberIds, startDate, endDate);
+
+        return statsList.stream()
+                .map(stats -> new DailyAttendanceRes(
+                        stats.getMemberId(),
+                        stats.getWorkingDays().intValue(),
+                        stats.getOvertimeMinutes().intValue(),
+                        stats.getNightWorkMinutes().intValue(),
+                        stats.getHolidayWorkMinutes().intValue()))
+                .toList();
     }
 
     public List<DailyAttendanceRes> getMemberAttendance(UUID companyId, LocalDate startDate, LocalDate endDate) {
@@ -1929,87 +1655,6 @@ public class AttendanceService {
 
     }
 
-    /**
-     * 조직 트리에서 특정 멤버가 속한 조직 ID 찾기
-     * @param organizationTree 전체 조직 트리
-     * @param memberId 찾을 멤버 ID
-     * @return 멤버가 속한 조직 ID (없으면 null)
-     */
-    private UUID findMemberOrganization(List<OrganizationNodeDto> organizationTree, UUID memberId) {
-        for (OrganizationNodeDto node : organizationTree) {
-            // 현재 노드의 멤버들 확인
-            if (node.getMembers() != null) {
-                boolean found = node.getMembers().stream()
-                        .anyMatch(member -> member.getId().equals(memberId));
-                if (found) {
-                    return node.getId();
-                }
-            }
-            // 자식 노드들 재귀 탐색
-            if (node.getChildren() != null && !node.getChildren().isEmpty()) {
-                UUID result = findMemberOrganization(node.getChildren(), memberId);
-                if (result != null) {
-                    return result;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 조직 트리에서 특정 조직 ID에 속한 모든 멤버 ID를 재귀적으로 추출
-     * @param organizationTree 전체 조직 트리
-     * @param targetOrganizationId 조회할 조직 ID
-     * @return 해당 조직 및 하위 조직의 모든 멤버 ID 리스트
-     */
-    private List<UUID> extractMemberIdsFromOrganization(List<OrganizationNodeDto> organizationTree, UUID targetOrganizationId) {
-        List<UUID> memberIds = new ArrayList<>();
-
-        // 특정 조직 ID를 찾아서 해당 조직 및 하위 조직의 멤버 추출
-        OrganizationNodeDto targetNode = findOrganizationNode(organizationTree, targetOrganizationId);
-        if (targetNode != null) {
-            extractAllMemberIds(List.of(targetNode), memberIds);
-        }
-
-        return memberIds;
-    }
-
-    /**
-     * 조직 트리에서 특정 조직 ID를 가진 노드를 재귀적으로 찾기
-     */
-    private OrganizationNodeDto findOrganizationNode(List<OrganizationNodeDto> nodes, UUID targetId) {
-        for (OrganizationNodeDto node : nodes) {
-            if (node.getId().equals(targetId)) {
-                return node;
-            }
-            if (node.getChildren() != null && !node.getChildren().isEmpty()) {
-                OrganizationNodeDto found = findOrganizationNode(node.getChildren(), targetId);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 조직 트리에서 모든 멤버 ID를 재귀적으로 추출
-     */
-    private void extractAllMemberIds(List<OrganizationNodeDto> nodes, List<UUID> memberIds) {
-        for (OrganizationNodeDto node : nodes) {
-            // 현재 노드의 멤버들 추가
-            if (node.getMembers() != null) {
-                node.getMembers().stream()
-                        .map(MemberDto::getId)
-                        .forEach(memberIds::add);
-            }
-            // 자식 노드들 재귀 탐색
-            if (node.getChildren() != null && !node.getChildren().isEmpty()) {
-                extractAllMemberIds(node.getChildren(), memberIds);
-            }
-        }
-    }
-
     /**
      * 근태 기록 수정 (관리자 전용)
      * TODO: 권한 검증 추가 필요
@@ -2045,6 +1690,8 @@ public class AttendanceService {
                 request.getStatus()
         );
 
+        eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(List.of(dailyAttendance)));
+
         log.info("Daily attendance {} updated by admin. Comment: {}", dailyAttendanceId, request.getAdminComment());
     }
 
@@ -0,0 +1,279 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.common.exception.BusinessException;
+import com.crewvy.workforce_service.attendance.constant.PolicyScopeType;
+import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
+import com.crewvy.workforce_service.attendance.entity.Policy;
+import com.crewvy.workforce_service.attendance.entity.PolicyAssignment;
+import com.crewvy.workforce_service.attendance.repository.PolicyAssignmentRepository;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.OrganizationRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직책별 유효 정책 해석 결과 로컬 캐시
+ * - (직책, 기준일)마다 모든 정책 타입의 해석 결과를 불변 스냅샷 하나로 보관, 타입별 조회는 스냅샷 안에서 처리
+ * - 미스 시 조직 경로 조회(Feign) 1회 + 할당 조회 1회로 모든 타입을 한 번에 해석
+ * - 팀 단위 조회는 미스 직책을 모아 조직 경로 일괄 조회 1회 + 할당 조회 1회로 해석
+ * - 정책/할당 변경 시 전체 무효화, 직원·조직 변경 이벤트 수신 시 해당 직원 또는 전체 무효화
+ * - TTL은 다른 인스턴스에서 정책/할당이 바뀐 경우의 상한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EffectivePolicyCache {
+
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final int MAX_SNAPSHOTS = 20_000;
+    // IN 절 하나에 넣는 대상 ID 수 / 조직 경로 일괄 조회 한 번에 보내는 직책 수
+    private static final int TARGET_CHUNK_SIZE = 1_000;
+    private static final int POSITION_CHUNK_SIZE = 500;
+
+    private final PolicyAssignmentRepository policyAssignmentRepository;
+    private final MemberClient memberClient;
+
+    private final Map<SnapshotKey, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가. 적재 중 무효화가 끼어들면 적재 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    /**
+     * 팀 단위 조회 대상 (직원 ID + 직책 ID)
+     */
+    public record MemberPositionRef(UUID memberId, UUID memberPositionId) {
+    }
+
+    public EffectivePolicySnapshot get(UUID memberId, UUID memberPositionId, UUID companyId, LocalDate date) {
+        long now = System.nanoTime();
+        SnapshotKey key = new SnapshotKey(memberPositionId, date);
+        EffectivePolicySnapshot cached = freshSnapshot(key, memberId, companyId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long sequence = invalidationSequence.get();
+        List<UUID> orgPath = loadOrganizationPath(memberPositionId);
+        List<PolicyTarget> priorityTargets = priorityTargets(memberId, memberPositionId, orgPath, companyId);
+        Map<PolicyTarget, List<PolicyAssignment>> assignments = loadAssignments(targetIdsOf(priorityTargets), companyId, date);
+
+        EffectivePolicySnapshot snapshot = resolve(memberId, memberPositionId, companyId, date, priorityTargets, assignments);
+        store(key, snapshot, sequence, now);
+        return snapshot;
+    }
+
+    /**
+     * 여러 직원의 유효 정책을 한 번에 해석 (팀 화면, 배치 작업용)
+     * - member-service에 없는 직책은 결과에서 제외
+     * @return memberPositionId별 스냅샷
+     */
+    public Map<UUID, EffectivePolicySnapshot> getAll(UUID companyId, Collection<MemberPositionRef> members, LocalDate date) {
+        long now = System.nanoTime();
+        Map<UUID, EffectivePolicySnapshot> result = new LinkedHashMap<>();
+        Map<UUID, UUID> missedMemberIdByPosition = new LinkedHashMap<>();
+        for (MemberPositionRef member : members) {
+            EffectivePolicySnapshot cached = freshSnapshot(
+                    new SnapshotKey(member.memberPositionId(), date), member.memberId(), companyId, now);
+            if (cached != null) {
+                result.put(member.memberPositionId(), cached);
+            } else {
+                missedMemberIdByPosition.put(member.memberPositionId(), member.memberId());
+            }
+        }
+        if (missedMemberIdByPosition.isEmpty()) {
+            return result;
+        }
+
+        long sequence = invalidationSequence.get();
+        Map<UUID, List<UUID>> orgPathByPosition = loadOrganizationPaths(missedMemberIdByPosition.keySet());
+
+        Map<UUID, List<PolicyTarget>> priorityTargetsByPosition = new LinkedHashMap<>();
+        Set<UUID> targetIds = new LinkedHashSet<>();
+        missedMemberIdByPosition.forEach((memberPositionId, memberId) -> {
+            List<UUID> orgPath = orgPathByPosition.get(memberPositionId);
+            if (orgPath == null) {
+                log.debug("조직 정보가 없는 직책은 정책 해석에서 제외: memberPositionId={}", memberPositionId);
+                return;
+            }
+            List<PolicyTarget> priorityTargets = priorityTargets(memberId, memberPositionId, orgPath, companyId);
+            priorityTargetsByPosition.put(memberPositionId, priorityTargets);
+            targetIds.addAll(targetIdsOf(priorityTargets));
+        });
+
+        Map<PolicyTarget, List<PolicyAssignment>> assignments = loadAssignments(targetIds, companyId, date);
+        priorityTargetsByPosition.forEach((memberPositionId, priorityTargets) -> {
+            UUID memberId = missedMemberIdByPosition.get(memberPositionId);
+            EffectivePolicySnapshot snapshot = resolve(memberId, memberPositionId, companyId, date, priorityTargets, assignments);
+            store(new SnapshotKey(memberPositionId, date), snapshot, sequence, now);
+            result.put(memberPositionId, snapshot);
+        });
+        return result;
+    }
+
+    /**
+     * 직원의 소속/직책이 바뀐 경우 해당 직원의 모든 직책 스냅샷 무효화
+     */
+    public void invalidateMember(UUID memberId) {
+        invalidationSequence.incrementAndGet();
+        snapshots.values().removeIf(cached -> cached.snapshot().getMemberId().equals(memberId));
+    }
+
+    public void invalidateAll() {
+        invalidationSequence.incrementAndGet();
+        snapshots.clear();
+    }
+
+    /**
+     * 정책/할당 변경 트랜잭션에서 호출. 즉시 비우고, 커밋 전에 다른 요청이 이전 값으로 다시 적재했을 수 있으므로 커밋 후 한 번 더 비움
+     */
+    public void invalidateAllOnCommit() {
+        invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+            });
+        }
+    }
+
+    private EffectivePolicySnapshot freshSnapshot(SnapshotKey key, UUID memberId, UUID companyId, long now) {
+        CachedSnapshot cached = snapshots.get(key);
+        if (cached == null || now - cached.loadedAt() >= TTL_NANOS) {
+            return null;
+        }
+        EffectivePolicySnapshot snapshot = cached.snapshot();
+        if (!snapshot.getMemberId().equals(memberId) || !snapshot.getCompanyId().equals(companyId)) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    private void store(SnapshotKey key, EffectivePolicySnapshot snapshot, long sequence, long now) {
+        if (invalidationSequence.get() != sequence) {
+            return;
+        }
+        evictIfFull(now);
+        snapshots.put(key, new CachedSnapshot(snapshot, now));
+    }
+
+    /**
+     * 우선순위 순서대로 대상을 훑으며 타입별로 처음 만난 정책만 채택
+     */
+    private EffectivePolicySnapshot resolve(UUID memberId, UUID memberPositionId, UUID companyId, LocalDate date,
+                                            List<PolicyTarget> priorityTargets,
+                                            Map<PolicyTarget, List<PolicyAssignment>> assignments) {
+        Map<PolicyTypeCode, Policy> policyByType = new EnumMap<>(PolicyTypeCode.class);
+        List<Policy> policiesInPriorityOrder = new ArrayList<>();
+        for (PolicyTarget target : priorityTargets) {
+            for (PolicyAssignment assignment : assignments.getOrDefault(target, List.of())) {
+                Policy policy = assignment.getPolicy();
+                if (policyByType.putIfAbsent(policy.getPolicyTypeCode(), policy) == null) {
+                    policiesInPriorityOrder.add(policy);
+                }
+            }
+        }
+        return new EffectivePolicySnapshot(memberId, memberPositionId, companyId, date, policiesInPriorityOrder);
+    }
+
+    // 탐색 우선순위: MEMBER_POSITION → MEMBER → ORGANIZATION → 상위 ORG → COMPANY
+    private List<PolicyTarget> priorityTargets(UUID memberId, UUID memberPositionId, List<UUID> orgPath, UUID companyId) {
+        List<PolicyTarget> priorityTargets = new ArrayList<>(orgPath.size() + 3);
+        priorityTargets.add(new PolicyTarget(memberPositionId, PolicyScopeType.MEMBER_POSITION));
+        priorityTargets.add(new PolicyTarget(memberId, PolicyScopeType.MEMBER));
+        orgPath.forEach(orgId -> priorityTargets.add(new PolicyTarget(orgId, PolicyScopeType.ORGANIZATION)));
+        priorityTargets.add(new PolicyTarget(companyId, PolicyScopeType.COMPANY));
+        return priorityTargets;
+    }
+
+    private List<UUID> targetIdsOf(List<PolicyTarget> priorityTargets) {
+        return priorityTargets.stream().map(PolicyTarget::id).toList();
+    }
+
+    private Map<PolicyTarget, List<PolicyAssignment>> loadAssignments(Collection<UUID> targetIds, UUID companyId, LocalDate date) {
+        Map<PolicyTarget, List<PolicyAssignment>> byTarget = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(targetIds));
+        for (int from = 0; from < ids.size(); from += TARGET_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + TARGET_CHUNK_SIZE, ids.size()));
+            for (PolicyAssignment assignment : policyAssignmentRepository.findActiveAssignmentsWithPolicyByTargets(chunk, companyId, date)) {
+                byTarget.computeIfAbsent(new PolicyTarget(assignment.getTargetId(), assignment.getScopeType()), target -> new ArrayList<>())
+                        .add(assignment);
+            }
+        }
+        return byTarget;
+    }
+
+    // 조직 계층 (내 부서 → 상위부서 → 회사)
+    private List<UUID> loadOrganizationPath(UUID memberPositionId) {
+        try {
+            ApiResponse<List<OrganizationRes>> response = memberClient.getOrganizationList(memberPositionId);
+            if (response == null || response.getData() == null) {
+                return List.of();
+            }
+            return response.getData().stream().map(OrganizationRes::getId).toList();
+        } catch (Exception e) {
+            throw new BusinessException("Member-service에서 조직 정보를 가져오는 데 실패했습니다.", e);
+        }
+    }
+
+    private Map<UUID, List<UUID>> loadOrganizationPaths(Collection<UUID> memberPositionIds) {
+        Map<UUID, List<UUID>> orgPathByPosition = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(memberPositionIds);
+        for (int from = 0; from < ids.size(); from += POSITION_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + POSITION_CHUNK_SIZE, ids.size()));
+            ApiResponse<Map<UUID, List<OrganizationRes>>> response;
+            try {
+                response = memberClient.getOrganizationPaths(new IdListReq(new ArrayList<>(chunk)));
+            } catch (Exception e) {
+                throw new BusinessException("Member-service에서 조직 정보를 가져오는 데 실패했습니다.", e);
+            }
+            if (response == null || response.getData() == null) {
+                continue;
+            }
+            response.getData().forEach((memberPositionId, orgPath) ->
+                    orgPathByPosition.put(memberPositionId, orgPath.stream().map(OrganizationRes::getId).toList()));
+        }
+        return orgPathByPosition;
+    }
+
+    private void evictIfFull(long now) {
+        if (snapshots.size() < MAX_SNAPSHOTS) {
+            return;
+        }
+        snapshots.values().removeIf(cached -> now - cached.loadedAt() >= TTL_NANOS);
+        if (snapshots.size() >= MAX_SNAPSHOTS) {
+            log.debug("유효 정책 캐시 용량 초과로 전체 비움: size={}", snapshots.size());
+            snapshots.clear();
+        }
+    }
+
+    private record SnapshotKey(UUID memberPositionId, LocalDate date) {
+    }
+
+    private record PolicyTarget(UUID id, PolicyScopeType scopeType) {
+    }
+
+    private record CachedSnapshot(EffectivePolicySnapshot snapshot, long loadedAt) {
+    }
+}
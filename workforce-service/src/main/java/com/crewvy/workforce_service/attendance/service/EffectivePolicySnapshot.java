@@ -0,0 +1,57 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
+import com.crewvy.workforce_service.attendance.entity.Policy;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 한 직책의 기준일 시점 유효 정책 해석 결과 (불변)
+ * - 정책 타입별로 우선순위(직책 > 개인 > 조직 > 상위 조직 ... > 회사)가 가장 높은 정책 하나씩만 포함
+ * - 정책 엔티티는 여러 요청이 공유하는 읽기 전용 인스턴스이므로 수정하지 않는다
+ */
+public final class EffectivePolicySnapshot {
+
+    @Getter
+    private final UUID memberId;
+    @Getter
+    private final UUID memberPositionId;
+    @Getter
+    private final UUID companyId;
+    @Getter
+    private final LocalDate date;
+    private final Map<PolicyTypeCode, Policy> policyByType;
+    private final List<Policy> policies;
+
+    EffectivePolicySnapshot(UUID memberId, UUID memberPositionId, UUID companyId, LocalDate date, List<Policy> policiesInPriorityOrder) {
+        this.memberId = memberId;
+        this.memberPositionId = memberPositionId;
+        this.companyId = companyId;
+        this.date = date;
+
+        EnumMap<PolicyTypeCode, Policy> byType = new EnumMap<>(PolicyTypeCode.class);
+        policiesInPriorityOrder.forEach(policy -> byType.put(policy.getPolicyTypeCode(), policy));
+        this.policyByType = Collections.unmodifiableMap(byType);
+        this.policies = List.copyOf(policiesInPriorityOrder);
+    }
+
+    /**
+     * @return 해당 타입의 유효 정책 (없으면 null)
+     */
+    public Policy find(PolicyTypeCode typeCode) {
+        return policyByType.get(typeCode);
+    }
+
+    /**
+     * @return 타입별 유효 정책 목록 (우선순위가 높은 대상에 할당된 정책부터)
+     */
+    public List<Policy> all() {
+        return policies;
+    }
+}
@@ -0,0 +1,38 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.dto.response.MemberBalanceSummaryRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 연차 현황 조회 진입점 (트랜잭션 없음)
+ * - 직원 디렉터리 누락분 동기화를 조회 트랜잭션 밖에서 먼저 커밋한 뒤 읽기 전용 조회 트랜잭션을 시작
+ *   → 요청이 커넥션을 동시에 둘 잡지 않고, 동기화된 직원은 항상 조회 결과에 포함됨
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaveBalanceStatusService {
+
+    private final MemberDirectoryService memberDirectoryService;
+    private final AttendanceService attendanceService;
+
+    public Page<MemberBalanceSummaryRes> getLeaveBalanceStatus(
+            UUID memberId,
+            UUID memberPositionId,
+            UUID companyId,
+            Integer year,
+            String searchQuery,
+            String policyTypeCode,
+            String yearsOfService,
+            Pageable pageable) {
+
+        memberDirectoryService.syncMissingMembers(memberPositionId, companyId, year);
+
+        return attendanceService.getLeaveBalanceStatus(
+                memberId, memberPositionId, companyId, year, searchQuery, policyTypeCode, yearsOfService, pageable);
+    }
+}
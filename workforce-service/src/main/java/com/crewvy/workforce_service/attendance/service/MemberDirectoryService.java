@@ -0,0 +1,164 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.common.event.MemberSavedEvent;
+import com.crewvy.workforce_service.attendance.entity.MemberDirectory;
+import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepository;
+import com.crewvy.workforce_service.attendance.repository.MemberDirectoryRepository;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberEmploymentInfoDto;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 직원 디렉터리(로컬 읽기 모델) 관리 서비스
+ * - member-service 이벤트로 증분 갱신
+ * - 이벤트 유실/초기 배포 대비: 조회 대상 중 누락된 직원만 member-service에서 동기화
+ * - member-service에도 없는 직원은 MISSING_TTL 동안 기억하여 매 조회마다 다시 원격 호출하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDirectoryService {
+
+    private static final long MISSING_TTL_NANOS = Duration.ofMinutes(5).toNanos();
+    private static final int MAX_MISSING_ENTRIES = 10_000;
+
+    private final MemberDirectoryRepository memberDirectoryRepository;
+    private final MemberBalanceRepository memberBalanceRepository;
+    private final MemberClient memberClient;
+
+    // member-service에서 찾지 못한 직원 → 기록 시각 (System.nanoTime)
+    private final Map<UUID, Long> unresolvedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 직원 저장 이벤트 반영 (생성/수정)
+     */
+    @Transactional
+    public void upsert(MemberSavedEvent event) {
+        String titleName = event.getPosition();
+        if (titleName == null && event.getTitleName() != null && !event.getTitleName().isEmpty()) {
+            titleName = event.getTitleName().get(0);
+        }
+        String organizationName = event.getDefaultOrganizationName();
+        if (organizationName == null && event.getOrganizationList() != null && !event.getOrganizationList().isEmpty()) {
+            organizationName = event.getOrganizationList().get(0).getName();
+        }
+
+        Optional<MemberDirectory> existing = memberDirectoryRepository.findById(event.getMemberId());
+        if (existing.isPresent()) {
+            existing.get().update(event.getName(), organizationName, titleName,
+                    event.getJoinDate(), event.getMemberStatus());
+        } else {
+            unresolvedAt.remove(event.getMemberId());
+            memberDirectoryRepository.save(MemberDirectory.builder()
+                    .memberId(event.getMemberId())
+                    .companyId(event.getCompanyId())
+                    .memberName(event.getName())
+                    .organizationName(organizationName)
+                    .titleName(titleName)
+                    .joinDate(event.getJoinDate())
+                    .memberStatus(event.getMemberStatus())
+                    .build());
+        }
+    }
+
+    /**
+     * 직원 삭제 이벤트 반영
+     */
+    @Transactional
+    public void delete(UUID memberId) {
+        unresolvedAt.remove(memberId);
+        memberDirectoryRepository.deleteById(memberId);
+    }
+
+    /**
+     * 해당 연도 잔액 보유 직원 중 디렉터리에 없는 직원만 member-service에서 가져와 저장 (누락이 없으면 원격 호출 없음)
+     * - 트랜잭션 밖에서 호출 (조회 → 원격 호출 → 저장이 각각 짧게 커넥션을 사용, 원격 호출 중에는 커넥션을 잡지 않음)
+     * - 최근에 찾지 못한 직원은 건너뜀
+     */
+    public void syncMissingMembers(UUID memberPositionId, UUID companyId, Integer year) {
+        long now = System.nanoTime();
+        Set<UUID> missingIds = new HashSet<>();
+        for (UUID memberId : memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, year)) {
+            Long recordedAt = unresolvedAt.get(memberId);
+            if (recordedAt == null || now - recordedAt >= MISSING_TTL_NANOS) {
+                missingIds.add(memberId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        log.info("직원 디렉터리 누락분 동기화: companyId={}, 누락={}명", companyId, missingIds.size());
+
+        Map<UUID, MemberPositionListRes> positionMap = new HashMap<>();
+        Map<UUID, MemberEmploymentInfoDto> employmentMap = new HashMap<>();
+        try {
+            ApiResponse<List<MemberPositionListRes>> positionResponse = memberClient.getDefaultPositionList(
+                    memberPositionId, IdListReq.builder().uuidList(new ArrayList<>(missingIds)).build());
+            if (positionResponse != null && positionResponse.getData() != null) {
+                positionMap = positionResponse.getData().stream()
+                        .collect(Collectors.toMap(MemberPositionListRes::getMemberId, Function.identity(), (a, b) -> a));
+            }
+
+            ApiResponse<List<MemberEmploymentInfoDto>> employmentResponse = memberClient.getEmploymentInfoInternal(companyId);
+            if (employmentResponse != null && employmentResponse.getData() != null) {
+                employmentMap = employmentResponse.getData().stream()
+                        .filter(e -> missingIds.contains(e.getMemberId()))
+                        .collect(Collectors.toMap(MemberEmploymentInfoDto::getMemberId, Function.identity(), (a, b) -> a));
+            }
+        } catch (Exception e) {
+            log.error("Failed to sync member directory from member-service", e);
+            return;
+        }
+
+        List<MemberDirectory> toSave = new ArrayList<>();
+        List<UUID> unresolved = new ArrayList<>();
+        for (UUID memberId : missingIds) {
+            MemberPositionListRes position = positionMap.get(memberId);
+            MemberEmploymentInfoDto employment = employmentMap.get(memberId);
+            if (position == null && employment == null) {
+                unresolved.add(memberId);
+                continue;
+            }
+            toSave.add(MemberDirectory.builder()
+                    .memberId(memberId)
+                    .companyId(companyId)
+                    .memberName(position != null ? position.getMemberName() : employment.getName())
+                    .organizationName(position != null ? position.getOrganizationName() : null)
+                    .titleName(position != null ? position.getTitleName() : null)
+                    .joinDate(employment != null ? employment.getJoinDate() : null)
+                    .memberStatus(employment != null ? employment.getMemberStatus() : null)
+                    .build());
+        }
+        memberDirectoryRepository.saveAll(toSave);
+        rememberUnresolved(unresolved, now);
+    }
+
+    private void rememberUnresolved(List<UUID> memberIds, long now) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        if (unresolvedAt.size() + memberIds.size() > MAX_MISSING_ENTRIES) {
+            unresolvedAt.values().removeIf(recordedAt -> now - recordedAt >= MISSING_TTL_NANOS);
+            if (unresolvedAt.size() + memberIds.size() > MAX_MISSING_ENTRIES) {
+                unresolvedAt.clear();
+            }
+        }
+        for (UUID memberId : memberIds) {
+            unresolvedAt.put(memberId, now);
+        }
+        log.info("member-service에 없는 직원 {}명은 {}분간 동기화 생략", memberIds.size(), Duration.ofNanos(MISSING_TTL_NANOS).toMinutes());
+    }
+}
@@ -0,0 +1,116 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.dto.query.MonthlyAttendanceStats;
+import com.crewvy.workforce_service.attendance.entity.MonthlyAttendanceSummary;
+import com.crewvy.workforce_service.attendance.repository.AttendanceJdbcRepository;
+import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
+import com.crewvy.workforce_service.attendance.repository.MonthlyAttendanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 직원별 월간 근태 합계(MonthlyAttendanceSummary) 관리
+ * - refresh: 지정한 직원-월의 DailyAttendance를 다시 집계하여 합계 저장 (재집계 배치)
+ * - refreshInNewTransaction: 변경 이벤트용, 월 하나를 독립 트랜잭션으로 갱신 (한 달 실패가 다른 달에 영향 없음)
+ * - 합계 행은 (member_id, summary_month) 유니크 키 기준 upsert → 동시에 처음 만드는 경우에도 중복 키 오류 없음
+ * - getSummaries: 직원-월 합계를 한 번에 조회, 아직 합계가 없는 직원은 DailyAttendance에서 바로 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyAttendanceSummaryService {
+
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final MonthlyAttendanceSummaryRepository monthlyAttendanceSummaryRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+
+    /**
+     * 지정한 직원들의 해당 월 합계 재집계
+     * - 근태 기록이 없어진 직원의 합계는 삭제
+     */
+    @Transactional
+    public void refresh(YearMonth month, Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        LocalDate summaryMonth = month.atDay(1);
+
+        Map<UUID, MonthlyAttendanceStats> statsByMember = aggregate(memberIds, month);
+        List<MonthlyAttendanceSummary> summaries = statsByMember.values().stream()
+                .map(stats -> MonthlyAttendanceSummary.from(stats, summaryMonth))
+                .toList();
+        List<UUID> emptyMemberIds = memberIds.stream()
+                .filter(memberId -> !statsByMember.containsKey(memberId))
+                .distinct()
+                .toList();
+
+        attendanceJdbcRepository.upsertMonthlySummaries(summaryMonth, summaries);
+        int deleted = emptyMemberIds.isEmpty() ? 0
+                : monthlyAttendanceSummaryRepository.deleteByMemberIdInAndSummaryMonth(emptyMemberIds, summaryMonth);
+
+        log.debug("월간 근태 합계 갱신: month={}, 대상={}명, 저장={}명, 삭제={}명",
+                month, memberIds.size(), summaries.size(), deleted);
+    }
+
+    /**
+     * 변경 이벤트용 월 단위 갱신 (호출한 쪽 트랜잭션과 분리된 새 트랜잭션)
+     * - 실패해도 이 달만 롤백되므로 호출한 쪽에서 예외를 잡고 다음 달을 계속 갱신할 수 있음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshInNewTransaction(YearMonth month, Collection<UUID> memberIds) {
+        refresh(month, memberIds);
+    }
+
+    /**
+     * 해당 월에 근태 기록 또는 합계가 있는 모든 직원 ID (재집계 배치 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> findRebuildTargets(YearMonth month) {
+        Set<UUID> memberIds = new LinkedHashSet<>(
+                dailyAttendanceRepository.findDistinctMemberIdsBetween(month.atDay(1), month.atEndOfMonth()));
+        memberIds.addAll(monthlyAttendanceSummaryRepository.findMemberIdsBySummaryMonth(month.atDay(1)));
+        return new ArrayList<>(memberIds);
+    }
+
+    /**
+     * 직원별 월간 합계 조회
+     * - 합계가 아직 만들어지지 않은 직원은 DailyAttendance에서 바로 집계한 값(미저장)으로 대체
+     * - 근태 기록이 없는 직원은 결과에 포함되지 않음
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, MonthlyAttendanceSummary> getSummaries(Collection<UUID> memberIds, YearMonth month) {
+        Map<UUID, MonthlyAttendanceSummary> summaries = new HashMap<>();
+        if (memberIds == null || memberIds.isEmpty()) {
+            return summaries;
+        }
+        LocalDate summaryMonth = month.atDay(1);
+
+        for (MonthlyAttendanceSummary summary : monthlyAttendanceSummaryRepository
+                .findAllByMemberIdInAndSummaryMonth(memberIds, summaryMonth)) {
+            summaries.put(summary.getMemberId(), summary);
+        }
+
+        List<UUID> missing = memberIds.stream().filter(id -> !summaries.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            aggregate(missing, month).forEach((memberId, stats) ->
+                    summaries.put(memberId, MonthlyAttendanceSummary.from(stats, summaryMonth)));
+        }
+        return summaries;
+    }
+
+    private Map<UUID, MonthlyAttendanceStats> aggregate(Collection<UUID> memberIds, YearMonth month) {
+        // 한 직원이 한 달 안에 회사를 옮긴 경우 먼저 조회된 회사 기준 (정상 데이터에서는 발생하지 않음)
+        return dailyAttendanceRepository
+                .aggregateMonthlyAttendance(memberIds, month.atDay(1), month.atEndOfMonth()).stream()
+                .collect(Collectors.toMap(MonthlyAttendanceStats::getMemberId, Function.identity(), (a, b) -> a));
+    }
+}
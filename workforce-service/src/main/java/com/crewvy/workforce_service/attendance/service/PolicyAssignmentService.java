@@ -3,6 +3,7 @@ package com.crewvy.workforce_service.attendance.service;
 import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.common.exception.BusinessException;
 import com.crewvy.common.exception.ResourceNotFoundException;
+import com.crewvy.workforce_service.aop.PermissionCache;
 import com.crewvy.workforce_service.attendance.constant.PolicyScopeType;
 import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
 import com.crewvy.workforce_service.attendance.dto.request.PolicyAssignmentRequest;
@@ -13,6 +14,7 @@ import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepositor
 import com.crewvy.workforce_service.attendance.repository.PolicyAssignmentRepository;
 import com.crewvy.workforce_service.attendance.repository.PolicyRepository;
 import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.OrganizationTreeCache;
 import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
 import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
 import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -36,12 +39,16 @@ public class PolicyAssignmentService {
     private final PolicyAssignmentRepository policyAssignmentRepository;
     private final PolicyRepository policyRepository;
     private final MemberClient memberClient;
+    private final OrganizationTreeCache organizationTreeCache;
+    private final PermissionCache permissionCache;
     private final MemberBalanceRepository memberBalanceRepository;
     private final AnnualLeaveAccrualService annualLeaveAccrualService;
+    private final EffectivePolicyCache effectivePolicyCache;
 
     /**
      * 직원에 대한 특정 타입의 유효 정책을 계층 구조 우선순위에 따라 조회합니다.
      * 우선순위: 직책(MEMBER_POSITION) > 개인(MEMBER) > 조직(ORGANIZATION) > 상위 조직 ... > 회사(COMPANY)
+     * 해석 결과는 EffectivePolicyCache에 (직책, 날짜)별로 캐시됩니다.
      * @param memberId 직원 ID
      * @param memberPositionId 직원의 직책 ID
      * @param companyId 회사 ID (멀티테넌트 보안)
@@ -49,69 +56,31 @@ public class PolicyAssignmentService {
      * @return 적용될 최종 정책 (없으면 null 반환)
      */
     public Policy findEffectivePolicyForMemberByType(UUID memberId, UUID memberPositionId, UUID companyId, PolicyTypeCode typeCode) {
-        log.info("[정책 조회 시작] memberId={}, memberPositionId={}, companyId={}, typeCode={}",
-                memberId, memberPositionId, companyId, typeCode);
-
-        // 1. 조직 계층 조회 (내 부서 → 상위부서 → 회사)
-        List<OrganizationRes> orgPath = new ArrayList<>();
-        try {
-            ApiResponse<List<OrganizationRes>> response = memberClient.getOrganizationList(memberPositionId);
-            if (response != null && response.getData() != null) {
-                orgPath = response.getData();
-            }
-            log.info("[조직 계층 조회] 조직 수={}, 조직 ID 목록={}",
-                    orgPath.size(), orgPath.stream().map(OrganizationRes::getId).collect(Collectors.toList()));
-        } catch (Exception e) {
-            throw new BusinessException("Member-service에서 조직 정보를 가져오는 데 실패했습니다.", e);
-        }
-
-        // 2. 탐색 우선순위 구성 (MEMBER_POSITION → MEMBER → ORGANIZATION → 상위 ORG → COMPANY)
-        List<PolicyTarget> priorityTargets = new ArrayList<>();
-        priorityTargets.add(new PolicyTarget(memberPositionId, PolicyScopeType.MEMBER_POSITION));
-        priorityTargets.add(new PolicyTarget(memberId, PolicyScopeType.MEMBER));
-        orgPath.forEach(org -> priorityTargets.add(new PolicyTarget(org.getId(), PolicyScopeType.ORGANIZATION)));
-        priorityTargets.add(new PolicyTarget(companyId, PolicyScopeType.COMPANY));
-
-        log.info("[탐색 우선순위] 총 대상 수={}, 대상 목록={}",
-                priorityTargets.size(),
-                priorityTargets.stream().map(t -> t.scopeType() + ":" + t.id()).collect(Collectors.toList()));
-
-        // 3. 활성 정책 조회 (회사 ID로 필터링하여 멀티테넌트 보안 강화)
-        List<UUID> targetIds = priorityTargets.stream().map(PolicyTarget::id).collect(Collectors.toList());
-        List<PolicyAssignment> assignments = policyAssignmentRepository.findActiveAssignmentsByTargets(targetIds, companyId, LocalDateTime.now().toLocalDate());
-
-        log.info("[활성 정책 조회] 조회된 정책 할당 수={}, 할당 목록={}",
-                assignments.size(),
-                assignments.stream().map(pa -> pa.getPolicy().getPolicyTypeCode() + ":" + pa.getScopeType() + ":" + pa.getTargetId()).collect(Collectors.toList()));
-
-        // 4. 타입 필터링
-        List<PolicyAssignment> filtered = assignments.stream()
-                .filter(pa -> pa.getPolicy().getPolicyTypeCode() == typeCode)
-                .collect(Collectors.toList());
-
-        log.info("[타입 필터링] typeCode={} 필터링 후 정책 수={}", typeCode, filtered.size());
-
-        // 5. 우선순위 순회 (scopeType + targetId 일치 시 즉시 반환)
-        for (PolicyTarget target : priorityTargets) {
-            for (PolicyAssignment pa : filtered) {
-                if (pa.getScopeType() == target.scopeType() &&
-                    pa.getTargetId().equals(target.id())) {
-                    log.info("[정책 발견] policyId={}, policyName={}, scopeType={}, targetId={}",
-                            pa.getPolicy().getId(), pa.getPolicy().getName(), pa.getScopeType(), pa.getTargetId());
-                    return pa.getPolicy();
-                }
-            }
+        Policy policy = effectivePolicyCache.get(memberId, memberPositionId, companyId, LocalDate.now()).find(typeCode);
+        if (policy == null) {
+            log.debug("[정책 없음] memberId={}, typeCode={} - 할당된 정책을 찾을 수 없습니다", memberId, typeCode);
         }
-
-        // 해당 타입의 정책이 없으면 null 반환
-        log.warn("[정책 없음] memberId={}, typeCode={} - 할당된 정책을 찾을 수 없습니다", memberId, typeCode);
-        return null;
+        return policy;
     }
 
     /**
-     * 정책 탐색을 위한 내부 레코드 (targetId + scopeType 쌍)
+     * 여러 직원에 대한 특정 타입의 유효 정책을 한 번에 조회합니다. (팀 화면, 배치 작업용)
+     * 조직 계층은 member-service에 한 번에 묻고, 정책 할당도 한 번의 조회로 해석합니다.
+     * @param companyId 회사 ID (멀티테넌트 보안)
+     * @param members 조회 대상 (직원 ID + 직책 ID)
+     * @param typeCode 조회할 정책 타입 코드
+     * @return memberPositionId별 적용될 최종 정책 (정책이 없는 직원은 포함하지 않음)
      */
-    private record PolicyTarget(UUID id, PolicyScopeType scopeType) {}
+    public Map<UUID, Policy> findEffectivePoliciesForMembers(UUID companyId, Collection<EffectivePolicyCache.MemberPositionRef> members, PolicyTypeCode typeCode) {
+        Map<UUID, Policy> policyByPosition = new HashMap<>();
+        effectivePolicyCache.getAll(companyId, members, LocalDate.now()).forEach((memberPositionId, snapshot) -> {
+            Policy policy = snapshot.find(typeCode);
+            if (policy != null) {
+                policyByPosition.put(memberPositionId, policy);
+            }
+        });
+        return policyByPosition;
+    }
 
     /**
      * 직원에 대한 유효 정책을 계층 구조 우선순위에 따라 조회합니다.
@@ -221,6 +190,7 @@ public class PolicyAssignmentService {
                 request.getAssignments().size(), newAssignments.size(), duplicateCount);
 
         List<PolicyAssignment> savedAssignments = policyAssignmentRepository.saveAll(newAssignments);
+        effectivePolicyCache.invalidateAllOnCommit();
 
         // ✅ 정책 할당 생성 후 member_balance 생성
         log.info("=== member_balance 생성 시작: 총 {}건의 할당 처리 ===", savedAssignments.size());
@@ -328,11 +298,11 @@ public class PolicyAssignmentService {
         final OrganizationNodeDto companyInfo;
 
         try {
-            ApiResponse<List<OrganizationNodeDto>> response = memberClient.getOrganization(memberId);
-            if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                companyInfo = response.getData().get(0); // 최상위 노드가 회사
+            List<OrganizationNodeDto> organizationTree = organizationTreeCache.get(memberId, companyId);
+            if (organizationTree != null && !organizationTree.isEmpty()) {
+                companyInfo = organizationTree.get(0); // 최상위 노드가 회사
 
-                Queue<OrganizationNodeDto> queue = new LinkedList<>(response.getData());
+                Queue<OrganizationNodeDto> queue = new LinkedList<>(organizationTree);
                 while (!queue.isEmpty()) {
                     OrganizationNodeDto node = queue.poll();
                     orgNameMap.put(node.getId(), node.getLabel());
@@ -391,6 +361,7 @@ public class PolicyAssignmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("해당 정책 할당을 찾을 수 없습니다. ID: " + assignmentId));
         
         policyAssignmentRepository.delete(assignment);
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     /**
@@ -422,6 +393,7 @@ public class PolicyAssignmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("해당 정책 할당을 찾을 수 없습니다. ID: " + assignmentId));
 
         assignment.deactivate();
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     /**
@@ -438,6 +410,7 @@ public class PolicyAssignmentService {
 
         // 정책 할당 비활성화
         assignmentsToRevoke.forEach(PolicyAssignment::deactivate);
+        effectivePolicyCache.invalidateAllOnCommit();
 
         // ✅ 연차 정책인 경우 member_balance 사용 불가 처리
         for (PolicyAssignment assignment : assignmentsToRevoke) {
@@ -464,6 +437,7 @@ public class PolicyAssignmentService {
 
         // 정책 할당 재활성화
         assignmentsToReactivate.forEach(PolicyAssignment::activate);
+        effectivePolicyCache.invalidateAllOnCommit();
 
         // ✅ 연차 정책인 경우 member_balance 재활성화
         for (PolicyAssignment assignment : assignmentsToReactivate) {
@@ -508,6 +482,7 @@ public class PolicyAssignmentService {
 
         // 3. 정책 할당 삭제
         policyAssignmentRepository.deleteAllById(assignmentIds);
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     /**
@@ -519,8 +494,7 @@ public class PolicyAssignmentService {
      * @throws com.crewvy.common.exception.PermissionDeniedException 권한이 없는 경우
      */
     private void checkPermission(UUID memberPositionId, String resource, String action, String range) {
-        Boolean hasPermission = memberClient.checkPermission(memberPositionId, resource, action, range).getData();
-        if (hasPermission == null || !hasPermission) {
+        if (!permissionCache.hasPermission(memberPositionId, resource, action, range)) {
             throw new com.crewvy.common.exception.PermissionDeniedException("권한이 없습니다.");
         }
     }
@@ -537,43 +511,7 @@ public class PolicyAssignmentService {
      */
     @Transactional(readOnly = true)
     public List<Policy> findAllAssignedPoliciesForMember(UUID memberId, UUID memberPositionId, UUID companyId) {
-        // 1. 조직 계층 조회
-        List<OrganizationRes> orgPath = new ArrayList<>();
-        try {
-            ApiResponse<List<OrganizationRes>> response = memberClient.getOrganizationList(memberPositionId);
-            if (response != null && response.getData() != null) {
-                orgPath = response.getData();
-            }
-        } catch (Exception e) {
-            throw new BusinessException("Member-service에서 조직 정보를 가져오는 데 실패했습니다.", e);
-        }
-
-        // 2. 탐색 우선순위 구성
-        List<PolicyTarget> priorityTargets = new ArrayList<>();
-        priorityTargets.add(new PolicyTarget(memberPositionId, PolicyScopeType.MEMBER_POSITION));
-        priorityTargets.add(new PolicyTarget(memberId, PolicyScopeType.MEMBER));
-        orgPath.forEach(org -> priorityTargets.add(new PolicyTarget(org.getId(), PolicyScopeType.ORGANIZATION)));
-        priorityTargets.add(new PolicyTarget(companyId, PolicyScopeType.COMPANY));
-
-        // 3. 활성 정책 조회
-        List<UUID> targetIds = priorityTargets.stream().map(PolicyTarget::id).collect(Collectors.toList());
-        List<PolicyAssignment> assignments = policyAssignmentRepository.findActiveAssignmentsByTargets(
-                targetIds, companyId, LocalDateTime.now().toLocalDate());
-
-        // 4. 타입별로 최우선 정책만 선택
-        Map<PolicyTypeCode, Policy> policyByType = new LinkedHashMap<>();
-        for (PolicyTarget target : priorityTargets) {
-            for (PolicyAssignment pa : assignments) {
-                if (pa.getScopeType() == target.scopeType() &&
-                    pa.getTargetId().equals(target.id())) {
-                    PolicyTypeCode typeCode = pa.getPolicy().getPolicyTypeCode();
-                    // 아직 이 타입의 정책이 선택되지 않았으면 추가 (우선순위 높은 것만)
-                    policyByType.putIfAbsent(typeCode, pa.getPolicy());
-                }
-            }
-        }
-
-        return new ArrayList<>(policyByType.values());
+        return new ArrayList<>(effectivePolicyCache.get(memberId, memberPositionId, companyId, LocalDate.now()).all());
     }
 
     /**
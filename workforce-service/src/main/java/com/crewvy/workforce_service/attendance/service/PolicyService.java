@@ -3,6 +3,7 @@ package com.crewvy.workforce_service.attendance.service;
 import com.crewvy.common.exception.BusinessException;
 import com.crewvy.common.exception.InvalidPolicyRuleException;
 import com.crewvy.common.exception.ResourceNotFoundException;
+import com.crewvy.workforce_service.aop.PermissionCache;
 import com.crewvy.workforce_service.attendance.constant.PolicyTypeCode;
 import com.crewvy.workforce_service.attendance.dto.request.PolicyCreateRequest;
 import com.crewvy.workforce_service.attendance.dto.request.PolicyUpdateRequest;
@@ -15,7 +16,6 @@ import com.crewvy.workforce_service.attendance.repository.PolicyAssignmentReposi
 import com.crewvy.workforce_service.attendance.repository.PolicyRepository;
 import com.crewvy.workforce_service.attendance.validation.PolicyRuleValidator;
 import com.crewvy.workforce_service.attendance.validation.PolicyValidatorFactory;
-import com.crewvy.workforce_service.feignClient.MemberClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -35,8 +35,9 @@ public class PolicyService {
     private final PolicyAssignmentService policyAssignmentService;
     private final PolicyAssignmentRepository policyAssignmentRepository;
     private final ObjectMapper objectMapper;
-    private final MemberClient memberClient;
+    private final PermissionCache permissionCache;
     private final PolicyValidatorFactory validatorFactory;
+    private final EffectivePolicyCache effectivePolicyCache;
 
     public PolicyResponse createPolicy(UUID memberpositionId, UUID companyId, UUID organizationId, PolicyCreateRequest request) {
 //        checkPermissionOrThrow(memberpositionId, "CREATE", "COMPANY", "회사 정책 생성 권한이 없습니다.");
@@ -66,6 +67,7 @@ public class PolicyService {
                 .build();
 
         Policy savedPolicy = policyRepository.save(newPolicy);
+        effectivePolicyCache.invalidateAllOnCommit();
         return new PolicyResponse(savedPolicy);
     }
 
@@ -115,6 +117,7 @@ public class PolicyService {
                 ruleDetails,
                 request.getAutoApprove()
         );
+        effectivePolicyCache.invalidateAllOnCommit();
         return new PolicyResponse(policy);
     }
 
@@ -130,6 +133,7 @@ public class PolicyService {
             throw new ResourceNotFoundException("ID에 해당하는 정책을 찾을 수 없습니다: " + policyId);
         }
         policyRepository.deleteById(policyId);
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     public void activatePolicies(UUID memberpositionId, UUID companyId, List<UUID> policyIds) {
@@ -141,6 +145,7 @@ public class PolicyService {
         }
         // 요청된 모든 정책을 활성화 상태로 변경
         policiesToActivate.forEach(Policy::activate);
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     public void deactivatePolicies(UUID memberpositionId, UUID companyId, List<UUID> policyIds) {
@@ -149,6 +154,7 @@ public class PolicyService {
         List<Policy> policies = policyRepository.findAllById(policyIds);
         policies.forEach(Policy::deactivate);
         policyRepository.saveAll(policies);
+        effectivePolicyCache.invalidateAllOnCommit();
     }
 
     public List<PolicyTypeResponse> findPolicyTypesByCompany(UUID memberpositionId, UUID companyId) {
@@ -223,8 +229,7 @@ public class PolicyService {
      * @throws com.crewvy.common.exception.PermissionDeniedException 권한이 없는 경우
      */
     private void checkPermission(UUID memberPositionId, String resource, String action, String range) {
-        Boolean hasPermission = memberClient.checkPermission(memberPositionId, resource, action, range).getData();
-        if (hasPermission == null || !hasPermission) {
+        if (!permissionCache.hasPermission(memberPositionId, resource, action, range)) {
             throw new com.crewvy.common.exception.PermissionDeniedException("권한이 없습니다.");
         }
     }
@@ -18,9 +18,12 @@ import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
 import com.crewvy.workforce_service.attendance.entity.MemberBalance;
 import com.crewvy.workforce_service.attendance.entity.Policy;
 import com.crewvy.workforce_service.attendance.entity.Request;
+import com.crewvy.workforce_service.attendance.event.DailyAttendanceChangedEvent;
 import com.crewvy.workforce_service.attendance.repository.*;
+import com.crewvy.workforce_service.salary.service.WorkingDayCalendar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -48,8 +51,8 @@ public class RequestService {
     private final DailyAttendanceRepository dailyAttendanceRepository;
     private final PolicyAssignmentService policyAssignmentService;
     private final com.crewvy.workforce_service.approval.repository.ApprovalDocumentRepository approvalDocumentRepository;
-    private final CompanyHolidayRepository companyHolidayRepository;
-    private final com.crewvy.workforce_service.salary.repository.HolidayRepository holidayRepository;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 휴가 신청 생성
@@ -876,6 +879,7 @@ public class RequestService {
         }
         if (!attendancesToUpdate.isEmpty()) {
             dailyAttendanceRepository.saveAll(attendancesToUpdate);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(attendancesToUpdate));
         }
     }
 
@@ -992,6 +996,7 @@ public class RequestService {
 
         if (!attendancesToSave.isEmpty()) {
             dailyAttendanceRepository.saveAll(attendancesToSave);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(attendancesToSave));
         }
     }
 
@@ -1180,6 +1185,7 @@ public class RequestService {
         
         if (!attendancesToSave.isEmpty()) {
             dailyAttendanceRepository.saveAll(attendancesToSave);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(attendancesToSave));
         }
     }
 
@@ -1301,6 +1307,7 @@ public class RequestService {
         
         if (!attendancesToSave.isEmpty()) {
             dailyAttendanceRepository.saveAll(attendancesToSave);
+            eventPublisher.publishEvent(DailyAttendanceChangedEvent.of(attendancesToSave));
         }
     }
     private void validateApprovalStatus(Request request) {
@@ -1482,19 +1489,8 @@ public class RequestService {
      * 휴일 여부 확인 (주말 또는 CompanyHoliday)
      */
     private boolean isHoliday(UUID companyId, LocalDate date) {
-        // 1. 주말(토요일, 일요일) 확인
-        java.time.DayOfWeek dayOfWeek = date.getDayOfWeek();
-        if (dayOfWeek == java.time.DayOfWeek.SATURDAY || dayOfWeek == java.time.DayOfWeek.SUNDAY) {
-            return true;
-        }
-
-        // 2. 국가 공휴일 확인 (Holidays 테이블)
-        if (holidayRepository.existsBySolarDate(date)) {
-            return true;
-        }
-
-        // 3. CompanyHoliday 확인
-        return companyHolidayRepository.existsByCompanyIdAndHolidayDate(companyId, date);
+        // 주말 / 국가 공휴일 / CompanyHoliday (근무일 캘린더에서 조회)
+        return workingDayCalendar.isNonWorkingDay(companyId, date);
     }
 
     /**
@@ -1737,8 +1733,7 @@ public class RequestService {
      * 주말(토요일, 일요일) 여부 확인
      */
     private boolean isWeekend(LocalDate date) {
-        java.time.DayOfWeek dayOfWeek = date.getDayOfWeek();
-        return dayOfWeek == java.time.DayOfWeek.SATURDAY || dayOfWeek == java.time.DayOfWeek.SUNDAY;
+        return workingDayCalendar.isWeekend(date);
     }
 
     /**
@@ -1748,17 +1743,8 @@ public class RequestService {
      * @return 비근무일이면 true
      */
     private boolean isNonWorkingDay(LocalDate date, UUID companyId) {
-        // 1. 주말 체크
-        if (isWeekend(date)) {
-            return true;
-        }
-        // 2. 법정 공휴일 체크 (Holidays 테이블)
-        if (holidayRepository.existsBySolarDate(date)) {
-            return true;
-        }
-        // 3. 회사 지정 휴일 체크 (CompanyHoliday 테이블) - 추후 확장용
-        // return companyHolidayRepository.existsByCompanyIdAndHolidayDate(companyId, date);
-        return false;
+        // 주말 + 법정 공휴일 (회사 지정 휴일은 추후 확장 시 companyId 전달)
+        return workingDayCalendar.isNonWorkingDay(null, date);
     }
 
     /**
@@ -1773,16 +1759,8 @@ public class RequestService {
             throw new BusinessException("시작일은 종료일보다 이후일 수 없습니다.");
         }
 
-        long workingDays = 0;
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            // 주말도 아니고 공휴일도 아니면 근무일로 카운트
-            if (!isNonWorkingDay(currentDate, companyId)) {
-                workingDays++;
-            }
-            currentDate = currentDate.plusDays(1);
-        }
+        // 주말도 아니고 공휴일도 아닌 날 (근무일 누적합으로 계산)
+        long workingDays = workingDayCalendar.countWorkingDays(null, startDate, endDate);
 
         log.debug("근무일 계산: {}~{} = {}일 (회사ID={})", startDate, endDate, workingDays, companyId);
         return workingDays;
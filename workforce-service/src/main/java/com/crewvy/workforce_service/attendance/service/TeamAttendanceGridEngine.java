@@ -0,0 +1,377 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.attendance.constant.PolicyScopeType;
+import com.crewvy.workforce_service.attendance.constant.RequestStatus;
+import com.crewvy.workforce_service.attendance.dto.response.TeamAttendanceGridRes;
+import com.crewvy.workforce_service.attendance.dto.response.TeamMemberAttendanceRes;
+import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
+import com.crewvy.workforce_service.attendance.entity.PolicyAssignment;
+import com.crewvy.workforce_service.attendance.entity.Request;
+import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
+import com.crewvy.workforce_service.attendance.repository.PolicyAssignmentRepository;
+import com.crewvy.workforce_service.attendance.repository.RequestRepository;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
+import com.crewvy.workforce_service.salary.service.WorkingDayCalendar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 근태 현황(직원 × 날짜) 그리드 생성
+ * - 직원을 먼저 페이징한 뒤 해당 페이지 직원만 조회하고 날짜로 펼침
+ * - 근태 기록과 승인된 신청은 (직원 순번, epochDay - 시작일) 정수 키로 평탄한 배열에 색인하여 셀마다 O(1) 조회
+ * - 휴일 여부는 셀이 아니라 날짜마다 한 번만 계산
+ * - 행 모드(TeamMemberAttendanceRes 페이지)와 열 지향 모드(TeamAttendanceGridRes) 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamAttendanceGridEngine {
+
+    private static final int FLAG_LATE = 1;
+    private static final int FLAG_EARLY_LEAVE = 2;
+    private static final int FLAG_REQUEST = 4;
+
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final RequestRepository requestRepository;
+    private final PolicyAssignmentRepository policyAssignmentRepository;
+    private final MemberClient memberClient;
+    private final WorkingDayCalendar workingDayCalendar;
+
+    /**
+     * 행 모드: (직원, 날짜) 한 칸이 한 행, 직원 순서 → 날짜 순서로 정렬된 행을 페이징
+     */
+    public Page<TeamMemberAttendanceRes> rows(UUID memberPositionId, UUID companyId, List<UUID> memberIds,
+                                              LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        int days = daysBetween(startDate, endDate);
+        long total = (long) memberIds.size() * days;
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long end = pageable.isPaged() ? Math.min(offset + pageable.getPageSize(), total) : total;
+        if (offset >= end) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 이 페이지에 걸치는 직원만 조회
+        int firstMember = (int) (offset / days);
+        int lastMember = (int) ((end - 1) / days);
+        Grid grid = load(memberPositionId, companyId, memberIds.subList(firstMember, lastMember + 1), startDate, days);
+
+        List<TeamMemberAttendanceRes> content = new ArrayList<>((int) (end - offset));
+        for (long row = offset; row < end; row++) {
+            content.add(grid.row((int) (row / days) - firstMember, (int) (row % days)));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 열 지향 모드: 직원 단위로 페이징하고 셀 값을 열(배열)로 반환
+     */
+    public TeamAttendanceGridRes columns(UUID memberPositionId, UUID companyId, List<UUID> memberIds,
+                                         LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        int days = daysBetween(startDate, endDate);
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), memberIds.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), memberIds.size()) : memberIds.size();
+        List<UUID> pageMemberIds = days > 0 ? memberIds.subList(from, to) : List.of();
+        Grid grid = load(memberPositionId, companyId, pageMemberIds, startDate, days);
+
+        int memberCount = pageMemberIds.size();
+        List<String> names = new ArrayList<>(memberCount);
+        List<String> departments = new ArrayList<>(memberCount);
+        List<String> titles = new ArrayList<>(memberCount);
+        List<String> effectivePolicies = new ArrayList<>(memberCount);
+        for (UUID memberId : pageMemberIds) {
+            MemberPositionListRes position = grid.positions.get(memberId);
+            names.add(position != null ? position.getMemberName() : "알 수 없음");
+            departments.add(position != null ? position.getOrganizationName() : "-");
+            titles.add(position != null ? position.getTitleName() : "-");
+            effectivePolicies.add(grid.policyNames.getOrDefault(memberId, "-"));
+        }
+
+        int cells = memberCount * days;
+        Map<String, Integer> statusDictionary = new LinkedHashMap<>();
+        int[] statusCodes = new int[cells];
+        int[] flags = new int[cells];
+        int[] clockInMinutes = new int[cells];
+        int[] clockOutMinutes = new int[cells];
+        int[] workedMinutes = new int[cells];
+        int[] extraMinutes = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            int dayIndex = cell % days;
+            DailyAttendance attendance = grid.attendances[cell];
+            Request request = grid.requests[cell];
+
+            String status = grid.statusOf(attendance, request, dayIndex);
+            statusCodes[cell] = status == null ? -1 : statusDictionary.computeIfAbsent(status, label -> statusDictionary.size());
+            clockInMinutes[cell] = -1;
+            clockOutMinutes[cell] = -1;
+            if (request != null) {
+                flags[cell] |= FLAG_REQUEST;
+            }
+            if (attendance != null) {
+                if (Boolean.TRUE.equals(attendance.getIsLate())) {
+                    flags[cell] |= FLAG_LATE;
+                }
+                if (Boolean.TRUE.equals(attendance.getIsEarlyLeave())) {
+                    flags[cell] |= FLAG_EARLY_LEAVE;
+                }
+                clockInMinutes[cell] = minuteOfDay(attendance.getFirstClockIn());
+                clockOutMinutes[cell] = minuteOfDay(attendance.getLastClockOut());
+                workedMinutes[cell] = attendance.getWorkedMinutes() != null ? attendance.getWorkedMinutes() : 0;
+                extraMinutes[cell] = extraMinutesOf(attendance);
+            }
+        }
+
+        return TeamAttendanceGridRes.builder()
+                .startDate(startDate.toString())
+                .endDate(endDate.toString())
+                .days(days)
+                .page(pageable.isPaged() ? pageable.getPageNumber() : 0)
+                .size(pageable.isPaged() ? pageable.getPageSize() : memberIds.size())
+                .totalMembers(memberIds.size())
+                .memberIds(List.copyOf(pageMemberIds))
+                .names(names)
+                .departments(departments)
+                .titles(titles)
+                .effectivePolicies(effectivePolicies)
+                .statusLabels(new ArrayList<>(statusDictionary.keySet()))
+                .statusCodes(statusCodes)
+                .flags(flags)
+                .clockInMinutes(clockInMinutes)
+                .clockOutMinutes(clockOutMinutes)
+                .workedMinutes(workedMinutes)
+                .extraMinutes(extraMinutes)
+                .build();
+    }
+
+    private Grid load(UUID memberPositionId, UUID companyId, List<UUID> memberIds, LocalDate startDate, int days) {
+        Grid grid = new Grid(memberIds, startDate, days);
+        if (memberIds.isEmpty() || days <= 0) {
+            return grid;
+        }
+        LocalDate endDate = startDate.plusDays(days - 1L);
+
+        // 근태 기록 색인 (같은 칸에 여러 건이면 먼저 조회된 기록 사용)
+        for (DailyAttendance attendance : dailyAttendanceRepository
+                .findAllByMemberIdInAndAttendanceDateBetween(memberIds, startDate, endDate)) {
+            int cell = grid.cellOf(attendance.getMemberId(), attendance.getAttendanceDate().toEpochDay());
+            if (cell >= 0 && grid.attendances[cell] == null) {
+                grid.attendances[cell] = attendance;
+            }
+        }
+
+        // 승인된 신청 색인 (기간 신청은 범위 안의 날짜마다, 같은 칸에 여러 건이면 먼저 조회된 신청 사용)
+        for (Request request : requestRepository.findApprovedRequestsByMemberIdsAndDateRange(
+                memberIds, startDate.atStartOfDay(), endDate.atTime(23, 59, 59), RequestStatus.APPROVED)) {
+            Integer memberIndex = grid.memberIndex.get(request.getMemberId());
+            if (memberIndex == null) {
+                continue;
+            }
+            long fromDay = Math.max(request.getStartDateTime().toLocalDate().toEpochDay(), grid.startEpochDay);
+            long toDay = Math.min(request.getEndDateTime().toLocalDate().toEpochDay(), grid.startEpochDay + days - 1);
+            for (long epochDay = fromDay; epochDay <= toDay; epochDay++) {
+                int cell = memberIndex * days + (int) (epochDay - grid.startEpochDay);
+                if (grid.requests[cell] == null) {
+                    grid.requests[cell] = request;
+                }
+            }
+        }
+
+        // 휴일 여부 (날짜마다 한 번)
+        for (int dayIndex = 0; dayIndex < days; dayIndex++) {
+            grid.nonWorkingDays[dayIndex] = workingDayCalendar.isNonWorkingDay(companyId, startDate.plusDays(dayIndex));
+        }
+
+        // 직책 정보 (member-service)
+        try {
+            ApiResponse<List<MemberPositionListRes>> response = memberClient.getDefaultPositionList(
+                    memberPositionId, IdListReq.builder().uuidList(memberIds).build());
+            if (response != null && response.getData() != null) {
+                response.getData().forEach(position -> grid.positions.put(position.getMemberId(), position));
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch position info from member-service", e);
+        }
+
+        // 직원별 적용 정책명 (MEMBER 스코프 우선, 없으면 다른 스코프)
+        for (PolicyAssignment assignment : policyAssignmentRepository
+                .findActiveAssignmentsWithPolicyByTargets(memberIds, companyId, startDate)) {
+            UUID targetId = assignment.getTargetId();
+            String policyName = assignment.getPolicy().getName();
+            if (assignment.getScopeType() == PolicyScopeType.MEMBER) {
+                grid.policyNames.put(targetId, policyName);
+            } else {
+                grid.policyNames.putIfAbsent(targetId, policyName);
+            }
+        }
+        return grid;
+    }
+
+    private static int daysBetween(LocalDate startDate, LocalDate endDate) {
+        return (int) Math.max(0, ChronoUnit.DAYS.between(startDate, endDate) + 1);
+    }
+
+    private static int minuteOfDay(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.getHour() * 60 + dateTime.getMinute() : -1;
+    }
+
+    // 추가 근무 시간 (연장 + 야간 + 휴일)
+    private static int extraMinutesOf(DailyAttendance attendance) {
+        int extraMinutes = 0;
+        if (attendance.getOvertimeMinutes() != null) {
+            extraMinutes += attendance.getOvertimeMinutes();
+        }
+        if (attendance.getNightWorkMinutes() != null) {
+            extraMinutes += attendance.getNightWorkMinutes();
+        }
+        if (attendance.getHolidayWorkMinutes() != null) {
+            extraMinutes += attendance.getHolidayWorkMinutes();
+        }
+        return extraMinutes;
+    }
+
+    private static String formatHours(int minutes) {
+        return String.format("%d시간 %d분", minutes / 60, minutes % 60);
+    }
+
+    private static String formatClock(LocalDateTime dateTime) {
+        return String.format("%02d:%02d", dateTime.getHour(), dateTime.getMinute());
+    }
+
+    /**
+     * 한 페이지 직원들의 (직원 × 날짜) 셀 색인
+     */
+    private static final class Grid {
+        private final List<UUID> memberIds;
+        private final Map<UUID, Integer> memberIndex;
+        private final LocalDate startDate;
+        private final long startEpochDay;
+        private final long todayEpochDay = LocalDate.now().toEpochDay();
+        private final int days;
+        private final DailyAttendance[] attendances;
+        private final Request[] requests;
+        private final boolean[] nonWorkingDays;
+        private final Map<UUID, MemberPositionListRes> positions = new HashMap<>();
+        private final Map<UUID, String> policyNames = new HashMap<>();
+
+        private Grid(List<UUID> memberIds, LocalDate startDate, int days) {
+            this.memberIds = memberIds;
+            this.memberIndex = new HashMap<>(memberIds.size() * 2);
+            for (int i = 0; i < memberIds.size(); i++) {
+                memberIndex.putIfAbsent(memberIds.get(i), i);
+            }
+            this.startDate = startDate;
+            this.startEpochDay = startDate.toEpochDay();
+            this.days = days;
+            this.attendances = new DailyAttendance[memberIds.size() * days];
+            this.requests = new Request[memberIds.size() * days];
+            this.nonWorkingDays = new boolean[days];
+        }
+
+        private int cellOf(UUID memberId, long epochDay) {
+            Integer index = memberIndex.get(memberId);
+            long dayIndex = epochDay - startEpochDay;
+            if (index == null || dayIndex < 0 || dayIndex >= days) {
+                return -1;
+            }
+            return index * days + (int) dayIndex;
+        }
+
+        /**
+         * 근태 상태 (한글): 승인된 신청 > 근태 기록 > 휴일이면 없음, 지난 평일은 결근, 오늘 이후는 미출근
+         */
+        private String statusOf(DailyAttendance attendance, Request request, int dayIndex) {
+            if (request != null && request.getPolicy() != null) {
+                return request.getPolicy().getPolicyTypeCode().getCodeName();
+            }
+            if (attendance != null && attendance.getStatus() != null) {
+                return attendance.getStatus().getCodeName();
+            }
+            if (nonWorkingDays[dayIndex]) {
+                return null;
+            }
+            return startEpochDay + dayIndex < todayEpochDay ? "결근" : "미출근";
+        }
+
+        private TeamMemberAttendanceRes row(int memberIndex, int dayIndex) {
+            int cell = memberIndex * days + dayIndex;
+            UUID memberId = memberIds.get(memberIndex);
+            DailyAttendance attendance = attendances[cell];
+            Request request = requests[cell];
+            MemberPositionListRes position = positions.get(memberId);
+
+            String requestType = null;
+            String requestReason = null;
+            if (request != null && request.getPolicy() != null) {
+                requestType = request.getPolicy().getPolicyTypeCode().getCodeName();
+                requestReason = request.getReason();
+            }
+
+            boolean isLate = false;
+            boolean isEarlyLeave = false;
+            String clockInTime = "-";
+            String clockOutTime = "-";
+            String workHours = "-";
+            String extraWorkHours = "-";
+            String totalWorkHours = "-";
+            if (attendance != null) {
+                isLate = Boolean.TRUE.equals(attendance.getIsLate());
+                isEarlyLeave = Boolean.TRUE.equals(attendance.getIsEarlyLeave());
+                if (attendance.getFirstClockIn() != null) {
+                    clockInTime = formatClock(attendance.getFirstClockIn());
+                }
+                if (attendance.getLastClockOut() != null) {
+                    clockOutTime = formatClock(attendance.getLastClockOut());
+                }
+
+                int extraMinutes = extraMinutesOf(attendance);
+                if (extraMinutes > 0) {
+                    extraWorkHours = formatHours(extraMinutes);
+                }
+                // 기본 근무 시간 = workedMinutes - 추가 근무 (workedMinutes에 추가 근무가 포함되어 있음)
+                if (attendance.getWorkedMinutes() != null && attendance.getWorkedMinutes() > 0) {
+                    int baseMinutes = attendance.getWorkedMinutes() - extraMinutes;
+                    if (baseMinutes > 0) {
+                        workHours = formatHours(baseMinutes);
+                    }
+                    totalWorkHours = formatHours(attendance.getWorkedMinutes());
+                }
+            }
+
+            return TeamMemberAttendanceRes.builder()
+                    .dailyAttendanceId(attendance != null ? attendance.getId() : null)
+                    .memberId(memberId)
+                    .name(position != null ? position.getMemberName() : "알 수 없음")
+                    .department(position != null ? position.getOrganizationName() : "-")
+                    .title(position != null ? position.getTitleName() : "-")
+                    .date(startDate.plusDays(dayIndex).toString())
+                    .status(statusOf(attendance, request, dayIndex))
+                    .isLate(isLate)
+                    .isEarlyLeave(isEarlyLeave)
+                    .clockInTime(clockInTime)
+                    .clockOutTime(clockOutTime)
+                    .workHours(workHours)
+                    .extraWorkHours(extraWorkHours)
+                    .totalWorkHours(totalWorkHours)
+                    .effectivePolicy(policyNames.getOrDefault(memberId, "-"))
+                    .requestType(requestType)
+                    .requestReason(requestReason)
+                    .build();
+        }
+    }
+}
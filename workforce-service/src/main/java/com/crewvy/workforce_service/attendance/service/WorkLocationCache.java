@@ -0,0 +1,86 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.attendance.entity.WorkLocation;
+import com.crewvy.workforce_service.attendance.repository.WorkLocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 근무지 로컬 캐시 (출퇴근 근무지 인증용)
+ * - 출근 시간대에는 같은 회사 직원들이 같은 근무지를 반복 조회하므로 id별로 짧게 보관
+ * - 캐시에 없는 id만 한 번의 IN 조회로 적재, 존재하지 않는 id도 기억해 반복 조회를 막음
+ * - 근무지 수정/삭제 시 invalidate, TTL은 다른 인스턴스에서 수정된 경우의 상한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkLocationCache {
+
+    private static final int MAX_LOCATIONS = 10_000;
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final WorkLocationRepository workLocationRepository;
+
+    private final Map<UUID, CachedLocation> locations = new ConcurrentHashMap<>();
+
+    /**
+     * id 목록의 근무지 조회 (요청한 id 순서 유지, 없는 id는 제외)
+     */
+    public List<WorkLocation> findAllById(Collection<UUID> ids) {
+        long now = System.nanoTime();
+        List<WorkLocation> result = new ArrayList<>(ids.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            CachedLocation cached = locations.get(id);
+            if (cached == null || now - cached.loadedAt() >= TTL_NANOS) {
+                missing.add(id);
+            } else if (cached.location() != null) {
+                result.add(cached.location());
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, WorkLocation> loaded = workLocationRepository.findAllById(missing).stream()
+                .collect(Collectors.toMap(WorkLocation::getId, Function.identity()));
+        evictIfFull(now);
+        for (UUID id : missing) {
+            WorkLocation location = loaded.get(id);
+            locations.put(id, new CachedLocation(location, now));
+            if (location != null) {
+                result.add(location);
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(UUID workLocationId) {
+        locations.remove(workLocationId);
+    }
+
+    private void evictIfFull(long now) {
+        if (locations.size() < MAX_LOCATIONS) {
+            return;
+        }
+        locations.values().removeIf(cached -> now - cached.loadedAt() >= TTL_NANOS);
+        if (locations.size() >= MAX_LOCATIONS) {
+            log.debug("근무지 캐시 용량 초과로 전체 비움: size={}", locations.size());
+            locations.clear();
+        }
+    }
+
+    private record CachedLocation(WorkLocation location, long loadedAt) {
+    }
+}
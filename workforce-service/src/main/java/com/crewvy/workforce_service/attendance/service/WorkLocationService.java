@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 public class WorkLocationService {
 
     private final WorkLocationRepository workLocationRepository;
+    private final WorkLocationCache workLocationCache;
 
     /**
      * 근무지 생성
@@ -115,6 +116,7 @@ public class WorkLocationService {
                 dto.getDescription()
         );
 
+        workLocationCache.invalidate(workLocationId);
         log.info("근무지 수정 완료: {} ({})", workLocation.getName(), workLocation.getId());
 
         return WorkLocationResponse.from(workLocation);
@@ -128,6 +130,7 @@ public class WorkLocationService {
                 .orElseThrow(() -> new ResourceNotFoundException("근무지를 찾을 수 없습니다."));
 
         workLocation.updateActiveStatus(!workLocation.getIsActive());
+        workLocationCache.invalidate(workLocationId);
 
         log.info("근무지 상태 변경: {} -> {} ({})",
                 workLocation.getName(),
@@ -148,6 +151,7 @@ public class WorkLocationService {
         // 실제로는 soft delete 또는 비활성화 권장
 
         workLocationRepository.delete(workLocation);
+        workLocationCache.invalidate(workLocationId);
 
         log.info("근무지 삭제 완료: {} ({})", workLocation.getName(), workLocation.getId());
     }
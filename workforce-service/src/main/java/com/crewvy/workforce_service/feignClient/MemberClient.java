@@ -9,9 +9,12 @@ import com.crewvy.workforce_service.feignClient.dto.response.NameDto;
 import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
 import com.crewvy.workforce_service.feignClient.dto.response.PositionDto;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @FeignClient(name = "member-service", url = "${feign.client.member-service.url}")
@@ -28,6 +31,12 @@ public interface MemberClient {
     @GetMapping("/organization/tree-with-members")
     ApiResponse<List<OrganizationNodeDto>> getOrganization(@RequestHeader("X-User-UUID") UUID uuid);
 
+    // 조건부 조회: ifNoneMatch가 현재 ETag와 같으면 304 (FeignException으로 전달됨)
+    @GetMapping("/organization/tree-with-members")
+    ResponseEntity<ApiResponse<List<OrganizationNodeDto>>> getOrganizationIfModified(
+            @RequestHeader("X-User-UUID") UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
     @GetMapping("/member/title")
     ApiResponse<List<TitleRes>>  getTitle(@RequestHeader("X-User-UUID") UUID uuid,
                                           @RequestHeader("X-User-MemberPositionId") UUID memberPositionId);
@@ -41,6 +50,10 @@ public interface MemberClient {
             @RequestParam("range") String range
     );
 
+    // 내부 전용: 직책이 가진 모든 권한 조회 ("resource:action:range" 형식, 권한 판정 캐시 적재용)
+    @GetMapping("/member/internal/position/{memberPositionId}/permission-grants")
+    ApiResponse<List<String>> getPermissionGrants(@PathVariable("memberPositionId") UUID memberPositionId);
+
     @PostMapping("/member/name-list")
     ApiResponse<List<NameDto>> getNameList(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
                                            @RequestBody IdListReq idListReq);
@@ -49,6 +62,10 @@ public interface MemberClient {
     @GetMapping("/member/organization-list")
     ApiResponse<List<OrganizationRes>> getOrganizationList(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId);
 
+    // 내부 전용: memberPositionId 목록 -> 직책별 조직 List (팀 단위 정책 조회용)
+    @PostMapping("/member/internal/organization-paths")
+    ApiResponse<Map<UUID, List<OrganizationRes>>> getOrganizationPaths(@RequestBody IdListReq idListReq);
+
     // 급여 계산용 회원 정보 조회 (companyId로 조회)
     @GetMapping("/member/{companyId}/salary-list")
     ApiResponse<List<MemberSalaryListRes>> getSalaryList(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
@@ -0,0 +1,122 @@
+package com.crewvy.workforce_service.feignClient;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.common.lookup.CoalescingBatchLoader;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
+import com.crewvy.workforce_service.feignClient.dto.response.NameDto;
+import com.crewvy.workforce_service.feignClient.dto.response.PositionDto;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 직원 표시 정보(이름, 부서, 직급) 조회 클라이언트
+ * - 목록 화면/알림의 보강 조회를 member-service 일괄 조회 API 한 번으로 병합하고 TTL 동안 로컬 캐시
+ * - 직원/조직/직책명 변경 이벤트로 무효화 (MemberLookupCacheEventListener), TTL은 이벤트 유실 대비 상한
+ * - 반환 DTO는 캐시와 공유되므로 수정하지 않는다
+ */
+@Component
+public class MemberLookupClient {
+
+    private static final Duration WINDOW = Duration.ofMillis(3);
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 20_000;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final MemberClient memberClient;
+
+    // memberPositionId → 직무 정보
+    private final CoalescingBatchLoader<UUID, PositionDto> positions;
+    // memberId → 기본 직무 정보
+    private final CoalescingBatchLoader<UUID, MemberPositionListRes> defaultPositions;
+    // memberId → 이름
+    private final CoalescingBatchLoader<UUID, String> names;
+
+    public MemberLookupClient(MemberClient memberClient) {
+        this.memberClient = memberClient;
+        this.positions = new CoalescingBatchLoader<>("member-positions", this::loadPositions,
+                WINDOW, TTL, MAX_ENTRIES, MAX_BATCH_SIZE);
+        this.defaultPositions = new CoalescingBatchLoader<>("member-default-positions", this::loadDefaultPositions,
+                WINDOW, TTL, MAX_ENTRIES, MAX_BATCH_SIZE);
+        this.names = new CoalescingBatchLoader<>("member-names", this::loadNames,
+                WINDOW, TTL, MAX_ENTRIES, MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @return memberPositionId → 직무 정보 (존재하지 않는 직무는 제외)
+     */
+    public Map<UUID, PositionDto> getPositions(Collection<UUID> memberPositionIds) {
+        return positions.getAll(memberPositionIds);
+    }
+
+    public Optional<PositionDto> getPosition(UUID memberPositionId) {
+        return Optional.ofNullable(positions.get(memberPositionId));
+    }
+
+    /**
+     * @return memberId → 기본 직무 정보 (존재하지 않는 직원은 제외)
+     */
+    public Map<UUID, MemberPositionListRes> getDefaultPositions(Collection<UUID> memberIds) {
+        return defaultPositions.getAll(memberIds);
+    }
+
+    /**
+     * @return memberId → 이름 (존재하지 않는 직원은 제외)
+     */
+    public Map<UUID, String> getNames(Collection<UUID> memberIds) {
+        return names.getAll(memberIds);
+    }
+
+    // 직원 저장/삭제: 해당 직원의 항목과 (새 직무일 수 있는) 빈 항목만 제거
+    public void invalidateMember(UUID memberId) {
+        positions.invalidateIf((memberPositionId, position) -> position == null || memberId.equals(position.getMemberId()));
+        defaultPositions.invalidate(memberId);
+        names.invalidate(memberId);
+    }
+
+    public void invalidateAll() {
+        positions.invalidateAll();
+        defaultPositions.invalidateAll();
+        names.invalidateAll();
+    }
+
+    // member-service 일괄 조회 API는 헤더의 직무 ID를 권한 확인에 쓰지 않으므로 조회 대상 중 하나를 전달
+    private Map<UUID, PositionDto> loadPositions(List<UUID> memberPositionIds) {
+        return toMap(memberClient.getPositionList(memberPositionIds.get(0), new IdListReq(memberPositionIds)),
+                PositionDto::getMemberPositionId);
+    }
+
+    private Map<UUID, MemberPositionListRes> loadDefaultPositions(List<UUID> memberIds) {
+        return toMap(memberClient.getDefaultPositionList(memberIds.get(0), new IdListReq(memberIds)),
+                MemberPositionListRes::getMemberId);
+    }
+
+    private Map<UUID, String> loadNames(List<UUID> memberIds) {
+        Map<UUID, NameDto> byMember = toMap(memberClient.getNameList(memberIds.get(0), new IdListReq(memberIds)),
+                NameDto::getMemberId);
+        if (byMember == null) {
+            return null;
+        }
+        return byMember.values().stream()
+                .filter(name -> name.getName() != null)
+                .collect(Collectors.toMap(NameDto::getMemberId, NameDto::getName));
+    }
+
+    // 실패 응답은 null (캐시하지 않음)
+    private <T> Map<UUID, T> toMap(ApiResponse<List<T>> response, Function<T, UUID> keyMapper) {
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            return null;
+        }
+        return response.getData().stream()
+                .filter(item -> keyMapper.apply(item) != null)
+                .collect(Collectors.toMap(keyMapper, item -> item, (a, b) -> a));
+    }
+}
@@ -0,0 +1,89 @@
+package com.crewvy.workforce_service.feignClient;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사별 조직 트리(멤버 포함) 로컬 사본
+ * - member-service가 내려준 ETag로 매번 조건부 조회, 304면 본문 전송/역직렬화 없이 로컬 사본 재사용
+ * - 조직 트리 버전이 바뀐 경우에만 새 트리를 받아 교체하고 색인(OrganizationTreeIndex)도 그때 한 번만 생성
+ * - 반환된 트리는 여러 요청이 공유하므로 읽기 전용으로 사용해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationTreeCache {
+
+    private static final int MAX_COMPANIES = 1_000;
+
+    private final MemberClient memberClient;
+
+    private final Map<UUID, CachedTree> treeByCompany = new ConcurrentHashMap<>();
+
+    /**
+     * @param memberId 요청자 ID (member-service가 소속 회사를 판별)
+     * @param companyId 요청자 회사 ID (로컬 사본 키)
+     * @return 조직 트리 (응답 본문이 비어 있으면 null)
+     */
+    public List<OrganizationNodeDto> get(UUID memberId, UUID companyId) {
+        CachedTree tree = fetch(memberId, companyId);
+        return tree != null ? tree.tree() : null;
+    }
+
+    /**
+     * 같은 트리 버전에 대해 한 번만 만든 색인 반환 (하위 조직 멤버/상위 조직 직책 조회용)
+     * @return 조직 트리 색인 (응답 본문이 비어 있으면 null)
+     */
+    public OrganizationTreeIndex getIndex(UUID memberId, UUID companyId) {
+        CachedTree tree = fetch(memberId, companyId);
+        return tree != null ? tree.index() : null;
+    }
+
+    private CachedTree fetch(UUID memberId, UUID companyId) {
+        CachedTree cached = treeByCompany.get(companyId);
+
+        ResponseEntity<ApiResponse<List<OrganizationNodeDto>>> response;
+        try {
+            response = memberClient.getOrganizationIfModified(memberId, cached != null ? cached.etag() : null);
+        } catch (FeignException e) {
+            if (cached != null && e.status() == HttpStatus.NOT_MODIFIED.value()) {
+                return cached;
+            }
+            throw e;
+        }
+
+        ApiResponse<List<OrganizationNodeDto>> body = response.getBody();
+        if (body == null || body.getData() == null) {
+            return null;
+        }
+
+        String etag = response.getHeaders().getETag();
+        CachedTree tree = new CachedTree(etag, body.getData(), new OrganizationTreeIndex(body.getData()));
+        if (etag != null) {
+            evictIfFull();
+            treeByCompany.put(companyId, tree);
+        }
+        return tree;
+    }
+
+    private void evictIfFull() {
+        if (treeByCompany.size() >= MAX_COMPANIES) {
+            log.debug("조직 트리 캐시 용량 초과로 전체 비움: size={}", treeByCompany.size());
+            treeByCompany.clear();
+        }
+    }
+
+    private record CachedTree(String etag, List<OrganizationNodeDto> tree, OrganizationTreeIndex index) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.crewvy.workforce_service.feignClient;
+
+import com.crewvy.workforce_service.feignClient.dto.response.MemberDto;
+import com.crewvy.workforce_service.feignClient.dto.response.OrganizationNodeDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 조직 트리 색인 (불변, 조직 트리 버전마다 한 번 생성)
+ * - 노드를 전위 순회 순서로 번호 매기고, 멤버도 같은 순서로 한 배열에 나열
+ *   → 한 조직의 하위 트리 멤버는 배열의 연속 구간 [memberStart, subtreeMemberEnd) (nested set)
+ * - 직원/직무 → 처음 나타나는 조직, 조직별 직책 → 첫 직무 맵을 미리 계산
+ * - 하위 트리 멤버 조회는 O(1), 상위 조직 직책 탐색은 O(깊이)
+ */
+public final class OrganizationTreeIndex {
+
+    private final Map<UUID, Integer> nodeById = new HashMap<>();
+    private final Map<UUID, Integer> nodeByMember = new HashMap<>();
+    private final Map<UUID, Integer> nodeByMemberPosition = new HashMap<>();
+    private final List<UUID> organizationIds = new ArrayList<>();
+    private final List<Integer> parents = new ArrayList<>();
+    private final List<Integer> memberStarts = new ArrayList<>();
+    private final List<Integer> subtreeMemberEnds = new ArrayList<>();
+    private final List<Map<UUID, UUID>> memberPositionByTitle = new ArrayList<>();
+    private final List<UUID> memberIds;
+
+    public OrganizationTreeIndex(List<OrganizationNodeDto> tree) {
+        List<UUID> members = new ArrayList<>();
+        for (OrganizationNodeDto root : tree) {
+            visit(root, -1, members);
+        }
+        this.memberIds = Collections.unmodifiableList(Arrays.asList(members.toArray(new UUID[0])));
+    }
+
+    private void visit(OrganizationNodeDto node, int parent, List<UUID> members) {
+        int index = organizationIds.size();
+        organizationIds.add(node.getId());
+        parents.add(parent);
+        memberStarts.add(members.size());
+        subtreeMemberEnds.add(members.size());
+        nodeById.putIfAbsent(node.getId(), index);
+
+        Map<UUID, UUID> byTitle = new HashMap<>();
+        if (node.getMembers() != null) {
+            for (MemberDto member : node.getMembers()) {
+                members.add(member.getId());
+                nodeByMember.putIfAbsent(member.getId(), index);
+                if (member.getMemberPositionId() != null) {
+                    nodeByMemberPosition.putIfAbsent(member.getMemberPositionId(), index);
+                }
+                if (member.getTitleId() != null) {
+                    byTitle.putIfAbsent(member.getTitleId(), member.getMemberPositionId());
+                }
+            }
+        }
+        memberPositionByTitle.add(byTitle.isEmpty() ? Map.of() : byTitle);
+
+        if (node.getChildren() != null) {
+            for (OrganizationNodeDto child : node.getChildren()) {
+                visit(child, index, members);
+            }
+        }
+        subtreeMemberEnds.set(index, members.size());
+    }
+
+    /**
+     * @return 직원이 (전위 순회 기준) 처음 나타나는 조직 ID (없으면 null)
+     */
+    public UUID findMemberOrganization(UUID memberId) {
+        Integer node = nodeByMember.get(memberId);
+        return node != null ? organizationIds.get(node) : null;
+    }
+
+    /**
+     * @return 직무가 (전위 순회 기준) 처음 나타나는 조직 ID (없으면 null)
+     */
+    public UUID findMemberPositionOrganization(UUID memberPositionId) {
+        Integer node = nodeByMemberPosition.get(memberPositionId);
+        return node != null ? organizationIds.get(node) : null;
+    }
+
+    /**
+     * @return 조직 및 하위 조직의 멤버 ID (전위 순회 순서, 여러 조직에 속한 직원은 중복 포함, 읽기 전용)
+     */
+    public List<UUID> memberIdsInSubtree(UUID organizationId) {
+        Integer node = nodeById.get(organizationId);
+        if (node == null) {
+            return List.of();
+        }
+        return memberIds.subList(memberStarts.get(node), subtreeMemberEnds.get(node));
+    }
+
+    /**
+     * @return 전체 멤버 ID (전위 순회 순서, 여러 조직에 속한 직원은 중복 포함, 읽기 전용)
+     */
+    public List<UUID> allMemberIds() {
+        return memberIds;
+    }
+
+    /**
+     * 조직부터 상위 조직으로 올라가며 해당 직책을 가진 첫 직무 탐색
+     * @return 직책을 가진 직무 ID (최상위까지 없으면 empty)
+     */
+    public Optional<UUID> findNearestMemberPositionWithTitle(UUID organizationId, UUID titleId) {
+        Integer node = nodeById.get(organizationId);
+        while (node != null && node >= 0) {
+            UUID memberPositionId = memberPositionByTitle.get(node).get(titleId);
+            if (memberPositionId != null) {
+                return Optional.of(memberPositionId);
+            }
+            node = parents.get(node);
+        }
+        return Optional.empty();
+    }
+}
@@ -4,14 +4,18 @@ import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationCreateReq;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationUpdateReq;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationUpdateStatusReq;
+import com.crewvy.workforce_service.reservation.dto.response.ReservationAvailabilityRes;
+import com.crewvy.workforce_service.reservation.dto.response.ReservationCursorPageRes;
 import com.crewvy.workforce_service.reservation.dto.response.ReservationRes;
 import com.crewvy.workforce_service.reservation.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,6 +45,34 @@ public class ReservationController {
         return new ResponseEntity<>(new ApiResponse<>(true, res, "예약 조회 성공"), HttpStatus.OK);
     }
 
+    // 기간별 예약 조회 (캘린더 주/월 보기)
+    @GetMapping("/window")
+    public ResponseEntity<?> windowReservationList(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
+                                                   @RequestHeader("X-User-CompanyId") UUID companyId,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                   @RequestParam(required = false) UUID reservationTypeId,
+                                                   @RequestParam(required = false) UUID categoryId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "100") int size) {
+        ReservationCursorPageRes res = reservationService.listByWindow(memberPositionId, companyId, from, to,
+                reservationTypeId, categoryId, cursor, size);
+        return new ResponseEntity<>(new ApiResponse<>(true, res, "기간별 예약 조회 성공"), HttpStatus.OK);
+    }
+
+    // 예약 자원별 사용 중 시간 비트맵 조회
+    @GetMapping("/availability")
+    public ResponseEntity<?> availability(@RequestHeader("X-User-MemberPositionId") UUID memberPositionId,
+                                          @RequestHeader("X-User-CompanyId") UUID companyId,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                          @RequestParam(required = false) UUID categoryId,
+                                          @RequestParam(defaultValue = "30") int slotMinutes) {
+        ReservationAvailabilityRes res = reservationService.availability(memberPositionId, companyId, from, to,
+                categoryId, slotMinutes);
+        return new ResponseEntity<>(new ApiResponse<>(true, res, "예약 가능 시간 조회 성공"), HttpStatus.OK);
+    }
+
     // 내 예약 조회
     @GetMapping("/myList")
     public ResponseEntity<?> myReservationList(@RequestHeader("X-User-CompanyId") UUID companyId,
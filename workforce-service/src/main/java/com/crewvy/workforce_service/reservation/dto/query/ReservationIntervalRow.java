@@ -0,0 +1,18 @@
+package com.crewvy.workforce_service.reservation.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 자원별 사용 구간 조회 프로젝션 (Reservation)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationIntervalRow {
+    private UUID reservationTypeId;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+}
@@ -0,0 +1,29 @@
+package com.crewvy.workforce_service.reservation.dto.query;
+
+import com.crewvy.common.entity.Bool;
+import com.crewvy.workforce_service.reservation.constant.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 기간별 예약 목록 조회 프로젝션 (Reservation)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationRow {
+    private UUID id;
+    private UUID reservationTypeId;
+    private UUID memberId;
+    private UUID companyId;
+    private ReservationStatus status;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private String title;
+    private int number;
+    private String note;
+    private int participant;
+    private Bool isRepeated;
+}
@@ -0,0 +1,41 @@
+package com.crewvy.workforce_service.reservation.dto.response;
+
+import com.crewvy.workforce_service.reservation.constant.ReservationTypeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 자원별 사용 중 시간 비트맵 응답
+ * - [from, to)를 slotMinutes 단위 slotCount개 칸으로 나누고, 예약과 조금이라도 겹치는 칸을 1로 표시
+ * - busyBitmap: 칸 i → (i / 8)번째 바이트의 (i % 8)번째 비트 (하위 비트부터), Base64 인코딩
+ *   뒤쪽의 0 바이트는 생략되므로 디코딩한 길이가 짧으면 나머지 칸은 비어 있음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationAvailabilityRes {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int slotMinutes;
+    private int slotCount;
+    private List<Resource> resources;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Resource {
+        private UUID reservationTypeId;
+        private String name;
+        private ReservationTypeStatus reservationTypeStatus;
+        private String busyBitmap;
+    }
+}
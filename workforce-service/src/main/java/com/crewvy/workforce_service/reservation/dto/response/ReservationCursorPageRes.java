@@ -0,0 +1,23 @@
+package com.crewvy.workforce_service.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기간별 예약 커서 기반 목록 응답
+ * - 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달 (hasNext가 false면 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationCursorPageRes {
+
+    private List<ReservationRes> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
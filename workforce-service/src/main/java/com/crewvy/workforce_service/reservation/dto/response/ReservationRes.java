@@ -2,6 +2,7 @@ package com.crewvy.workforce_service.reservation.dto.response;
 
 import com.crewvy.common.entity.Bool;
 import com.crewvy.workforce_service.reservation.constant.ReservationStatus;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationRow;
 import com.crewvy.workforce_service.reservation.entity.Reservation;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -54,6 +55,23 @@ public class ReservationRes {
 
         return reservationResBuilder.build();
     }
+
+    public static ReservationRes fromRow(ReservationRow row) {
+        return ReservationRes.builder()
+                .id(row.getId())
+                .reservationTypeId(row.getReservationTypeId())
+                .memberId(row.getMemberId())
+                .companyId(row.getCompanyId())
+                .status(row.getStatus())
+                .startDateTime(row.getStartDateTime())
+                .endDateTime(row.getEndDateTime())
+                .title(row.getTitle())
+                .number(row.getNumber())
+                .note(row.getNote())
+                .participant(row.getParticipant())
+                .isRepeated(row.getIsRepeated())
+                .build();
+    }
 }
 
 
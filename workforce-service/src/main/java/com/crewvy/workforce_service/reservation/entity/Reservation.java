@@ -9,7 +9,9 @@ import com.crewvy.workforce_service.reservation.converter.ReservationStatusConve
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Builder
@@ -18,8 +20,21 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_type_start", columnList = "type_id, start_date_time"),
+        @Index(name = "idx_reservation_company_span_start", columnList = "company_id, span_class, start_date_time")
+})
 public class Reservation extends BaseEntity {
 
+    /**
+     * 예약 길이 구간별 최대 길이 (span_class = 인덱스)
+     * 기간 조회 시 구간마다 시작 시각 하한(기간 시작 - 최대 길이)을 두어 (company_id, span_class, start_date_time) 범위 스캔
+     * 마지막 구간보다 긴 예약은 OPEN_SPAN_CLASS (하한 없음)
+     */
+    public static final List<Duration> SPAN_LIMITS = List.of(
+            Duration.ofDays(1), Duration.ofDays(7), Duration.ofDays(31));
+    public static final int OPEN_SPAN_CLASS = 3; // SPAN_LIMITS.size()
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -62,4 +77,25 @@ public class Reservation extends BaseEntity {
     @JoinColumn(name = "recurring_setting_id")
     private RecurringSetting recurringSetting;
 
+    // 예약 길이 구간 (SPAN_LIMITS), 저장 시 자동 계산. 컬럼 추가 전 예약은 null (하한 없이 조회)
+    private Integer spanClass;
+
+    @PrePersist
+    @PreUpdate
+    void updateSpanClass() {
+        this.spanClass = spanClassOf(startDateTime, endDateTime);
+    }
+
+    public static int spanClassOf(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (startDateTime == null || endDateTime == null) {
+            return OPEN_SPAN_CLASS;
+        }
+        Duration span = Duration.between(startDateTime, endDateTime);
+        for (int spanClass = 0; spanClass < SPAN_LIMITS.size(); spanClass++) {
+            if (span.compareTo(SPAN_LIMITS.get(spanClass)) <= 0) {
+                return spanClass;
+            }
+        }
+        return OPEN_SPAN_CLASS;
+    }
 }
@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
+public interface ReservationRepository extends JpaRepository<Reservation, UUID>, ReservationRepositoryCustom {
 
     List<Reservation> findByCompanyId(UUID companyId);
 
@@ -20,6 +20,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
                                                                                        LocalDateTime endDateTime,
                                                                                        LocalDateTime startDateTime);
 
+    // 예약 자원의 [startDateTime, endDateTime) 구간과 겹치는 예약 (반복 예약 전체 회차를 한 번에 검사하기 위한 구간 조회)
+    List<Reservation> findByReservationTypeIdAndStartDateTimeLessThanAndEndDateTimeGreaterThan(UUID reservationTypeId,
+                                                                                          LocalDateTime endDateTime,
+                                                                                          LocalDateTime startDateTime);
+
     List<Reservation> findAllByStartDateTimeIn(List<LocalDate> today);
 }
 
@@ -0,0 +1,25 @@
+package com.crewvy.workforce_service.reservation.repository;
+
+import com.crewvy.workforce_service.reservation.dto.query.ReservationIntervalRow;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReservationRepositoryCustom {
+
+    /**
+     * 회사 예약 중 [from, to) 구간과 겹치는 예약 (시작 시각, ID 오름차순 커서 페이징)
+     * @param reservationTypeId 예약 자원 필터 (null이면 전체)
+     * @param categoryId 예약 자원 분류 필터 (null이면 전체)
+     */
+    List<ReservationRow> findWindow(UUID companyId, LocalDateTime from, LocalDateTime to,
+                                    UUID reservationTypeId, UUID categoryId,
+                                    LocalDateTime cursorStartDateTime, UUID cursorId, int limit);
+
+    /**
+     * 회사 예약 중 [from, to) 구간과 겹치는 예약의 자원별 사용 구간 (빈 시간 비트맵 계산용)
+     */
+    List<ReservationIntervalRow> findIntervals(UUID companyId, LocalDateTime from, LocalDateTime to, UUID categoryId);
+}
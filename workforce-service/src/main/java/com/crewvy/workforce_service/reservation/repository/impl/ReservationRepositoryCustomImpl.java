@@ -0,0 +1,96 @@
+package com.crewvy.workforce_service.reservation.repository.impl;
+
+import com.crewvy.workforce_service.reservation.dto.query.ReservationIntervalRow;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationRow;
+import com.crewvy.workforce_service.reservation.entity.Reservation;
+import com.crewvy.workforce_service.reservation.repository.ReservationRepositoryCustom;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.crewvy.workforce_service.reservation.entity.QReservation.reservation;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ReservationRow> findWindow(UUID companyId, LocalDateTime from, LocalDateTime to,
+                                           UUID reservationTypeId, UUID categoryId,
+                                           LocalDateTime cursorStartDateTime, UUID cursorId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ReservationRow.class,
+                        reservation.id,
+                        reservation.reservationType.id,
+                        reservation.memberId,
+                        reservation.companyId,
+                        reservation.status,
+                        reservation.startDateTime,
+                        reservation.endDateTime,
+                        reservation.title,
+                        reservation.number,
+                        reservation.note,
+                        reservation.participant,
+                        reservation.isRepeated))
+                .from(reservation)
+                .where(overlapsWindow(companyId, from, to),
+                        reservationTypeIdEq(reservationTypeId),
+                        categoryIdEq(categoryId),
+                        afterCursor(cursorStartDateTime, cursorId))
+                .orderBy(reservation.startDateTime.asc(), reservation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ReservationIntervalRow> findIntervals(UUID companyId, LocalDateTime from, LocalDateTime to, UUID categoryId) {
+        return queryFactory
+                .select(Projections.constructor(ReservationIntervalRow.class,
+                        reservation.reservationType.id,
+                        reservation.startDateTime,
+                        reservation.endDateTime))
+                .from(reservation)
+                .where(overlapsWindow(companyId, from, to), categoryIdEq(categoryId))
+                .fetch();
+    }
+
+    // 예약 길이 구간(spanClass)마다 (company_id, span_class, start_date_time) 인덱스 범위 [from - 구간 최대 길이, to) 안에서
+    // 종료 시각으로 겹침 판정 (구간을 넘는 긴 예약과 구간 계산 전 예약은 하한 없이)
+    private BooleanExpression overlapsWindow(UUID companyId, LocalDateTime from, LocalDateTime to) {
+        BooleanExpression startInSpan = reservation.spanClass.isNull()
+                .or(reservation.spanClass.eq(Reservation.OPEN_SPAN_CLASS));
+        for (int spanClass = 0; spanClass < Reservation.SPAN_LIMITS.size(); spanClass++) {
+            startInSpan = startInSpan.or(reservation.spanClass.eq(spanClass)
+                    .and(reservation.startDateTime.goe(from.minus(Reservation.SPAN_LIMITS.get(spanClass)))));
+        }
+        return reservation.companyId.eq(companyId)
+                .and(startInSpan)
+                .and(reservation.startDateTime.lt(to))
+                .and(reservation.endDateTime.gt(from));
+    }
+
+    private BooleanExpression reservationTypeIdEq(UUID reservationTypeId) {
+        return reservationTypeId != null ? reservation.reservationType.id.eq(reservationTypeId) : null;
+    }
+
+    private BooleanExpression categoryIdEq(UUID categoryId) {
+        return categoryId != null ? reservation.reservationType.reservationCategory.id.eq(categoryId) : null;
+    }
+
+    // (startDateTime, id) 오름차순에서 커서 다음 행부터
+    private BooleanExpression afterCursor(LocalDateTime cursorStartDateTime, UUID cursorId) {
+        if (cursorStartDateTime == null || cursorId == null) {
+            return null;
+        }
+        return reservation.startDateTime.gt(cursorStartDateTime)
+                .or(reservation.startDateTime.eq(cursorStartDateTime).and(reservation.id.gt(cursorId)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.crewvy.workforce_service.reservation.service;
+
+import com.crewvy.common.exception.BusinessException;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 기간별 예약 목록 커서 (마지막으로 내려준 예약의 시작 시각, ID)
+ * 클라이언트에는 의미를 알 수 없는 Base64 문자열로만 노출
+ */
+record ReservationCursor(LocalDateTime startDateTime, UUID id) {
+
+    private static final String SEPARATOR = "_";
+
+    static ReservationCursor of(ReservationRow row) {
+        return new ReservationCursor(row.getStartDateTime(), row.getId());
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ReservationCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = startDateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
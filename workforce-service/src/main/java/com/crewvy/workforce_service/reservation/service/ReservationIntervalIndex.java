@@ -0,0 +1,109 @@
+package com.crewvy.workforce_service.reservation.service;
+
+import com.crewvy.workforce_service.reservation.entity.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 예약 자원 하나의 예약 구간 색인 (불변, 조회 구간마다 한 번 생성)
+ * - 기존 예약을 시작 시각 순으로 정렬하고, 앞에서부터의 최대 종료 시각(prefix max)을 함께 보관
+ *   → 후보 구간 [start, end)와 겹치는 예약이 있는지 이진 탐색 한 번으로 판단 (O(log n))
+ * - 반복 예약의 모든 회차를 한 번에 검사하여 충돌 회차를 모두 반환
+ */
+public final class ReservationIntervalIndex {
+
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] maxEnds;
+
+    public ReservationIntervalIndex(List<Reservation> reservations) {
+        List<Reservation> sorted = new ArrayList<>(reservations);
+        sorted.sort(Comparator.comparing(Reservation::getStartDateTime));
+
+        this.starts = new LocalDateTime[sorted.size()];
+        this.maxEnds = new LocalDateTime[sorted.size()];
+        LocalDateTime maxEnd = null;
+        for (int i = 0; i < sorted.size(); i++) {
+            Reservation reservation = sorted.get(i);
+            starts[i] = reservation.getStartDateTime();
+            if (maxEnd == null || reservation.getEndDateTime().isAfter(maxEnd)) {
+                maxEnd = reservation.getEndDateTime();
+            }
+            maxEnds[i] = maxEnd;
+        }
+    }
+
+    /**
+     * @return 후보 구간 [start, end)가 기존 예약과 겹치는지 여부
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        // 시작 시각이 end보다 앞선 예약 중 가장 늦게 끝나는 예약이 start 이후에 끝나면 겹침
+        int count = countStartsBefore(end);
+        return count > 0 && maxEnds[count - 1].isAfter(start);
+    }
+
+    /**
+     * 후보 구간들을 기존 예약 및 후보끼리 겹치는지 한 번에 검사
+     * @return 충돌하는 후보 구간 (시작 시각 순)
+     */
+    public List<Slot> findConflicts(List<Slot> candidates) {
+        List<Slot> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparing(Slot::start));
+
+        List<Slot> conflicts = new ArrayList<>();
+        LocalDateTime previousEnd = null;
+        for (Slot slot : sorted) {
+            boolean selfOverlap = previousEnd != null && previousEnd.isAfter(slot.start());
+            if (selfOverlap || overlaps(slot.start(), slot.end())) {
+                conflicts.add(slot);
+            }
+            if (previousEnd == null || slot.end().isAfter(previousEnd)) {
+                previousEnd = slot.end();
+            }
+        }
+        return conflicts;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    private int countStartsBefore(LocalDateTime time) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid].isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 예약 후보 구간 [start, end)
+     */
+    public record Slot(LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * @return 후보 구간 전체를 덮는 조회 구간 [최소 시작, 최대 종료)
+     */
+    public static Slot span(List<Slot> slots) {
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (Slot slot : slots) {
+            if (start == null || slot.start().isBefore(start)) {
+                start = slot.start();
+            }
+            if (end == null || slot.end().isAfter(end)) {
+                end = slot.end();
+            }
+        }
+        return new Slot(start, end);
+    }
+}
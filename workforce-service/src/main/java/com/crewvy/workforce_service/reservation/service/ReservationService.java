@@ -1,20 +1,22 @@
 package com.crewvy.workforce_service.reservation.service;
 
-import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.common.dto.ScheduleDeleteDto;
 import com.crewvy.common.dto.ScheduleDto;
 import com.crewvy.common.entity.Bool;
+import com.crewvy.common.exception.InvalidDateRangeException;
 import com.crewvy.common.exception.ResourceNotFoundException;
 import com.crewvy.workforce_service.aop.AuthUser;
 import com.crewvy.workforce_service.aop.CheckPermission;
-import com.crewvy.workforce_service.feignClient.MemberClient;
-import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
-import com.crewvy.workforce_service.feignClient.dto.response.NameDto;
+import com.crewvy.workforce_service.feignClient.MemberLookupClient;
 import com.crewvy.workforce_service.reservation.constant.DayOfWeek;
 import com.crewvy.workforce_service.reservation.constant.ReservationStatus;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationIntervalRow;
+import com.crewvy.workforce_service.reservation.dto.query.ReservationRow;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationCreateReq;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationUpdateReq;
 import com.crewvy.workforce_service.reservation.dto.request.ReservationUpdateStatusReq;
+import com.crewvy.workforce_service.reservation.dto.response.ReservationAvailabilityRes;
+import com.crewvy.workforce_service.reservation.dto.response.ReservationCursorPageRes;
 import com.crewvy.workforce_service.reservation.dto.response.ReservationRes;
 import com.crewvy.workforce_service.reservation.entity.RecurringSetting;
 import com.crewvy.workforce_service.reservation.entity.Reservation;
@@ -22,6 +24,7 @@ import com.crewvy.workforce_service.reservation.entity.ReservationType;
 import com.crewvy.workforce_service.reservation.repository.RecurringSettingRepository;
 import com.crewvy.workforce_service.reservation.repository.ReservationRepository;
 import com.crewvy.workforce_service.reservation.repository.ReservationTypeRepository;
+import com.crewvy.workforce_service.reservation.service.ReservationIntervalIndex.Slot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -32,6 +35,9 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -43,11 +49,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReservationService {
 
+    // 기간 조회 최대 범위 (월 보기 + 앞뒤 주)
+    private static final Duration MAX_WINDOW = Duration.ofDays(62);
+    private static final int MAX_WINDOW_PAGE_SIZE = 200;
+    private static final int MIN_SLOT_MINUTES = 5;
+    private static final int MAX_SLOT_MINUTES = 24 * 60;
+
     private final ApplicationEventPublisher eventPublisher;
     private final ReservationRepository reservationRepository;
     private final ReservationTypeRepository reservationTypeRepository;
     private final RecurringSettingRepository recurringSettingRepository;
-    private final MemberClient memberClient;
+    private final MemberLookupClient memberLookupClient;
 
     @Transactional
     @CheckPermission(resource = "reservation", action = "CREATE", scope = "INDIVIDUAL")
@@ -66,9 +78,9 @@ public class ReservationService {
                                                    ReservationCreateReq reservationCreateReq,
                                                    ReservationType type) {
 
-        checkOverlapping(reservationCreateReq.getReservationTypeId()
-                , reservationCreateReq.getStartDateTime()
-                , reservationCreateReq.getEndDateTime());
+        checkConflicts(type.getId(),
+                List.of(new Slot(reservationCreateReq.getStartDateTime(), reservationCreateReq.getEndDateTime())),
+                null);
 
         Reservation reservation = reservationCreateReq.toEntity(memberId,companyId, type);
         Reservation savedReservation = reservationRepository.save(reservation);
@@ -98,15 +110,17 @@ public class ReservationService {
             throw new IllegalArgumentException("반복될 예약 날짜가 없습니다.");
         }
 
-        List<Reservation> reservationsList = new ArrayList<>();
-
         Duration duration = Duration.between(reservationCreateReq.getStartDateTime(), reservationCreateReq.getEndDateTime());
+        List<Slot> slots = recurringStartTimes.stream()
+                .map(startTime -> new Slot(startTime, startTime.plus(duration)))
+                .toList();
 
-        for (LocalDateTime startTime : recurringStartTimes) {
+        // 전체 회차를 한 번에 검사 (예약 자원 행 잠금 하에서 수행되므로 동시 예약과 경합하지 않음)
+        checkConflicts(type.getId(), slots, null);
 
-            LocalDateTime endTime = startTime.plus(duration);
-            checkOverlapping(reservationCreateReq.getReservationTypeId(), startTime, endTime);
-            Reservation reservation = reservationCreateReq.toEntity(memberId, companyId, type, startTime, endTime);
+        List<Reservation> reservationsList = new ArrayList<>(slots.size());
+        for (Slot slot : slots) {
+            Reservation reservation = reservationCreateReq.toEntity(memberId, companyId, type, slot.start(), slot.end());
             reservation.setRecurringSetting(saved);
             reservationsList.add(reservation);
         }
@@ -132,11 +146,31 @@ public class ReservationService {
     }
 
 
-    private void checkOverlapping(UUID typeId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        boolean isOverlapping = reservationRepository.existsByReservationTypeIdAndStartDateTimeLessThanAndEndDateTimeGreaterThan(
-                typeId, endDateTime, startDateTime);
-        if (isOverlapping) {
-            throw new IllegalArgumentException("해당 시간대에 이미 예약된 자원이 있습니다: " + startDateTime);
+    /**
+     * 예약 후보 구간 전체를 기존 예약과 한 번에 검사
+     * - 전체 회차를 덮는 구간의 예약을 한 번만 조회하여 구간 색인을 만들고 각 회차는 색인으로 판단
+     * - 호출 측은 예약 자원 행을 잠근 상태여야 함 (findWithLockById) → 검사와 저장 사이에 다른 예약이 끼어들지 않음
+     * - 충돌하는 회차를 모두 모아 한 번에 알림
+     * @param excludedReservationId 충돌 검사에서 제외할 예약 (수정 대상 자신, 없으면 null)
+     */
+    private void checkConflicts(UUID typeId, List<Slot> slots, UUID excludedReservationId) {
+        for (Slot slot : slots) {
+            if (slot.start() == null || slot.end() == null || !slot.start().isBefore(slot.end())) {
+                throw new IllegalArgumentException("예약 종료 시간은 시작 시간 이후여야 합니다.");
+            }
+        }
+
+        Slot span = ReservationIntervalIndex.span(slots);
+        List<Reservation> existing = reservationRepository
+                .findByReservationTypeIdAndStartDateTimeLessThanAndEndDateTimeGreaterThan(typeId, span.end(), span.start())
+                .stream()
+                .filter(reservation -> !reservation.getId().equals(excludedReservationId))
+                .toList();
+
+        List<Slot> conflicts = new ReservationIntervalIndex(existing).findConflicts(slots);
+        if (!conflicts.isEmpty()) {
+            throw new IllegalArgumentException("해당 시간대에 이미 예약된 자원이 있습니다: "
+                    + conflicts.stream().map(slot -> slot.start().toString()).collect(Collectors.joining(", ")));
         }
     }
 
@@ -189,12 +223,8 @@ public class ReservationService {
             return response;
         }
 
-        IdListReq idListReq = new IdListReq(response.stream().map(ReservationRes::getMemberId).distinct().toList());
-        ApiResponse<List<NameDto>> nameDtoApiResponse = memberClient.getNameList(memberPositionId, idListReq);
-        List<NameDto> nameDtoList = nameDtoApiResponse.getData();
-
-        Map<UUID, String> memberIdToNameMap = nameDtoList.stream()
-                .collect(Collectors.toMap(NameDto::getMemberId, NameDto::getName));
+        Map<UUID, String> memberIdToNameMap = memberLookupClient.getNames(
+                response.stream().map(ReservationRes::getMemberId).distinct().toList());
 
         response.forEach(reservationRes -> {
             String memberName = memberIdToNameMap.get(reservationRes.getMemberId());
@@ -216,6 +246,114 @@ public class ReservationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 기간별 예약 목록 (캘린더 주/월 보기용)
+     * - [from, to)와 겹치는 예약만 (company_id, span_class, start_date_time) 인덱스 범위로 조회, 시작 시각 순 커서 페이징
+     * - 엔티티 대신 필요한 컬럼만 조회하고 이름은 직원 정보 캐시(MemberLookupClient)로 보강
+     */
+    @Transactional(readOnly = true)
+    @CheckPermission(resource = "reservation", action = "READ", scope = "INDIVIDUAL")
+    public ReservationCursorPageRes listByWindow(@AuthUser UUID memberPositionId, UUID companyId,
+                                                 LocalDateTime from, LocalDateTime to,
+                                                 UUID reservationTypeId, UUID categoryId,
+                                                 String cursor, int size) {
+        validateWindow(from, to);
+        int pageSize = Math.min(Math.max(size, 1), MAX_WINDOW_PAGE_SIZE);
+        ReservationCursor after = ReservationCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        List<ReservationRow> rows = reservationRepository.findWindow(
+                companyId, from, to,
+                reservationTypeId, categoryId,
+                after != null ? after.startDateTime() : null,
+                after != null ? after.id() : null,
+                pageSize + 1
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<UUID, String> memberIdToNameMap = memberLookupClient.getNames(
+                page.stream().map(ReservationRow::getMemberId).distinct().toList());
+        List<ReservationRes> content = page.stream()
+                .map(row -> {
+                    ReservationRes res = ReservationRes.fromRow(row);
+                    res.setName(memberIdToNameMap.get(row.getMemberId()));
+                    return res;
+                })
+                .toList();
+
+        return ReservationCursorPageRes.builder()
+                .content(content)
+                .nextCursor(hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 예약 자원별 사용 중 시간 비트맵
+     * - [from, to)를 slotMinutes 단위 칸으로 나누고 예약과 겹치는 칸을 표시 (비트맵 형식은 ReservationAvailabilityRes 참고)
+     * - 예약 내용 없이 자원별 (시작, 종료)만 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    @CheckPermission(resource = "reservation", action = "READ", scope = "INDIVIDUAL")
+    public ReservationAvailabilityRes availability(@AuthUser UUID memberPositionId, UUID companyId,
+                                                   LocalDateTime from, LocalDateTime to,
+                                                   UUID categoryId, int slotMinutes) {
+        validateWindow(from, to);
+        if (slotMinutes < MIN_SLOT_MINUTES || slotMinutes > MAX_SLOT_MINUTES) {
+            throw new IllegalArgumentException("시간 칸 단위는 " + MIN_SLOT_MINUTES + "분 이상 " + MAX_SLOT_MINUTES + "분 이하여야 합니다.");
+        }
+
+        long slotSeconds = slotMinutes * 60L;
+        long windowSeconds = Duration.between(from, to).toSeconds();
+        int slotCount = (int) ((windowSeconds + slotSeconds - 1) / slotSeconds);
+
+        Map<UUID, BitSet> busyByType = new HashMap<>();
+        List<ReservationIntervalRow> intervals = reservationRepository.findIntervals(
+                companyId, from, to, categoryId);
+        for (ReservationIntervalRow interval : intervals) {
+            long startSeconds = Math.max(0, Duration.between(from, interval.getStartDateTime()).toSeconds());
+            long endSeconds = Math.min(windowSeconds, Duration.between(from, interval.getEndDateTime()).toSeconds());
+            int firstSlot = (int) (startSeconds / slotSeconds);
+            int endSlot = (int) ((endSeconds + slotSeconds - 1) / slotSeconds);
+            if (endSlot > firstSlot) {
+                busyByType.computeIfAbsent(interval.getReservationTypeId(), typeId -> new BitSet(slotCount))
+                        .set(firstSlot, endSlot);
+            }
+        }
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<ReservationAvailabilityRes.Resource> resources = reservationTypeRepository.findByCompanyId(companyId)
+                .stream()
+                .filter(type -> categoryId == null || categoryId.equals(type.getReservationCategory().getId()))
+                .map(type -> ReservationAvailabilityRes.Resource.builder()
+                        .reservationTypeId(type.getId())
+                        .name(type.getName())
+                        .reservationTypeStatus(type.getReservationTypeStatus())
+                        .busyBitmap(encoder.encodeToString(
+                                busyByType.getOrDefault(type.getId(), new BitSet()).toByteArray()))
+                        .build())
+                .toList();
+
+        return ReservationAvailabilityRes.builder()
+                .from(from)
+                .to(to)
+                .slotMinutes(slotMinutes)
+                .slotCount(slotCount)
+                .resources(resources)
+                .build();
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidDateRangeException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new InvalidDateRangeException("조회 기간은 최대 " + MAX_WINDOW.toDays() + "일까지 가능합니다.");
+        }
+    }
+
 
     @Transactional
     @CheckPermission(resource = "reservation", action = "UPDATE", scope = "INDIVIDUAL")
@@ -223,12 +361,16 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("예약을 찾을 수 없습니다."));
 
-        if (req.getStartDateTime() != null) {
-            reservation.setStartDateTime(req.getStartDateTime());
-        }
+        if (req.getStartDateTime() != null || req.getEndDateTime() != null) {
+            LocalDateTime startDateTime = req.getStartDateTime() != null ? req.getStartDateTime() : reservation.getStartDateTime();
+            LocalDateTime endDateTime = req.getEndDateTime() != null ? req.getEndDateTime() : reservation.getEndDateTime();
+
+            ReservationType type = reservationTypeRepository.findWithLockById(reservation.getReservationType().getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("예약 자원을 찾을 수 없습니다."));
+            checkConflicts(type.getId(), List.of(new Slot(startDateTime, endDateTime)), reservation.getId());
 
-        if (req.getEndDateTime() != null) {
-            reservation.setEndDateTime(req.getEndDateTime());
+            reservation.setStartDateTime(startDateTime);
+            reservation.setEndDateTime(endDateTime);
         }
         if (req.getStatus() != null) {
             reservation.setStatus(req.getStatus());
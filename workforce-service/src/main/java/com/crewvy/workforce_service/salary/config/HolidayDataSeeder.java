@@ -2,6 +2,7 @@ package com.crewvy.workforce_service.salary.config;
 
 import com.crewvy.workforce_service.salary.entity.Holidays;
 import com.crewvy.workforce_service.salary.repository.HolidayRepository;
+import com.crewvy.workforce_service.salary.service.WorkingDayCalendar;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class HolidayDataSeeder implements ApplicationRunner {
 
     private final HolidayRepository holidayRepository;
     private final ObjectMapper objectMapper;
+    private final WorkingDayCalendar workingDayCalendar;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -35,6 +37,7 @@ public class HolidayDataSeeder implements ApplicationRunner {
                 });
 
                 holidayRepository.saveAll(holidays);
+                workingDayCalendar.invalidateAll();
 
                 log.info("공휴일 데이터 {}건 DB 저장 완료", holidays.size());
             } catch (Exception e) {
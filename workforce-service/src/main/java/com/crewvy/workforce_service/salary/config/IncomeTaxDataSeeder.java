@@ -3,6 +3,7 @@ package com.crewvy.workforce_service.salary.config;
 import com.crewvy.workforce_service.salary.entity.Holidays;
 import com.crewvy.workforce_service.salary.entity.IncomeTax;
 import com.crewvy.workforce_service.salary.repository.IncomeTaxRepository;
+import com.crewvy.workforce_service.salary.service.IncomeTaxService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import java.util.List;
 public class IncomeTaxDataSeeder implements ApplicationRunner {
 
     private final IncomeTaxRepository incomeTaxRepository;
+    private final IncomeTaxService incomeTaxService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -36,6 +38,7 @@ public class IncomeTaxDataSeeder implements ApplicationRunner {
                 });
 
                 incomeTaxRepository.saveAll(incomeTaxList);
+                incomeTaxService.reload();
 
                 log.info("근로소득 세액 데이터 {}건 DB 저장 완료", incomeTaxList.size());
             } catch (Exception e) {
@@ -30,4 +30,7 @@ public class IncomeTax {
 
     @Column(nullable = false)
     private long taxAmount;
+
+    // 적용 연도 (null이면 연도별 세액표가 없을 때 사용하는 기본 세액표)
+    private Integer effectiveYear;
 }
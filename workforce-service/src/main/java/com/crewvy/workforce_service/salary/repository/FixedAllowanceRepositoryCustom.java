@@ -3,9 +3,12 @@ package com.crewvy.workforce_service.salary.repository;
 import com.crewvy.workforce_service.salary.entity.FixedAllowance;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface FixedAllowanceRepositoryCustom {
     List<FixedAllowance> findActiveAllowances(UUID companyId, LocalDate endDate);
+
+    List<FixedAllowance> findActiveAllowances(UUID companyId, Collection<UUID> memberIds, LocalDate endDate);
 }
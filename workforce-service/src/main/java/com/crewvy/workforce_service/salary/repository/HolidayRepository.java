@@ -2,11 +2,18 @@ package com.crewvy.workforce_service.salary.repository;
 
 import com.crewvy.workforce_service.salary.entity.Holidays;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Repository
 public interface HolidayRepository extends JpaRepository<Holidays, Integer> {
     boolean existsBySolarDate(LocalDate date);
+
+    @Query("SELECT h.solarDate FROM Holidays h WHERE h.solarDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findSolarDatesBetween(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
 }
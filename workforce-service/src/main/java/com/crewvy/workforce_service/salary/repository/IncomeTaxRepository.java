@@ -6,9 +6,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface IncomeTaxRepository extends JpaRepository<IncomeTax, UUID>, IncomeTaxRepositoryCustom {
 
+    // 해당 연도에 적용할 세액표 연도 (연도별 세액표가 없으면 null)
+    @Query("SELECT MAX(t.effectiveYear) FROM IncomeTax t WHERE t.effectiveYear <= :taxYear")
+    Integer findLatestEffectiveYear(@Param("taxYear") int taxYear);
+
+    List<IncomeTax> findAllByEffectiveYear(Integer effectiveYear);
+
+    List<IncomeTax> findAllByEffectiveYearIsNull();
 }
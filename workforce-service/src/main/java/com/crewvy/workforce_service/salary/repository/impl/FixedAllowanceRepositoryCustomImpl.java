@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,4 +43,28 @@ public class FixedAllowanceRepositoryCustomImpl implements FixedAllowanceReposit
                 )
                 .fetch();
     }
+
+    @Override
+    public List<FixedAllowance> findActiveAllowances(UUID companyId, Collection<UUID> memberIds, LocalDate referenceDate) {
+
+        QFixedAllowance sh2 = new QFixedAllowance("sh2");
+
+        return queryFactory
+                .selectFrom(fixedAllowance)
+                .where(
+                        fixedAllowance.companyId.eq(companyId),
+                        fixedAllowance.memberId.in(memberIds),
+                        fixedAllowance.effectiveDate.loe(referenceDate),
+                        fixedAllowance.effectiveDate.eq(
+                                JPAExpressions
+                                        .select(sh2.effectiveDate.max())
+                                        .from(sh2)
+                                        .where(sh2.memberId.eq(fixedAllowance.memberId),
+                                                sh2.allowanceName.eq(fixedAllowance.allowanceName),
+                                                sh2.effectiveDate.loe(referenceDate)
+                                        )
+                        )
+                )
+                .fetch();
+    }
 }
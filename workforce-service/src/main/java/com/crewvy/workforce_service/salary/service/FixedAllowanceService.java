@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,6 +50,16 @@ public class FixedAllowanceService {
         return fixedAllowanceList.stream().map(FixedAllowanceRes::fromEntity).toList();
     }
 
+    // 급여 계산 청크 단위 조회 (권한 확인은 호출하는 급여 계산에서 수행)
+    @Transactional(readOnly = true)
+    public List<FixedAllowanceRes> getFixedAllowanceList(UUID companyId, Collection<UUID> memberIds, LocalDate endDate) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        List<FixedAllowance> fixedAllowanceList = fixedAllowanceRepository.findActiveAllowances(companyId, memberIds, endDate);
+        return fixedAllowanceList.stream().map(FixedAllowanceRes::fromEntity).toList();
+    }
+
     @Transactional
     @CheckPermission(resource = "salary", action = "CREATE", scope = "COMPANY")
     public void saveAllFixedAllowance(UUID memberPositionId, UUID companyId,
@@ -1,12 +1,10 @@
 package com.crewvy.workforce_service.salary.service;
 
 import com.crewvy.workforce_service.salary.constant.HolidayRule;
-import com.crewvy.workforce_service.salary.repository.HolidayRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 
 @Service
@@ -14,21 +12,15 @@ import java.time.LocalDate;
 @Slf4j
 public class HolidayService {
 
-    private final HolidayRepository holidayRepository;
+    private final WorkingDayCalendar workingDayCalendar;
 
     public boolean isWeekendOrHoliday(LocalDate date) {
         if (date == null) {
             return false;
         }
 
-        // 주말 확인 Java 내장 기능 사용
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return true; // 주말이면 바로 true 반환
-        }
-
-        // 주말이 아니면 db 에서 공휴일인지 확인
-        return holidayRepository.existsBySolarDate(date);
+        // 주말 또는 공휴일 (캘린더에서 조회)
+        return workingDayCalendar.isNonWorkingDay(null, date);
     }
 
     public LocalDate adjustForHoliday(LocalDate date, HolidayRule holidayRule) {
@@ -36,44 +28,19 @@ public class HolidayService {
             return date;
         }
 
-        LocalDate adjustedDate = date;
-        // isWeekendOrHoliday를 사용하여 주말 또는 공휴일이 아닐 때까지 날짜 조정
-        while (isWeekendOrHoliday(adjustedDate)) {
-            switch (holidayRule) {
-                case PREPAID:
-                    adjustedDate = adjustedDate.minusDays(1);
-                    break;
-                case POSTPAID:
-                    adjustedDate = adjustedDate.plusDays(1);
-                    break;
-                default:
-                    return date;
-            }
-        }
-        return adjustedDate;
+        // 주말 또는 공휴일이면 규칙에 따라 직전/직후 근무일로 조정
+        return switch (holidayRule) {
+            case PREPAID -> workingDayCalendar.previousWorkingDay(null, date);
+            case POSTPAID -> workingDayCalendar.nextWorkingDay(null, date);
+        };
     }
 
     // 기간 내 소정 일수 계산
     public int getScheduledWorkingDays(LocalDate startDate, LocalDate endDate) {
-        int workingDays = 0;
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            if (isWorkingDay(date)) {
-                workingDays++;
-            }
-        }
-        return workingDays;
+        return workingDayCalendar.countWorkingDays(null, startDate, endDate);
     }
 
     public boolean isWorkingDay(LocalDate date) {
-        // 주말인지 확인
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        boolean isWeekend = (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY);
-
-        if (isWeekend) {
-            return false;
-        }
-
-        // 공휴일인지 확인
-        return !holidayRepository.existsBySolarDate(date);
+        return !workingDayCalendar.isNonWorkingDay(null, date);
     }
 }
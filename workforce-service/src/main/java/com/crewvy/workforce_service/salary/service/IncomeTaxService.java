@@ -1,35 +1,52 @@
 package com.crewvy.workforce_service.salary.service;
 
+import com.crewvy.workforce_service.salary.entity.IncomeTax;
 import com.crewvy.workforce_service.salary.repository.IncomeTaxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 근로소득 간이세액 조회
+ * - 귀속 연도별 세액표를 처음 조회할 때 한 번 메모리에 적재하고 이후 조회는 DB를 거치지 않음
+ * - 세액표 데이터가 바뀌면 reload 호출
+ */
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class IncomeTaxService {
 
+    private static final long TABLE_MAX_INCOME = 10_000_000L;
+
     private final IncomeTaxRepository incomeTaxRepository;
 
-    // 근로 소득 계산
+    private final Map<Integer, IncomeTaxTable> tablesByTaxYear = new ConcurrentHashMap<>();
+
+    // 근로 소득 계산 (올해 세액표 기준)
     public double lookupTaxTable(long taxableIncome, int dependentCount) {
+        return lookupTaxTable(LocalDate.now().getYear(), taxableIncome, dependentCount);
+    }
 
-        long tableMaxIncome = 10_000_000L;
+    // 근로 소득 계산 (귀속 연도 세액표 기준)
+    public double lookupTaxTable(int taxYear, long taxableIncome, int dependentCount) {
+        return lookupTaxTable(tableFor(taxYear), taxableIncome, dependentCount);
+    }
+
+    // 근로 소득 계산 (이미 조회한 세액표 기준, 급여 일괄 계산용)
+    public double lookupTaxTable(IncomeTaxTable table, long taxableIncome, int dependentCount) {
+
+        long tableMaxIncome = TABLE_MAX_INCOME;
 
         if (taxableIncome <= tableMaxIncome) {
-            return Optional.ofNullable(
-                    incomeTaxRepository.findTaxAmount(taxableIncome, dependentCount)
-            ).orElse(0L);
+            return table.taxAmount(taxableIncome, dependentCount);
 
         } else {
-            long baseTaxAt10M = Optional.ofNullable(
-                    incomeTaxRepository.findTaxAmount(tableMaxIncome, dependentCount)
-            ).orElse(0L);
+            long baseTaxAt10M = table.taxAmount(tableMaxIncome, dependentCount);
 
             if (taxableIncome <= 14_000_000L) {
                 long excessIncome = taxableIncome - tableMaxIncome;
@@ -57,4 +74,30 @@ public class IncomeTaxService {
             }
         }
     }
+
+    /**
+     * 귀속 연도에 적용할 세액표
+     * - 해당 연도 이하의 가장 최근 연도별 세액표, 없으면 기본 세액표(effectiveYear 없음)
+     */
+    public IncomeTaxTable tableFor(int taxYear) {
+        return tablesByTaxYear.computeIfAbsent(taxYear, this::load);
+    }
+
+    /**
+     * 세액표 데이터 변경 시 적재된 세액표를 모두 비움 (다음 조회 시 다시 적재)
+     */
+    public void reload() {
+        tablesByTaxYear.clear();
+    }
+
+    private IncomeTaxTable load(int taxYear) {
+        Integer effectiveYear = incomeTaxRepository.findLatestEffectiveYear(taxYear);
+        List<IncomeTax> rows = (effectiveYear != null)
+                ? incomeTaxRepository.findAllByEffectiveYear(effectiveYear)
+                : incomeTaxRepository.findAllByEffectiveYearIsNull();
+
+        IncomeTaxTable table = IncomeTaxTable.of(effectiveYear, rows);
+        log.info("근로소득 세액표 적재: 귀속연도={}, 적용연도={}, 구간={}건", taxYear, effectiveYear, table.size());
+        return table;
+    }
 }
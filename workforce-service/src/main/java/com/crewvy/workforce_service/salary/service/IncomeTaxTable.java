@@ -0,0 +1,106 @@
+package com.crewvy.workforce_service.salary.service;
+
+import com.crewvy.workforce_service.salary.entity.IncomeTax;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 간이세액표 (적재 후 변경되지 않음)
+ * - 부양가족 수별로 구간 시작/끝/세액을 시작 금액 순으로 정렬된 long 배열에 보관
+ * - 조회는 이진 탐색 한 번으로 처리, 구간이 없으면 0 (DB 조회 시 null → 0 과 동일)
+ */
+public final class IncomeTaxTable {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Integer effectiveYear;
+    private final long[][] starts;  // [부양가족 수][구간]
+    private final long[][] ends;
+    private final long[][] amounts;
+    private final int size;
+
+    private IncomeTaxTable(Integer effectiveYear, long[][] starts, long[][] ends, long[][] amounts, int size) {
+        this.effectiveYear = effectiveYear;
+        this.starts = starts;
+        this.ends = ends;
+        this.amounts = amounts;
+        this.size = size;
+    }
+
+    public static IncomeTaxTable of(Integer effectiveYear, List<IncomeTax> rows) {
+        TreeMap<Integer, List<IncomeTax>> byDependent = new TreeMap<>();
+        for (IncomeTax row : rows) {
+            // 시작 ≥ 끝인 구간은 DB 조회(incomeStart <= x < incomeEnd)에서도 절대 선택되지 않으므로 제외
+            if (row.getDependentCount() < 0 || row.getIncomeEnd() <= row.getIncomeStart()) {
+                continue;
+            }
+            byDependent.computeIfAbsent(row.getDependentCount(), k -> new ArrayList<>()).add(row);
+        }
+
+        int maxDependent = byDependent.isEmpty() ? -1 : byDependent.lastKey();
+        long[][] starts = new long[maxDependent + 1][];
+        long[][] ends = new long[maxDependent + 1][];
+        long[][] amounts = new long[maxDependent + 1][];
+        int size = 0;
+
+        for (int dependent = 0; dependent <= maxDependent; dependent++) {
+            List<IncomeTax> brackets = byDependent.getOrDefault(dependent, new ArrayList<>());
+            brackets.sort(Comparator.comparingLong(IncomeTax::getIncomeStart));
+
+            long[] s = new long[brackets.size()];
+            long[] e = new long[brackets.size()];
+            long[] a = new long[brackets.size()];
+            for (int i = 0; i < brackets.size(); i++) {
+                IncomeTax bracket = brackets.get(i);
+                s[i] = bracket.getIncomeStart();
+                e[i] = bracket.getIncomeEnd();
+                a[i] = bracket.getTaxAmount();
+            }
+            starts[dependent] = s.length == 0 ? EMPTY : s;
+            ends[dependent] = e.length == 0 ? EMPTY : e;
+            amounts[dependent] = a.length == 0 ? EMPTY : a;
+            size += s.length;
+        }
+        return new IncomeTaxTable(effectiveYear, starts, ends, amounts, size);
+    }
+
+    /**
+     * 과세 소득이 속한 구간의 세액 (incomeStart <= income < incomeEnd)
+     */
+    public long taxAmount(long income, int dependentCount) {
+        if (dependentCount < 0 || dependentCount >= starts.length) {
+            return 0L;
+        }
+        long[] s = starts[dependentCount];
+
+        // 시작 금액이 income 이하인 마지막 구간
+        int low = 0;
+        int high = s.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (s[mid] <= income) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        if (found < 0 || ends[dependentCount][found] <= income) {
+            return 0L;
+        }
+        return amounts[dependentCount][found];
+    }
+
+    public Integer getEffectiveYear() {
+        return effectiveYear;
+    }
+
+    public int size() {
+        return size;
+    }
+}
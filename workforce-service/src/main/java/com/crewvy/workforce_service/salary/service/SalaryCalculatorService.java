@@ -31,6 +31,7 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -49,10 +50,26 @@ public class SalaryCalculatorService {
     private final IncomeTaxService incomeTaxService;
     private final PayrollProperties payrollProperties;
 
+    // 청크당 직원 수 (근태 합계 / 고정수당 조회 단위)
+    private static final int CHUNK_SIZE = 500;
+
     // 급여 계산 메서드
     @CheckPermission(resource = "salary", action = "CREATE", scope = "COMPANY")
     public List<SalaryCalculationRes> calculateSalary(@AuthUser UUID memberPositionId,
                                                       UUID companyId, YearMonth yearMonth) {
+        List<SalaryCalculationRes> result = new ArrayList<>();
+        calculateSalary(memberPositionId, companyId, yearMonth, result::addAll);
+        return result;
+    }
+
+    /**
+     * 급여 계산 (청크 단위 스트리밍)
+     * - 직원을 CHUNK_SIZE 단위로 나누어 근태 합계 / 고정수당을 청크별로 조회
+     * - 청크 내 직원별 계산은 DB 접근 없이 병렬로 수행하고, 계산이 끝난 청크부터 consumer로 전달
+     */
+    @CheckPermission(resource = "salary", action = "CREATE", scope = "COMPANY")
+    public void calculateSalary(@AuthUser UUID memberPositionId, UUID companyId, YearMonth yearMonth,
+                                Consumer<List<SalaryCalculationRes>> chunkConsumer) {
         // 산정 기간 계산
         SalaryPolicy salaryPolicy = salaryPolicyService.getLatestSalaryHistoryForCalculation(companyId);
         PayPeriodRes period =
@@ -60,7 +77,7 @@ public class SalaryCalculatorService {
         LocalDate startDate = period.getStartDate();
         LocalDate endDate = period.getEndDate();
 
-        // 급여 산정일 기준 기본급 조회
+        // 급여 산정일 기준 기본급 조회 (회원별 최신 이력 1건)
         List<SalaryHistory> salaryHistoryList = salaryHistoryService.getSalaryHistories(
                 new SalaryHistoryListReq(companyId, yearMonth)
         );
@@ -76,7 +93,7 @@ public class SalaryCalculatorService {
                             }
                         }));
 
-        Collection<SalaryHistory> newSalaryHistoryList = salaryHistoryMap.values();
+        List<SalaryHistory> newSalaryHistoryList = new ArrayList<>(salaryHistoryMap.values());
 
         // 회원 정보 조회
         ApiResponse<List<MemberSalaryListRes>> salaryListResponse =
@@ -87,176 +104,163 @@ public class SalaryCalculatorService {
         Map<UUID, MemberSalaryListRes> salaryMap = salaryList.stream()
                 .collect(Collectors.toMap(MemberSalaryListRes::getMemberId, s -> s));
 
-        // 급여 계산
-        List<SalaryCalculationRes> result = new ArrayList<>();
+        // 청크 공통 값
         int workingDays = holidayService.getScheduledWorkingDays(startDate, endDate);
 
-        Map<UUID, List<SalaryDetailRes>> allowanceMap = calculateAllowances(companyId, yearMonth, startDate, endDate);
-
-        List<FixedAllowanceRes> fixedAllowanceList =  fixedAllowanceService.getFixedAllowanceList(memberPositionId,
-                companyId, endDate);
-
-        Map<UUID, List<FixedAllowanceRes>> fixedAllowanceMap = fixedAllowanceList.stream()
-                .collect(Collectors.groupingBy(FixedAllowanceRes::getMemberId));
-
-        for (SalaryHistory salaryHistory : newSalaryHistoryList) {
-
-            BigInteger baseSalary = BigInteger.valueOf(salaryHistory.getBaseSalary());
+        List<PayrollItem> payrollItemList =
+                payrollItemRepository.findByCompanyIdIsNullAndSalaryTypeAndIsTaxableAndCalculationCodeNot(
+                        SalaryType.ALLOWANCE,
+                        Bool.TRUE,
+                        "BASE_SALARY");
 
-            // 1. 지급항목 (기본급 외)
-            List<SalaryDetailRes> allowanceList
-                    = allowanceMap.getOrDefault(salaryHistory.getMemberId(), new ArrayList<>());
+        PayrollContext context = new PayrollContext(
+                workingDays, startDate, endDate, payrollItemList,
+                incomeTaxService.tableFor(yearMonth.getYear()),
+                FixedPointRates.of(payrollProperties.getRates()));
 
-            // 2. 기본급을 지급항목 리스트에 추가
-            if (baseSalary.compareTo(BigInteger.ZERO) > 0) {
-                allowanceList.add(
-                        SalaryDetailRes.builder()
-                                .salaryName("기본급")
-                                .salaryType(SalaryType.ALLOWANCE.name())
-                                .amount(baseSalary)
-                                .build()
-                );
-            }
+        // 급여 계산
+        for (int from = 0; from < newSalaryHistoryList.size(); from += CHUNK_SIZE) {
+            List<SalaryHistory> chunk
+                    = newSalaryHistoryList.subList(from, Math.min(from + CHUNK_SIZE, newSalaryHistoryList.size()));
+            List<UUID> memberIds = chunk.stream().map(SalaryHistory::getMemberId).toList();
+
+            Map<UUID, DailyAttendanceRes> attendanceMap = attendanceService
+                    .getMemberAttendance(companyId, memberIds, startDate, endDate).stream()
+                    .collect(Collectors.toMap(DailyAttendanceRes::getMemberId, a -> a));
+
+            Map<UUID, List<FixedAllowanceRes>> fixedAllowanceMap = fixedAllowanceService
+                    .getFixedAllowanceList(companyId, memberIds, endDate).stream()
+                    .collect(Collectors.groupingBy(FixedAllowanceRes::getMemberId));
+
+            // 직원별 계산은 조회가 끝난 값만 사용하므로 병렬 처리
+            List<SalaryCalculationRes> chunkResult = chunk.parallelStream()
+                    .map(salaryHistory -> calculateMember(context, salaryHistory,
+                            attendanceMap.get(salaryHistory.getMemberId()),
+                            fixedAllowanceMap.getOrDefault(salaryHistory.getMemberId(), new ArrayList<>()),
+                            salaryMap.get(salaryHistory.getMemberId())))
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            chunkConsumer.accept(chunkResult);
+        }
+    }
 
-            // 3. 고정항목
-            List<FixedAllowanceRes> fixedList
-                    = fixedAllowanceMap.getOrDefault(salaryHistory.getMemberId(), new ArrayList<>());
+    // 직원 1명 급여 계산 (지급액이 없으면 null)
+    private SalaryCalculationRes calculateMember(PayrollContext context, SalaryHistory salaryHistory,
+                                                 DailyAttendanceRes attendance,
+                                                 List<FixedAllowanceRes> fixedList,
+                                                 MemberSalaryListRes memberInfo) {
 
-            BigInteger taxableIncome = allowanceList.stream()
-                    .map(SalaryDetailRes::getAmount)
-                    .reduce(BigInteger.ZERO, BigInteger::add);
+        long baseSalary = salaryHistory.getBaseSalary();
 
-            // 비과세 총액
-            BigInteger nonTaxableAmount = fixedList.stream()
-                    .map(allowance -> BigInteger.valueOf(allowance.getAmount()))
-                    .reduce(BigInteger.ZERO, BigInteger::add);
+        // 1. 지급항목 (기본급 외)
+        List<SalaryDetailRes> allowanceList = calculateAllowances(context, salaryHistory, attendance);
 
-            BigInteger totalAllowance = taxableIncome.add(nonTaxableAmount);
+        // 2. 기본급을 지급항목 리스트에 추가
+        if (baseSalary > 0) {
+            allowanceList.add(
+                    SalaryDetailRes.builder()
+                            .salaryName("기본급")
+                            .salaryType(SalaryType.ALLOWANCE.name())
+                            .amount(BigInteger.valueOf(baseSalary))
+                            .build()
+            );
+        }
 
-            List<SalaryDetailRes> deductionList = calculateDeductions(taxableIncome);
+        // 과세 총액
+        long taxableIncome = 0L;
+        for (SalaryDetailRes allowance : allowanceList) {
+            taxableIncome += allowance.getAmount().longValueExact();
+        }
 
-            // 총액
-            BigInteger totalDeduction = deductionList.stream()
-                    .map(SalaryDetailRes::getAmount)
-                    .reduce(BigInteger.ZERO, BigInteger::add);
+        // 3. 고정항목 (비과세 총액)
+        long nonTaxableAmount = 0L;
+        for (FixedAllowanceRes allowance : fixedList) {
+            nonTaxableAmount += allowance.getAmount();
+        }
 
-            // 지급액 없으면 pass
-            if (totalAllowance.equals(BigInteger.ZERO)) {
-                continue;
-            }
+        long totalAllowance = taxableIncome + nonTaxableAmount;
 
-            BigInteger netPay = totalAllowance.subtract(totalDeduction);
-
-            // 회원 정보 조회
-            MemberSalaryListRes memberInfo = salaryMap.get(salaryHistory.getMemberId());
-            String memberName = memberInfo != null ? memberInfo.getMemberName() : "";
-            String department = memberInfo != null ? memberInfo.getOrganizationName() : "";
-            String sabun = memberInfo != null ? memberInfo.getSabun() : "";
-
-            SalaryCalculationRes res = SalaryCalculationRes.builder()
-                    .salaryId(null)
-                    .memberId(salaryHistory.getMemberId())
-                    .sabun(sabun)
-                    .memberName(memberName)
-                    .department(department)
-                    .workingDays(workingDays)
-                    .periodStartDate(startDate)
-                    .periodEndDate(endDate)
-                    .paymentDate(endDate)
-                    .allowanceList(allowanceList)
-                    .deductionList(deductionList)
-                    .fixedList(fixedList)
-                    .totalAllowance(totalAllowance)
-                    .totalDeduction(totalDeduction)
-                    .netPay(netPay)
-                    .build();
-
-            result.add(res);
+        // 지급액 없으면 pass
+        if (totalAllowance == 0L) {
+            return null;
         }
 
-        return result;
-    }
+        List<SalaryDetailRes> deductionList = calculateDeductions(context, taxableIncome);
 
-    // 지급항목 계산
-    private Map<UUID, List<SalaryDetailRes>> calculateAllowances(UUID companyId, YearMonth yearMonth,
-                                                                 LocalDate startDate, LocalDate endDate) {
-        Map<UUID, List<SalaryDetailRes>> allowanceMap = new HashMap<>();
+        // 총액
+        long totalDeduction = 0L;
+        for (SalaryDetailRes deduction : deductionList) {
+            totalDeduction += deduction.getAmount().longValueExact();
+        }
 
-        List<PayrollItem> payrollItemList =
-                payrollItemRepository.findByCompanyIdIsNullAndSalaryTypeAndIsTaxableAndCalculationCodeNot(
-                        SalaryType.ALLOWANCE,
-                        Bool.TRUE,
-                        "BASE_SALARY");
+        long netPay = totalAllowance - totalDeduction;
 
-        List<DailyAttendanceRes> dailyAttendanceResList = attendanceService.getMemberAttendance(companyId
-                , startDate
-                , endDate);
+        // 회원 정보 조회
+        String memberName = memberInfo != null ? memberInfo.getMemberName() : "";
+        String department = memberInfo != null ? memberInfo.getOrganizationName() : "";
+        String sabun = memberInfo != null ? memberInfo.getSabun() : "";
+
+        return SalaryCalculationRes.builder()
+                .salaryId(null)
+                .memberId(salaryHistory.getMemberId())
+                .sabun(sabun)
+                .memberName(memberName)
+                .department(department)
+                .workingDays(context.workingDays())
+                .periodStartDate(context.startDate())
+                .periodEndDate(context.endDate())
+                .paymentDate(context.endDate())
+                .allowanceList(allowanceList)
+                .deductionList(deductionList)
+                .fixedList(fixedList)
+                .totalAllowance(BigInteger.valueOf(totalAllowance))
+                .totalDeduction(BigInteger.valueOf(totalDeduction))
+                .netPay(BigInteger.valueOf(netPay))
+                .build();
+    }
 
-        SalaryHistoryListReq salaryHistoryListReq = new SalaryHistoryListReq(companyId, yearMonth);
+    // 지급항목 계산 (근태 기반 수당, 금액은 원 단위 절사)
+    private List<SalaryDetailRes> calculateAllowances(PayrollContext context, SalaryHistory salaryHistory,
+                                                      DailyAttendanceRes attendance) {
+        List<SalaryDetailRes> allowanceList = new ArrayList<>();
+        if (attendance == null) {
+            return allowanceList;
+        }
 
-        List<SalaryHistory> salaryHistoryList = salaryHistoryService.getSalaryHistories(salaryHistoryListReq);
+        // 통상 시급 계산 → 분당 임금 (소수 둘째 자리까지, 1/100원 단위 정수로 보관)
+        BigDecimal hourlyWage = calculateHourlyWage(salaryHistory);
+        long minuteWageCents = hourlyWage.divide(new BigDecimal("60"), 2, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
 
-        Map<UUID, SalaryHistory> salaryHistoryMap = salaryHistoryList.stream()
-                .collect(Collectors.toMap(SalaryHistory::getMemberId
-                        , salaryHistory -> salaryHistory,
-                        (existingHistory, newHistory) -> {
+        for (PayrollItem payrollItem : context.payrollItems()) {
 
-                            if (newHistory.getUpdatedAt().isAfter(existingHistory.getUpdatedAt())) {
-                                return newHistory;
-                            } else {
-                                return existingHistory;
-                            }
-                        }));
+            String calcCode = payrollItem.getCalculationCode();
+            long amountMilli = 0L; // 1/1000원 단위 (분당 임금 1/100원 x 배율 1/10)
 
-        for (DailyAttendanceRes dailyAttendanceRes : dailyAttendanceResList) {
-            UUID memberId = dailyAttendanceRes.getMemberId();
+            if ("OVERTIME_ALLOWANCE".equals(calcCode) && attendance.getSumDaytimeOvertime() > 0) {
+                // 연장근로 (1.5배)
+                amountMilli = Math.multiplyExact(attendance.getSumDaytimeOvertime() * minuteWageCents, 15L);
 
-            SalaryHistory salaryHistory = salaryHistoryMap.get(memberId);
+            } else if ("NIGHT_WORK_ALLOWANCE".equals(calcCode) && attendance.getSumNightWork() > 0) {
+                // 야간근로 '가산' (0.5배)
+                amountMilli = Math.multiplyExact(attendance.getSumNightWork() * minuteWageCents, 5L);
 
-            if (salaryHistory == null) {
-                log.warn("급여 계약 정보가 없는 회원입니다 (계산 제외): {}", memberId);
-                continue;
+            } else if ("HOLIDAY_WORK_ALLOWANCE".equals(calcCode) && attendance.getSumHolidayWork() > 0) {
+                // 휴일근로 (1.5배)
+                amountMilli = Math.multiplyExact(attendance.getSumHolidayWork() * minuteWageCents, 15L);
             }
 
-            // 통상 시급 계산
-            BigDecimal hourlyWage = calculateHourlyWage(salaryHistory);
-            BigDecimal minuteWage = hourlyWage.divide(new BigDecimal("60"), 2, RoundingMode.HALF_UP);
-
-            for (PayrollItem payrollItem : payrollItemList) {
-
-                String calcCode = payrollItem.getCalculationCode();
-                BigDecimal amount = BigDecimal.ZERO;
-
-                if ("OVERTIME_ALLOWANCE".equals(calcCode) && dailyAttendanceRes.getSumDaytimeOvertime() > 0) {
-                    // 연장근로 (1.5배)
-                    BigDecimal minutes = new BigDecimal(dailyAttendanceRes.getSumDaytimeOvertime());
-                    amount = minutes.multiply(minuteWage).multiply(new BigDecimal("1.5"));
-
-                } else if ("NIGHT_WORK_ALLOWANCE".equals(calcCode) && dailyAttendanceRes.getSumNightWork() > 0) {
-                    // 야간근로 '가산' (0.5배)
-                    BigDecimal minutes = new BigDecimal(dailyAttendanceRes.getSumNightWork());
-                    amount = minutes.multiply(minuteWage).multiply(new BigDecimal("0.5"));
-
-                } else if ("HOLIDAY_WORK_ALLOWANCE".equals(calcCode) && dailyAttendanceRes.getSumHolidayWork() > 0) {
-                    // 휴일근로 (1.5배)
-                    BigDecimal minutes = new BigDecimal(dailyAttendanceRes.getSumHolidayWork());
-                    amount = minutes.multiply(minuteWage).multiply(new BigDecimal("1.5"));
-                }
-
-                if (amount.compareTo(BigDecimal.ZERO) > 0) {
-                    SalaryDetailRes salaryDetailRes = SalaryDetailRes.builder()
-                            .salaryName(payrollItem.getName())
-                            .salaryType(SalaryType.ALLOWANCE.name())
-                            .amount(amount.toBigInteger())
-                            .build();
-                    allowanceMap.computeIfAbsent(memberId, k -> new ArrayList<>()).add(salaryDetailRes);
-                }
-
+            if (amountMilli > 0) {
+                allowanceList.add(SalaryDetailRes.builder()
+                        .salaryName(payrollItem.getName())
+                        .salaryType(SalaryType.ALLOWANCE.name())
+                        .amount(BigInteger.valueOf(amountMilli / 1000L))
+                        .build());
             }
         }
 
-        return allowanceMap;
-
+        return allowanceList;
     }
 
     // 통상 시급 계산
@@ -279,71 +283,81 @@ public class SalaryCalculatorService {
         };
     }
 
-    // 공제항목 계산
-    private List<SalaryDetailRes> calculateDeductions(BigInteger taxableIncome) {
-        List<SalaryDetailRes> deductionList = new ArrayList<>();
-
-        PayrollProperties.Rates rates = payrollProperties.getRates();
-        BigDecimal taxableDecimal = new BigDecimal(taxableIncome);
+    // 공제항목 계산 (요율 적용 후 원 단위 절사)
+    private List<SalaryDetailRes> calculateDeductions(PayrollContext context, long taxableIncome) {
+        List<SalaryDetailRes> deductionList = new ArrayList<>(6);
+        FixedPointRates rates = context.rates();
 
         // 국민연금
-        BigDecimal nationalPension = taxableDecimal.multiply(rates.getNationalPension())
-                .setScale(0, RoundingMode.DOWN);
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("국민연금")
-                .salaryType(SalaryType.DEDUCTION.name())
-                .amount(nationalPension.toBigInteger())
-                .build());
+        deductionList.add(deduction("국민연금", rates.nationalPension().apply(taxableIncome)));
 
         // 건강보험
-        BigDecimal healthInsurance = taxableDecimal.multiply(rates.getHealthInsurance())
-                .setScale(0, RoundingMode.DOWN);
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("건강보험")
-                .salaryType(SalaryType.DEDUCTION.name())
-                .amount(healthInsurance.toBigInteger())
-                .build());
+        deductionList.add(deduction("건강보험", rates.healthInsurance().apply(taxableIncome)));
 
         // 장기요양보험
-        BigDecimal longTermCare = taxableDecimal.multiply(rates.getLongTermCareInsurance())
-                .setScale(0, RoundingMode.DOWN);
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("장기요양보험")
-                .salaryType(SalaryType.DEDUCTION.name())
-                .amount(longTermCare.toBigInteger())
-                .build());
+        deductionList.add(deduction("장기요양보험", rates.longTermCareInsurance().apply(taxableIncome)));
 
         // 고용보험
-        BigDecimal employmentInsurance = taxableDecimal.multiply(rates.getEmploymentInsurance())
-                .setScale(0, RoundingMode.DOWN);
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("고용보험")
-                .salaryType(SalaryType.DEDUCTION.name())
-                .amount(employmentInsurance.toBigInteger())
-                .build());
+        deductionList.add(deduction("고용보험", rates.employmentInsurance().apply(taxableIncome)));
 
         // 근로소득세
         int dependentCount = 1;
 
-        long incomeTaxLong = (long) incomeTaxService.lookupTaxTable(taxableIncome.longValue(), dependentCount);
+        long incomeTax = (long) incomeTaxService.lookupTaxTable(context.incomeTaxTable(), taxableIncome, dependentCount)
+                / 1000L;
+        deductionList.add(deduction("근로소득세", incomeTax));
 
-        BigDecimal incomeTax = BigDecimal.valueOf(incomeTaxLong / 1000L);
+        // 지방소득세
+        deductionList.add(deduction("지방소득세", rates.localIncomeTax().apply(incomeTax)));
 
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("근로소득세")
-                .salaryType(SalaryType.DEDUCTION.name())
-                .amount(incomeTax.toBigInteger())
-                .build());
+        return deductionList;
+    }
 
-        // 지방소득세
-        BigDecimal localIncomeTax = incomeTax.multiply(rates.getLocalIncomeTax())
-                .setScale(0, RoundingMode.DOWN);
-        deductionList.add(SalaryDetailRes.builder()
-                .salaryName("지방소득세")
+    private SalaryDetailRes deduction(String salaryName, long amount) {
+        return SalaryDetailRes.builder()
+                .salaryName(salaryName)
                 .salaryType(SalaryType.DEDUCTION.name())
-                .amount(localIncomeTax.toBigInteger())
-                .build());
+                .amount(BigInteger.valueOf(amount))
+                .build();
+    }
 
-        return deductionList;
+    // 급여 계산 1회 동안 모든 청크가 공유하는 값 (병렬 계산 중 읽기 전용)
+    private record PayrollContext(int workingDays, LocalDate startDate, LocalDate endDate,
+                                  List<PayrollItem> payrollItems, IncomeTaxTable incomeTaxTable,
+                                  FixedPointRates rates) {
+    }
+
+    /**
+     * 요율을 정수 분자/분모로 바꿔 둔 값
+     * - amount x rate 를 소수점 이하 절사한 결과가 BigDecimal 계산(setScale(0, DOWN))과 동일
+     */
+    private record FixedPointRate(long numerator, long denominator) {
+
+        static FixedPointRate of(BigDecimal rate) {
+            BigDecimal normalized = rate.stripTrailingZeros();
+            if (normalized.scale() <= 0) {
+                return new FixedPointRate(normalized.longValueExact(), 1L);
+            }
+            return new FixedPointRate(normalized.unscaledValue().longValueExact(),
+                    BigInteger.TEN.pow(normalized.scale()).longValueExact());
+        }
+
+        long apply(long amount) {
+            return Math.multiplyExact(amount, numerator) / denominator;
+        }
+    }
+
+    private record FixedPointRates(FixedPointRate nationalPension, FixedPointRate healthInsurance,
+                                   FixedPointRate longTermCareInsurance, FixedPointRate employmentInsurance,
+                                   FixedPointRate localIncomeTax) {
+
+        static FixedPointRates of(PayrollProperties.Rates rates) {
+            return new FixedPointRates(
+                    FixedPointRate.of(rates.getNationalPension()),
+                    FixedPointRate.of(rates.getHealthInsurance()),
+                    FixedPointRate.of(rates.getLongTermCareInsurance()),
+                    FixedPointRate.of(rates.getEmploymentInsurance()),
+                    FixedPointRate.of(rates.getLocalIncomeTax()));
+        }
     }
 }
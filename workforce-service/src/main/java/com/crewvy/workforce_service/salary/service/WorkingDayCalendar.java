@@ -0,0 +1,210 @@
+package com.crewvy.workforce_service.salary.service;
+
+import com.crewvy.workforce_service.attendance.repository.CompanyHolidayRepository;
+import com.crewvy.workforce_service.salary.repository.HolidayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근무일 캘린더
+ * - 연도별 비근무일(주말 + 법정 공휴일 + 회사 휴일)을 BitSet으로 적재하여 날짜 조회를 O(1)로 처리
+ * - 근무일 누적합으로 기간 내 근무일 수를 DB 조회 없이 계산
+ * - companyId가 null이면 법정 공휴일만 반영한 공통 캘린더
+ * - 휴일 데이터가 바뀌면 invalidate 호출, TTL은 DB 직접 수정에 대비한 상한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkingDayCalendar {
+
+    private static final long TTL_NANOS = Duration.ofHours(1).toNanos();
+
+    private final HolidayRepository holidayRepository;
+    private final CompanyHolidayRepository companyHolidayRepository;
+
+    private final Map<CalendarKey, YearCalendar> calendars = new ConcurrentHashMap<>();
+
+    public boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * 법정 공휴일 여부
+     */
+    public boolean isPublicHoliday(LocalDate date) {
+        return yearOf(null, date.getYear()).publicHolidays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 회사 지정 휴일 여부 (법정 공휴일 제외)
+     */
+    public boolean isCompanyHoliday(UUID companyId, LocalDate date) {
+        if (companyId == null) {
+            return false;
+        }
+        return yearOf(companyId, date.getYear()).companyHolidays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 비근무일 여부 (주말 / 법정 공휴일 / 회사 휴일)
+     * @param companyId null이면 회사 휴일은 반영하지 않음
+     */
+    public boolean isNonWorkingDay(UUID companyId, LocalDate date) {
+        return yearOf(companyId, date.getYear()).nonWorkingDays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 기간 내 근무일 수 (시작일, 종료일 포함)
+     */
+    public int countWorkingDays(UUID companyId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+
+        int workingDays = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            YearCalendar calendar = yearOf(companyId, year);
+            int from = (year == startDate.getYear()) ? startDate.getDayOfYear() - 1 : 0;
+            int to = (year == endDate.getYear()) ? endDate.getDayOfYear() : calendar.length;
+            workingDays += calendar.workingDayPrefix[to] - calendar.workingDayPrefix[from];
+        }
+        return workingDays;
+    }
+
+    /**
+     * 해당 날짜 또는 그 이후의 가장 가까운 근무일
+     */
+    public LocalDate nextWorkingDay(UUID companyId, LocalDate date) {
+        int year = date.getYear();
+        int fromIndex = date.getDayOfYear() - 1;
+        while (true) {
+            YearCalendar calendar = yearOf(companyId, year);
+            int index = calendar.nonWorkingDays.nextClearBit(fromIndex);
+            if (index < calendar.length) {
+                return LocalDate.ofYearDay(year, index + 1);
+            }
+            year++;
+            fromIndex = 0;
+        }
+    }
+
+    /**
+     * 해당 날짜 또는 그 이전의 가장 가까운 근무일
+     */
+    public LocalDate previousWorkingDay(UUID companyId, LocalDate date) {
+        int year = date.getYear();
+        int fromIndex = date.getDayOfYear() - 1;
+        while (true) {
+            YearCalendar calendar = yearOf(companyId, year);
+            int index = calendar.nonWorkingDays.previousClearBit(fromIndex);
+            if (index >= 0) {
+                return LocalDate.ofYearDay(year, index + 1);
+            }
+            year--;
+            fromIndex = LocalDate.of(year, 12, 31).getDayOfYear() - 1;
+        }
+    }
+
+    /**
+     * 회사 휴일 변경 시 해당 회사 캘린더만 무효화
+     */
+    public void invalidate(UUID companyId) {
+        calendars.keySet().removeIf(key -> Objects.equals(key.companyId(), companyId));
+    }
+
+    /**
+     * 법정 공휴일 변경 시 전체 무효화 (회사 캘린더도 공휴일을 포함하므로)
+     */
+    public void invalidateAll() {
+        calendars.clear();
+    }
+
+    private YearCalendar yearOf(UUID companyId, int year) {
+        CalendarKey key = new CalendarKey(companyId, year);
+        long now = System.nanoTime();
+        YearCalendar cached = calendars.get(key);
+        if (cached != null && now - cached.loadedAt < TTL_NANOS) {
+            return cached;
+        }
+
+        YearCalendar loaded = load(companyId, year, now);
+        calendars.put(key, loaded);
+        return loaded;
+    }
+
+    private YearCalendar load(UUID companyId, int year, long now) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        LocalDate endDate = LocalDate.of(year, 12, 31);
+
+        BitSet publicHolidays;
+        BitSet companyHolidays;
+        if (companyId == null) {
+            publicHolidays = toDayBits(holidayRepository.findSolarDatesBetween(startDate, endDate));
+            companyHolidays = new BitSet();
+        } else {
+            publicHolidays = yearOf(null, year).publicHolidays;
+            companyHolidays = toDayBits(companyHolidayRepository.findHolidayDatesBetween(companyId, startDate, endDate));
+        }
+
+        log.debug("근무일 캘린더 적재: companyId={}, year={}, 공휴일={}일, 회사휴일={}일",
+                companyId, year, publicHolidays.cardinality(), companyHolidays.cardinality());
+        return new YearCalendar(startDate, publicHolidays, companyHolidays, now);
+    }
+
+    private BitSet toDayBits(Collection<LocalDate> dates) {
+        BitSet bits = new BitSet(366);
+        dates.forEach(date -> bits.set(date.getDayOfYear() - 1));
+        return bits;
+    }
+
+    private record CalendarKey(UUID companyId, int year) {
+    }
+
+    /**
+     * 1년치 근무일 정보 (적재 후 변경되지 않음)
+     */
+    private static final class YearCalendar {
+        private final int length;
+        private final BitSet publicHolidays;
+        private final BitSet companyHolidays;
+        private final BitSet nonWorkingDays;
+        private final int[] workingDayPrefix; // workingDayPrefix[i] = 1월 1일부터 i일 동안의 근무일 수
+        private final long loadedAt;
+
+        private YearCalendar(LocalDate firstDay, BitSet publicHolidays, BitSet companyHolidays, long loadedAt) {
+            this.length = firstDay.lengthOfYear();
+            this.publicHolidays = publicHolidays;
+            this.companyHolidays = companyHolidays;
+            this.loadedAt = loadedAt;
+
+            BitSet nonWorking = new BitSet(length);
+            nonWorking.or(publicHolidays);
+            nonWorking.or(companyHolidays);
+            int firstDayOfWeek = firstDay.getDayOfWeek().getValue(); // 월=1 ... 일=7
+            for (int i = 0; i < length; i++) {
+                int dayOfWeek = (firstDayOfWeek - 1 + i) % 7 + 1;
+                if (dayOfWeek >= DayOfWeek.SATURDAY.getValue()) {
+                    nonWorking.set(i);
+                }
+            }
+            this.nonWorkingDays = nonWorking;
+
+            this.workingDayPrefix = new int[length + 1];
+            for (int i = 0; i < length; i++) {
+                workingDayPrefix[i + 1] = workingDayPrefix[i] + (nonWorking.get(i) ? 0 : 1);
+            }
+        }
+    }
+}
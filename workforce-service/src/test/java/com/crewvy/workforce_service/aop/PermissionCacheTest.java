@@ -0,0 +1,62 @@
+package com.crewvy.workforce_service.aop;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PermissionCacheTest {
+
+    private final MemberClient memberClient = mock(MemberClient.class);
+    private final PermissionCache permissionCache = new PermissionCache(memberClient);
+
+    private final UUID positionId = UUID.randomUUID();
+    private final UUID otherPositionId = UUID.randomUUID();
+
+    @Test
+    void grantsAreLoadedOnceAndMatchedByResourceActionRange() {
+        when(memberClient.getPermissionGrants(positionId))
+                .thenReturn(ApiResponse.success(List.of("attendance:READ:COMPANY")));
+
+        assertThat(permissionCache.hasPermission(positionId, "attendance", "READ", "COMPANY")).isTrue();
+        assertThat(permissionCache.hasPermission(positionId, "attendance", "READ", "DEPARTMENT")).isFalse();
+        assertThat(permissionCache.hasPermission(positionId, "attendance", "UPDATE", "COMPANY")).isFalse();
+
+        verify(memberClient, times(1)).getPermissionGrants(positionId);
+    }
+
+    @Test
+    void invalidateReloadsOnlyTheChangedPosition() {
+        when(memberClient.getPermissionGrants(positionId))
+                .thenReturn(ApiResponse.success(List.of("attendance:READ:COMPANY")))
+                .thenReturn(ApiResponse.success(List.of()));
+        when(memberClient.getPermissionGrants(otherPositionId))
+                .thenReturn(ApiResponse.success(List.of("attendance:READ:COMPANY")));
+
+        assertThat(permissionCache.hasPermission(positionId, "attendance", "READ", "COMPANY")).isTrue();
+        assertThat(permissionCache.hasPermission(otherPositionId, "attendance", "READ", "COMPANY")).isTrue();
+
+        permissionCache.invalidate(List.of(positionId));
+
+        assertThat(permissionCache.hasPermission(positionId, "attendance", "READ", "COMPANY")).isFalse();
+        assertThat(permissionCache.hasPermission(otherPositionId, "attendance", "READ", "COMPANY")).isTrue();
+
+        verify(memberClient, times(2)).getPermissionGrants(positionId);
+        verify(memberClient, times(1)).getPermissionGrants(otherPositionId);
+    }
+
+    @Test
+    void nullPositionIsDeniedWithoutLookup() {
+        assertThat(permissionCache.hasPermission(null, "attendance", "READ", "COMPANY")).isFalse();
+
+        verify(memberClient, times(0)).getPermissionGrants(positionId);
+    }
+}
@@ -0,0 +1,242 @@
+package com.crewvy.workforce_service.approval.repository;
+
+import com.crewvy.workforce_service.WorkforceServiceApplication;
+import com.crewvy.workforce_service.approval.constant.ApprovalBox;
+import com.crewvy.workforce_service.approval.constant.ApprovalState;
+import com.crewvy.workforce_service.approval.constant.LineStatus;
+import com.crewvy.workforce_service.approval.entity.Approval;
+import com.crewvy.workforce_service.approval.entity.ApprovalDocument;
+import com.crewvy.workforce_service.approval.entity.ApprovalLine;
+import com.crewvy.workforce_service.config.QueryDslConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결재함 커서 페이징이 기존 OFFSET 페이징과 같은 순서·같은 행을 돌려주는지, 깊은 페이지에서 읽는 행 수가 얼마나 다른지 확인
+ * - 생성 시각이 같은 결재를 섞어 (createdAt, id) 동률 처리까지 비교
+ * - 비교 대상 OFFSET 쿼리는 기존 목록 API와 같은 조건·정렬의 JPQL
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ApprovalCursorPagingTest {
+
+    @Container
+    @ServiceConnection
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @Configuration
+    @EntityScan(basePackageClasses = WorkforceServiceApplication.class)
+    @EnableJpaRepositories(basePackageClasses = ApprovalRepository.class)
+    @ImportAutoConfiguration(JacksonAutoConfiguration.class)
+    @Import(QueryDslConfig.class)
+    static class TestConfig {
+    }
+
+    private static final String OFFSET_QUERY = "select a from Approval a join fetch a.approvalDocument " +
+            "where a.memberPositionId = :memberPositionId and a.state = :state " +
+            "order by a.createdAt desc, a.id desc";
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID memberPositionId = UUID.randomUUID();
+
+    @Test
+    void cursorPagesMatchOffsetPagesIncludingTies() {
+        ApprovalDocument document = saveDocument();
+        saveApprovals(document, memberPositionId, ApprovalState.DRAFT, 95);
+        saveApprovals(document, memberPositionId, ApprovalState.PENDING, 10);
+        saveApprovals(document, UUID.randomUUID(), ApprovalState.DRAFT, 10);
+        spreadCreatedAt();
+
+        int pageSize = 7;
+        List<UUID> cursorIds = new ArrayList<>();
+        List<UUID> offsetIds = new ArrayList<>();
+        Approval last = null;
+        for (int page = 0; ; page++) {
+            List<Approval> cursorPage = findByCursor(last, pageSize);
+            List<Approval> offsetPage = findByOffset(page, pageSize);
+            assertThat(ids(cursorPage)).as("page %d", page).isEqualTo(ids(offsetPage));
+            if (cursorPage.isEmpty()) {
+                break;
+            }
+            cursorIds.addAll(ids(cursorPage));
+            offsetIds.addAll(ids(offsetPage));
+            last = cursorPage.get(cursorPage.size() - 1);
+        }
+
+        assertThat(cursorIds).hasSize(95).doesNotHaveDuplicates().isEqualTo(offsetIds);
+    }
+
+    @Test
+    void pendingBoxListsOnlyApprovalsWaitingOnTheLine() {
+        ApprovalDocument document = saveDocument();
+        UUID drafter = UUID.randomUUID();
+        Approval waitingOnMe = saveWithLine(document, drafter, LineStatus.PENDING);
+        saveWithLine(document, drafter, LineStatus.WAITING);
+        saveWithLine(document, drafter, LineStatus.APPROVED);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(ids(approvalRepository.findListByCursor(memberPositionId, ApprovalBox.PENDING, null, null, 10)))
+                .containsExactly(waitingOnMe.getId());
+    }
+
+    @Test
+    void deepCursorPageReadsFarFewerRowsThanDeepOffsetPage() {
+        int pageSize = 20;
+        int deepPage = 500;
+        ApprovalDocument document = saveDocument();
+        saveApprovals(document, memberPositionId, ApprovalState.DRAFT, pageSize * deepPage);
+        spreadCreatedAt();
+
+        // 500페이지 커서는 499페이지 마지막 행 (서비스가 nextCursor로 내려주는 값과 같음)
+        Approval cursorBeforeDeepPage = findByOffset(deepPage - 2, pageSize).get(pageSize - 1);
+        entityManager.clear();
+
+        Measurement offsetFirst = measure(() -> findByOffset(0, pageSize));
+        Measurement cursorFirst = measure(() -> findByCursor(null, pageSize));
+        Measurement offsetDeep = measure(() -> findByOffset(deepPage - 1, pageSize));
+        Measurement cursorDeep = measure(() -> findByCursor(cursorBeforeDeepPage, pageSize));
+
+        log.info("결재함 목록 {}건, 페이지 크기 {}: OFFSET 1페이지 {}, 커서 1페이지 {}, OFFSET {}페이지 {}, 커서 {}페이지 {}",
+                pageSize * deepPage, pageSize, offsetFirst, cursorFirst, deepPage, offsetDeep, deepPage, cursorDeep);
+
+        assertThat(ids(cursorDeep.rows())).hasSize(pageSize).isEqualTo(ids(offsetDeep.rows()));
+        // OFFSET은 건너뛸 9,980행을 모두 읽지만 커서는 페이지 크기만큼만 읽음
+        assertThat(offsetDeep.handlerReads()).isGreaterThanOrEqualTo((long) pageSize * (deepPage - 1));
+        assertThat(cursorDeep.handlerReads() * 10).isLessThan(offsetDeep.handlerReads());
+    }
+
+    private List<Approval> findByCursor(Approval after, int pageSize) {
+        return approvalRepository.findListByCursor(memberPositionId, ApprovalBox.DRAFT,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                pageSize);
+    }
+
+    private List<Approval> findByOffset(int page, int pageSize) {
+        return entityManager.getEntityManager().createQuery(OFFSET_QUERY, Approval.class)
+                .setParameter("memberPositionId", memberPositionId)
+                .setParameter("state", ApprovalState.DRAFT)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    private ApprovalDocument saveDocument() {
+        return entityManager.persist(ApprovalDocument.builder().documentName("품의서").build());
+    }
+
+    // 제목에 동률 그룹 번호를 넣어 두고 spreadCreatedAt에서 생성 시각으로 바꿈 (3건씩 같은 시각)
+    private void saveApprovals(ApprovalDocument document, UUID owner, ApprovalState state, int count) {
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Approval.builder()
+                    .approvalDocument(document)
+                    .memberPositionId(owner)
+                    .title(String.valueOf(i / 3))
+                    .state(state)
+                    .build());
+            if (i % 500 == 499) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Approval saveWithLine(ApprovalDocument document, UUID drafter, LineStatus myLineStatus) {
+        Approval approval = entityManager.persist(Approval.builder()
+                .approvalDocument(document)
+                .memberPositionId(drafter)
+                .title("0")
+                .state(ApprovalState.PENDING)
+                .build());
+        entityManager.persist(ApprovalLine.builder()
+                .approval(approval)
+                .memberPositionId(drafter)
+                .lineStatus(LineStatus.APPROVED)
+                .lineIndex(1)
+                .build());
+        entityManager.persist(ApprovalLine.builder()
+                .approval(approval)
+                .memberPositionId(memberPositionId)
+                .lineStatus(myLineStatus)
+                .lineIndex(2)
+                .build());
+        return approval;
+    }
+
+    // created_at은 @CreationTimestamp라 엔티티로 지정할 수 없어 저장 후 한 번에 바꿈
+    private void spreadCreatedAt() {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE approval SET created_at = TIMESTAMPADD(SECOND, -CAST(title AS UNSIGNED), '2025-03-01 09:00:00')")
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private Measurement measure(Supplier<List<Approval>> query) {
+        long readsBefore = handlerReads();
+        long startedAt = System.nanoTime();
+        List<Approval> rows = query.get();
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        long readsAfter = handlerReads();
+        // SHOW STATUS 자체가 읽는 행은 한 번 더 조회해 빼냄
+        long statusOverhead = handlerReads() - readsAfter;
+        entityManager.clear();
+        return new Measurement(rows, readsAfter - readsBefore - statusOverhead, elapsedMicros);
+    }
+
+    // 현재 세션에서 스토리지 엔진이 읽은 행 수 누계 (Handler_read_*)
+    private long handlerReads() {
+        List<?> rows = entityManager.getEntityManager()
+                .createNativeQuery("SHOW SESSION STATUS LIKE 'Handler_read%'")
+                .getResultList();
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .mapToLong(row -> Long.parseLong(String.valueOf(row[1])))
+                .sum();
+    }
+
+    private static List<UUID> ids(List<Approval> approvals) {
+        return approvals.stream().map(Approval::getId).toList();
+    }
+
+    private record Measurement(List<Approval> rows, long handlerReads, long elapsedMicros) {
+
+        @Override
+        public String toString() {
+            return handlerReads + "행 읽음/" + elapsedMicros + "us";
+        }
+    }
+}
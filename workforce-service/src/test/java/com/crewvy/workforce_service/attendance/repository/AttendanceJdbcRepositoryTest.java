@@ -0,0 +1,95 @@
+package com.crewvy.workforce_service.attendance.repository;
+
+import com.crewvy.workforce_service.WorkforceServiceApplication;
+import com.crewvy.workforce_service.attendance.constant.AttendanceStatus;
+import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
+import com.crewvy.workforce_service.config.QueryDslConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class AttendanceJdbcRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @Configuration
+    @EntityScan(basePackageClasses = WorkforceServiceApplication.class)
+    @EnableJpaRepositories(basePackageClasses = DailyAttendanceRepository.class)
+    @ImportAutoConfiguration(JacksonAutoConfiguration.class)
+    @Import({QueryDslConfig.class, AttendanceJdbcRepository.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AttendanceJdbcRepository attendanceJdbcRepository;
+
+    @Autowired
+    private DailyAttendanceRepository dailyAttendanceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final LocalDate date = LocalDate.of(2025, 3, 4);
+
+    @Test
+    void absentRowsAreReadableThroughTheEntity() {
+        UUID memberId = UUID.randomUUID();
+        UUID otherMemberId = UUID.randomUUID();
+
+        attendanceJdbcRepository.insertAbsentIgnoringExisting(companyId, date, List.of(memberId, otherMemberId));
+        entityManager.clear();
+
+        DailyAttendance absent = dailyAttendanceRepository.findByMemberIdAndAttendanceDate(memberId, date).orElseThrow();
+        assertThat(absent.getId()).isNotNull();
+        assertThat(absent.getMemberId()).isEqualTo(memberId);
+        assertThat(absent.getCompanyId()).isEqualTo(companyId);
+        assertThat(absent.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(absent.getCreatedAt()).isNotNull();
+        assertThat(dailyAttendanceRepository.findByMemberIdAndAttendanceDate(otherMemberId, date)).isPresent();
+    }
+
+    @Test
+    void rowWrittenByTheEntityIsNotDuplicated() {
+        UUID memberId = UUID.randomUUID();
+        dailyAttendanceRepository.saveAndFlush(DailyAttendance.builder()
+                .memberId(memberId)
+                .companyId(companyId)
+                .attendanceDate(date)
+                .status(AttendanceStatus.NORMAL_WORK)
+                .build());
+        entityManager.clear();
+
+        // 유니크 키가 같은 값으로 비교되어야 INSERT IGNORE가 기존 행을 건너뜀
+        attendanceJdbcRepository.insertAbsentIgnoringExisting(companyId, date, List.of(memberId));
+        entityManager.clear();
+
+        assertThat(dailyAttendanceRepository.findByMemberIdAndAttendanceDateBetween(memberId, date, date))
+                .singleElement()
+                .extracting(DailyAttendance::getStatus)
+                .isEqualTo(AttendanceStatus.NORMAL_WORK);
+    }
+}
@@ -0,0 +1,100 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.attendance.repository.MemberBalanceRepository;
+import com.crewvy.workforce_service.attendance.repository.MemberDirectoryRepository;
+import com.crewvy.workforce_service.feignClient.MemberClient;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberEmploymentInfoDto;
+import com.crewvy.workforce_service.feignClient.dto.response.MemberPositionListRes;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberDirectoryServiceTest {
+
+    private final MemberDirectoryRepository memberDirectoryRepository = mock(MemberDirectoryRepository.class);
+    private final MemberBalanceRepository memberBalanceRepository = mock(MemberBalanceRepository.class);
+    private final MemberClient memberClient = mock(MemberClient.class);
+    private final MemberDirectoryService service =
+            new MemberDirectoryService(memberDirectoryRepository, memberBalanceRepository, memberClient);
+
+    private final UUID positionId = UUID.randomUUID();
+    private final UUID companyId = UUID.randomUUID();
+
+    @Test
+    void noRemoteCallWhenDirectoryIsComplete() {
+        when(memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, 2030)).thenReturn(List.of());
+
+        service.syncMissingMembers(positionId, companyId, 2030);
+
+        verify(memberClient, never()).getDefaultPositionList(any(), any(IdListReq.class));
+        verify(memberClient, never()).getEmploymentInfoInternal(any());
+    }
+
+    @Test
+    void foundMembersAreSaved() {
+        UUID memberId = UUID.randomUUID();
+        when(memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, 2030)).thenReturn(List.of(memberId));
+        when(memberClient.getDefaultPositionList(any(), any(IdListReq.class)))
+                .thenReturn(ApiResponse.success(List.of(MemberPositionListRes.builder()
+                        .memberId(memberId).memberName("홍길동").build())));
+        when(memberClient.getEmploymentInfoInternal(companyId))
+                .thenReturn(ApiResponse.success(List.of(MemberEmploymentInfoDto.builder()
+                        .memberId(memberId).joinDate(LocalDate.of(2020, 1, 1)).memberStatus("WORKING").build())));
+
+        service.syncMissingMembers(positionId, companyId, 2030);
+
+        verify(memberDirectoryRepository).saveAll(anyList());
+    }
+
+    @Test
+    void membersMissingUpstreamAreNotRefetchedWithinTtl() {
+        UUID ghostId = UUID.randomUUID();
+        when(memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, 2030)).thenReturn(List.of(ghostId));
+        when(memberClient.getDefaultPositionList(any(), any(IdListReq.class))).thenReturn(ApiResponse.success(List.of()));
+        when(memberClient.getEmploymentInfoInternal(companyId)).thenReturn(ApiResponse.success(List.of()));
+
+        service.syncMissingMembers(positionId, companyId, 2030);
+        service.syncMissingMembers(positionId, companyId, 2030);
+
+        verify(memberClient, times(1)).getDefaultPositionList(any(), any(IdListReq.class));
+        verify(memberClient, times(1)).getEmploymentInfoInternal(companyId);
+    }
+
+    @Test
+    void failedRemoteCallIsRetriedOnNextSync() {
+        UUID memberId = UUID.randomUUID();
+        when(memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, 2030)).thenReturn(List.of(memberId));
+        when(memberClient.getDefaultPositionList(any(), any(IdListReq.class))).thenThrow(new IllegalStateException("down"));
+
+        service.syncMissingMembers(positionId, companyId, 2030);
+        service.syncMissingMembers(positionId, companyId, 2030);
+
+        verify(memberClient, times(2)).getDefaultPositionList(any(), any(IdListReq.class));
+    }
+
+    @Test
+    void deletedMemberIsForgotten() {
+        UUID ghostId = UUID.randomUUID();
+        when(memberBalanceRepository.findMemberIdsMissingFromDirectory(companyId, 2030)).thenReturn(List.of(ghostId));
+        when(memberClient.getDefaultPositionList(any(), any(IdListReq.class))).thenReturn(ApiResponse.success(List.of()));
+        when(memberClient.getEmploymentInfoInternal(companyId)).thenReturn(ApiResponse.success(List.of()));
+
+        service.syncMissingMembers(positionId, companyId, 2030);
+        service.delete(ghostId);
+        service.syncMissingMembers(positionId, companyId, 2030);
+
+        verify(memberClient, times(2)).getDefaultPositionList(any(), any(IdListReq.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.crewvy.workforce_service.attendance.service;
+
+import com.crewvy.workforce_service.WorkforceServiceApplication;
+import com.crewvy.workforce_service.attendance.constant.AttendanceStatus;
+import com.crewvy.workforce_service.attendance.entity.DailyAttendance;
+import com.crewvy.workforce_service.attendance.entity.MonthlyAttendanceSummary;
+import com.crewvy.workforce_service.attendance.repository.AttendanceJdbcRepository;
+import com.crewvy.workforce_service.attendance.repository.DailyAttendanceRepository;
+import com.crewvy.workforce_service.attendance.repository.MonthlyAttendanceSummaryRepository;
+import com.crewvy.workforce_service.config.QueryDslConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class MonthlyAttendanceSummaryServiceTest {
+
+    @Container
+    @ServiceConnection
+    static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11");
+
+    @Configuration
+    @EntityScan(basePackageClasses = WorkforceServiceApplication.class)
+    @EnableJpaRepositories(basePackageClasses = DailyAttendanceRepository.class)
+    @ImportAutoConfiguration(JacksonAutoConfiguration.class)
+    @Import({QueryDslConfig.class, AttendanceJdbcRepository.class, MonthlyAttendanceSummaryService.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private MonthlyAttendanceSummaryService monthlyAttendanceSummaryService;
+
+    @Autowired
+    private DailyAttendanceRepository dailyAttendanceRepository;
+
+    @Autowired
+    private MonthlyAttendanceSummaryRepository monthlyAttendanceSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final YearMonth month = YearMonth.of(2025, 3);
+
+    @Test
+    void refreshAggregatesDailyAttendanceIntoOneRowPerMemberMonth() {
+        UUID memberId = UUID.randomUUID();
+        saveAttendance(memberId, month.atDay(3), AttendanceStatus.NORMAL_WORK, true, 480);
+        saveAttendance(memberId, month.atDay(4), AttendanceStatus.ABSENT, false, 0);
+        saveAttendance(memberId, month.plusMonths(1).atDay(1), AttendanceStatus.NORMAL_WORK, false, 480);
+
+        monthlyAttendanceSummaryService.refresh(month, List.of(memberId));
+        entityManager.clear();
+
+        MonthlyAttendanceSummary summary = summaryOf(memberId);
+        assertThat(summary.getCompanyId()).isEqualTo(companyId);
+        assertThat(summary.getSummaryMonth()).isEqualTo(month.atDay(1));
+        assertThat(summary.getRecordedDays()).isEqualTo(2);
+        assertThat(summary.getAbsentDays()).isEqualTo(1);
+        assertThat(summary.getLateDays()).isEqualTo(1);
+        assertThat(summary.getWorkedMinutes()).isEqualTo(480);
+    }
+
+    @Test
+    void refreshUpdatesTheRowWrittenByTheEntityInsteadOfDuplicatingIt() {
+        UUID memberId = UUID.randomUUID();
+        MonthlyAttendanceSummary existing = monthlyAttendanceSummaryRepository.saveAndFlush(MonthlyAttendanceSummary.builder()
+                .memberId(memberId)
+                .companyId(companyId)
+                .summaryMonth(month.atDay(1))
+                .build());
+        saveAttendance(memberId, month.atDay(3), AttendanceStatus.NORMAL_WORK, false, 480);
+
+        monthlyAttendanceSummaryService.refresh(month, List.of(memberId));
+        entityManager.clear();
+
+        MonthlyAttendanceSummary summary = summaryOf(memberId);
+        assertThat(summary.getId()).isEqualTo(existing.getId());
+        assertThat(summary.getRecordedDays()).isEqualTo(1);
+        assertThat(summary.getWorkedMinutes()).isEqualTo(480);
+    }
+
+    @Test
+    void refreshDeletesSummaryOfMemberWithoutAttendance() {
+        UUID memberId = UUID.randomUUID();
+        saveAttendance(memberId, month.atDay(3), AttendanceStatus.NORMAL_WORK, false, 480);
+        monthlyAttendanceSummaryService.refresh(month, List.of(memberId));
+
+        dailyAttendanceRepository.deleteAll(dailyAttendanceRepository.findByMemberIdAndAttendanceDateBetween(
+                memberId, month.atDay(1), month.atEndOfMonth()));
+        dailyAttendanceRepository.flush();
+        monthlyAttendanceSummaryService.refresh(month, List.of(memberId));
+        entityManager.clear();
+
+        assertThat(monthlyAttendanceSummaryRepository.findAllByMemberIdInAndSummaryMonth(List.of(memberId), month.atDay(1)))
+                .isEmpty();
+    }
+
+    private void saveAttendance(UUID memberId, LocalDate date, AttendanceStatus status, boolean late, int workedMinutes) {
+        dailyAttendanceRepository.saveAndFlush(DailyAttendance.builder()
+                .memberId(memberId)
+                .companyId(companyId)
+                .attendanceDate(date)
+                .status(status)
+                .isLate(late)
+                .workedMinutes(workedMinutes)
+                .build());
+    }
+
+    private MonthlyAttendanceSummary summaryOf(UUID memberId) {
+        List<MonthlyAttendanceSummary> summaries = monthlyAttendanceSummaryRepository
+                .findAllByMemberIdInAndSummaryMonth(List.of(memberId), month.atDay(1));
+        assertThat(summaries).hasSize(1);
+        return summaries.get(0);
+    }
+}
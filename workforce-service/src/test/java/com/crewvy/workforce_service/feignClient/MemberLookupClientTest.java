@@ -0,0 +1,93 @@
+package com.crewvy.workforce_service.feignClient;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.workforce_service.feignClient.dto.request.IdListReq;
+import com.crewvy.workforce_service.feignClient.dto.response.NameDto;
+import com.crewvy.workforce_service.feignClient.dto.response.PositionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberLookupClientTest {
+
+    private final MemberClient memberClient = mock(MemberClient.class);
+    private final MemberLookupClient lookupClient = new MemberLookupClient(memberClient);
+
+    private final UUID memberId = UUID.randomUUID();
+    private final UUID otherMemberId = UUID.randomUUID();
+    private final UUID positionId = UUID.randomUUID();
+    private final UUID otherPositionId = UUID.randomUUID();
+
+    @Test
+    void positionsAreLoadedOnceAndCached() {
+        when(memberClient.getPositionList(any(), any(IdListReq.class)))
+                .thenReturn(ApiResponse.success(List.of(position(memberId, positionId))));
+
+        assertThat(lookupClient.getPositions(List.of(positionId))).containsOnlyKeys(positionId);
+        assertThat(lookupClient.getPosition(positionId)).isPresent();
+
+        verify(memberClient, times(1)).getPositionList(any(), any(IdListReq.class));
+    }
+
+    @Test
+    void unknownPositionIsCachedAsAbsent() {
+        when(memberClient.getPositionList(any(), any(IdListReq.class)))
+                .thenReturn(ApiResponse.success(List.of()));
+
+        assertThat(lookupClient.getPosition(positionId)).isEmpty();
+        assertThat(lookupClient.getPosition(positionId)).isEmpty();
+
+        verify(memberClient, times(1)).getPositionList(any(), any(IdListReq.class));
+    }
+
+    @Test
+    void failedResponseIsNotCached() {
+        when(memberClient.getNameList(any(), any(IdListReq.class)))
+                .thenReturn(new ApiResponse<>(false, null, "error"))
+                .thenReturn(ApiResponse.success(List.of(new NameDto(memberId, "홍길동"))));
+
+        assertThat(lookupClient.getNames(List.of(memberId))).isEmpty();
+        assertThat(lookupClient.getNames(List.of(memberId))).containsEntry(memberId, "홍길동");
+
+        verify(memberClient, times(2)).getNameList(any(), any(IdListReq.class));
+    }
+
+    @Test
+    void namesWithoutValueAreDropped() {
+        when(memberClient.getNameList(any(), any(IdListReq.class)))
+                .thenReturn(ApiResponse.success(List.of(new NameDto(memberId, null), new NameDto(otherMemberId, "김철수"))));
+
+        assertThat(lookupClient.getNames(List.of(memberId, otherMemberId))).containsOnlyKeys(otherMemberId);
+    }
+
+    @Test
+    void invalidateMemberDropsOnlyThatMembersEntries() {
+        when(memberClient.getPositionList(any(), any(IdListReq.class)))
+                .thenReturn(ApiResponse.success(List.of(position(memberId, positionId), position(otherMemberId, otherPositionId))));
+
+        lookupClient.getPositions(List.of(positionId, otherPositionId));
+        lookupClient.invalidateMember(memberId);
+
+        // 다른 직원의 직무는 캐시에서, 무효화된 직원의 직무만 다시 조회
+        lookupClient.getPosition(otherPositionId);
+        verify(memberClient, times(1)).getPositionList(any(), any(IdListReq.class));
+        lookupClient.getPosition(positionId);
+        verify(memberClient, times(2)).getPositionList(any(), any(IdListReq.class));
+    }
+
+    private static PositionDto position(UUID memberId, UUID memberPositionId) {
+        return PositionDto.builder()
+                .memberId(memberId)
+                .memberPositionId(memberPositionId)
+                .memberName("직원")
+                .build();
+    }
+}
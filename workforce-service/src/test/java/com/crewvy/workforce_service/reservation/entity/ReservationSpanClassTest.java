@@ -0,0 +1,42 @@
+package com.crewvy.workforce_service.reservation.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationSpanClassTest {
+
+    private final LocalDateTime start = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @Test
+    void spanClassIsTheFirstLimitCoveringTheDuration() {
+        assertThat(Reservation.spanClassOf(start, start.plusHours(1))).isEqualTo(0);
+        assertThat(Reservation.spanClassOf(start, start.plusDays(1))).isEqualTo(0);
+        assertThat(Reservation.spanClassOf(start, start.plusDays(1).plusMinutes(1))).isEqualTo(1);
+        assertThat(Reservation.spanClassOf(start, start.plusDays(7))).isEqualTo(1);
+        assertThat(Reservation.spanClassOf(start, start.plusDays(31))).isEqualTo(2);
+    }
+
+    @Test
+    void reservationLongerThanTheLastLimitIsOpen() {
+        assertThat(Reservation.spanClassOf(start, start.plusDays(32))).isEqualTo(Reservation.OPEN_SPAN_CLASS);
+        assertThat(Reservation.spanClassOf(start, start.plusYears(1))).isEqualTo(Reservation.OPEN_SPAN_CLASS);
+        assertThat(Reservation.spanClassOf(start, null)).isEqualTo(Reservation.OPEN_SPAN_CLASS);
+    }
+
+    @Test
+    void spanClassIsRecomputedOnSave() {
+        Reservation reservation = Reservation.builder()
+                .startDateTime(start)
+                .endDateTime(start.plusHours(2))
+                .build();
+        reservation.updateSpanClass();
+        assertThat(reservation.getSpanClass()).isEqualTo(0);
+
+        reservation.setEndDateTime(start.plusDays(40));
+        reservation.updateSpanClass();
+        assertThat(reservation.getSpanClass()).isEqualTo(Reservation.OPEN_SPAN_CLASS);
+    }
+}
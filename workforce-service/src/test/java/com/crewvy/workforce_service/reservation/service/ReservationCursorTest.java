@@ -0,0 +1,46 @@
+package com.crewvy.workforce_service.reservation.service;
+
+import com.crewvy.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationCursorTest {
+
+    @Test
+    void roundTrip() {
+        ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(2030, 1, 1, 9, 0), UUID.randomUUID());
+
+        assertThat(ReservationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsSecondsAndNanos() {
+        ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(2030, 1, 1, 9, 0, 30, 123_456_789), UUID.randomUUID());
+
+        assertThat(ReservationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        ReservationCursor cursor = new ReservationCursor(LocalDateTime.of(2030, 12, 31, 23, 59, 59), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyCursorMeansFirstPage() {
+        assertThat(ReservationCursor.decode(null)).isNull();
+        assertThat(ReservationCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ReservationCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.crewvy.workforce_service.reservation.service;
+
+import com.crewvy.workforce_service.reservation.entity.Reservation;
+import com.crewvy.workforce_service.reservation.service.ReservationIntervalIndex.Slot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationIntervalIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void touchingIntervalsDoNotConflict() {
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of(reservation(10, 11)));
+
+        List<Slot> conflicts = index.findConflicts(List.of(slot(9, 10), slot(11, 12)));
+
+        assertThat(conflicts).isEmpty();
+    }
+
+    @Test
+    void overlappingExistingReservationConflicts() {
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of(reservation(10, 12)));
+
+        List<Slot> conflicts = index.findConflicts(List.of(slot(8, 9), slot(11, 13), slot(12, 13)));
+
+        assertThat(conflicts).containsExactly(slot(11, 13));
+    }
+
+    @Test
+    void selfOverlappingOccurrencesConflict() {
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of());
+
+        // 입력 순서와 무관하게 시작 시각 순으로 검사하며, 앞 회차와 겹치는 뒤 회차가 충돌
+        List<Slot> conflicts = index.findConflicts(List.of(slot(11, 13), slot(10, 12), slot(13, 14)));
+
+        assertThat(conflicts).containsExactly(slot(11, 13));
+    }
+
+    @Test
+    void selfOverlapUsesLongestPreviousOccurrence() {
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of());
+
+        // [10, 20) 뒤의 짧은 회차 [11, 12)가 끝나도 [15, 16)은 여전히 [10, 20)과 겹침
+        List<Slot> conflicts = index.findConflicts(List.of(slot(10, 20), slot(11, 12), slot(15, 16)));
+
+        assertThat(conflicts).containsExactly(slot(11, 12), slot(15, 16));
+    }
+
+    @Test
+    void prefixMaxCatchesLongReservationStartingEarlier() {
+        // 시작 순으로 [8, 20), [9, 10): 마지막으로 시작한 예약은 10시에 끝나지만 앞선 예약이 20시까지 이어짐
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of(reservation(9, 10), reservation(8, 20)));
+
+        assertThat(index.overlaps(at(15), at(16))).isTrue();
+        assertThat(index.overlaps(at(20), at(21))).isFalse();
+        assertThat(index.findConflicts(List.of(slot(15, 16), slot(20, 21)))).containsExactly(slot(15, 16));
+    }
+
+    @Test
+    void emptyIndexHasNoOverlap() {
+        ReservationIntervalIndex index = new ReservationIntervalIndex(List.of());
+
+        assertThat(index.size()).isZero();
+        assertThat(index.overlaps(at(0), at(23))).isFalse();
+    }
+
+    @Test
+    void spanCoversAllSlots() {
+        assertThat(ReservationIntervalIndex.span(List.of(slot(12, 13), slot(9, 10), slot(11, 15))))
+                .isEqualTo(slot(9, 15));
+    }
+
+    private static Reservation reservation(int startHour, int endHour) {
+        return Reservation.builder()
+                .startDateTime(at(startHour))
+                .endDateTime(at(endHour))
+                .build();
+    }
+
+    private static Slot slot(int startHour, int endHour) {
+        return new Slot(at(startHour), at(endHour));
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.plusHours(hour);
+    }
+}
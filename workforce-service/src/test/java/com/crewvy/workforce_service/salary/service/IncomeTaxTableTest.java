@@ -0,0 +1,100 @@
+package com.crewvy.workforce_service.salary.service;
+
+import com.crewvy.workforce_service.salary.entity.IncomeTax;
+import com.crewvy.workforce_service.salary.repository.IncomeTaxRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 세액표 조회가 기존 DB 조회(incomeStart <= x < incomeEnd AND dependentCount = d, 없으면 0)와 같은지 확인
+ * - 실제 적재 데이터(data/incomeTax.json)의 모든 구간 경계와 부양가족 수를 훑음
+ */
+class IncomeTaxTableTest {
+
+    private static List<IncomeTax> rows;
+    private static IncomeTaxTable table;
+
+    @BeforeAll
+    static void loadSeedData() throws IOException {
+        try (InputStream inputStream = new ClassPathResource("data/incomeTax.json").getInputStream()) {
+            rows = new ObjectMapper().readValue(inputStream, new TypeReference<>() {
+            });
+        }
+        table = IncomeTaxTable.of(null, rows);
+    }
+
+    @Test
+    void everyBracketBoundaryMatchesTheDatabaseLookup() {
+        TreeSet<Long> incomes = new TreeSet<>(List.of(0L, 1L, 10_000_000L, 10_000_001L, Long.MAX_VALUE));
+        for (IncomeTax row : rows) {
+            for (long boundary : new long[]{row.getIncomeStart(), row.getIncomeEnd()}) {
+                incomes.add(boundary - 1);
+                incomes.add(boundary);
+                incomes.add(boundary + 1);
+            }
+        }
+
+        int maxDependent = rows.stream().mapToInt(IncomeTax::getDependentCount).max().orElseThrow();
+        for (int dependentCount = -1; dependentCount <= maxDependent + 1; dependentCount++) {
+            for (long income : incomes) {
+                assertThat(table.taxAmount(income, dependentCount))
+                        .as("income=%d, dependentCount=%d", income, dependentCount)
+                        .isEqualTo(databaseLookup(income, dependentCount));
+            }
+        }
+    }
+
+    @Test
+    void randomIncomesMatchTheDatabaseLookup() {
+        Random random = new Random(20250101L);
+        for (int i = 0; i < 20_000; i++) {
+            long income = random.nextLong(11_000_000L);
+            int dependentCount = 1 + random.nextInt(11);
+            assertThat(table.taxAmount(income, dependentCount))
+                    .as("income=%d, dependentCount=%d", income, dependentCount)
+                    .isEqualTo(databaseLookup(income, dependentCount));
+        }
+    }
+
+    @Test
+    void serviceLoadsTheTableOnceAndUsesItAboveTenMillion() {
+        IncomeTaxRepository incomeTaxRepository = mock(IncomeTaxRepository.class);
+        when(incomeTaxRepository.findLatestEffectiveYear(anyInt())).thenReturn(null);
+        when(incomeTaxRepository.findAllByEffectiveYearIsNull()).thenReturn(rows);
+        IncomeTaxService incomeTaxService = new IncomeTaxService(incomeTaxRepository);
+
+        long baseTaxAt10M = databaseLookup(10_000_000L, 1);
+        assertThat(incomeTaxService.lookupTaxTable(2025, 3_000_000L, 1)).isEqualTo((double) databaseLookup(3_000_000L, 1));
+        assertThat(incomeTaxService.lookupTaxTable(2025, 12_000_000L, 1))
+                .isEqualTo(baseTaxAt10M + (2_000_000L * 0.98 * 0.35) + 25000);
+
+        verify(incomeTaxRepository, times(1)).findAllByEffectiveYearIsNull();
+    }
+
+    // 기존 IncomeTaxRepositoryCustom.findTaxAmount 조건 그대로 (구간이 겹치면 fetchOne이 실패하므로 데이터 오류)
+    private static long databaseLookup(long income, int dependentCount) {
+        List<IncomeTax> matches = rows.stream()
+                .filter(row -> row.getIncomeStart() <= income
+                        && row.getIncomeEnd() > income
+                        && row.getDependentCount() == dependentCount)
+                .toList();
+        assertThat(matches).as("income=%d, dependentCount=%d", income, dependentCount).hasSizeLessThanOrEqualTo(1);
+        return matches.isEmpty() ? 0L : matches.get(0).getTaxAmount();
+    }
+}
@@ -23,4 +23,8 @@ public enum CalendarType {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Unknown CalendarType code: " + code));
     }
+
+    public static boolean isValidCode(String code) {
+        return Arrays.stream(values()).anyMatch(v -> v.codeValue.equals(code));
+    }
 }
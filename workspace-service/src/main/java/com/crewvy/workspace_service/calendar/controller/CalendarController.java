@@ -4,6 +4,7 @@ import com.crewvy.common.dto.ApiResponse;
 import com.crewvy.workspace_service.calendar.dto.request.PersonalScheduleReqDto;
 import com.crewvy.workspace_service.calendar.service.CalendarService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -21,10 +22,27 @@ public class CalendarController {
     public ResponseEntity<?> findMySchedule(@RequestHeader("X-User-UUID") UUID memberId,
                                             @RequestParam String searchType,
                                             @RequestParam(required = false) Integer year,
-                                            @RequestParam(required = false) Integer month
+                                            @RequestParam(required = false) Integer month,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 마지막 조회 이후 캘린더 변경이 없으면 본문 없이 304
+        String eTag = calendarService.scheduleETag(memberId, searchType, year, month);
+        if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(ApiResponse.success(calendarService.findMySchedule(memberId, searchType, year, month), "내 일정 찾기"));
+    }
+
+    // 캘린더 증분 동기화 (syncToken 이후 변경분만, 토큰이 없으면 전체)
+    @GetMapping("/changes")
+    public ResponseEntity<?> findChanges(@RequestHeader("X-User-UUID") UUID memberId,
+                                         @RequestParam(required = false) String syncToken,
+                                         @RequestParam(defaultValue = "200") int size
     ) {
         return new ResponseEntity<>(
-                ApiResponse.success(calendarService.findMySchedule(memberId, searchType, year, month), "내 일정 찾기"),
+                ApiResponse.success(calendarService.findChanges(memberId, syncToken, size), "내 일정 변경분 조회"),
                 HttpStatus.OK
         );
     }
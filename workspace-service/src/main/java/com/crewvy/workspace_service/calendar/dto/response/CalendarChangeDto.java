@@ -0,0 +1,32 @@
+package com.crewvy.workspace_service.calendar.dto.response;
+
+import com.crewvy.common.entity.Bool;
+import com.crewvy.workspace_service.calendar.entity.Calendar;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 캘린더 변경 한 건 (생성/수정이면 schedule에 최신 내용, 삭제면 deleted = true, schedule = null)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CalendarChangeDto {
+    private UUID scheduleId;
+    private boolean deleted;
+    private CalendarResDto schedule;
+
+    public static CalendarChangeDto from(Calendar calendar) {
+        boolean deleted = calendar.getIsDeleted() == Bool.TRUE;
+        return CalendarChangeDto.builder()
+                .scheduleId(calendar.getId())
+                .deleted(deleted)
+                .schedule(deleted ? null : CalendarResDto.from(calendar))
+                .build();
+    }
+}
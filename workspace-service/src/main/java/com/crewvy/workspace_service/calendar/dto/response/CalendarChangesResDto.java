@@ -0,0 +1,23 @@
+package com.crewvy.workspace_service.calendar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 캘린더 증분 동기화 응답
+ * - 다음 조회는 syncToken을 그대로 전달 (hasMore가 true면 바로 이어서 조회)
+ * - 변경이 없으면 changes는 비어 있고 syncToken은 그대로 재사용 가능
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CalendarChangesResDto {
+    private List<CalendarChangeDto> changes;
+    private String syncToken;
+    private boolean hasMore;
+}
@@ -7,8 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @AllArgsConstructor
@@ -16,7 +19,22 @@ import java.util.UUID;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_calendar_member_span_start", columnList = "member_id, is_deleted, span_class, start_date"),
+        @Index(name = "idx_calendar_member_sync", columnList = "member_id, sync_sequence"),
+        @Index(name = "idx_calendar_origin", columnList = "origin_id")
+})
 public class Calendar {
+
+    /**
+     * 일정 길이 구간별 최대 길이 (span_class = 인덱스)
+     * 겹침 조회 시 구간마다 시작일 하한(기간 시작 - 최대 길이)을 두어 (member_id, is_deleted, span_class, start_date) 범위 스캔
+     * 마지막 구간보다 길거나 종료일이 없는 일정은 OPEN_SPAN_CLASS (하한 없음)
+     */
+    public static final List<Duration> SPAN_LIMITS = List.of(
+            Duration.ofDays(1), Duration.ofDays(7), Duration.ofDays(31), Duration.ofDays(366));
+    public static final int OPEN_SPAN_CLASS = 4; // SPAN_LIMITS.size(), 쿼리 문자열에 쓰이므로 상수로 둠
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -40,6 +58,14 @@ public class Calendar {
     @Column(name = "is_deleted", nullable = false)
     private Bool isDeleted = Bool.FALSE;
 
+    // 일정 길이 구간 (SPAN_LIMITS), 저장 시 자동 계산. 컬럼 추가 전 일정은 null (하한 없이 조회)
+    private Integer spanClass;
+
+    // 직원 캘린더 변경 순번 (CalendarSyncSequencer). 생성/수정/삭제마다 갱신, 컬럼 추가 전 일정은 0
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long syncSequence;
+
     public void updateSchedule(String title, String contents, LocalDateTime startDate, LocalDateTime endDate) {
         this.title = title;
         this.contents = contents;
@@ -50,4 +76,27 @@ public class Calendar {
     public void deleteSchedule() {
         this.isDeleted = Bool.TRUE;
     }
+
+    public void markChanged(long syncSequence) {
+        this.syncSequence = syncSequence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateSpanClass() {
+        this.spanClass = spanClassOf(startDate, endDate);
+    }
+
+    public static int spanClassOf(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            return OPEN_SPAN_CLASS;
+        }
+        Duration span = Duration.between(startDate, endDate);
+        for (int spanClass = 0; spanClass < SPAN_LIMITS.size(); spanClass++) {
+            if (span.compareTo(SPAN_LIMITS.get(spanClass)) <= 0) {
+                return spanClass;
+            }
+        }
+        return OPEN_SPAN_CLASS;
+    }
 }
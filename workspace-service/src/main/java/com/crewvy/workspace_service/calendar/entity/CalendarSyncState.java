@@ -0,0 +1,30 @@
+package com.crewvy.workspace_service.calendar.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 직원별 캘린더 변경 순번
+ * - 일정이 생성/수정/삭제될 때마다 lastSequence를 증가시키고 그 값을 일정의 syncSequence로 기록
+ * - 같은 직원의 변경은 이 행의 잠금으로 직렬화되므로 순번은 커밋 순서대로 증가
+ */
+@Entity
+@Table(name = "calendar_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarSyncState {
+
+    @Id
+    @Column(name = "member_id")
+    private UUID memberId;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
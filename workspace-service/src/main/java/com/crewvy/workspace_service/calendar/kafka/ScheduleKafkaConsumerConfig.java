@@ -54,4 +54,19 @@ public class ScheduleKafkaConsumerConfig {
         factory.setConsumerFactory(scheduleConsumerFactory);
         return factory;
     }
+
+    /**
+     * 일정 이벤트를 poll 단위로 모아 받는 배치 리스너용 팩토리
+     * (예약 반복 등록·결재 완료처럼 한 번에 여러 일정이 발행되는 경우 한 트랜잭션에서 일괄 반영)
+     */
+    @Bean(name = "scheduleBatchKafkaListenerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> scheduleBatchKafkaListenerFactory(
+            ConsumerFactory<String, Object> scheduleConsumerFactory) {
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(scheduleConsumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
 }
\ No newline at end of file
@@ -6,8 +6,12 @@ import com.crewvy.workspace_service.calendar.service.CalendarService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,31 +21,56 @@ public class ScheduleListener {
 
     /**
      * 'schedule-saved-events' 토픽을 구독합니다.
-     * 메시지는 ScheduleDto 타입으로 자동 변환됩니다.
+     * 메시지는 ScheduleDto 타입으로 자동 변환되며, poll 단위로 모아 한 번에 반영합니다.
      */
     @KafkaListener(
             topics = "schedule-saved-events",
             groupId = "schedule-saved-consumer-group", // 이 리스너만의 고유 그룹 ID
-            containerFactory = "scheduleKafkaListenerFactory" // (1) 위에서 만든 팩토리 지정
+            containerFactory = "scheduleBatchKafkaListenerFactory"
     )
-    public void handleScheduleSaved(ScheduleDto event) { // (2) DTO 타입을 정확히 지정
-        log.info("Schedule Saved 이벤트 수신: {}", event.toString());
+    public void handleScheduleSaved(List<ScheduleDto> events) {
+        log.info("Schedule Saved 이벤트 수신: {}건", events.size());
 
-        calendarService.saveSchedule(event);
+        try {
+            calendarService.saveSchedules(events);
+        } catch (RuntimeException e) {
+            log.warn("일정 일괄 반영 실패, 건별로 재시도: {}", e.getMessage());
+            applyEach(events, event -> calendarService.saveSchedules(List.of(event)));
+        }
     }
 
     /**
      * 'schedule-deleted-events' 토픽을 구독합니다.
-     * 메시지는 ScheduleDeleteDto 타입으로 자동 변환됩니다.
+     * 메시지는 ScheduleDeleteDto 타입으로 자동 변환되며, poll 단위로 모아 한 번에 반영합니다.
      */
     @KafkaListener(
             topics = "schedule-deleted-events",
             groupId = "schedule-deleted-consumer-group", // 이 리스너만의 고유 그룹 ID
-            containerFactory = "scheduleKafkaListenerFactory" // (1) 위에서 만든 팩토리 지정
+            containerFactory = "scheduleBatchKafkaListenerFactory"
     )
-    public void handleScheduleDeleted(ScheduleDeleteDto event) { // (2) DTO 타입을 정확히 지정
-        log.info("Schedule Deleted 이벤트 수신: {}", event.toString());
+    public void handleScheduleDeleted(List<ScheduleDeleteDto> events) {
+        log.info("Schedule Deleted 이벤트 수신: {}건", events.size());
+
+        try {
+            calendarService.deleteSchedules(events);
+        } catch (RuntimeException e) {
+            log.warn("일정 일괄 삭제 실패, 건별로 재시도: {}", e.getMessage());
+            applyEach(events, event -> calendarService.deleteSchedules(List.of(event)));
+        }
+    }
 
-        calendarService.deleteSchedule(event);
+    /**
+     * 일괄 반영이 롤백된 poll을 한 건씩 다시 반영
+     * 실패한 건의 위치를 BatchListenerFailedException으로 알려, 에러 핸들러가 앞선 건까지만 커밋하고 그 건부터 재시도·복구하도록 함
+     * (poll 전체가 버려지지 않음)
+     */
+    private <T> void applyEach(List<T> events, Consumer<T> apply) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                apply.accept(events.get(i));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("일정 이벤트 반영 실패: index=" + i, e, i);
+            }
+        }
     }
-}
\ No newline at end of file
+}
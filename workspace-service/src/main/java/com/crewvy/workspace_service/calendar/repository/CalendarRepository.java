@@ -3,11 +3,13 @@ package com.crewvy.workspace_service.calendar.repository;
 import com.crewvy.common.entity.Bool;
 import com.crewvy.workspace_service.calendar.entity.Calendar;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,20 +20,76 @@ public interface CalendarRepository extends JpaRepository<Calendar, UUID> {
      * (신규) 특정 기간[periodStart, periodEnd]과 겹치는(Overlap) 일정을 조회합니다.
      * * 겹치는 조건:
      * (이벤트 시작일 <= 기간 종료일) AND (이벤트 종료일 >= 기간 시작일)
+     * * 일정 길이 구간(spanClass)마다 시작일 하한(기간 시작 - 구간 최대 길이)을 두어
+     *   (member_id, is_deleted, span_class, start_date) 인덱스의 좁은 범위들만 읽도록 합니다.
      */
+    default List<Calendar> findOverlappingEvents(UUID memberId, Bool isDeleted,
+                                                 LocalDateTime periodStart, LocalDateTime periodEnd) {
+        return findOverlappingEventsBySpan(
+                memberId,
+                isDeleted,
+                periodStart,
+                periodEnd,
+                periodStart.minus(Calendar.SPAN_LIMITS.get(0)),
+                periodStart.minus(Calendar.SPAN_LIMITS.get(1)),
+                periodStart.minus(Calendar.SPAN_LIMITS.get(2)),
+                periodStart.minus(Calendar.SPAN_LIMITS.get(3))
+        );
+    }
+
     @Query("SELECT c FROM Calendar c " +
             "WHERE c.memberId = :memberId " +
             "AND c.isDeleted = :isDeleted " +
             "AND c.startDate <= :periodEnd " +
-            "AND (c.endDate >= :periodStart OR c.endDate IS NULL)")
-    List<Calendar> findOverlappingEvents(
+            "AND (c.endDate >= :periodStart OR c.endDate IS NULL) " +
+            "AND ((c.spanClass = 0 AND c.startDate >= :startFrom0) " +
+            "  OR (c.spanClass = 1 AND c.startDate >= :startFrom1) " +
+            "  OR (c.spanClass = 2 AND c.startDate >= :startFrom2) " +
+            "  OR (c.spanClass = 3 AND c.startDate >= :startFrom3) " +
+            "  OR c.spanClass = " + Calendar.OPEN_SPAN_CLASS + " " +
+            "  OR c.spanClass IS NULL) " +
+            "ORDER BY c.startDate")
+    List<Calendar> findOverlappingEventsBySpan(
             @Param("memberId") UUID memberId,
             @Param("isDeleted") Bool isDeleted,
             @Param("periodStart") LocalDateTime periodStart,
-            @Param("periodEnd") LocalDateTime periodEnd
+            @Param("periodEnd") LocalDateTime periodEnd,
+            @Param("startFrom0") LocalDateTime startFrom0,
+            @Param("startFrom1") LocalDateTime startFrom1,
+            @Param("startFrom2") LocalDateTime startFrom2,
+            @Param("startFrom3") LocalDateTime startFrom3
+    );
+
+    /**
+     * 변경 순번 (syncSequence, id) 기준으로 커서 이후의 일정 (삭제된 일정 포함)
+     * 커서 id가 null이면 syncSequence가 커서보다 큰 일정부터
+     */
+    @Query("SELECT c FROM Calendar c " +
+            "WHERE c.memberId = :memberId " +
+            "AND (c.syncSequence > :afterSequence " +
+            "  OR (:afterId IS NOT NULL AND c.syncSequence = :afterSequence AND c.id > :afterId)) " +
+            "ORDER BY c.syncSequence, c.id")
+    List<Calendar> findChangesAfter(
+            @Param("memberId") UUID memberId,
+            @Param("afterSequence") long afterSequence,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    // 최초 동기화용 스냅샷 (삭제되지 않은 일정만, (syncSequence, id) 순)
+    @Query("SELECT c FROM Calendar c " +
+            "WHERE c.memberId = :memberId " +
+            "AND c.isDeleted = :isDeleted " +
+            "ORDER BY c.syncSequence, c.id")
+    List<Calendar> findSnapshot(
+            @Param("memberId") UUID memberId,
+            @Param("isDeleted") Bool isDeleted,
+            Pageable pageable
     );
 
     List<Calendar> findByOriginId(UUID originId);
 
     Optional<Calendar> findByOriginIdAndMemberIdAndIsDeleted(UUID originId, UUID memberId, Bool isDeleted);
+
+    List<Calendar> findByOriginIdInAndIsDeleted(Collection<UUID> originIds, Bool isDeleted);
 }
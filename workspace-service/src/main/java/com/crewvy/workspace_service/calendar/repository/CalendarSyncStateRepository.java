@@ -0,0 +1,27 @@
+package com.crewvy.workspace_service.calendar.repository;
+
+import com.crewvy.workspace_service.calendar.entity.CalendarSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CalendarSyncStateRepository extends JpaRepository<CalendarSyncState, UUID> {
+
+    // 행이 없으면 아무 것도 하지 않음 (insertIfAbsent 후 재시도). 갱신한 행은 트랜잭션 종료까지 잠김
+    @Modifying
+    @Query("UPDATE CalendarSyncState s SET s.lastSequence = s.lastSequence + :count WHERE s.memberId = :memberId")
+    int advance(@Param("memberId") UUID memberId, @Param("count") long count);
+
+    // 동시에 처음 변경한 요청이 먼저 만들었으면 그대로 둠
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO calendar_sync_state (member_id, last_sequence) VALUES (:memberId, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") UUID memberId);
+
+    @Query("SELECT s.lastSequence FROM CalendarSyncState s WHERE s.memberId = :memberId")
+    Optional<Long> findLastSequence(@Param("memberId") UUID memberId);
+}
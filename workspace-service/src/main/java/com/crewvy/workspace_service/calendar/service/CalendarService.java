@@ -5,28 +5,40 @@ import com.crewvy.common.dto.ScheduleDto;
 import com.crewvy.common.entity.Bool;
 import com.crewvy.workspace_service.calendar.constant.CalendarType;
 import com.crewvy.workspace_service.calendar.dto.request.PersonalScheduleReqDto;
+import com.crewvy.workspace_service.calendar.dto.response.CalendarChangeDto;
+import com.crewvy.workspace_service.calendar.dto.response.CalendarChangesResDto;
 import com.crewvy.workspace_service.calendar.dto.response.CalendarResDto;
 import com.crewvy.workspace_service.calendar.entity.Calendar;
 import com.crewvy.workspace_service.calendar.repository.CalendarRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class CalendarService {
+    private static final int MAX_SYNC_PAGE_SIZE = 500;
+
     private final CalendarRepository calendarRepository;
+    private final CalendarSyncSequencer calendarSyncSequencer;
 
 //    내 일정 전체조회
     @Transactional(readOnly = true)
@@ -50,6 +62,52 @@ public class CalendarService {
         return calendarList.stream().map(CalendarResDto::from).toList();
     }
 
+//    내 일정 조회 결과의 ETag (직원 캘린더 변경 순번 + 조회 기간)
+//    변경이 없으면 같은 값이므로 클라이언트는 If-None-Match로 304를 받고 다시 내려받지 않음
+    @Transactional(readOnly = true)
+    public String scheduleETag(UUID memberId, String searchType, Integer year, Integer month) {
+        String period = switch (searchType) {
+            case "Day", "Week" -> LocalDate.now().toString();
+            case "Month" -> year + "-" + month;
+            default -> "";
+        };
+        return "W/\"" + calendarSyncSequencer.currentSequence(memberId) + "-" + searchType + "-" + period + "\"";
+    }
+
+//    캘린더 증분 동기화 (syncToken 이후 생성/수정/삭제된 일정만)
+//    토큰이 없으면 삭제되지 않은 전체 일정을 (순번, id) 순으로 내려주고, 마지막 페이지에서 현재 순번 토큰 발급
+    @Transactional(readOnly = true)
+    public CalendarChangesResDto findChanges(UUID memberId, String syncToken, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SYNC_PAGE_SIZE);
+        CalendarSyncToken after = CalendarSyncToken.decode(syncToken);
+
+        // 현재 순번을 먼저 읽어 같은 스냅샷에서 조회 → 토큰 순번 이하의 변경은 모두 이번 응답까지 포함됨
+        long currentSequence = calendarSyncSequencer.currentSequence(memberId);
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Calendar> rows = after == null
+                ? calendarRepository.findSnapshot(memberId, Bool.FALSE, limit)
+                : calendarRepository.findChangesAfter(memberId, after.sequence(), after.id(), limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Calendar> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        CalendarSyncToken next;
+        if (hasMore) {
+            Calendar last = page.get(page.size() - 1);
+            next = new CalendarSyncToken(last.getSyncSequence(), last.getId());
+        } else {
+            next = new CalendarSyncToken(Math.max(currentSequence, after != null ? after.sequence() : 0L), null);
+        }
+
+        return CalendarChangesResDto.builder()
+                .changes(page.stream().map(CalendarChangeDto::from).toList())
+                .syncToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
 //    오늘 일정 조회
     private List<Calendar> getTodayCalendar(UUID memberId) {
         LocalDate today = LocalDate.now();
@@ -113,6 +171,7 @@ public class CalendarService {
                 .isDeleted(Bool.FALSE)
                 .build();
 
+        calendarSyncSequencer.markChanged(schedule);
         calendarRepository.save(schedule);
 
         return schedule.getId();
@@ -122,48 +181,114 @@ public class CalendarService {
     public void updateMySchedule(UUID id, PersonalScheduleReqDto dto) {
         Calendar calendar = calendarRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 일정입니다."));
         calendar.updateSchedule(dto.getTitle(), dto.getContents(), dto.getStartDate(), dto.getEndDate());
+        calendarSyncSequencer.markChanged(calendar);
     }
 
 //    개인일정 삭제
     public void deleteMySchedule(UUID id) {
         Calendar calendar = calendarRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 일정입니다."));
         calendar.deleteSchedule();
+        calendarSyncSequencer.markChanged(calendar);
     }
 
 //    개인 일정 외 일정 저장 및 수정
     public void saveSchedule(ScheduleDto dto) {
-        Optional<Calendar> optionalCalendar = calendarRepository.findByOriginIdAndMemberIdAndIsDeleted(dto.getOriginId(), dto.getMemberId(), Bool.FALSE);
+        saveSchedules(List.of(dto));
+    }
 
-        if (optionalCalendar.isPresent()) {
-            // [수정 로직] 이미 존재하면, 기존 일정을 업데이트
+//    개인 일정 외 일정 일괄 저장 및 수정 (Kafka 배치 단위)
+//    기존 일정은 originId IN 한 번으로 조회, 같은 (originId, memberId)가 여러 번 오면 마지막 이벤트만 반영
+    public void saveSchedules(List<ScheduleDto> dtos) {
+        Map<ScheduleKey, ScheduleDto> latest = new LinkedHashMap<>();
+        List<ScheduleDto> withoutOrigin = new ArrayList<>();
+        for (ScheduleDto dto : dtos) {
+            if (!isValidSchedule(dto)) {
+                continue;
+            }
+            if (dto.getOriginId() == null) {
+                withoutOrigin.add(dto);
+            } else {
+                latest.put(new ScheduleKey(dto.getOriginId(), dto.getMemberId()), dto);
+            }
+        }
 
-            Calendar calendar = optionalCalendar.get();
-            calendar.updateSchedule(dto.getTitle(), dto.getContents(), dto.getStartDate(), dto.getEndDate());
+        Set<UUID> originIds = latest.keySet().stream().map(ScheduleKey::originId).collect(Collectors.toSet());
+        Map<ScheduleKey, Calendar> existing = originIds.isEmpty() ? Map.of()
+                : calendarRepository.findByOriginIdInAndIsDeleted(originIds, Bool.FALSE).stream()
+                .collect(Collectors.toMap(c -> new ScheduleKey(c.getOriginId(), c.getMemberId()),
+                        Function.identity(), (a, b) -> a));
 
-            calendarRepository.save(calendar);
-            log.info("캘린더 일정 업데이트 완료: {}", calendar.getId());
+        List<Calendar> changed = new ArrayList<>();
+        List<Calendar> created = new ArrayList<>();
+        for (Map.Entry<ScheduleKey, ScheduleDto> entry : latest.entrySet()) {
+            ScheduleDto dto = entry.getValue();
+            Calendar calendar = existing.get(entry.getKey());
+            if (calendar != null) {
+                // [수정 로직] 이미 존재하면, 기존 일정을 업데이트
+                calendar.updateSchedule(dto.getTitle(), dto.getContents(), dto.getStartDate(), dto.getEndDate());
+            } else {
+                // [저장 로직] 존재하지 않으면, 새 일정으로 생성
+                calendar = newSchedule(dto);
+                created.add(calendar);
+            }
+            changed.add(calendar);
+        }
+        for (ScheduleDto dto : withoutOrigin) {
+            Calendar calendar = newSchedule(dto);
+            created.add(calendar);
+            changed.add(calendar);
+        }
 
-        } else {
-            // [저장 로직] 존재하지 않으면, 새 일정으로 생성
-            Calendar newCalendar = Calendar.builder()
-                    .originId(dto.getOriginId()) // originId (referenceId) 저장
-                    .memberId(dto.getMemberId())
-                    .title(dto.getTitle())
-                    .contents(dto.getContents())
-                    .type(CalendarType.fromCode(dto.getType()))
-                    .startDate(dto.getStartDate())
-                    .endDate(dto.getEndDate())
-                    .build();
-            calendarRepository.save(newCalendar);
-            log.info("새 캘린더 일정 생성 완료: {}", newCalendar.getId());
+        calendarSyncSequencer.markChanged(changed);
+        calendarRepository.saveAll(created);
+        log.info("캘린더 일정 반영 완료: 수정 {}건, 생성 {}건", changed.size() - created.size(), created.size());
+    }
+
+    // 반영할 수 없는 일정 이벤트는 로그만 남기고 건너뜀 (한 건 때문에 같은 poll의 나머지 일정까지 롤백되지 않도록)
+    private boolean isValidSchedule(ScheduleDto dto) {
+        if (dto == null || dto.getMemberId() == null || dto.getStartDate() == null || dto.getEndDate() == null
+                || !CalendarType.isValidCode(dto.getType())) {
+            log.warn("반영할 수 없는 일정 이벤트 건너뜀: {}", dto);
+            return false;
         }
+        return true;
+    }
+
+    private Calendar newSchedule(ScheduleDto dto) {
+        return Calendar.builder()
+                .originId(dto.getOriginId()) // originId (referenceId) 저장
+                .memberId(dto.getMemberId())
+                .title(dto.getTitle())
+                .contents(dto.getContents())
+                .type(CalendarType.fromCode(dto.getType()))
+                .startDate(dto.getStartDate())
+                .endDate(dto.getEndDate())
+                .build();
     }
 
 //    개인 일정 외 일정 삭제
     public void deleteSchedule(ScheduleDeleteDto dto) {
-        List<Calendar> calendarList = calendarRepository.findByOriginId(dto.getOriginId());
-        for(Calendar c : calendarList) {
+        deleteSchedules(List.of(dto));
+    }
+
+//    개인 일정 외 일정 일괄 삭제 (Kafka 배치 단위)
+    public void deleteSchedules(List<ScheduleDeleteDto> dtos) {
+        Set<UUID> originIds = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(ScheduleDeleteDto::getOriginId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (originIds.isEmpty()) {
+            return;
+        }
+
+        List<Calendar> calendarList = calendarRepository.findByOriginIdInAndIsDeleted(originIds, Bool.FALSE);
+        for (Calendar c : calendarList) {
             c.deleteSchedule();
         }
+        calendarSyncSequencer.markChanged(calendarList);
+    }
+
+    private record ScheduleKey(UUID originId, UUID memberId) {
     }
 }
@@ -0,0 +1,70 @@
+package com.crewvy.workspace_service.calendar.service;
+
+import com.crewvy.workspace_service.calendar.entity.Calendar;
+import com.crewvy.workspace_service.calendar.repository.CalendarSyncStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 직원별 캘린더 변경 순번 발급
+ * - 변경된 일정마다 직원의 다음 순번을 syncSequence로 기록 (호출 측 트랜잭션 안에서 수행)
+ * - 순번 행 잠금은 커밋까지 유지되므로 같은 직원의 변경은 순번 순서대로 커밋됨
+ *   → "순번 X 이후 변경" 조회가 커밋 전 변경을 건너뛰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarSyncSequencer {
+
+    private final CalendarSyncStateRepository calendarSyncStateRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markChanged(Calendar calendar) {
+        markChanged(List.of(calendar));
+    }
+
+    /**
+     * 변경된 일정들에 직원별로 연속된 순번 부여 (직원당 UPDATE 한 번)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markChanged(Collection<Calendar> calendars) {
+        Map<UUID, List<Calendar>> byMember = calendars.stream()
+                .collect(Collectors.groupingBy(Calendar::getMemberId));
+
+        // 여러 배치가 같은 직원들을 동시에 잠글 때 교착되지 않도록 항상 같은 순서로 잠금
+        List<UUID> memberIds = byMember.keySet().stream().sorted(Comparator.naturalOrder()).toList();
+        for (UUID memberId : memberIds) {
+            List<Calendar> changed = byMember.get(memberId);
+            long last = advance(memberId, changed.size());
+            long sequence = last - changed.size();
+            for (Calendar calendar : changed) {
+                calendar.markChanged(++sequence);
+            }
+        }
+    }
+
+    /**
+     * @return 직원의 현재 순번 (변경 이력이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long currentSequence(UUID memberId) {
+        return calendarSyncStateRepository.findLastSequence(memberId).orElse(0L);
+    }
+
+    private long advance(UUID memberId, long count) {
+        if (calendarSyncStateRepository.advance(memberId, count) == 0) {
+            calendarSyncStateRepository.insertIfAbsent(memberId);
+            calendarSyncStateRepository.advance(memberId, count);
+        }
+        return calendarSyncStateRepository.findLastSequence(memberId)
+                .orElseThrow(() -> new IllegalStateException("캘린더 변경 순번이 없습니다: " + memberId));
+    }
+}
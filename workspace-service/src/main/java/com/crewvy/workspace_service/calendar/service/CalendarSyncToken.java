@@ -0,0 +1,40 @@
+package com.crewvy.workspace_service.calendar.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 캘린더 동기화 토큰 (마지막으로 내려준 변경의 순번, 일정 ID)
+ * - id가 null이면 순번까지의 변경을 모두 받은 상태 (다음 조회는 순번 이후부터)
+ * - 클라이언트에는 의미를 알 수 없는 Base64 문자열로만 노출
+ */
+record CalendarSyncToken(long sequence, UUID id) {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * @return 토큰이 비어 있으면 null (최초 동기화)
+     */
+    static CalendarSyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new CalendarSyncToken(Long.parseLong(decoded), null);
+            }
+            return new CalendarSyncToken(Long.parseLong(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = id == null ? String.valueOf(sequence) : sequence + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.crewvy.workspace_service.feignClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Member-Service의 직원 저장/삭제 이벤트를 수신하여 직원 이름 캐시(MemberLookupClient)를 무효화하는 Kafka Listener
+ * - 모든 인스턴스가 각자 캐시를 비워야 하므로 인스턴스마다 고유한 consumer group 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberLookupCacheEventListener {
+
+    private final MemberLookupClient memberLookupClient;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {"member-saved-events", "member-deleted-events"},
+            groupId = "workspace-member-lookup-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "outboxEventKafkaListenerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleMemberChanged(String payload) {
+        try {
+            JsonNode memberId = objectMapper.readTree(payload).get("memberId");
+            if (memberId == null || memberId.isNull()) {
+                throw new IllegalArgumentException("memberId 없음");
+            }
+            memberLookupClient.invalidateMember(UUID.fromString(memberId.asText()));
+        } catch (Exception e) {
+            log.error("직원 변경 이벤트 처리 실패, 직원 이름 캐시 전체 무효화: payload={}", payload, e);
+            memberLookupClient.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.crewvy.workspace_service.feignClient;
+
+import com.crewvy.common.dto.ApiResponse;
+import com.crewvy.common.lookup.CoalescingBatchLoader;
+import com.crewvy.workspace_service.feignClient.dto.IdListReq;
+import com.crewvy.workspace_service.feignClient.dto.MemberNameListRes;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 직원 이름 조회 클라이언트
+ * - 채팅/화상회의 목록의 이름 보강 조회를 member-service 일괄 조회 한 번으로 병합하고 TTL 동안 로컬 캐시
+ * - 직원 저장/삭제 이벤트로 무효화 (MemberLookupCacheEventListener), TTL은 이벤트 유실 대비 상한
+ */
+@Component
+public class MemberLookupClient {
+
+    private static final Duration WINDOW = Duration.ofMillis(3);
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 20_000;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final MemberFeignClient memberFeignClient;
+
+    // memberId → 이름
+    private final CoalescingBatchLoader<UUID, String> names;
+
+    public MemberLookupClient(MemberFeignClient memberFeignClient) {
+        this.memberFeignClient = memberFeignClient;
+        this.names = new CoalescingBatchLoader<>("member-names", this::loadNames,
+                WINDOW, TTL, MAX_ENTRIES, MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @return memberId → 이름 (존재하지 않는 직원은 제외)
+     */
+    public Map<UUID, String> getNames(Collection<UUID> memberIds) {
+        return names.getAll(memberIds);
+    }
+
+    public void invalidateMember(UUID memberId) {
+        names.invalidate(memberId);
+    }
+
+    public void invalidateAll() {
+        names.invalidateAll();
+    }
+
+    // member-service 에서 UUID를 하나 보내야하도록 구현되어있어서 조회 대상 중 하나를 전달, 실패 응답은 null (캐시하지 않음)
+    private Map<UUID, String> loadNames(List<UUID> memberIds) {
+        ApiResponse<List<MemberNameListRes>> response = memberFeignClient.getNameList(memberIds.get(0), new IdListReq(memberIds));
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            return null;
+        }
+        return response.getData().stream()
+                .filter(member -> member.getMemberId() != null && member.getName() != null)
+                .collect(Collectors.toMap(MemberNameListRes::getMemberId, MemberNameListRes::getName, (a, b) -> a));
+    }
+}
@@ -14,11 +14,19 @@ import java.util.UUID;
 @Getter
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_minute_search_outbox_event_processed_seq", columnList = "processed, seq"),
+        @Index(name = "idx_minute_search_outbox_event_aggregate", columnList = "aggregate_id, processed, seq")
+})
 public class MinuteSearchOutboxEvent {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // 발행 순서 (INSERT 시 DB가 증가값으로 부여, 릴레이는 이 순서로 선점)
+    @Column(columnDefinition = "BIGINT NOT NULL AUTO_INCREMENT UNIQUE", insertable = false, updatable = false)
+    private Long seq;
+
     private String topic;
 
     private UUID aggregateId;
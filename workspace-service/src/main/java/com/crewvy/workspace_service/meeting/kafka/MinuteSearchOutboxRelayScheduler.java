@@ -1,60 +1,93 @@
 package com.crewvy.workspace_service.meeting.kafka;
 
 import com.crewvy.common.entity.Bool;
-import com.crewvy.common.event.ApprovalCompletedEvent;
 import com.crewvy.common.event.MinuteSavedEvent;
+import com.crewvy.common.outbox.OutboxMessage;
+import com.crewvy.common.outbox.OutboxRelay;
+import com.crewvy.common.outbox.OutboxSequence;
 import com.crewvy.workspace_service.meeting.entity.MinuteSearchOutboxEvent;
 import com.crewvy.workspace_service.meeting.repository.MinuteSearchOutboxEventRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
-public class MinuteSearchOutboxRelayScheduler {
+public class MinuteSearchOutboxRelayScheduler extends OutboxRelay<MinuteSearchOutboxEvent, Object> {
 
     private final MinuteSearchOutboxEventRepository minuteSearchOutboxEventRepository;
-    private final KafkaTemplate<String, Object> minuteSearchEventKafkaTemplate;
     private final ObjectMapper objectMapper;
 
     public MinuteSearchOutboxRelayScheduler(MinuteSearchOutboxEventRepository minuteSearchOutboxEventRepository
             , @Qualifier("minuteSearchEventKafkaTemplate") KafkaTemplate<String, Object> minuteSearchEventKafkaTemplate
-            , ObjectMapper objectMapper) {
+            , ObjectMapper objectMapper
+            , PlatformTransactionManager transactionManager
+            , MeterRegistry meterRegistry) {
+        super("minute-search", minuteSearchEventKafkaTemplate, transactionManager, meterRegistry);
         this.minuteSearchOutboxEventRepository = minuteSearchOutboxEventRepository;
-        this.minuteSearchEventKafkaTemplate = minuteSearchEventKafkaTemplate;
         this.objectMapper = objectMapper;
     }
 
 
-    @Scheduled(fixedDelay = 5000)
-    @Transactional
+    @Scheduled(fixedDelay = TICK_MILLIS)
     public void relaySearchOutboxEvents() {
-        List<MinuteSearchOutboxEvent> events = minuteSearchOutboxEventRepository.findAllByProcessed(Bool.FALSE, Pageable.ofSize(100));
-
-        for (MinuteSearchOutboxEvent event : events) {
-            try {
-                Object eventPayload;
-                String topic = event.getTopic();
-
-                if ("minute-completed-events".equals(topic)) {
-                    eventPayload = objectMapper.readValue(event.getPayload(), MinuteSavedEvent.class);
-                } else {
-                    log.warn("Unknown topic: {}", topic);
-                    continue;
-                }
-
-                minuteSearchEventKafkaTemplate.send(topic, eventPayload);
-                event.setProcessed();
-            } catch (Exception e) {
-                log.error("Failed to send search outbox event to Kafka: {} Error: {}", event.getId(), e.getMessage());
-            }
+        relay();
+    }
+
+    @Override
+    protected List<MinuteSearchOutboxEvent> claim(int limit) {
+        return minuteSearchOutboxEventRepository.claimUnprocessed(limit);
+    }
+
+    @Override
+    protected UUID idOf(MinuteSearchOutboxEvent event) {
+        return event.getId();
+    }
+
+    @Override
+    protected long seqOf(MinuteSearchOutboxEvent event) {
+        return event.getSeq();
+    }
+
+    @Override
+    protected UUID aggregateIdOf(MinuteSearchOutboxEvent event) {
+        return event.getAggregateId();
+    }
+
+    @Override
+    protected List<OutboxSequence> findPendingSequences(Collection<UUID> aggregateIds) {
+        return minuteSearchOutboxEventRepository.findPendingSequences(aggregateIds);
+    }
+
+    @Override
+    protected OutboxMessage<Object> toMessage(MinuteSearchOutboxEvent event) throws Exception {
+        String topic = event.getTopic();
+        if (!"minute-completed-events".equals(topic)) {
+            log.warn("Unknown topic: {}", topic);
+            return null;
         }
+
+        Object eventPayload = objectMapper.readValue(event.getPayload(), MinuteSavedEvent.class);
+        String key = event.getAggregateId() != null ? event.getAggregateId().toString() : null;
+        return new OutboxMessage<>(topic, key, eventPayload);
+    }
+
+    @Override
+    protected void markProcessed(List<UUID> ids) {
+        minuteSearchOutboxEventRepository.markProcessed(ids);
+    }
+
+    @Override
+    protected long countPending() {
+        return minuteSearchOutboxEventRepository.countByProcessed(Bool.FALSE);
     }
-}
\ No newline at end of file
+}
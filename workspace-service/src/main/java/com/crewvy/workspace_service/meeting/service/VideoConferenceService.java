@@ -17,9 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.crewvy.common.entity.Bool;
 import com.crewvy.common.event.MinuteSavedEvent;
 import com.crewvy.common.exception.*;
-import com.crewvy.workspace_service.feignClient.MemberFeignClient;
-import com.crewvy.workspace_service.feignClient.dto.IdListReq;
-import com.crewvy.workspace_service.feignClient.dto.MemberNameListRes;
+import com.crewvy.workspace_service.feignClient.MemberLookupClient;
 import com.crewvy.workspace_service.meeting.constant.MinuteStatus;
 import com.crewvy.workspace_service.meeting.constant.VideoConferenceStatus;
 import com.crewvy.workspace_service.meeting.dto.ai.TranscribeRes;
@@ -58,7 +56,7 @@ public class VideoConferenceService {
     private final RoomServiceClient roomServiceClient;
     private final EgressServiceClient egressServiceClient;
     private final LivekitEgress.S3Upload s3Upload;
-    private final MemberFeignClient memberFeignClient;
+    private final MemberLookupClient memberLookupClient;
     private final ApplicationEventPublisher eventPublisher;
 
     private final String LIVEKIT_API_KEY;
@@ -78,7 +76,7 @@ public class VideoConferenceService {
                                   @Value("${livekit.apiSecret}") String LIVEKIT_API_SECRET,
                                   MinuteRepository minuteRepository,
                                   AESUtil aesUtil,
-                                  MemberFeignClient memberFeignClient, ApplicationEventPublisher eventPublisher, MinuteSearchOutboxEventRepository minuteSearchOutboxEventRepository) {
+                                  MemberLookupClient memberLookupClient, ApplicationEventPublisher eventPublisher, MinuteSearchOutboxEventRepository minuteSearchOutboxEventRepository) {
         this.videoConferenceRepository = videoConferenceRepository;
         this.objectMapper = objectMapper;
         this.messageRepository = messageRepository;
@@ -89,7 +87,7 @@ public class VideoConferenceService {
         this.LIVEKIT_API_SECRET = LIVEKIT_API_SECRET;
         this.minuteRepository = minuteRepository;
         this.aesUtil = aesUtil;
-        this.memberFeignClient = memberFeignClient;
+        this.memberLookupClient = memberLookupClient;
         this.eventPublisher = eventPublisher;
         this.minuteSearchOutboxEventRepository = minuteSearchOutboxEventRepository;
     }
@@ -548,17 +546,7 @@ public class VideoConferenceService {
     private Map<UUID, String> findMemberName(List<UUID> idList) {
         if (idList.isEmpty()) return Collections.emptyMap();
 
-        IdListReq idListReq = new IdListReq();
-        idListReq.setUuidList(idList);
-
-        // member-service 에서 UUID를 하나 보내야하도록 구현되어있어서
-        List<MemberNameListRes> memberNameList = memberFeignClient.getNameList(UUID.randomUUID(), idListReq).getData();
-
-        return memberNameList.stream()
-                .collect(Collectors.toMap(
-                        MemberNameListRes::getMemberId,
-                        MemberNameListRes::getName
-                ));
+        return memberLookupClient.getNames(idList);
     }
 
 
@@ -24,6 +24,26 @@ public class NotificationController {
         return new ResponseEntity<>(ApiResponse.success(dtoList, "내 알림 조회"), HttpStatus.OK);
     }
 
+    // 알림함 (안 읽은 알림 최신순, 커서 페이징)
+    @GetMapping("/inbox")
+    public ResponseEntity<?> getInbox(@RequestHeader("X-User-UUID") UUID memberId,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(
+                ApiResponse.success(notificationService.getInbox(memberId, cursor, size), "알림함 조회"),
+                HttpStatus.OK
+        );
+    }
+
+    // 안 읽은 알림 수 (알림 아이콘 배지)
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(@RequestHeader("X-User-UUID") UUID memberId) {
+        return new ResponseEntity<>(
+                ApiResponse.success(notificationService.getUnreadCount(memberId), "안 읽은 알림 수 조회"),
+                HttpStatus.OK
+        );
+    }
+
     @PatchMapping("/read/{id}")
     public ResponseEntity<?> readAlarm(@PathVariable UUID id) {
         notificationService.readAlarm(id);
@@ -0,0 +1,24 @@
+package com.crewvy.workspace_service.notification.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 기반 목록 응답 (안 읽은 알림, 최신순)
+ * - 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 전달 (hasNext가 false면 null)
+ * - unreadCount는 안 읽은 알림 카운터 기준
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class NotificationInboxResDto {
+    private List<NotificationResDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private long unreadCount;
+}
@@ -13,6 +13,12 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        // 알림함 (수신자별 안 읽은 알림 최신순), is_deleted가 읽음 여부
+        @Index(name = "idx_notification_receiver_inbox", columnList = "receiver_id, is_deleted, created_at, id"),
+        // 보관 기간이 지난 읽은 알림 정리 배치
+        @Index(name = "idx_notification_retention", columnList = "is_deleted, created_at")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,39 @@
+package com.crewvy.workspace_service.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 직원별 안 읽은 알림 수 (알림 아이콘 배지용)
+ * 알림 저장/읽음 트랜잭션 안에서 증감되며, 매일 원본 테이블 기준으로 보정
+ */
+@Entity
+@Table(name = "notification_unread_counter")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private UUID memberId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    /**
+     * 원본 테이블에서 다시 센 값으로 덮어쓰기 (보정 배치)
+     */
+    public void overwrite(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+}
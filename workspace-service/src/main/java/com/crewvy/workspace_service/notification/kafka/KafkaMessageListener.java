@@ -4,10 +4,9 @@ import com.crewvy.common.dto.NotificationMessage;
 import com.crewvy.workspace_service.notification.constant.NotificationType;
 import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
 import com.crewvy.workspace_service.notification.entity.Notification;
-import com.crewvy.workspace_service.notification.repository.NotificationRepository;
 import com.crewvy.workspace_service.notification.service.NotificationService;
 import com.crewvy.workspace_service.notification.service.NotificationSettingService;
-import com.crewvy.workspace_service.notification.sse.SseAlarmService;
+import com.crewvy.workspace_service.notification.sse.SseNotificationRouter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
@@ -18,48 +17,38 @@ import java.util.UUID;
 @Slf4j
 @Component
 public class KafkaMessageListener {
-    private final SseAlarmService sseAlarmService;
-    private final NotificationRepository notificationRepository;
+    private final SseNotificationRouter sseNotificationRouter;
     private final NotificationService notificationService;
     private final NotificationSettingService notificationSettingService;
 
-    public KafkaMessageListener(SseAlarmService sseAlarmService,
-                                NotificationRepository notificationRepository,
+    public KafkaMessageListener(SseNotificationRouter sseNotificationRouter,
                                 NotificationService notificationService,
                                 NotificationSettingService notificationSettingService
     ) {
-        this.sseAlarmService = sseAlarmService;
-        this.notificationRepository = notificationRepository;
+        this.sseNotificationRouter = sseNotificationRouter;
         this.notificationService = notificationService;
         this.notificationSettingService = notificationSettingService;
     }
 
+    // 알림 저장 후, 수신자의 SSE 연결을 가진 인스턴스로만 전달 (설정 확인은 여기서 한 번만)
     @KafkaListener(topics = "notification", groupId = "workspace-notification-group")
     public void saveNotificationToDb(NotificationMessage message) {
-        if(notificationSettingService.settingCheck(message.getMemberId(), NotificationType.fromCode(message.getNotificationType()))) {
-            notificationRepository.save(Notification.builder()
-                    .receiverId(message.getMemberId())
-                    .notificationType(NotificationType.fromCode(message.getNotificationType()))
-                    .content(message.getContent())
-                    .targetId(message.getTargetId())
-                    .build());
+        NotificationType type = NotificationType.fromCode(message.getNotificationType());
+        if (!notificationSettingService.settingCheck(message.getMemberId(), type)) {
+            return;
         }
-    }
 
-    @KafkaListener(topics = "notification",
-            // SpEL을 사용해 매번 고유한 groupId를 동적으로 생성
-            groupId = "#{'sse-broadcast-group-' + T(java.util.UUID).randomUUID().toString()}")
-    public void broadcastSseNotification(NotificationMessage message) {
-        // 이 서버에 연결된 유저에게만 SSE 전송
-        if(notificationSettingService.settingCheck(message.getMemberId(), NotificationType.fromCode(message.getNotificationType()))) {
-            NotificationResDto notification = NotificationResDto.builder()
-                    .type(message.getNotificationType())
-                    .contents(message.getContent())
-                    .targetId(message.getTargetId())
-                    .createAt(LocalDateTime.now())
-                    .build();
-            sseAlarmService.sendToUser(message.getMemberId(), notification);
-        }
+        Notification saved = notificationService.saveNotification(
+                message.getMemberId(), type, message.getContent(), message.getTargetId());
+
+        NotificationResDto notification = NotificationResDto.builder()
+                .notificationId(saved.getId())
+                .type(message.getNotificationType())
+                .contents(message.getContent())
+                .targetId(message.getTargetId())
+                .createAt(LocalDateTime.now())
+                .build();
+        sseNotificationRouter.route(message.getMemberId(), notification);
     }
 
     @KafkaListener(
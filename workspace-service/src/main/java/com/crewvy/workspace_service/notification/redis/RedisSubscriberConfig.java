@@ -1,10 +1,12 @@
 package com.crewvy.workspace_service.notification.redis;
 
 import com.crewvy.common.redis.RedisChannel;
+import com.crewvy.workspace_service.notification.sse.SseConnectionRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
@@ -13,12 +15,18 @@ public class RedisSubscriberConfig {
 
     private final RedisConnectionFactory redisConnectionFactory;
     private final RedisMessageSubscriber redisMessageSubscriber;
+    private final SseDeliverySubscriber sseDeliverySubscriber;
+    private final SseConnectionRegistry sseConnectionRegistry;
 
     public RedisSubscriberConfig(
             @Qualifier("pubSubRedisConnectionFactory") RedisConnectionFactory redisConnectionFactory,
-            RedisMessageSubscriber redisMessageSubscriber) {
+            RedisMessageSubscriber redisMessageSubscriber,
+            SseDeliverySubscriber sseDeliverySubscriber,
+            SseConnectionRegistry sseConnectionRegistry) {
         this.redisConnectionFactory = redisConnectionFactory;
         this.redisMessageSubscriber = redisMessageSubscriber;
+        this.sseDeliverySubscriber = sseDeliverySubscriber;
+        this.sseConnectionRegistry = sseConnectionRegistry;
     }
 
     @Bean
@@ -26,6 +34,8 @@ public class RedisSubscriberConfig {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory);
         container.addMessageListener(redisMessageSubscriber, new PatternTopic(RedisChannel.NOTIFICATION_CHANNEL));
+        // 이 인스턴스로 라우팅된 SSE 알림만 수신
+        container.addMessageListener(sseDeliverySubscriber, new ChannelTopic(sseConnectionRegistry.deliveryChannel()));
         return container;
     }
 }
\ No newline at end of file
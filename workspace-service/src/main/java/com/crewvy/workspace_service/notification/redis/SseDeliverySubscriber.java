@@ -0,0 +1,32 @@
+package com.crewvy.workspace_service.notification.redis;
+
+import com.crewvy.workspace_service.notification.sse.SseAlarmService;
+import com.crewvy.workspace_service.notification.sse.SseDeliveryMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 인스턴스의 전달 채널(sse-delivery:{인스턴스 ID})로 라우팅된 알림을 로컬 SSE 연결에 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseDeliverySubscriber implements MessageListener {
+
+    private final SseAlarmService sseAlarmService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseDeliveryMessage delivery = objectMapper.readValue(message.getBody(), SseDeliveryMessage.class);
+            sseAlarmService.sendToUser(delivery.getMemberId(), delivery.getNotification());
+        } catch (Exception e) {
+            log.error("SSE 전달 메시지 처리 실패", e);
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.crewvy.common.entity.Bool;
 import com.crewvy.workspace_service.notification.entity.Notification;
 import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,4 +29,53 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
             @Param("newStatus") Bool newStatus, // (추가) 새 상태 파라미터
             @Param("oldStatus") Bool oldStatus  // (추가) 기존 상태 파라미터
     );
+
+    // 안 읽은 알림일 때만 읽음 처리 (동시에 읽음 처리해도 한 번만 1을 반환 → 안 읽은 알림 카운터 중복 차감 방지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n " +
+            "SET n.isDeleted = :newStatus " +
+            "WHERE n.id = :id " +
+            "AND n.isDeleted = :oldStatus")
+    int readById(
+            @Param("id") UUID id,
+            @Param("newStatus") Bool newStatus,
+            @Param("oldStatus") Bool oldStatus
+    );
+
+    long countByReceiverIdAndIsDeleted(UUID receiverId, Bool isDeleted);
+
+    // 알림함 첫 페이지 (created_at, id 내림차순)
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.receiverId = :receiverId " +
+            "AND n.isDeleted = :isDeleted " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInbox(
+            @Param("receiverId") UUID receiverId,
+            @Param("isDeleted") Bool isDeleted,
+            Pageable pageable
+    );
+
+    // 알림함 다음 페이지 ((created_at, id) 내림차순에서 커서 다음 행부터)
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.receiverId = :receiverId " +
+            "AND n.isDeleted = :isDeleted " +
+            "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxAfter(
+            @Param("receiverId") UUID receiverId,
+            @Param("isDeleted") Bool isDeleted,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable
+    );
+
+    // 보관 기간이 지난 읽은 알림 ID (정리 배치에서 페이지 단위로 삭제)
+    @Query("SELECT n.id FROM Notification n " +
+            "WHERE n.isDeleted = :isDeleted " +
+            "AND n.createdAt < :createdBefore")
+    List<UUID> findIdsByIsDeletedAndCreatedAtBefore(
+            @Param("isDeleted") Bool isDeleted,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Pageable pageable
+    );
 }
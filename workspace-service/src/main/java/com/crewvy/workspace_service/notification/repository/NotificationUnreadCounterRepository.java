@@ -0,0 +1,38 @@
+package com.crewvy.workspace_service.notification.repository;
+
+import com.crewvy.workspace_service.notification.entity.NotificationUnreadCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, UUID> {
+
+    // 행이 없으면 아무 것도 하지 않음 (처음 조회할 때 원본 기준으로 생성됨, 이때 잡힌 gap lock이 생성 INSERT를 커밋 뒤로 미룸)
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = c.unreadCount + :delta WHERE c.memberId = :memberId")
+    int addCount(@Param("memberId") UUID memberId, @Param("delta") long delta);
+
+    // 처음 조회할 때 빈 행을 먼저 만들고 잠근 뒤 원본 기준으로 채움 (동시에 다른 요청이 먼저 만들었으면 그대로 둠)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notification_unread_counter (member_id, unread_count) VALUES (:memberId, :unreadCount)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") UUID memberId, @Param("unreadCount") long unreadCount);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM NotificationUnreadCounter c WHERE c.memberId = :memberId")
+    Optional<NotificationUnreadCounter> findByIdForUpdate(@Param("memberId") UUID memberId);
+
+    // 보정 배치용 키셋 페이징 (after가 null이면 처음부터)
+    @Query("SELECT c.memberId FROM NotificationUnreadCounter c " +
+            "WHERE (:after IS NULL OR c.memberId > :after) " +
+            "ORDER BY c.memberId")
+    List<UUID> findMemberIdsAfter(@Param("after") UUID after, Pageable pageable);
+}
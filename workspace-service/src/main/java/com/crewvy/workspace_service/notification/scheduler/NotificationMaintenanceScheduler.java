@@ -0,0 +1,81 @@
+package com.crewvy.workspace_service.notification.scheduler;
+
+import com.crewvy.workspace_service.notification.repository.NotificationUnreadCounterRepository;
+import com.crewvy.workspace_service.notification.service.NotificationService;
+import com.crewvy.workspace_service.notification.service.NotificationUnreadCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 알림 정리 배치
+ * - 보관 기간이 지난 읽은 알림을 페이지 단위로 삭제 (페이지마다 별도 트랜잭션, 한 번에 최대 MAX_PURGE_BATCHES 페이지)
+ * - 안 읽은 알림 카운터를 원본 테이블 기준으로 보정 (행마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMaintenanceScheduler {
+
+    private static final int RETENTION_DAYS = 90;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final int MAX_PURGE_BATCHES = 500;
+    private static final int PAGE_SIZE = 500;
+
+    private final NotificationService notificationService;
+    private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+    private final NotificationUnreadCounterService notificationUnreadCounterService;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    @SchedulerLock(
+            name = "purgeReadNotifications",
+            lockAtMostFor = "PT30M",
+            lockAtLeastFor = "PT30S"
+    )
+    public void purgeReadNotifications() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int purged = 0;
+        for (int batch = 0; batch < MAX_PURGE_BATCHES; batch++) {
+            int deleted = notificationService.purgeRead(createdBefore, PURGE_BATCH_SIZE);
+            purged += deleted;
+            if (deleted < PURGE_BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("읽은 알림 정리 완료: {}건 ({} 이전 생성)", purged, createdBefore);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @SchedulerLock(
+            name = "repairNotificationUnreadCounters",
+            lockAtMostFor = "PT30M",
+            lockAtLeastFor = "PT30S"
+    )
+    public void repairNotificationUnreadCounters() {
+        int repaired = 0;
+        UUID after = null;
+        while (true) {
+            List<UUID> memberIds = notificationUnreadCounterRepository.findMemberIdsAfter(after, PageRequest.of(0, PAGE_SIZE));
+            for (UUID memberId : memberIds) {
+                try {
+                    notificationUnreadCounterService.repair(memberId);
+                    repaired++;
+                } catch (Exception e) {
+                    log.error("안 읽은 알림 카운터 보정 실패: memberId={}", memberId, e);
+                }
+            }
+            if (memberIds.size() < PAGE_SIZE) {
+                break;
+            }
+            after = memberIds.get(memberIds.size() - 1);
+        }
+        log.info("안 읽은 알림 카운터 보정 완료: {}건", repaired);
+    }
+}
@@ -0,0 +1,43 @@
+package com.crewvy.workspace_service.notification.service;
+
+import com.crewvy.workspace_service.notification.entity.Notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 알림함 목록 커서 (마지막으로 내려준 알림의 생성 시각, ID)
+ * 클라이언트에는 의미를 알 수 없는 Base64 문자열로만 노출
+ */
+record NotificationCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "_";
+
+    static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new NotificationCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,6 +3,7 @@ package com.crewvy.workspace_service.notification.service;
 import com.crewvy.common.entity.Bool;
 import com.crewvy.workspace_service.notification.constant.NotificationType;
 import com.crewvy.workspace_service.notification.dto.request.NotificationSettingReqDto;
+import com.crewvy.workspace_service.notification.dto.response.NotificationInboxResDto;
 import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
 import com.crewvy.workspace_service.notification.dto.response.NotificationSettingResDto;
 import com.crewvy.workspace_service.notification.entity.Notification;
@@ -12,9 +13,11 @@ import com.crewvy.workspace_service.notification.repository.NotificationSettingR
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,32 +27,95 @@ import java.util.stream.Collectors;
 @Transactional
 @Slf4j
 public class NotificationService {
+    // 기존 전체 조회 API도 최신 알림 일부만 반환 (전체 목록은 알림함 커서 조회로)
+    private static final int MY_ALARM_LIMIT = 100;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounterService notificationUnreadCounterService;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationSettingService notificationSettingService;
 
 //    내 알림 조회
     @Transactional(readOnly = true)
     public List<NotificationResDto> getMyAlarm(UUID memberId) {
         List<Notification> notificationList = notificationRepository.
-                findByReceiverIdAndIsDeleted(memberId, Bool.FALSE);
+                findInbox(memberId, Bool.FALSE, PageRequest.of(0, MY_ALARM_LIMIT));
 
         return notificationList.stream()
-                .map(notification -> NotificationResDto.builder()
-                        .notificationId(notification.getId())
-                        .type(notification.getNotificationType().getCodeValue())
-                        .contents(notification.getContent())
-                        .targetId(notification.getTargetId())
-                        .createAt(notification.getCreatedAt())
-                        .build())
+                .map(this::toResDto)
                 .toList();
     }
 
+//    알림함 조회 (안 읽은 알림 최신순, 커서 페이징)
+    @Transactional(readOnly = true)
+    public NotificationInboxResDto getInbox(UUID memberId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications = after == null
+                ? notificationRepository.findInbox(memberId, Bool.FALSE, limit)
+                : notificationRepository.findInboxAfter(memberId, Bool.FALSE, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<Notification> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+
+        return NotificationInboxResDto.builder()
+                .content(page.stream().map(this::toResDto).toList())
+                .nextCursor(hasNext ? NotificationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .unreadCount(notificationUnreadCounterService.getUnreadCount(memberId))
+                .build();
+    }
+
+//    안 읽은 알림 수 (알림 아이콘 배지, 카운터 행 하나만 조회)
+    public long getUnreadCount(UUID memberId) {
+        return notificationUnreadCounterService.getUnreadCount(memberId);
+    }
+
+//    알림 저장 (안 읽은 알림 카운터 증가와 같은 트랜잭션)
+    public Notification saveNotification(UUID memberId, NotificationType type, String content, UUID targetId) {
+        Notification saved = notificationRepository.save(Notification.builder()
+                .receiverId(memberId)
+                .notificationType(type)
+                .content(content)
+                .targetId(targetId)
+                .build());
+        notificationUnreadCounterService.add(memberId, 1);
+        return saved;
+    }
+
 //    알림 읽음처리
     public void readAlarm(UUID id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 알림입니다."));
 
-        notification.readNotification();
+        // 이미 읽은 알림이면 카운터를 건드리지 않음
+        if (notificationRepository.readById(id, Bool.TRUE, Bool.FALSE) > 0) {
+            notificationUnreadCounterService.add(notification.getReceiverId(), -1);
+        }
+    }
+
+//    보관 기간이 지난 읽은 알림 한 페이지 삭제 (정리 배치에서 페이지마다 호출)
+    public int purgeRead(LocalDateTime createdBefore, int batchSize) {
+        List<UUID> ids = notificationRepository.findIdsByIsDeletedAndCreatedAtBefore(
+                Bool.TRUE, createdBefore, PageRequest.of(0, batchSize));
+        if (!ids.isEmpty()) {
+            notificationRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    private NotificationResDto toResDto(Notification notification) {
+        return NotificationResDto.builder()
+                .notificationId(notification.getId())
+                .type(notification.getNotificationType().getCodeValue())
+                .contents(notification.getContent())
+                .targetId(notification.getTargetId())
+                .createAt(notification.getCreatedAt())
+                .build();
     }
 
 //    계정 생성시 알림 생성
@@ -65,6 +131,7 @@ public class NotificationService {
             settingList.add(setting);
         }
         notificationSettingRepository.saveAll(settingList);
+        notificationSettingService.invalidateOnCommit(List.of(memberId));
     }
 
     @Transactional(readOnly = true)
@@ -98,6 +165,11 @@ public class NotificationService {
 
             setting.updateIsActive(dto.getIsActive());
         });
+
+        notificationSettingService.invalidateOnCommit(settingMap.values().stream()
+                .map(NotificationSetting::getMemberId)
+                .distinct()
+                .toList());
     }
 
     public void readAll(UUID memberId) {
@@ -107,6 +179,8 @@ public class NotificationService {
                 Bool.FALSE  // :oldStatus 값
         );
 
+        notificationUnreadCounterService.add(memberId, -updateCount);
+
         log.info("{}님의 알림 {}건을 '읽음' 처리했습니다.", memberId, updateCount);
     }
 }
@@ -4,23 +4,99 @@ import com.crewvy.common.entity.Bool;
 import com.crewvy.workspace_service.notification.constant.NotificationType;
 import com.crewvy.workspace_service.notification.entity.NotificationSetting;
 import com.crewvy.workspace_service.notification.repository.NotificationSettingRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 알림 수신 설정 확인
+ * - 직원별 설정 전체를 한 번에 읽어 로컬 캐시 (알림마다 DB 조회하지 않음)
+ * - 설정 변경 시 커밋 후 해당 직원만 무효화, 다른 인스턴스는 TTL(1분) 이내 반영
+ */
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class NotificationSettingService {
+
+    private static final int MAX_MEMBERS = 50_000;
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+
     private final NotificationSettingRepository settingRepository;
 
-//    알림 설정 여부 확인
+    // Key: memberId, Value: 꺼둔 알림 종류
+    private final Map<UUID, CachedSettings> settingsByMember = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가. 조회 중 무효화가 끼어들면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+//    알림 설정 여부 확인 (설정이 없으면 수신)
+    @Transactional(readOnly = true)
     public boolean settingCheck(UUID memberId, NotificationType type) {
-        return settingRepository.findByMemberIdAndNotificationType(memberId, type)
-                .map(NotificationSetting::getIsActive)
-                .orElse(Bool.TRUE).toBoolean();
+        long now = System.nanoTime();
+        CachedSettings cached = settingsByMember.get(memberId);
+        if (cached == null || now - cached.loadedAt() >= TTL_NANOS) {
+            long sequence = invalidationSequence.get();
+            cached = new CachedSettings(loadInactiveTypes(memberId), now);
+            if (invalidationSequence.get() == sequence) {
+                evictIfFull(now);
+                settingsByMember.put(memberId, cached);
+            }
+        }
+        return !cached.inactiveTypes().contains(type);
+    }
+
+    // 설정 변경 트랜잭션에서 호출: 즉시 + 커밋 후 한 번 더 무효화 (커밋 전 재적재된 이전 값 제거)
+    public void invalidateOnCommit(Collection<UUID> memberIds) {
+        invalidate(memberIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(memberIds);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Collection<UUID> memberIds) {
+        invalidationSequence.incrementAndGet();
+        memberIds.forEach(settingsByMember::remove);
+    }
+
+    private Set<NotificationType> loadInactiveTypes(UUID memberId) {
+        Set<NotificationType> inactiveTypes = EnumSet.noneOf(NotificationType.class);
+        for (NotificationSetting setting : settingRepository.findByMemberId(memberId)) {
+            if (setting.getIsActive() == Bool.FALSE) {
+                inactiveTypes.add(setting.getNotificationType());
+            }
+        }
+        return inactiveTypes;
+    }
+
+    private void evictIfFull(long now) {
+        if (settingsByMember.size() < MAX_MEMBERS) {
+            return;
+        }
+        settingsByMember.values().removeIf(cached -> now - cached.loadedAt() >= TTL_NANOS);
+        if (settingsByMember.size() >= MAX_MEMBERS) {
+            log.debug("알림 설정 캐시 용량 초과로 전체 비움: size={}", settingsByMember.size());
+            settingsByMember.clear();
+        }
+    }
+
+    private record CachedSettings(Set<NotificationType> inactiveTypes, long loadedAt) {
     }
 }
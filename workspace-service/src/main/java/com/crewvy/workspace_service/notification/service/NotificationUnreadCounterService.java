@@ -0,0 +1,82 @@
+package com.crewvy.workspace_service.notification.service;
+
+import com.crewvy.common.entity.Bool;
+import com.crewvy.workspace_service.notification.entity.NotificationUnreadCounter;
+import com.crewvy.workspace_service.notification.repository.NotificationRepository;
+import com.crewvy.workspace_service.notification.repository.NotificationUnreadCounterRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * 안 읽은 알림 수(직원별 카운터) 관리
+ * - 알림 저장/읽음 트랜잭션 안에서 증감만 반영
+ * - 카운터 행이 없는 직원은 처음 조회할 때 행을 먼저 만들고 잠근 뒤 원본 테이블에서 한 번 세어 채움, 이후 조회는 행 하나만 읽음
+ * - 서비스를 거치지 않은 변경으로 어긋난 값은 보정 배치가 맞춤
+ */
+@Service
+public class NotificationUnreadCounterService {
+
+    private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate newTransaction;
+
+    public NotificationUnreadCounterService(NotificationUnreadCounterRepository notificationUnreadCounterRepository,
+                                            NotificationRepository notificationRepository,
+                                            PlatformTransactionManager transactionManager) {
+        this.notificationUnreadCounterRepository = notificationUnreadCounterRepository;
+        this.notificationRepository = notificationRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 안 읽은 알림 수 증감 (호출한 트랜잭션 안에서 실행)
+     */
+    public void add(UUID memberId, long delta) {
+        if (delta != 0) {
+            notificationUnreadCounterRepository.addCount(memberId, delta);
+        }
+    }
+
+    public long getUnreadCount(UUID memberId) {
+        long count = notificationUnreadCounterRepository.findById(memberId)
+                .map(NotificationUnreadCounter::getUnreadCount)
+                .orElseGet(() -> newTransaction.execute(status -> initialize(memberId)));
+        return Math.max(0L, count);
+    }
+
+    /**
+     * 카운터 행을 만들고 원본 기준으로 채움 (호출한 트랜잭션과 분리된 새 트랜잭션)
+     * - 행을 먼저 INSERT하고 잠근 뒤에 원본을 셈 (새 트랜잭션의 첫 조회이므로 잠근 시점 이후의 커밋까지 보임)
+     *   · 행이 없을 때 실행된 증감 UPDATE는 해당 키에 gap lock을 잡으므로, INSERT는 그 변경이 커밋된 뒤에 진행되어 원본 집계에 포함
+     *   · INSERT 이후의 알림 저장/읽음은 이 트랜잭션이 끝날 때까지 행 잠금에서 기다렸다가 집계값 위에 증감을 더함
+     * - 다른 요청이 먼저 만든 행이면 그 값을 그대로 사용
+     */
+    private long initialize(UUID memberId) {
+        int inserted = notificationUnreadCounterRepository.insertIfAbsent(memberId, 0L);
+        NotificationUnreadCounter counter = notificationUnreadCounterRepository.findByIdForUpdate(memberId)
+                .orElseThrow(() -> new IllegalStateException("안 읽은 알림 카운터 생성 실패: " + memberId));
+        if (inserted == 0) {
+            return counter.getUnreadCount();
+        }
+
+        long count = notificationRepository.countByReceiverIdAndIsDeleted(memberId, Bool.FALSE);
+        counter.overwrite(count);
+        return count;
+    }
+
+    /**
+     * 원본 테이블 기준으로 카운터 보정
+     * - 카운터 행을 먼저 잠가 진행 중인 알림 저장/읽음이 끝난 뒤 세므로, 이후 변경의 증감과 겹치지 않음
+     */
+    @Transactional
+    public void repair(UUID memberId) {
+        notificationUnreadCounterRepository.findByIdForUpdate(memberId).ifPresent(counter ->
+                counter.overwrite(notificationRepository.countByReceiverIdAndIsDeleted(memberId, Bool.FALSE)));
+    }
+}
@@ -1,133 +1,338 @@
 package com.crewvy.workspace_service.notification.sse;
 
 import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 연결 허브
+ * - ping: 연결마다 예약 작업을 두지 않고 타이머 휠 하나로 처리 (1초마다 한 칸, 칸마다 해당 연결에만 ping → 연결당 30초 주기)
+ * - 전송: 연결별 제한된 큐에 넣고 sseWriterExecutor가 연결당 하나씩 비움 (느린 클라이언트가 다른 연결을 막지 않음)
+ * - 느린 연결 정리: 큐가 가득 차거나 전송 하나가 오래 끝나지 않으면 연결을 끊음
+ * - 재연결: 이벤트 ID("인스턴스 ID:순번")를 붙여 보내고, Last-Event-ID 이후 알림을 최근 버퍼에서 재전송
+ *   (재전송 스냅샷·연결 등록과 알림 팬아웃은 clients의 직원 키 잠금 안에서 수행 → 알림은 스냅샷 또는 실시간 중 한쪽으로만 전달)
+ * - 마지막 연결이 끊겨도 재전송 보관 기간 동안은 레지스트리에 남겨 그 사이 알림을 버퍼에 받음
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class SseAlarmService {
 
-    // (1) Spring의 공유 스케줄러를 주입받습니다.
-    private final TaskScheduler taskScheduler;
+    private static final long EMITTER_TIMEOUT_MILLIS = 60L * 60L * 1000L;
+    private static final int WHEEL_SLOTS = 30;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long SEND_STALL_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final long REPLAY_WINDOW_NANOS = SseReplayBuffer.WINDOW.toNanos();
 
-    // (2) Key: memberId, Value: 해당 유저의 SseEmitter 목록
-    private final Map<UUID, Set<SseEmitter>> clients = new ConcurrentHashMap<>();
+    private final Executor sseWriterExecutor;
+    private final SseConnectionRegistry sseConnectionRegistry;
 
-    // (3) Key: SseEmitter, Value: 해당 Emitter의 Ping 작업을 제어하기 위한 객체
-    private final Map<SseEmitter, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    // Key: memberId, Value: 해당 유저의 연결 목록
+    private final Map<UUID, Set<SseConnection>> clients = new ConcurrentHashMap<>();
 
-    // 구독 등록
-    public SseEmitter subscribe(UUID memberId) {
-        // (4) 타임아웃을 매우 길게 설정 (Long.MAX_VALUE)
-        SseEmitter emitter = new SseEmitter(60L * 60L * 1000L);
+    // 마지막 연결이 끊긴 직원 → 끊긴 시각 (System.nanoTime, 재전송 보관 기간이 지나면 레지스트리에서 제거)
+    private final Map<UUID, Long> disconnectedAt = new ConcurrentHashMap<>();
 
-        // (5) 유저의 Emitter 목록에 추가
-        clients.computeIfAbsent(memberId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+    // 타이머 휠: 칸마다 그 칸에서 ping 받을 연결
+    private final List<Set<SseConnection>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private final AtomicLong tickCount = new AtomicLong();
 
-        // (6) 초기 연결 이벤트 전송 (연결 성공 확인용)
-        try {
-            emitter.send(SseEmitter.event().name("connected").data("ok"));
-        } catch (IOException e) {
-            log.warn("SSE initial connection event failed for {}: {}", memberId, e.getMessage());
-            // 연결 시도부터 실패하면 즉시 제거
-            removeEmitter(memberId, emitter);
-        }
-
-        // (7) 주기적인 Ping(하트비트) 전송 (30초마다)
-        // -> 연결이 끊어졌는지 확인하고, 클라이언트의 타임아웃을 방지
-        ScheduledFuture<?> pingTask = taskScheduler.scheduleAtFixedRate(() -> {
-            try {
-                emitter.send(SseEmitter.event().name("ping").data(System.currentTimeMillis()));
-            } catch (Exception e) { // <-- [수정] IOException -> Exception 으로 변경
-                // (핵심) 이제 IOException, IllegalStateException 등 모든 오류를
-                // 여기서 처리하고 GlobalExceptionHandler로 보내지 않습니다.
-                log.warn("SSE ping failed for {}, removing emitter: {}", memberId, e.getMessage());
-                removeEmitter(memberId, emitter);
-            }
-        }, Duration.ofSeconds(30)); // 30초 간격으로 실행
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final SseReplayBuffer replayBuffer = new SseReplayBuffer();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final Counter evictedCounter;
+
+    public SseAlarmService(@Qualifier("sseWriterExecutor") Executor sseWriterExecutor,
+                           SseConnectionRegistry sseConnectionRegistry,
+                           MeterRegistry meterRegistry) {
+        this.sseWriterExecutor = sseWriterExecutor;
+        this.sseConnectionRegistry = sseConnectionRegistry;
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        Gauge.builder("sse.connections", connectionCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("sse.queue.depth", this, SseAlarmService::totalQueueDepth).register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.events.dropped").register(meterRegistry);
+        this.evictedCounter = Counter.builder("sse.connections.evicted").register(meterRegistry);
+    }
 
-        // (9) Ping 작업을 나중에 취소할 수 있도록 Map에 저장
-        scheduledTasks.put(emitter, pingTask);
+    // 구독 등록 (lastEventId: 재연결 시 브라우저가 보내는 마지막 수신 이벤트 ID)
+    public SseEmitter subscribe(UUID memberId, String lastEventId, HttpServletRequest request) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        SseConnection connection = new SseConnection(memberId, emitter, request,
+                (int) (tickCount.get() % WHEEL_SLOTS), QUEUE_CAPACITY);
+        long afterSequence = sequenceOf(lastEventId);
 
-        // (10) Emitter가 완료되거나 타임아웃되면 cleanup 로직(removeEmitter) 호출
-        emitter.onCompletion(() -> {
-            log.info("[SSE] completed normally for user {}", memberId);
-            removeEmitter(memberId, emitter);
+        // 초기 연결 이벤트 (연결 성공 확인용) + 끊긴 동안 놓친 알림 재전송
+        // sendToUser와 같은 키 잠금 안에서 스냅샷을 큐에 넣고 등록하므로, 스냅샷 이후 알림만 실시간으로 들어옴
+        // (재전송은 버퍼 크기만큼이라 큐 용량을 넘지 않음)
+        clients.compute(memberId, (k, connections) -> {
+            connection.offer(SseEmitter.event().name("connected").data("ok"));
+            if (afterSequence >= 0) {
+                for (SseReplayBuffer.Entry entry : replayBuffer.after(k, afterSequence)) {
+                    connection.offer(notificationEvent(entry.sequence(), entry.notification()));
+                }
+            }
+            Set<SseConnection> set = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            disconnectedAt.remove(k);
+            return set;
         });
+        wheel.get(connection.wheelSlot()).add(connection);
+        connectionCount.incrementAndGet();
+        sseConnectionRegistry.register(memberId);
+
+        emitter.onCompletion(() -> removeConnection(connection));
         emitter.onTimeout(() -> {
-            log.warn("[SSE] connection timeout for user {}", memberId);
-            removeEmitter(memberId, emitter);
+            log.debug("[SSE] connection timeout for user {}", memberId);
+            removeConnection(connection);
         });
+        emitter.onError(e -> removeConnection(connection));
 
+        scheduleDrain(connection);
         return emitter;
     }
 
-    // 특정 사용자에게 알림 전송
+    // 특정 사용자에게 알림 전송 (연결이 없어도 재연결 대비 버퍼에는 보관)
     public void sendToUser(UUID memberId, NotificationResDto message) {
-        Set<SseEmitter> emitters = clients.get(memberId);
-        if (emitters == null || emitters.isEmpty()) {
-            log.warn("No active emitters found for user {}", memberId);
+        // 순번 발급, 버퍼 보관, 큐 적재를 subscribe의 재전송 스냅샷과 같은 키 잠금 안에서 수행
+        List<SseConnection> overflowed = new ArrayList<>(1);
+        Set<SseConnection> connections = clients.compute(memberId, (k, current) -> {
+            long sequence = eventSequence.incrementAndGet();
+            replayBuffer.append(k, sequence, message);
+            if (current != null) {
+                // 이벤트 빌더는 전송 시 내부 상태가 바뀌므로 연결마다 따로 생성
+                for (SseConnection connection : current) {
+                    if (!connection.isClosed() && !connection.offer(notificationEvent(sequence, message))) {
+                        overflowed.add(connection);
+                    }
+                }
+            }
+            return current;
+        });
+        overflowed.forEach(this::dropOverflowed);
+
+        if (connections == null || connections.isEmpty()) {
+            log.debug("No active emitters found for user {}", memberId);
             return;
         }
-
-        log.info("Sending DTO to {} emitters for user {}: {}", emitters.size(), memberId, message.getContents());
-
-        // (주의) forEach 중 removeEmitter가 호출될 수 있으므로,
-        // ConcurrentModificationException을 방지하기 위해 복사본을 만들어 순회합니다.
-        Set<SseEmitter> emittersCopy = Set.copyOf(emitters);
-
-        emittersCopy.forEach(emitter -> {
-            try {
-                emitter.send(SseEmitter.event().name("notification").data(message));
-                log.info("Sent DTO to one emitter for user {}", memberId);
-            } catch (IOException e) {
-                // (11) [핵심] DTO 전송 실패 시(연결 끊김), 예외를 잡고 Emitter를 제거합니다.
-                log.error("Failed to send DTO to user {}, removing emitter: {}", memberId, e.getMessage());
-                removeEmitter(memberId, emitter);
+        connections.forEach(connection -> {
+            if (!connection.isClosed()) {
+                scheduleDrain(connection);
             }
         });
     }
 
-    private void removeEmitter(UUID memberId, SseEmitter emitter) {
-        Set<SseEmitter> emitters = clients.get(memberId);
-        if (emitters == null || !emitters.remove(emitter)) {
-            return; // 이미 제거됨
+    // 전체 브로드캐스트용 (선택 사항)
+    public void sendToAll(String message) {
+        clients.values().forEach(connections -> connections.forEach(connection ->
+                enqueue(connection, SseEmitter.event().name("notification").data(message))));
+    }
+
+    // 타이머 휠 한 칸 진행: 해당 칸 연결에 ping, 전송이 멈춘 연결 정리
+    @Scheduled(fixedRate = 1_000L)
+    public void tick() {
+        long tick = tickCount.incrementAndGet();
+        long now = System.nanoTime();
+        for (SseConnection connection : wheel.get((int) (tick % WHEEL_SLOTS))) {
+            if (connection.isSendStalled(now, SEND_STALL_NANOS)) {
+                log.warn("[SSE] 전송 지연으로 연결 종료: memberId={}", connection.memberId());
+                evict(connection);
+                // 막힌 전송이 writer 스레드를 계속 잡고 있지 않도록 응답 자체를 종료
+                connection.abortResponse();
+                continue;
+            }
+            enqueue(connection, SseEmitter.event().name("ping").data(System.currentTimeMillis()));
+        }
+        if (tick % WHEEL_SLOTS == 0) {
+            replayBuffer.evictExpired();
+            expireDisconnected(now);
         }
-        ScheduledFuture<?> pingTask = scheduledTasks.remove(emitter);
-        if (pingTask != null) pingTask.cancel(true);
+    }
+
+    // 이 서버가 가진 연결을 레지스트리에 갱신 (모든 인스턴스가 각자 실행해야 하므로 ShedLock 미사용)
+    @Scheduled(fixedDelay = 30_000L)
+    public void heartbeatConnections() {
         try {
-            emitter.complete();
-        } catch (Exception ignored) {}
+            Set<UUID> memberIds = new HashSet<>(clients.keySet());
+            memberIds.addAll(disconnectedAt.keySet());
+            sseConnectionRegistry.heartbeat(memberIds);
+        } catch (Exception e) {
+            log.warn("SSE 연결 하트비트 실패: {}", e.getMessage());
+        }
     }
 
-    // 전체 브로드캐스트용 (선택 사항)
-    public void sendToAll(String message) {
-        clients.forEach((memberId, emitterSet) -> {
-            // [수정] ConcurrentModificationException 방지를 위해 복사본을 만들어 순회합니다.
-            Set<SseEmitter> emittersCopy = Set.copyOf(emitterSet);
+    // 종료 시 이 서버의 연결을 레지스트리에서 제거 (남은 항목은 하트비트 만료로 제외됨)
+    @PreDestroy
+    public void unregisterAll() {
+        clients.keySet().forEach(sseConnectionRegistry::unregister);
+        disconnectedAt.keySet().forEach(sseConnectionRegistry::unregister);
+    }
+
+    private void enqueue(SseConnection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.isClosed()) {
+            return;
+        }
+        if (!connection.offer(event)) {
+            dropOverflowed(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
 
-            emittersCopy.forEach(emitter -> {
+    private void dropOverflowed(SseConnection connection) {
+        droppedCounter.increment();
+        log.warn("[SSE] 전송 큐 초과로 느린 연결 종료: memberId={}", connection.memberId());
+        evict(connection);
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.tryStartDrain()) {
+            return; // 이미 다른 writer가 비우는 중
+        }
+        try {
+            sseWriterExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.finishDrain();
+            removeConnection(connection);
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.isClosed() && (event = connection.poll()) != null) {
+                connection.markSendStarted();
                 try {
-                    emitter.send(SseEmitter.event().name("notification").data(message));
-                } catch (IOException e) {
-                    // [수정] set.remove() 대신 안전한 removeEmitter 메서드를 호출합니다.
-                    log.warn("전체 메시지 전송 실패 (사용자: {}), emitter 제거: {}", memberId, e.getMessage());
-                    removeEmitter(memberId, emitter);
+                    connection.emitter().send(event);
+                } finally {
+                    connection.markSendFinished();
                 }
+            }
+        } catch (Exception e) {
+            // IOException, IllegalStateException 등 전송 오류는 연결 종료로 처리 (GlobalExceptionHandler로 보내지 않음)
+            log.debug("[SSE] 전송 실패로 연결 제거: memberId={}, {}", connection.memberId(), e.getMessage());
+            removeConnection(connection);
+        } finally {
+            connection.finishDrain();
+        }
+
+        if (connection.isClosed()) {
+            // 전송 중에 닫힌 연결은 전송이 끝난 지금 Emitter를 완료 (removeConnection과 둘 중 하나만 수행)
+            if (connection.tryStartDrain()) {
+                completeQuietly(connection);
+            }
+        } else if (connection.hasPending()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void evict(SseConnection connection) {
+        evictedCounter.increment();
+        removeConnection(connection);
+    }
+
+    private void removeConnection(SseConnection connection) {
+        if (!connection.close()) {
+            return; // 이미 제거됨
+        }
+        UUID memberId = connection.memberId();
+        wheel.get(connection.wheelSlot()).remove(connection);
+        connectionCount.decrementAndGet();
+
+        // 이 서버에 남은 연결이 없어도 재전송 보관 기간 동안은 레지스트리에 남겨 재연결 전 알림을 버퍼로 받음
+        clients.computeIfPresent(memberId, (k, set) -> {
+            set.remove(connection);
+            if (!set.isEmpty()) {
+                return set;
+            }
+            disconnectedAt.put(k, System.nanoTime());
+            return null;
+        });
+
+        // 전송 중이면 Emitter 잠금을 기다리지 않고, 해당 writer가 전송을 마친 뒤 완료
+        if (connection.tryStartDrain()) {
+            completeQuietly(connection);
+        }
+    }
+
+    // 보관 기간 안에 재연결하지 않은 직원을 레지스트리에서 제거
+    // (동시에 재연결된 경우 잘못 지워져도 다음 하트비트에서 다시 등록됨)
+    private void expireDisconnected(long now) {
+        disconnectedAt.forEach((memberId, at) -> {
+            if (now - at < REPLAY_WINDOW_NANOS) {
+                return;
+            }
+            boolean[] expired = {false};
+            clients.compute(memberId, (k, connections) -> {
+                expired[0] = connections == null && disconnectedAt.remove(k, at);
+                return connections;
             });
+            if (expired[0]) {
+                sseConnectionRegistry.unregister(memberId);
+            }
         });
     }
-}
\ No newline at end of file
+
+    private void completeQuietly(SseConnection connection) {
+        try {
+            connection.emitter().complete();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private SseEmitter.SseEventBuilder notificationEvent(long sequence, NotificationResDto message) {
+        return SseEmitter.event()
+                .id(sseConnectionRegistry.instanceId() + ":" + sequence)
+                .name("notification")
+                .data(message);
+    }
+
+    // 이 인스턴스가 발급한 이벤트 ID면 순번, 아니면 -1 (재전송 불가)
+    private long sequenceOf(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1L;
+        }
+        int separator = lastEventId.lastIndexOf(':');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(sseConnectionRegistry.instanceId())) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private double totalQueueDepth() {
+        long depth = 0;
+        for (Set<SseConnection> connections : clients.values()) {
+            for (SseConnection connection : connections) {
+                depth += connection.queueDepth();
+            }
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,119 @@
+package com.crewvy.workspace_service.notification.sse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나 (Emitter + 전송 대기 큐)
+ * - 전송은 writer 스레드 하나가 큐를 비우는 방식으로만 수행 (draining 플래그로 동시 전송 방지)
+ * - 큐가 가득 차면 느린 클라이언트로 보고 연결을 끊음 (재연결 시 Last-Event-ID로 재전송)
+ * - 전송이 멈춘 연결은 Emitter 대신 비동기 요청 자체를 종료 (Emitter는 막힌 전송이 잠그고 있어 complete 불가)
+ */
+final class SseConnection {
+
+    private final UUID memberId;
+    private final SseEmitter emitter;
+    private final HttpServletRequest request;
+    private final int wheelSlot;
+    private final Queue<SseEmitter.SseEventBuilder> outbound;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 현재 전송 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    SseConnection(UUID memberId, SseEmitter emitter, HttpServletRequest request, int wheelSlot, int queueCapacity) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.request = request;
+        this.wheelSlot = wheelSlot;
+        this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    UUID memberId() {
+        return memberId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    int wheelSlot() {
+        return wheelSlot;
+    }
+
+    /**
+     * @return 큐가 가득 차 넣지 못하면 false
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return outbound.offer(event);
+    }
+
+    SseEmitter.SseEventBuilder poll() {
+        return outbound.poll();
+    }
+
+    boolean hasPending() {
+        return !outbound.isEmpty();
+    }
+
+    int queueDepth() {
+        return outbound.size();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    void markSendStarted() {
+        sendStartedAt = System.nanoTime();
+    }
+
+    void markSendFinished() {
+        sendStartedAt = 0L;
+    }
+
+    // 전송 하나가 limitNanos 넘게 끝나지 않았는지
+    boolean isSendStalled(long now, long limitNanos) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0L && now - startedAt > limitNanos;
+    }
+
+    /**
+     * @return 처음 닫는 호출이면 true
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        outbound.clear();
+        return true;
+    }
+
+    /**
+     * 비동기 응답을 컨테이너에서 완료 처리
+     * 컨테이너가 응답을 끝내며 소켓을 닫으면 막혀 있던 writer의 전송이 오류로 끝나 스레드가 풀로 돌아감
+     */
+    void abortResponse() {
+        try {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().complete();
+            }
+        } catch (IllegalStateException ignored) {
+            // 이미 완료된 요청
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
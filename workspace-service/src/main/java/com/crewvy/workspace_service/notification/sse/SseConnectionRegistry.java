@@ -0,0 +1,117 @@
+package com.crewvy.workspace_service.notification.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SSE 연결 레지스트리 (memberId → 연결을 가진 인스턴스)
+ * - Redis Hash "sse:connections:{memberId}" (field: 인스턴스 ID, value: 마지막 하트비트 시각 epoch ms)
+ * - 인스턴스는 자신이 가진 연결을 주기적으로 갱신하고, 하트비트가 STALE_AFTER 넘게 끊긴 인스턴스는 조회에서 제외
+ * - 인스턴스마다 전용 Redis 채널 "sse-delivery:{인스턴스 ID}"로 알림을 받음
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+    // 하트비트 주기(SseAlarmService.heartbeatConnections, 30초)의 3배
+    private static final Duration STALE_AFTER = Duration.ofSeconds(90);
+
+    private static final String KEY_PREFIX = "sse:connections:";
+    private static final String CHANNEL_PREFIX = "sse-delivery:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 프로세스마다 새로 발급 (재시작 전 연결은 하트비트가 끊겨 자연히 제외됨)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public SseConnectionRegistry(@Qualifier("rtInventory") StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    // 이 인스턴스가 구독하는 전달 채널
+    public String deliveryChannel() {
+        return channelOf(instanceId);
+    }
+
+    public static String channelOf(String instanceId) {
+        return CHANNEL_PREFIX + instanceId;
+    }
+
+    public void register(UUID memberId) {
+        try {
+            touch(memberId, System.currentTimeMillis());
+        } catch (Exception e) {
+            // 다음 하트비트에서 다시 등록되므로 연결 자체는 유지
+            log.warn("SSE 연결 등록 실패: memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    public void unregister(UUID memberId) {
+        try {
+            redisTemplate.opsForHash().delete(keyOf(memberId), instanceId);
+        } catch (Exception e) {
+            log.warn("SSE 연결 해제 실패: memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    // 이 인스턴스가 가진 연결 전체 갱신 (한 번의 파이프라인)
+    public void heartbeat(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        String now = Long.toString(System.currentTimeMillis());
+        long ttlSeconds = STALE_AFTER.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (UUID memberId : memberIds) {
+                String key = keyOf(memberId);
+                stringConnection.hSet(key, instanceId, now);
+                stringConnection.expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * @return 직원의 SSE 연결을 가진 인스턴스 ID (하트비트가 끊긴 인스턴스 제외)
+     */
+    public Set<String> findInstances(UUID memberId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(keyOf(memberId));
+        if (entries.isEmpty()) {
+            return Set.of();
+        }
+        long staleBefore = System.currentTimeMillis() - STALE_AFTER.toMillis();
+        Set<String> instances = new HashSet<>();
+        entries.forEach((instance, heartbeatAt) -> {
+            if (Long.parseLong(heartbeatAt.toString()) >= staleBefore) {
+                instances.add(instance.toString());
+            }
+        });
+        return instances;
+    }
+
+    private void touch(UUID memberId, long now) {
+        String key = keyOf(memberId);
+        redisTemplate.opsForHash().put(key, instanceId, Long.toString(now));
+        redisTemplate.expire(key, STALE_AFTER);
+    }
+
+    private String keyOf(UUID memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
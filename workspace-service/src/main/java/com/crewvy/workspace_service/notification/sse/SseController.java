@@ -3,6 +3,7 @@ package com.crewvy.workspace_service.notification.sse;
 import com.crewvy.common.dto.NotificationMessage;
 import com.crewvy.common.kafka.KafkaMessagePublisher;
 import com.crewvy.common.redis.RedisMessagePublisher;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -29,8 +30,10 @@ public class SseController {
      * SSE 구독
      */
     @GetMapping("/subscribe")
-    public SseEmitter subscribe(@RequestHeader("X-User-UUID") UUID memberId) {
-        return sseAlarmService.subscribe(memberId);
+    public SseEmitter subscribe(@RequestHeader("X-User-UUID") UUID memberId,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletRequest request) {
+        return sseAlarmService.subscribe(memberId, lastEventId, request);
     }
 
     /**
@@ -0,0 +1,19 @@
+package com.crewvy.workspace_service.notification.sse;
+
+import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 인스턴스 전달 채널(sse-delivery:{인스턴스 ID})로 보내는 SSE 알림
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseDeliveryMessage {
+    private UUID memberId;
+    private NotificationResDto notification;
+}
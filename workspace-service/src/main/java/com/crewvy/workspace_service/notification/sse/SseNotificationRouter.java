@@ -0,0 +1,62 @@
+package com.crewvy.workspace_service.notification.sse;
+
+import com.crewvy.common.redis.RedisMessagePublisher;
+import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SSE 알림 라우팅
+ * - 레지스트리에서 직원의 연결을 가진 인스턴스를 찾아 그 인스턴스의 전달 채널로만 발행
+ * - 이 인스턴스가 가진 연결은 Redis를 거치지 않고 바로 전송
+ * - 마지막 연결이 끊긴 뒤에도 재전송 보관 기간 동안은 레지스트리에 남아 있어, 재연결 전 알림이 그 인스턴스의 버퍼에 쌓임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseNotificationRouter {
+
+    private final SseConnectionRegistry sseConnectionRegistry;
+    private final SseAlarmService sseAlarmService;
+    private final RedisMessagePublisher messagePublisher;
+    private final ObjectMapper objectMapper;
+
+    public void route(UUID memberId, NotificationResDto notification) {
+        Set<String> instances;
+        try {
+            instances = sseConnectionRegistry.findInstances(memberId);
+        } catch (Exception e) {
+            // 레지스트리 장애 시 알림은 DB에 남아 있으므로 실시간 전송만 생략
+            log.warn("SSE 연결 조회 실패, 실시간 전송 생략: memberId={}, {}", memberId, e.getMessage());
+            return;
+        }
+        if (instances.isEmpty()) {
+            return;
+        }
+
+        String payload = null;
+        for (String instance : instances) {
+            if (instance.equals(sseConnectionRegistry.instanceId())) {
+                sseAlarmService.sendToUser(memberId, notification);
+                continue;
+            }
+            try {
+                if (payload == null) {
+                    payload = objectMapper.writeValueAsString(new SseDeliveryMessage(memberId, notification));
+                }
+                messagePublisher.publish(SseConnectionRegistry.channelOf(instance), payload);
+            } catch (JsonProcessingException e) {
+                log.error("SSE 전달 메시지 직렬화 실패: memberId={}", memberId, e);
+                return;
+            } catch (Exception e) {
+                log.warn("SSE 전달 채널 발행 실패: instance={}, memberId={}, {}", instance, memberId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.crewvy.workspace_service.notification.sse;
+
+import com.crewvy.workspace_service.notification.dto.response.NotificationResDto;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직원별 최근 알림 링 버퍼 (재연결 시 Last-Event-ID 이후 알림 재전송용)
+ * - 직원당 최근 CAPACITY건, WINDOW 이내만 보관
+ * - 이 인스턴스가 보낸 알림만 보관하므로 다른 인스턴스로 재연결하면 재전송 대상 없음 (알림 목록 API로 보완)
+ */
+final class SseReplayBuffer {
+
+    static final Duration WINDOW = Duration.ofMinutes(5);
+
+    private static final int CAPACITY = 20;
+    private static final long WINDOW_NANOS = WINDOW.toNanos();
+
+    private final Map<UUID, Deque<Entry>> recentByMember = new ConcurrentHashMap<>();
+
+    void append(UUID memberId, long sequence, NotificationResDto notification) {
+        long now = System.nanoTime();
+        while (true) {
+            Deque<Entry> recent = recentByMember.computeIfAbsent(memberId, k -> new ArrayDeque<>());
+            synchronized (recent) {
+                if (recentByMember.get(memberId) != recent) {
+                    continue; // 정리 중 제거된 버퍼, 새 버퍼로 다시 시도
+                }
+                recent.addLast(new Entry(sequence, notification, now));
+                while (recent.size() > CAPACITY) {
+                    recent.pollFirst();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return afterSequence 이후 알림 (오래된 순)
+     */
+    List<Entry> after(UUID memberId, long afterSequence) {
+        Deque<Entry> recent = recentByMember.get(memberId);
+        if (recent == null) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<Entry> entries = new ArrayList<>();
+        synchronized (recent) {
+            for (Entry entry : recent) {
+                if (entry.sequence() > afterSequence && now - entry.appendedAt() < WINDOW_NANOS) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    // 보관 기간이 지난 알림과 빈 버퍼 정리
+    void evictExpired() {
+        long now = System.nanoTime();
+        recentByMember.forEach((memberId, recent) -> {
+            synchronized (recent) {
+                while (!recent.isEmpty() && now - recent.peekFirst().appendedAt() >= WINDOW_NANOS) {
+                    recent.pollFirst();
+                }
+                if (recent.isEmpty()) {
+                    recentByMember.remove(memberId, recent);
+                }
+            }
+        });
+    }
+
+    record Entry(long sequence, NotificationResDto notification, long appendedAt) {
+    }
+}
@@ -3,28 +3,43 @@ package com.crewvy.workspace_service.notification.sse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 public class TaskSchedulerConfig {
 
     /**
-     * SseAlarmService에서 주입받을 수 있도록
-     * TaskScheduler Bean을 명시적으로 등록합니다.
+     * @Scheduled 작업용 공유 스케줄러
+     * (SSE ping은 SseAlarmService의 타이머 휠 작업 하나로 처리하므로 연결 수와 무관)
      */
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
 
-        // (1) 스케줄러 스레드 풀 크기 설정 (SSE Ping 전용)
-        scheduler.setPoolSize(10);
+        // (1) 스케줄러 스레드 풀 크기 설정
+        scheduler.setPoolSize(4);
 
         // (2) 스레드 이름 접두사 (로그 볼 때 유용함)
-        scheduler.setThreadNamePrefix("sse-ping-pool-");
+        scheduler.setThreadNamePrefix("scheduler-");
 
         // (3) 스케줄러 초기화
         scheduler.initialize();
 
         return scheduler;
     }
-}
\ No newline at end of file
+
+    /**
+     * SSE 전송 전용 스레드 풀
+     * 연결별 전송 큐를 비우는 작업만 실행 (연결당 동시에 하나), 느린 클라이언트가 스케줄러/Kafka 스레드를 막지 않도록 분리
+     */
+    @Bean("sseWriterExecutor")
+    public ThreadPoolTaskExecutor sseWriterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.initialize();
+        return executor;
+    }
+}
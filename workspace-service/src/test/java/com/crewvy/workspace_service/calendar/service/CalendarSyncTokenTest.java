@@ -0,0 +1,42 @@
+package com.crewvy.workspace_service.calendar.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalendarSyncTokenTest {
+
+    @Test
+    void roundTripWithId() {
+        CalendarSyncToken token = new CalendarSyncToken(42L, UUID.randomUUID());
+
+        assertThat(CalendarSyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripWithoutId() {
+        CalendarSyncToken token = new CalendarSyncToken(Long.MAX_VALUE, null);
+
+        assertThat(CalendarSyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        assertThat(new CalendarSyncToken(7L, UUID.randomUUID()).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyTokenMeansInitialSync() {
+        assertThat(CalendarSyncToken.decode(null)).isNull();
+        assertThat(CalendarSyncToken.decode("")).isNull();
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> CalendarSyncToken.decode("not-a-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.crewvy.workspace_service.notification.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCursorTest {
+
+    @Test
+    void roundTrip() {
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2030, 1, 1, 9, 0), UUID.randomUUID());
+
+        assertThat(NotificationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsSecondsAndNanos() {
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2030, 1, 1, 9, 0, 30, 123_456_000), UUID.randomUUID());
+
+        assertThat(NotificationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2030, 12, 31, 23, 59, 59), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyCursorMeansFirstPage() {
+        assertThat(NotificationCursor.decode(null)).isNull();
+        assertThat(NotificationCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> NotificationCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}